@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.benchs.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+import io.aiven.kafka.tieredstorage.fetch.cache.DiskChunkCache;
+import io.aiven.kafka.tieredstorage.fetch.cache.SlabDiskChunkCache;
+import io.aiven.kafka.tieredstorage.fetch.cache.SlabEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of reading a chunk on a disk chunk cache hit, streamed from the file or memory-mapped.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 4)
+@Measurement(iterations = 16)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiskChunkCacheReadBench {
+    @Param({"1024", "65536", "1048576", "16777216"})
+    public int chunkSize; // 1KiB, 64KiB, 1MiB, 16MiB
+    @Param({"false", "true"})
+    public boolean mmap;
+    @Param({"false", "true"})
+    public boolean slab;
+
+    Path cacheDir;
+    DiskChunkCache diskChunkCache;
+    Path cachedChunk;
+    SlabDiskChunkCache slabChunkCache;
+    SlabEntry cachedSlabEntry;
+    byte[] fetchBuffer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        cacheDir = Files.createTempDirectory("chunk-cache");
+        final Map<String, String> configs = Map.of(
+            "size", "-1",
+            "retention.ms", "-1",
+            "path", cacheDir.toString(),
+            "mmap.enabled", Boolean.toString(mmap)
+        );
+        final byte[] chunk = new byte[chunkSize];
+        new Random(0).nextBytes(chunk);
+        final ChunkKey chunkKey = new ChunkKey("topic/segment", 0);
+        if (slab) {
+            slabChunkCache = new SlabDiskChunkCache(null);
+            slabChunkCache.configure(configs);
+            cachedSlabEntry = slabChunkCache.cacheChunk(chunkKey, new ByteArrayInputStream(chunk));
+        } else {
+            diskChunkCache = new DiskChunkCache(null);
+            diskChunkCache.configure(configs);
+            cachedChunk = diskChunkCache.cacheChunk(chunkKey, new ByteArrayInputStream(chunk));
+        }
+        fetchBuffer = new byte[chunkSize];
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        try (final var paths = Files.walk(cacheDir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int readHit() throws IOException {
+        try (final InputStream in = slab
+            ? slabChunkCache.cachedChunkToInputStream(cachedSlabEntry)
+            : diskChunkCache.cachedChunkToInputStream(cachedChunk)) {
+            // copying into a fetch buffer, as the broker does with the returned stream
+            return in.readNBytes(fetchBuffer, 0, chunkSize);
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opts = new OptionsBuilder()
+            .include(DiskChunkCacheReadBench.class.getSimpleName())
+            .build();
+        new Runner(opts).run();
+    }
+}
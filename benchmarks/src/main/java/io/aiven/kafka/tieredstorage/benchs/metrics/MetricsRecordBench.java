@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.aiven.kafka.tieredstorage.benchs.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.MetricNameTemplate;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.metrics.Metrics;
+import io.aiven.kafka.tieredstorage.metrics.SensorProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Per-call overhead of recording a segment fetch, with sensors looked up by name on every call
+ * (as done before sensors were resolved per partition) and with the pre-resolved sensors of {@link Metrics}.
+ *
+ * <p>Run with {@code -prof gc} to compare allocations per call.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 4)
+@Measurement(iterations = 8)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsRecordBench {
+    static final String GROUP = "metrics-record-bench";
+    static final String SENSOR = "segment-fetch-requested-bytes";
+
+    @Param({"1", "1000"})
+    public int partitions;
+    @Param({"INFO", "DEBUG"})
+    public String recordingLevel;
+
+    TopicPartition[] topicPartitions;
+    org.apache.kafka.common.metrics.Metrics lookupMetrics;
+    Metrics metrics;
+
+    final MetricNameTemplate rate = new MetricNameTemplate(SENSOR + "-rate", GROUP, "");
+    final MetricNameTemplate total = new MetricNameTemplate(SENSOR + "-total", GROUP, "");
+    final MetricNameTemplate rateByTopic = new MetricNameTemplate(SENSOR + "-rate", GROUP, "", "topic");
+    final MetricNameTemplate totalByTopic = new MetricNameTemplate(SENSOR + "-total", GROUP, "", "topic");
+    final MetricNameTemplate rateByTopicPartition =
+        new MetricNameTemplate(SENSOR + "-rate", GROUP, "", "topic", "partition");
+    final MetricNameTemplate totalByTopicPartition =
+        new MetricNameTemplate(SENSOR + "-total", GROUP, "", "topic", "partition");
+
+    @Setup(Level.Trial)
+    public void setup() {
+        topicPartitions = new TopicPartition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            topicPartitions[i] = new TopicPartition("topic-" + i % 10, i);
+        }
+        final MetricConfig metricConfig = new MetricConfig()
+            .recordLevel(Sensor.RecordingLevel.forName(recordingLevel));
+        lookupMetrics = new org.apache.kafka.common.metrics.Metrics(metricConfig);
+        metrics = new Metrics(Time.SYSTEM, metricConfig);
+    }
+
+    @TearDown
+    public void teardown() {
+        lookupMetrics.close();
+        metrics.close();
+    }
+
+    @Benchmark
+    public void lookupPerCall() {
+        final TopicPartition topicPartition = nextTopicPartition();
+        new SensorProvider(lookupMetrics, SENSOR)
+            .with(rate, new Rate())
+            .with(total, new CumulativeSum())
+            .get()
+            .record(100);
+        new SensorProvider(lookupMetrics, "topic." + topicPartition.topic() + "." + SENSOR,
+            () -> Map.of("topic", topicPartition.topic()))
+            .with(rateByTopic, new Rate())
+            .with(totalByTopic, new CumulativeSum())
+            .get()
+            .record(100);
+        new SensorProvider(lookupMetrics,
+            "topic." + topicPartition.topic() + ".partition." + topicPartition.partition() + "." + SENSOR,
+            () -> Map.of("topic", topicPartition.topic(),
+                "partition", String.valueOf(topicPartition.partition())),
+            Sensor.RecordingLevel.DEBUG)
+            .with(rateByTopicPartition, new Rate())
+            .with(totalByTopicPartition, new CumulativeSum())
+            .get()
+            .record(100);
+    }
+
+    @Benchmark
+    public void preResolved() {
+        metrics.recordSegmentFetch(nextTopicPartition(), 100);
+    }
+
+    private TopicPartition nextTopicPartition() {
+        return topicPartitions[ThreadLocalRandom.current().nextInt(partitions)];
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opts = new OptionsBuilder()
+            .include(MetricsRecordBench.class.getSimpleName())
+            .addProfiler("gc")
+            .build();
+        new Runner(opts).run();
+    }
+}
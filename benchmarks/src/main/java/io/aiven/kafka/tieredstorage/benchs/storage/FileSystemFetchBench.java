@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.benchs.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.filesystem.FileSystemStorage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of ranged fetches from the file system backend at random positions of a segment file,
+ * with positional reads on shared open files or memory-mapped ranges,
+ * compared to opening a stream and skipping to the range on every fetch.
+ *
+ * <p>Files are written to the temporary directory by default, override with {@code -Dfs.bench.root=...}
+ * to measure e.g. an NFS mount.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 4)
+@Measurement(iterations = 16)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileSystemFetchBench {
+    static final ObjectKey KEY = () -> "topic/partition/segment.log";
+    static final int OBJECT_SIZE = 256 * 1024 * 1024; // 256MiB
+
+    @Param({"stream", "positional", "mmap"})
+    public String mode;
+    @Param({"4096", "1048576", "16777216"})
+    public int rangeSize; // 4KiB, 1MiB, 16MiB
+
+    Path root;
+    FileSystemStorage storage;
+    byte[] fetchBuffer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, StorageBackendException {
+        final String rootProperty = System.getProperty("fs.bench.root");
+        root = rootProperty != null
+            ? Files.createTempDirectory(Path.of(rootProperty), "fs-fetch-bench")
+            : Files.createTempDirectory("fs-fetch-bench");
+        storage = new FileSystemStorage();
+        storage.configure(Map.of(
+            "root", root.toString(),
+            "fetch.mmap.threshold.bytes", "mmap".equals(mode) ? "0" : "-1"
+        ));
+
+        final byte[] content = new byte[OBJECT_SIZE];
+        new Random(0).nextBytes(content);
+        storage.upload(new ByteArrayInputStream(content), KEY);
+        fetchBuffer = new byte[rangeSize];
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        storage.close();
+        try (final var paths = Files.walk(root)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int fetchRange() throws IOException, StorageBackendException {
+        final long position = ThreadLocalRandom.current().nextLong(OBJECT_SIZE - rangeSize + 1);
+        final BytesRange range = BytesRange.ofFromPositionAndSize(position, rangeSize);
+        try (final InputStream in = "stream".equals(mode) ? streamFetch(range) : storage.fetch(KEY, range)) {
+            // copying into a fetch buffer, as the broker does with the returned stream
+            return in.readNBytes(fetchBuffer, 0, rangeSize);
+        }
+    }
+
+    /**
+     * Fetch as the file system backend used to: sizing the file, then opening it and skipping to the range.
+     */
+    private InputStream streamFetch(final BytesRange range) throws IOException {
+        final Path path = root.resolve(KEY.value());
+        if (range.firstPosition() >= Files.size(path)) {
+            throw new IOException("Range " + range + " is outside " + path);
+        }
+        final InputStream in = Files.newInputStream(path);
+        in.skip(range.firstPosition());
+        return in;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opts = new OptionsBuilder()
+            .include(FileSystemFetchBench.class.getSimpleName())
+            .build();
+        new Runner(opts).run();
+    }
+}
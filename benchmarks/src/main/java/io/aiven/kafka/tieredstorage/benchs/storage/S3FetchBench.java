@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.benchs.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.s3.S3AsyncStorage;
+import io.aiven.kafka.tieredstorage.storage.s3.S3Storage;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+/**
+ * Latency of ranged fetches with the blocking and the async S3 backends, and the threads each one keeps alive.
+ *
+ * <p>Needs an S3-compatible endpoint, by default LocalStack on {@code http://localhost:4566};
+ * override with {@code -Ds3.bench.endpoint=...}, {@code -Ds3.bench.region=...},
+ * {@code -Ds3.bench.access.key=...} and {@code -Ds3.bench.secret.key=...}.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 4)
+@Measurement(iterations = 16)
+@Threads(8)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class S3FetchBench {
+    static final String BUCKET = "kafka-ts-fetch-bench";
+    static final ObjectKey KEY = () -> "topic/partition/segment.log";
+    static final int OBJECT_SIZE = 64 * 1024 * 1024; // 64MiB
+
+    @Param({"sync", "async"})
+    public String backend;
+    @Param({"1048576", "16777216", "67108864"})
+    public int rangeSize; // 1MiB, 16MiB, 64MiB
+
+    StorageBackend storage;
+
+    @Setup(Level.Trial)
+    public void setup() throws StorageBackendException {
+        final String endpoint = System.getProperty("s3.bench.endpoint", "http://localhost:4566");
+        final String region = System.getProperty("s3.bench.region", "us-east-1");
+        final String accessKey = System.getProperty("s3.bench.access.key", "test");
+        final String secretKey = System.getProperty("s3.bench.secret.key", "test");
+
+        try (final S3Client client = S3Client.builder()
+            .region(Region.of(region))
+            .endpointOverride(URI.create(endpoint))
+            .forcePathStyle(true)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+            .build()) {
+            client.createBucket(b -> b.bucket(BUCKET));
+        } catch (final BucketAlreadyOwnedByYouException ignored) {
+            // reusing the bucket of a previous run
+        }
+
+        storage = "async".equals(backend) ? new S3AsyncStorage() : new S3Storage();
+        storage.configure(Map.of(
+            "s3.bucket.name", BUCKET,
+            "s3.region", region,
+            "s3.endpoint.url", endpoint,
+            "s3.path.style.access.enabled", true,
+            "aws.access.key.id", accessKey,
+            "aws.secret.access.key", secretKey
+        ));
+
+        final byte[] content = new byte[OBJECT_SIZE];
+        new Random(0).nextBytes(content);
+        storage.upload(new ByteArrayInputStream(content), KEY);
+    }
+
+    @TearDown
+    public void teardown() throws IOException, StorageBackendException {
+        storage.delete(KEY);
+        storage.close();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ThreadCounters {
+        public int liveThreads() {
+            return Thread.activeCount();
+        }
+    }
+
+    @Benchmark
+    public long fetchRange(final ThreadCounters threadCounters) throws IOException, StorageBackendException {
+        final BytesRange range = BytesRange.ofFromPositionAndSize(0, rangeSize);
+        try (final InputStream in = storage.fetch(KEY, range)) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opts = new OptionsBuilder()
+            .include(S3FetchBench.class.getSimpleName())
+            .build();
+        new Runner(opts).run();
+    }
+}
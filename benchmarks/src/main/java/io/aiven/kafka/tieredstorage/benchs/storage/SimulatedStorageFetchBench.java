@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.benchs.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ParallelRangeInputStream;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.memory.InMemoryStorage;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of fetching a range as a single request or as parallel part requests,
+ * against an in-memory storage simulating object storage latencies and per-request bandwidth.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 8)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimulatedStorageFetchBench {
+    static final ObjectKey KEY = () -> "topic/partition/segment.log";
+    static final int OBJECT_SIZE = 64 * 1024 * 1024; // 64MiB
+    static final int PART_SIZE = 8 * 1024 * 1024; // 8MiB
+
+    @Param({"1", "4", "8"})
+    public int parallelRequests;
+    @Param({"1048576", "16777216", "67108864"})
+    public int rangeSize; // 1MiB, 16MiB, 64MiB
+
+    InMemoryStorage storage;
+    ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws StorageBackendException {
+        storage = new InMemoryStorage();
+        storage.configure(Map.of(
+            "fetch.latency.median.ms", "20",
+            "fetch.latency.p99.ms", "100",
+            "fetch.bandwidth.bytes.per.second", Integer.toString(100 * 1024 * 1024)
+        ));
+        final byte[] content = new byte[OBJECT_SIZE];
+        new Random(0).nextBytes(content);
+        storage.upload(new ByteArrayInputStream(content), KEY);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @TearDown
+    public void teardown() {
+        executor.shutdownNow();
+        storage.close();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RequestCounters {
+        public long fetchRequests;
+    }
+
+    @Benchmark
+    public long fetchRange(final RequestCounters counters) throws IOException, StorageBackendException {
+        final BytesRange range = BytesRange.ofFromPositionAndSize(0, rangeSize);
+        final long requestsBefore = storage.requests(InMemoryStorage.Operation.FETCH);
+        try (final InputStream in = parallelRequests == 1
+            ? storage.fetch(KEY, range)
+            : new ParallelRangeInputStream(range, PART_SIZE, parallelRequests, this::fetchPart)) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        } finally {
+            counters.fetchRequests += storage.requests(InMemoryStorage.Operation.FETCH) - requestsBefore;
+        }
+    }
+
+    private CompletableFuture<byte[]> fetchPart(final BytesRange part) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (final InputStream in = storage.fetch(KEY, part)) {
+                return in.readAllBytes();
+            } catch (final IOException | StorageBackendException e) {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Options opts = new OptionsBuilder()
+            .include(SimulatedStorageFetchBench.class.getSimpleName())
+            .build();
+        new Runner(opts).run();
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.kafka.common.MetricNameTemplate;
 import org.apache.kafka.common.metrics.MeasurableStat;
 import org.apache.kafka.common.metrics.Metrics;
 import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.apache.kafka.common.metrics.stats.Percentiles;
 
 /**
  * Inspired by <a href="https://github.com/apache/kafka/blob/trunk/clients/src/main/java/org/apache/kafka/clients/consumer/internals/SensorBuilder.java">SensorBuilder</a>
@@ -80,6 +82,24 @@ public class SensorProvider {
         return this;
     }
 
+    /**
+     * Adds percentiles over a linear histogram of {@code sizeInBytes / 4} buckets between 0 and {@code max}.
+     *
+     * @param percentiles metric name templates by percentile, e.g. 99.0 for p99.
+     */
+    public SensorProvider withPercentiles(final int sizeInBytes,
+                                          final double max,
+                                          final Map<MetricNameTemplate, Double> percentiles) {
+        if (!preexisting) {
+            final Percentile[] stats = percentiles.entrySet().stream()
+                .map(e -> new Percentile(metrics.metricInstance(e.getKey(), tags), e.getValue()))
+                .toArray(Percentile[]::new);
+            sensor.add(new Percentiles(sizeInBytes, max, Percentiles.BucketSizing.LINEAR, stats));
+        }
+
+        return this;
+    }
+
     public Sensor get() {
         return sensor;
     }
@@ -55,6 +55,7 @@ import io.aiven.kafka.tieredstorage.iceberg.data.RowSchema;
 import io.aiven.kafka.tieredstorage.iceberg.manifest.DataFileMetadata;
 import io.aiven.kafka.tieredstorage.iceberg.manifest.SegmentManifestReader;
 import io.aiven.kafka.tieredstorage.iceberg.manifest.SegmentManifestWriter;
+import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
 import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataBuilder;
 import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField;
 import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataSerde;
@@ -160,7 +161,7 @@ public class IcebergRemoteStorageManager extends InternalRemoteStorageManager {
             transaction.commitTransaction();
             final var customMetadataBuilder =
                 new SegmentCustomMetadataBuilder(customMetadataFields, objectKeyFactory,
-                    remoteLogSegmentMetadata);
+                    remoteLogSegmentMetadata, SegmentFormat.ICEBERG);
             customMetadataBuilder.addUploadResult(ObjectKeyFactory.Suffix.MANIFEST,
                 statisticsFile.fileSizeInBytes());
             uploadMetricReporter.report(ObjectKeyFactory.Suffix.MANIFEST, statisticsFile.fileSizeInBytes());
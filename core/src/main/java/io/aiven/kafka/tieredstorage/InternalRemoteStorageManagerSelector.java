@@ -17,24 +17,43 @@
 package io.aiven.kafka.tieredstorage;
 
 import java.io.InputStream;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Optional;
 
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentId;
 import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
 import org.apache.kafka.server.log.remote.storage.RemoteResourceNotFoundException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager;
 
 import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
+import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField;
+import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataSerde;
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
  * Selects an {@link InternalRemoteStorageManager} based on the segment format.
+ *
+ * <p>The format of a segment is taken from its custom metadata when it was recorded there on upload.
+ * Otherwise, it is learned the first time a lookup in the configured format fails and the other one succeeds,
+ * so later calls for the same segment do not have to miss on the configured format again.
  */
 public class InternalRemoteStorageManagerSelector {
+    static final long MAX_RESOLVED_SEGMENTS = 100_000;
+
     private final SegmentFormat segmentFormat;
     private final InternalRemoteStorageManager kafkaRsm;
     private final InternalRemoteStorageManager icebergRsm;
 
+    private final SegmentCustomMetadataSerde customMetadataSerde = new SegmentCustomMetadataSerde();
+    private final Cache<RemoteLogSegmentId, SegmentFormat> resolvedFormats = Caffeine.newBuilder()
+        .maximumSize(MAX_RESOLVED_SEGMENTS)
+        .build();
+
     public InternalRemoteStorageManagerSelector(final SegmentFormat segmentFormat,
                                                 final InternalRemoteStorageManager kafkaRsm,
                                                 final InternalRemoteStorageManager icebergRsm) {
@@ -65,29 +84,98 @@ public class InternalRemoteStorageManagerSelector {
      * @throws RemoteStorageException generic error.
      */
     public InputStream call(final Call call) throws RemoteResourceNotFoundException, RemoteStorageException {
-        // TODO expose segment format in custom metadata to avoid double looking
-        final InternalRemoteStorageManager firstRsm;
-        final InternalRemoteStorageManager secondRsm;
-        switch (segmentFormat) {
-            case KAFKA -> {
-                firstRsm = kafkaRsm;
-                secondRsm = icebergRsm;
+        return callInOrder(call).result;
+    }
+
+    /**
+     * Call the {@link InternalRemoteStorageManager} of the segment format, if known.
+     *
+     * <p>Falls back to {@link #call(Call)} when the format is neither recorded in the custom metadata
+     * nor learned from a previous call for the same segment.
+     * @param remoteLogSegmentMetadata metadata of the segment the call is for.
+     * @param call function to call.
+     * @return result {@link InputStream}.
+     * @throws RemoteResourceNotFoundException when no manifest is found.
+     * @throws RemoteStorageException generic error.
+     */
+    public InputStream call(final RemoteLogSegmentMetadata remoteLogSegmentMetadata,
+                            final Call call) throws RemoteResourceNotFoundException, RemoteStorageException {
+        final RemoteLogSegmentId segmentId = remoteLogSegmentMetadata.remoteLogSegmentId();
+        final Optional<SegmentFormat> recordedFormat = recordedFormat(remoteLogSegmentMetadata);
+        if (recordedFormat.isPresent()) {
+            final InternalRemoteStorageManager rsm = rsm(recordedFormat.get());
+            if (rsm == null) {
+                throw new RemoteStorageException(
+                    "Segment " + segmentId + " is in " + recordedFormat.get() + " format, which is not enabled");
             }
+            try {
+                return call.call(rsm);
+            } catch (final SegmentManifestNotFoundException e) {
+                throw new RemoteResourceNotFoundException(e);
+            }
+        }
 
-            case ICEBERG -> {
-                firstRsm = icebergRsm;
-                secondRsm = kafkaRsm;
+        final SegmentFormat resolvedFormat = resolvedFormats.getIfPresent(segmentId);
+        if (resolvedFormat != null) {
+            try {
+                return call.call(rsm(resolvedFormat));
+            } catch (final SegmentManifestNotFoundException e) {
+                // Shouldn't normally happen, but let the full lookup decide.
+                resolvedFormats.invalidate(segmentId);
             }
+        }
 
-            default -> throw new RemoteStorageException("Unknown segment format: " + segmentFormat);
+        final Result result = callInOrder(call);
+        if (result.format != segmentFormat) {
+            resolvedFormats.put(segmentId, result.format);
         }
+        return result.result;
+    }
+
+    /**
+     * @return the segment format, if recorded in the custom metadata or learned from a previous call.
+     */
+    Optional<SegmentFormat> knownFormat(final RemoteLogSegmentMetadata remoteLogSegmentMetadata) {
+        return recordedFormat(remoteLogSegmentMetadata)
+            .or(() -> Optional.ofNullable(resolvedFormats.getIfPresent(remoteLogSegmentMetadata.remoteLogSegmentId())));
+    }
+
+    /**
+     * Drops what was learned about the segment format, e.g. when the segment is deleted.
+     */
+    void forget(final RemoteLogSegmentId remoteLogSegmentId) {
+        resolvedFormats.invalidate(remoteLogSegmentId);
+    }
+
+    private Optional<SegmentFormat> recordedFormat(final RemoteLogSegmentMetadata remoteLogSegmentMetadata) {
+        return remoteLogSegmentMetadata.customMetadata()
+            .map(customMetadata -> {
+                final NavigableMap<Integer, Object> fields = customMetadataSerde.deserialize(customMetadata.value());
+                final Object formatId = fields.get(SegmentCustomMetadataField.SEGMENT_FORMAT.index());
+                return formatId == null ? null : SegmentFormat.fromId((Byte) formatId);
+            });
+    }
+
+    private InternalRemoteStorageManager rsm(final SegmentFormat format) {
+        return switch (format) {
+            case KAFKA -> kafkaRsm;
+            case ICEBERG -> icebergRsm;
+        };
+    }
+
+    private Result callInOrder(final Call call) throws RemoteResourceNotFoundException, RemoteStorageException {
+        final SegmentFormat secondFormat = segmentFormat == SegmentFormat.KAFKA
+            ? SegmentFormat.ICEBERG
+            : SegmentFormat.KAFKA;
+        final InternalRemoteStorageManager firstRsm = rsm(segmentFormat);
+        final InternalRemoteStorageManager secondRsm = rsm(secondFormat);
 
         try {
-            return call.call(firstRsm);
+            return new Result(call.call(firstRsm), segmentFormat);
         } catch (final SegmentManifestNotFoundException firstException) {
             if (secondRsm != null) {
                 try {
-                    return call.call(secondRsm);
+                    return new Result(call.call(secondRsm), secondFormat);
                 } catch (final SegmentManifestNotFoundException e) {
                     throw new RemoteResourceNotFoundException(firstException);
                 }
@@ -95,7 +183,9 @@ public class InternalRemoteStorageManagerSelector {
                 throw new RemoteResourceNotFoundException(firstException);
             }
         }
+    }
 
+    private record Result(InputStream result, SegmentFormat format) {
     }
 
     @FunctionalInterface
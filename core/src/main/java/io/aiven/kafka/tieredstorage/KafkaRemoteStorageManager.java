@@ -17,6 +17,7 @@
 package io.aiven.kafka.tieredstorage;
 
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -26,10 +27,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.kafka.common.utils.ByteBufferInputStream;
@@ -40,17 +44,23 @@ import org.apache.kafka.server.log.remote.storage.RemoteResourceNotFoundExceptio
 import org.apache.kafka.server.log.remote.storage.RemoteStorageException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager;
 
+import io.aiven.kafka.tieredstorage.concurrency.ConcurrencyLimitedStorageBackend;
 import io.aiven.kafka.tieredstorage.config.RemoteStorageManagerConfig;
+import io.aiven.kafka.tieredstorage.deletion.CoalescingObjectDeleter;
 import io.aiven.kafka.tieredstorage.fetch.ChunkManager;
 import io.aiven.kafka.tieredstorage.fetch.ChunkManagerFactory;
 import io.aiven.kafka.tieredstorage.fetch.FetchChunkEnumeration;
 import io.aiven.kafka.tieredstorage.fetch.KeyNotFoundRuntimeException;
+import io.aiven.kafka.tieredstorage.fetch.MemoryBudget;
+import io.aiven.kafka.tieredstorage.fetch.WarmUpService;
+import io.aiven.kafka.tieredstorage.fetch.cache.MemoryChunkCache;
 import io.aiven.kafka.tieredstorage.fetch.index.MemorySegmentIndexesCache;
 import io.aiven.kafka.tieredstorage.fetch.index.SegmentIndexesCache;
 import io.aiven.kafka.tieredstorage.fetch.manifest.MemorySegmentManifestCache;
 import io.aiven.kafka.tieredstorage.fetch.manifest.SegmentManifestCache;
 import io.aiven.kafka.tieredstorage.manifest.SegmentEncryptionMetadata;
 import io.aiven.kafka.tieredstorage.manifest.SegmentEncryptionMetadataV1;
+import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
 import io.aiven.kafka.tieredstorage.manifest.SegmentIndex;
 import io.aiven.kafka.tieredstorage.manifest.SegmentIndexesV1;
 import io.aiven.kafka.tieredstorage.manifest.SegmentIndexesV1Builder;
@@ -60,8 +70,13 @@ import io.aiven.kafka.tieredstorage.manifest.index.ChunkIndex;
 import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataBuilder;
 import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField;
 import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataSerde;
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageContext;
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
 import io.aiven.kafka.tieredstorage.security.AesEncryptionProvider;
 import io.aiven.kafka.tieredstorage.security.DataKeyAndAAD;
+import io.aiven.kafka.tieredstorage.security.DataKeyCache;
 import io.aiven.kafka.tieredstorage.security.RsaEncryptionProvider;
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
@@ -91,6 +106,7 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
     private final ObjectFetcher fetcher;
     private final ObjectUploader uploader;
     private final ObjectDeleter deleter;
+    private final CoalescingObjectDeleter coalescingDeleter;
 
     private final ObjectKeyFactory objectKeyFactory;
     private final SegmentCustomMetadataSerde customMetadataSerde;
@@ -103,24 +119,45 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
     private final boolean compressionHeuristic;
     private final boolean encryptionEnabled;
     private final AesEncryptionProvider aesEncryptionProvider;
+    private final DataKeyCache dataKeyCache;
     private final ObjectMapper mapper;
 
     private SegmentManifestCache segmentManifestCache;
 
     private final Bucket rateLimitingBucket;
 
+    private final MemoryBudget memoryBudget;
+
+    private final WarmUpService warmUpService;
+
     KafkaRemoteStorageManager(
         final Logger log, final Time time,
         final RemoteStorageManagerConfig config
     ) {
         super(log, time, config);
 
-        this.storage = config.storage();
+        final StorageBackend backend = config.storage();
+        this.storage = config.concurrencyLimitEnabled()
+            ? new ConcurrencyLimitedStorageBackend(backend, config.concurrencyLimitReadMax(),
+                config.concurrencyLimitWriteMax(), config.concurrencyLimitBackoffRatio())
+            : backend;
         this.fetcher = storage;
         this.uploader = storage;
-        this.deleter = storage;
+        if (config.deleteCoalescingEnabled()) {
+            try {
+                this.coalescingDeleter = new CoalescingObjectDeleter(storage, config.deleteCoalescingBatchSize(),
+                    config.deleteCoalescingLinger(), config.deleteCoalescingJournalDir());
+            } catch (final IOException e) {
+                throw new RuntimeException("Failed to open delete journal", e);
+            }
+            this.deleter = coalescingDeleter;
+        } else {
+            this.coalescingDeleter = null;
+            this.deleter = storage;
+        }
 
-        this.objectKeyFactory = new ObjectKeyFactory(config.keyPrefix(), config.keyPrefixMask());
+        this.objectKeyFactory =
+            new ObjectKeyFactory(config.keyPrefix(), config.keyPrefixMask(), config.keyShardLength());
         this.customMetadataFields = config.customMetadataKeysIncluded();
 
         this.compressionEnabled = config.compressionEnabled();
@@ -137,20 +174,43 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
         chunkManagerFactory.configure(config.originals());
         this.chunkManager = chunkManagerFactory.initChunkManager(fetcher, aesEncryptionProvider);
 
-        this.mapper = RemoteStorageManagerUtils.getObjectMapper(config, rsaEncryptionProvider);
+        this.dataKeyCache = RemoteStorageManagerUtils.getDataKeyCache(config, rsaEncryptionProvider);
+        this.mapper = RemoteStorageManagerUtils.getObjectMapper(config, rsaEncryptionProvider, dataKeyCache);
 
         this.customMetadataSerde = new SegmentCustomMetadataSerde();
 
-        this.segmentIndexesCache = new MemorySegmentIndexesCache();
-        segmentIndexesCache.configure(config.fetchIndexesCacheConfigs());
+        final MemorySegmentIndexesCache memorySegmentIndexesCache = new MemorySegmentIndexesCache();
+        memorySegmentIndexesCache.configure(config.fetchIndexesCacheConfigs());
+        this.segmentIndexesCache = memorySegmentIndexesCache;
 
         this.rateLimitingBucket = config.uploadRateLimit().stream()
             .mapToObj(RateLimitedInputStream::rateLimitBucket)
             .findFirst()
             .orElse(null);
 
-        this.segmentManifestCache = new MemorySegmentManifestCache(storage, mapper);
-        this.segmentManifestCache.configure(config.segmentManifestCacheConfigs());
+        final MemorySegmentManifestCache memorySegmentManifestCache = new MemorySegmentManifestCache(storage, mapper);
+        memorySegmentManifestCache.configure(config.segmentManifestCacheConfigs());
+        this.segmentManifestCache = memorySegmentManifestCache;
+
+        this.memoryBudget = config.memoryBudgetSize()
+            .map(size -> new MemoryBudget(size, config.memoryBudgetRebalanceInterval()))
+            .orElse(null);
+        if (memoryBudget != null) {
+            if (chunkManager instanceof MemoryChunkCache) {
+                ((MemoryChunkCache) chunkManager).registerWith(memoryBudget);
+            }
+            memorySegmentIndexesCache.registerWith(memoryBudget);
+            // Manifests weighed by entry count cannot share a budget in bytes.
+            if (memorySegmentManifestCache.weighedInBytes()) {
+                memorySegmentManifestCache.registerWith(memoryBudget);
+            }
+            memoryBudget.start();
+        }
+
+        this.warmUpService = config.fetchWarmUpSegments() > 0
+            ? new WarmUpService(config.fetchWarmUpSegments(), config.fetchWarmUpMaxAge(),
+                config.fetchWarmUpConcurrency(), time, this::warmUpSegment)
+            : null;
     }
 
     // For testing.
@@ -170,10 +230,11 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
         final UploadMetricReporter uploadMetricReporter
     ) throws RemoteStorageException {
         final var customMetadataBuilder =
-            new SegmentCustomMetadataBuilder(customMetadataFields, objectKeyFactory, remoteLogSegmentMetadata);
+            new SegmentCustomMetadataBuilder(customMetadataFields, objectKeyFactory, remoteLogSegmentMetadata,
+                SegmentFormat.KAFKA);
 
         try {
-            final boolean requiresCompression = requiresCompression(logSegmentData);
+            final boolean requiresCompression = requiresCompression(logSegmentData, uploadMetricReporter);
 
             final DataKeyAndAAD maybeEncryptionKey;
             if (encryptionEnabled) {
@@ -210,8 +271,9 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
             );
         } catch (final Exception e) {
             try {
-                // best effort on removing orphan files
-                deleteSegmentObjects(remoteLogSegmentMetadata);
+                // best effort on removing orphan files,
+                // with the keys they were uploaded with as the metadata has no custom fields yet
+                deleteSegmentObjects(suffix -> objectKeyFactory.key(remoteLogSegmentMetadata, suffix));
             } catch (final Exception ex) {
                 // ignore all exceptions
                 log.warn("Removing orphan files failed", ex);
@@ -223,12 +285,20 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
     }
 
     boolean requiresCompression(final LogSegmentData logSegmentData) {
+        return requiresCompression(logSegmentData, (suffix, bytes) -> { });
+    }
+
+    private boolean requiresCompression(final LogSegmentData logSegmentData,
+                                        final UploadMetricReporter uploadMetricReporter) {
         boolean requiresCompression = false;
         if (compressionEnabled) {
             if (compressionHeuristic) {
                 try {
                     final File segmentFile = logSegmentData.logSegment().toFile();
-                    final boolean alreadyCompressed = SegmentCompressionChecker.check(segmentFile);
+                    final long start = System.nanoTime();
+                    final boolean alreadyCompressed = SegmentCompressionChecker.check(segmentFile,
+                        inspectedBytes -> uploadMetricReporter.recordStage(
+                            UploadStage.COMPRESSION_CHECK, System.nanoTime() - start, inspectedBytes));
                     requiresCompression = !alreadyCompressed;
                 } catch (final InvalidRecordBatchException e) {
                     // Log and leave value as false to upload uncompressed.
@@ -252,17 +322,20 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
         final var objectKey = objectKeyFactory.key(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.LOG);
 
         try (final var logSegmentInputStream = Files.newInputStream(logSegmentData.logSegment())) {
-            final var transformEnum = transformation(logSegmentInputStream, requiresCompression, maybeEncryptionKey);
+            final UploadStageRecorder stageRecorder = uploadMetricReporter::recordStage;
+            final var transformEnum = transformation(
+                logSegmentInputStream, requiresCompression, maybeEncryptionKey, stageRecorder);
             final TransformFinisher transformFinisher = TransformFinisher.newBuilder(
                     transformEnum,
                     remoteLogSegmentMetadata.segmentSizeInBytes()
                 )
                 .withRateLimitingBucket(rateLimitingBucket)
+                .withStageRecorder(stageRecorder)
                 .withOriginalFilePath(logSegmentData.logSegment())
                 .build();
 
             try (final var sis = transformFinisher.toInputStream()) {
-                final var bytes = uploader.upload(sis, objectKey);
+                final var bytes = upload(sis, objectKey, stageRecorder);
                 uploadMetricReporter.report(ObjectKeyFactory.Suffix.LOG, bytes);
                 customMetadataBuilder.addUploadResult(ObjectKeyFactory.Suffix.LOG, bytes);
 
@@ -275,24 +348,40 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
     private TransformChunkEnumeration transformation(
         final InputStream logSegmentInputStream,
         final boolean requiresCompression,
-        final DataKeyAndAAD maybeEncryptionKey
+        final DataKeyAndAAD maybeEncryptionKey,
+        final UploadStageRecorder stageRecorder
     ) {
         TransformChunkEnumeration transformEnum = new BaseTransformChunkEnumeration(
             logSegmentInputStream,
-            chunkSize
+            chunkSize,
+            stageRecorder
         );
         if (requiresCompression) {
-            transformEnum = new CompressionChunkEnumeration(transformEnum);
+            transformEnum = new CompressionChunkEnumeration(transformEnum, stageRecorder);
         }
         if (encryptionEnabled) {
             transformEnum = new EncryptionChunkEnumeration(
                 transformEnum,
-                () -> aesEncryptionProvider.encryptionCipher(maybeEncryptionKey)
+                () -> aesEncryptionProvider.encryptionCipher(maybeEncryptionKey),
+                stageRecorder
             );
         }
         return transformEnum;
     }
 
+    /**
+     * Uploads the object, recording the time until the storage backend has taken all of it.
+     * As the content is streamed, this includes producing it.
+     */
+    private long upload(final InputStream content,
+                        final ObjectKey objectKey,
+                        final UploadStageRecorder stageRecorder) throws StorageBackendException {
+        final long start = System.nanoTime();
+        final long bytes = uploader.upload(content, objectKey);
+        stageRecorder.record(UploadStage.OBJECT_UPLOAD, System.nanoTime() - start, bytes);
+        return bytes;
+    }
+
     SegmentIndexesV1 uploadIndexes(
         final RemoteLogSegmentMetadata remoteLogSegmentMetadata,
         final LogSegmentData segmentData,
@@ -302,6 +391,7 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
     ) throws IOException, RemoteStorageException, StorageBackendException {
         final List<InputStream> indexes = new ArrayList<>(RemoteStorageManager.IndexType.values().length);
         final SegmentIndexesV1Builder segmentIndexBuilder = new SegmentIndexesV1Builder();
+        final UploadStageRecorder stageRecorder = uploadMetricReporter::recordStage;
 
         try (final ClosableInputStreamHolder closableInputStreamHolder = new ClosableInputStreamHolder()) {
             final var offsetIndex = transformIndex(
@@ -309,7 +399,8 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
                 closableInputStreamHolder.add(Files.newInputStream(segmentData.offsetIndex())),
                 indexSize(segmentData.offsetIndex()),
                 maybeEncryptionKey,
-                segmentIndexBuilder
+                segmentIndexBuilder,
+                stageRecorder
             );
             indexes.add(offsetIndex);
             final var timeIndex = transformIndex(
@@ -317,7 +408,8 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
                 closableInputStreamHolder.add(Files.newInputStream(segmentData.timeIndex())),
                 indexSize(segmentData.timeIndex()),
                 maybeEncryptionKey,
-                segmentIndexBuilder
+                segmentIndexBuilder,
+                stageRecorder
             );
             indexes.add(timeIndex);
             final var producerSnapshotIndex = transformIndex(
@@ -325,7 +417,8 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
                 closableInputStreamHolder.add(Files.newInputStream(segmentData.producerSnapshotIndex())),
                 indexSize(segmentData.producerSnapshotIndex()),
                 maybeEncryptionKey,
-                segmentIndexBuilder
+                segmentIndexBuilder,
+                stageRecorder
             );
             indexes.add(producerSnapshotIndex);
             final var leaderEpoch = transformIndex(
@@ -333,7 +426,8 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
                 closableInputStreamHolder.add(new ByteBufferInputStream(segmentData.leaderEpochIndex())),
                 segmentData.leaderEpochIndex().remaining(),
                 maybeEncryptionKey,
-                segmentIndexBuilder
+                segmentIndexBuilder,
+                stageRecorder
             );
             indexes.add(leaderEpoch);
             if (segmentData.transactionIndex().isPresent()) {
@@ -342,14 +436,15 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
                     closableInputStreamHolder.add(Files.newInputStream(segmentData.transactionIndex().get())),
                     indexSize(segmentData.transactionIndex().get()),
                     maybeEncryptionKey,
-                    segmentIndexBuilder
+                    segmentIndexBuilder,
+                    stageRecorder
                 );
                 indexes.add(transactionIndex);
             }
             final var suffix = ObjectKeyFactory.Suffix.INDEXES;
             final ObjectKey key = objectKeyFactory.key(remoteLogSegmentMetadata, suffix);
             try (final var in = new SequenceInputStream(Collections.enumeration(indexes))) {
-                final var bytes = uploader.upload(in, key);
+                final var bytes = upload(in, key, stageRecorder);
                 uploadMetricReporter.report(suffix, bytes);
                 customMetadataBuilder.addUploadResult(suffix, bytes);
 
@@ -364,17 +459,29 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
                                final int size,
                                final DataKeyAndAAD maybeEncryptionKey,
                                final SegmentIndexesV1Builder segmentIndexBuilder) {
+        return transformIndex(indexType, index, size, maybeEncryptionKey, segmentIndexBuilder,
+            UploadStageRecorder.NOOP);
+    }
+
+    InputStream transformIndex(final RemoteStorageManager.IndexType indexType,
+                               final InputStream index,
+                               final int size,
+                               final DataKeyAndAAD maybeEncryptionKey,
+                               final SegmentIndexesV1Builder segmentIndexBuilder,
+                               final UploadStageRecorder stageRecorder) {
         log.debug("Transforming index {} with size {}", indexType, size);
         if (size > 0) {
-            TransformChunkEnumeration transformEnum = new BaseTransformChunkEnumeration(index, size);
+            TransformChunkEnumeration transformEnum = new BaseTransformChunkEnumeration(index, size, stageRecorder);
             if (encryptionEnabled) {
                 transformEnum = new EncryptionChunkEnumeration(
                     transformEnum,
-                    () -> aesEncryptionProvider.encryptionCipher(maybeEncryptionKey));
+                    () -> aesEncryptionProvider.encryptionCipher(maybeEncryptionKey),
+                    stageRecorder);
             }
             final var transformFinisher = TransformFinisher.newBuilder(transformEnum, size)
                 .withChunkingDisabled()
                 .withRateLimitingBucket(rateLimitingBucket)
+                .withStageRecorder(stageRecorder)
                 .build();
             // Getting next element and expecting that it is the only one.
             // No need to get a sequenced input stream
@@ -437,7 +544,7 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
             objectKeyFactory.key(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.MANIFEST);
 
         try (final ByteArrayInputStream manifestContent = new ByteArrayInputStream(manifest.getBytes())) {
-            final var bytes = uploader.upload(manifestContent, manifestObjectKey);
+            final var bytes = upload(manifestContent, manifestObjectKey, uploadMetricReporter::recordStage);
             uploadMetricReporter.report(ObjectKeyFactory.Suffix.MANIFEST, bytes);
             customMetadataBuilder.addUploadResult(ObjectKeyFactory.Suffix.MANIFEST, bytes);
 
@@ -452,13 +559,15 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
     ) throws RemoteStorageException, SegmentManifestNotFoundException {
         try {
             final SegmentManifest segmentManifest;
+            final long manifestLoadStart = System.nanoTime();
             try {
                 final ObjectKey manifestKey =
-                    objectKeyFactory.key(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.MANIFEST);
+                    objectKey(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.MANIFEST);
                 segmentManifest = segmentManifestCache.get(manifestKey);
             } catch (final KeyNotFoundException | KeyNotFoundRuntimeException e) {
                 throw new SegmentManifestNotFoundException(e);
             }
+            FetchStageContext.current().record(FetchStage.MANIFEST_LOAD, System.nanoTime() - manifestLoadStart);
 
             final var suffix = ObjectKeyFactory.Suffix.LOG;
             final var segmentKey = objectKey(remoteLogSegmentMetadata, suffix);
@@ -492,7 +601,7 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
             final SegmentManifest segmentManifest;
             try {
                 final ObjectKey manifestKey =
-                    objectKeyFactory.key(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.MANIFEST);
+                    objectKey(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.MANIFEST);
                 segmentManifest = segmentManifestCache.get(manifestKey);
             } catch (final KeyNotFoundException | KeyNotFoundRuntimeException e) {
                 throw new SegmentManifestNotFoundException(e);
@@ -529,6 +638,22 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
         }
     }
 
+    /**
+     * Prefetches the manifests and the offset and time indexes of the most recent segments into the caches,
+     * without waiting for it to complete.
+     */
+    void warmUp(final Collection<RemoteLogSegmentMetadata> remoteLogSegmentMetadata) {
+        if (warmUpService != null) {
+            warmUpService.warmUp(remoteLogSegmentMetadata);
+        }
+    }
+
+    private void warmUpSegment(final RemoteLogSegmentMetadata remoteLogSegmentMetadata) throws Exception {
+        // Fetching an index goes through the manifest cache first.
+        fetchIndex(remoteLogSegmentMetadata, RemoteStorageManager.IndexType.OFFSET).close();
+        fetchIndex(remoteLogSegmentMetadata, RemoteStorageManager.IndexType.TIMESTAMP).close();
+    }
+
     static InputStream returnNullInputStreamIfInterruptedElseThrow(
         final Throwable exception,
         final RemoteLogSegmentMetadata remoteLogSegmentMetadata,
@@ -592,15 +717,18 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
         final RemoteLogSegmentMetadata remoteLogSegmentMetadata
     ) throws RemoteStorageException {
         try {
-            deleteSegmentObjects(remoteLogSegmentMetadata);
+            segmentManifestCache.invalidate(objectKey(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.MANIFEST));
+            segmentIndexesCache.invalidate(objectKey(remoteLogSegmentMetadata, ObjectKeyFactory.Suffix.INDEXES));
+            deleteSegmentObjects(suffix -> objectKey(remoteLogSegmentMetadata, suffix));
         } catch (final Exception e) {
             throw new RemoteStorageException(e);
         }
     }
 
-    private void deleteSegmentObjects(final RemoteLogSegmentMetadata metadata) throws StorageBackendException {
+    private void deleteSegmentObjects(final Function<ObjectKeyFactory.Suffix, ObjectKey> objectKey)
+        throws StorageBackendException {
         final Set<ObjectKey> keys = Arrays.stream(ObjectKeyFactory.Suffix.values())
-            .map(s -> objectKeyFactory.key(metadata, s))
+            .map(objectKey)
             .collect(Collectors.toSet());
         deleter.delete(keys);
     }
@@ -613,13 +741,35 @@ class KafkaRemoteStorageManager extends InternalRemoteStorageManager {
             final var fields = customMetadataSerde.deserialize(customMetadataBytes.value());
             segmentKey = objectKeyFactory.key(fields, remoteLogSegmentMetadata, suffix);
         } else {
-            segmentKey = objectKeyFactory.key(remoteLogSegmentMetadata, suffix);
+            // Segments without custom metadata were uploaded without a shard.
+            segmentKey = objectKeyFactory.key(Map.of(), remoteLogSegmentMetadata, suffix);
         }
         return segmentKey;
     }
 
     @Override
     public void close() throws IOException {
+        if (warmUpService != null) {
+            warmUpService.close();
+        }
+        if (memoryBudget != null) {
+            memoryBudget.close();
+        }
+        if (chunkManager instanceof Closeable) {
+            ((Closeable) chunkManager).close();
+        }
+        if (segmentIndexesCache != null) {
+            segmentIndexesCache.close();
+        }
+        if (segmentManifestCache != null) {
+            segmentManifestCache.close();
+        }
+        if (dataKeyCache != null) {
+            dataKeyCache.close();
+        }
+        if (coalescingDeleter != null) {
+            coalescingDeleter.close();
+        }
         storage.close();
     }
 }
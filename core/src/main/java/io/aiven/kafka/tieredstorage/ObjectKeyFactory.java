@@ -16,12 +16,14 @@
 
 package io.aiven.kafka.tieredstorage;
 
+import java.nio.charset.StandardCharsets;
 import java.text.NumberFormat;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
 
 import org.apache.kafka.common.TopicIdPartition;
+import org.apache.kafka.common.utils.Utils;
 import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentId;
 import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
 
@@ -29,6 +31,7 @@ import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 
 import static io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField.OBJECT_KEY;
 import static io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField.OBJECT_PREFIX;
+import static io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField.OBJECT_SHARD;
 
 /**
  * Maps Kafka segment files to object paths/keys in the storage backend.
@@ -52,7 +55,10 @@ public final class ObjectKeyFactory {
         }
     }
 
+    public static final int MAX_SHARD_LENGTH = 8;
+
     private final String prefix;
+    private final int shardLength;
     private final BiFunction<String, String, ObjectKey> objectKeyConstructor;
 
     /**
@@ -60,7 +66,22 @@ public final class ObjectKeyFactory {
      * @param maskPrefix whether to mask the prefix in {@code toString()}.
      */
     public ObjectKeyFactory(final String prefix, final boolean maskPrefix) {
+        this(prefix, maskPrefix, 0);
+    }
+
+    /**
+     * @param prefix      the prefix to add to all created keys.
+     * @param maskPrefix  whether to mask the prefix in {@code toString()}.
+     * @param shardLength the number of hash characters to put between the prefix and the main path,
+     *                    {@code 0} to disable sharding.
+     */
+    public ObjectKeyFactory(final String prefix, final boolean maskPrefix, final int shardLength) {
+        if (shardLength < 0 || shardLength > MAX_SHARD_LENGTH) {
+            throw new IllegalArgumentException(
+                "shardLength must be between 0 and " + MAX_SHARD_LENGTH + ", " + shardLength + " given");
+        }
         this.prefix = prefix == null ? "" : prefix;
+        this.shardLength = shardLength;
         this.objectKeyConstructor = maskPrefix
             ? ObjectKeyWithMaskedPrefix::new
             : PlainObjectKey::new;
@@ -70,28 +91,37 @@ public final class ObjectKeyFactory {
      * Creates the object key/path in the following format:
      *
      * <pre>
-     * $(prefix)$(main_path).$(suffix)
+     * $(prefix)$(shard)/$(main_path).$(suffix)
      * </pre>
      *
+     * <p>where {@code $(shard)/} is present only when sharding is enabled.
+     *
      * <p>For example:
-     * {@code someprefix/topic-MWJ6FHTfRYy67jzwZdeqSQ/7/00000000000000001234-tqimKeZwStOEOwRzT3L5oQ.log}
+     * {@code someprefix/topic-MWJ6FHTfRYy67jzwZdeqSQ/7/00000000000000001234-tqimKeZwStOEOwRzT3L5oQ.log}, or
+     * {@code someprefix/3fa1/topic-MWJ6FHTfRYy67jzwZdeqSQ/7/00000000000000001234-tqimKeZwStOEOwRzT3L5oQ.log}
+     * with sharding enabled.
      *
      * @see ObjectKeyFactory#mainPath(RemoteLogSegmentMetadata)
+     * @see ObjectKeyFactory#shard(RemoteLogSegmentMetadata)
      */
     public ObjectKey key(final RemoteLogSegmentMetadata remoteLogSegmentMetadata, final Suffix suffix) {
         Objects.requireNonNull(remoteLogSegmentMetadata, "remoteLogSegmentMetadata cannot be null");
         Objects.requireNonNull(suffix, "suffix cannot be null");
 
-        return objectKeyConstructor.apply(prefix, mainPath(remoteLogSegmentMetadata) + "." + suffix.value);
+        return objectKeyConstructor.apply(prefix,
+            shardPath(shard(remoteLogSegmentMetadata)) + mainPath(remoteLogSegmentMetadata) + "." + suffix.value);
     }
 
     /**
      * Creates the object key/path prioritizing fields in custom metadata with the following format:
      *
      * <pre>
-     * $(prefix)$(main_path).$(suffix)
+     * $(prefix)$(shard)/$(main_path).$(suffix)
      * </pre>
      *
+     * <p>The shard is taken only from the custom metadata fields, as segments uploaded before sharding was enabled
+     * do not have one, regardless of the current configuration.
+     *
      * <p>For example:
      * {@code someprefix/topic-MWJ6FHTfRYy67jzwZdeqSQ/7/00000000000000001234-tqimKeZwStOEOwRzT3L5oQ.log}
      */
@@ -103,8 +133,33 @@ public final class ObjectKeyFactory {
         Objects.requireNonNull(suffix, "suffix cannot be null");
 
         final var prefix = (String) fields.getOrDefault(OBJECT_PREFIX.index(), this.prefix);
+        final var shard = (String) fields.getOrDefault(OBJECT_SHARD.index(), "");
         final var main = (String) fields.getOrDefault(OBJECT_KEY.index(), mainPath(remoteLogSegmentMetadata));
-        return objectKeyConstructor.apply(prefix, main + "." + suffix.value);
+        return objectKeyConstructor.apply(prefix, shardPath(shard) + main + "." + suffix.value);
+    }
+
+    /**
+     * Calculates the shard of a segment: the first {@code shardLength} hex characters of the murmur2 hash of its
+     * main path, or an empty string if sharding is disabled.
+     *
+     * <p>The hash is deterministic, so all the objects of a segment land in the same shard, while segments are
+     * spread evenly across shards.
+     */
+    public String shard(final RemoteLogSegmentMetadata remoteLogSegmentMetadata) {
+        if (shardLength == 0) {
+            return "";
+        }
+        final byte[] mainPath = mainPath(remoteLogSegmentMetadata).getBytes(StandardCharsets.UTF_8);
+        final String hash = String.format("%08x", Utils.murmur2(mainPath));
+        return hash.substring(0, shardLength);
+    }
+
+    public boolean shardingEnabled() {
+        return shardLength > 0;
+    }
+
+    private static String shardPath(final String shard) {
+        return shard.isEmpty() ? "" : shard + "/";
     }
 
     /**
@@ -18,11 +18,13 @@ package io.aiven.kafka.tieredstorage;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.metrics.MetricConfig;
 import org.apache.kafka.common.metrics.Sensor;
 import org.apache.kafka.common.utils.Time;
@@ -33,7 +35,10 @@ import org.apache.kafka.server.log.remote.storage.RemoteStorageException;
 
 import io.aiven.kafka.tieredstorage.config.RemoteStorageManagerConfig;
 import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageContext;
 import io.aiven.kafka.tieredstorage.metrics.Metrics;
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
 import io.aiven.kafka.tieredstorage.security.RsaEncryptionProvider;
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 
@@ -79,7 +84,7 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
 
         segmentFormat = config.segmentFormat();
 
-        objectKeyFactory = new ObjectKeyFactory(config.keyPrefix(), config.keyPrefixMask());
+        objectKeyFactory = new ObjectKeyFactory(config.keyPrefix(), config.keyPrefixMask(), config.keyShardLength());
         final RsaEncryptionProvider rsaEncryptionProvider = RemoteStorageManagerUtils.getRsaEncryptionProvider(config);
 
         final ObjectMapper mapper = RemoteStorageManagerUtils.getObjectMapper(config, rsaEncryptionProvider);
@@ -102,11 +107,19 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
 
         final long startedMs = time.milliseconds();
 
-        final UploadMetricReporter uploadMetricReporter = (suffix, bytes) -> {
-            metrics.recordObjectUpload(
-                remoteLogSegmentMetadata.remoteLogSegmentId().topicIdPartition().topicPartition(),
-                suffix, bytes
-            );
+        final TopicPartition topicPartition =
+            remoteLogSegmentMetadata.remoteLogSegmentId().topicIdPartition().topicPartition();
+        final UploadStageRecorder uploadStageRecorder = metrics.uploadStageRecorder(topicPartition);
+        final UploadMetricReporter uploadMetricReporter = new UploadMetricReporter() {
+            @Override
+            public void report(final ObjectKeyFactory.Suffix suffix, final long bytes) {
+                metrics.recordObjectUpload(topicPartition, suffix, bytes);
+            }
+
+            @Override
+            public void recordStage(final UploadStage stage, final long durationNanos, final long bytes) {
+                uploadStageRecorder.record(stage, durationNanos, bytes);
+            }
         };
         final var customMetadata = switch (segmentFormat) {
             case KAFKA ->
@@ -115,9 +128,7 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
                 icebergRsm.copyLogSegmentData(remoteLogSegmentMetadata, logSegmentData, uploadMetricReporter);
         };
 
-        metrics.recordSegmentCopyTime(
-            remoteLogSegmentMetadata.remoteLogSegmentId().topicIdPartition().topicPartition(),
-            startedMs, time.milliseconds());
+        metrics.recordSegmentCopyTime(topicPartition, startedMs, time.milliseconds());
 
         log.info("Copying log segment data completed successfully, metadata: {}", remoteLogSegmentMetadata);
 
@@ -142,13 +153,15 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
             startPosition,
             Math.min(endPosition, remoteLogSegmentMetadata.segmentSizeInBytes() - 1)
         );
-        metrics.recordSegmentFetch(
-            remoteLogSegmentMetadata.remoteLogSegmentId().topicIdPartition().topicPartition(),
-            range.size());
+        final TopicPartition topicPartition =
+            remoteLogSegmentMetadata.remoteLogSegmentId().topicIdPartition().topicPartition();
+        metrics.recordSegmentFetch(topicPartition, range.size());
         log.trace("Fetching log segment {} with range: {}", remoteLogSegmentMetadata, range);
 
-        return this.irsmSelector
-            .call(irsm -> irsm.fetchLogSegment(remoteLogSegmentMetadata, range));
+        try (final var ignored = FetchStageContext.bind(metrics.fetchStageRecorder(topicPartition))) {
+            return this.irsmSelector
+                .call(remoteLogSegmentMetadata, irsm -> irsm.fetchLogSegment(remoteLogSegmentMetadata, range));
+        }
     }
 
     @Override
@@ -156,7 +169,7 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
                                   final IndexType indexType) throws RemoteStorageException {
         log.trace("Fetching index {} for {}", indexType, remoteLogSegmentMetadata);
         return this.irsmSelector
-            .call(irsm -> irsm.fetchIndex(remoteLogSegmentMetadata, indexType));
+            .call(remoteLogSegmentMetadata, irsm -> irsm.fetchIndex(remoteLogSegmentMetadata, indexType));
     }
 
     @Override
@@ -170,10 +183,13 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
         try {
             final long startedMs = time.milliseconds();
 
-            kafkaRsm.deleteLogSegmentData(remoteLogSegmentMetadata);
-            // TODO expose segment format in custom metadata to avoid double deletion
+            final Optional<SegmentFormat> knownFormat = irsmSelector.knownFormat(remoteLogSegmentMetadata);
+            if (knownFormat.isEmpty() || knownFormat.get() == SegmentFormat.KAFKA) {
+                kafkaRsm.deleteLogSegmentData(remoteLogSegmentMetadata);
+            }
             // TODO call when implemented
             //icebergRsm.deleteLogSegmentData(remoteLogSegmentMetadata);
+            irsmSelector.forget(remoteLogSegmentMetadata.remoteLogSegmentId());
 
             metrics.recordSegmentDeleteTime(
                 remoteLogSegmentMetadata.remoteLogSegmentId().topicIdPartition().topicPartition(),
@@ -187,6 +203,20 @@ public class RemoteStorageManager implements org.apache.kafka.server.log.remote.
         log.info("Deleting log segment data for completed successfully {}", remoteLogSegmentMetadata);
     }
 
+    /**
+     * Prefetches the metadata of the most recent remote segments of a partition into the caches, in the background.
+     *
+     * <p>Meant to be called when the broker becomes leader of the partition,
+     * so the first consumer reads do not have to fetch manifests and indexes from remote storage.
+     * The number and age of the warmed up segments are limited by the {@code fetch.warm.up.*} configs.
+     *
+     * @param remoteLogSegmentMetadata remote segments of the partition.
+     */
+    public void warmUp(final Collection<RemoteLogSegmentMetadata> remoteLogSegmentMetadata) {
+        Objects.requireNonNull(remoteLogSegmentMetadata, "remoteLogSegmentMetadata must not be null");
+        kafkaRsm.warmUp(remoteLogSegmentMetadata);
+    }
+
     @Override
     public void close() throws IOException {
         if (metrics != null) {
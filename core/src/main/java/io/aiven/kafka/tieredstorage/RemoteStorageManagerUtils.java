@@ -24,6 +24,7 @@ import io.aiven.kafka.tieredstorage.config.RemoteStorageManagerConfig;
 import io.aiven.kafka.tieredstorage.manifest.serde.EncryptionSerdeModule;
 import io.aiven.kafka.tieredstorage.manifest.serde.KafkaTypeSerdeModule;
 import io.aiven.kafka.tieredstorage.security.AesEncryptionProvider;
+import io.aiven.kafka.tieredstorage.security.DataKeyCache;
 import io.aiven.kafka.tieredstorage.security.RsaEncryptionProvider;
 import io.aiven.kafka.tieredstorage.security.RsaKeyReader;
 
@@ -51,13 +52,29 @@ class RemoteStorageManagerUtils {
         }
     }
 
+    static DataKeyCache getDataKeyCache(final RemoteStorageManagerConfig config,
+                                        final RsaEncryptionProvider rsaEncryptionProvider) {
+        if (config.encryptionEnabled() && config.encryptionDataKeyCacheSize() > 0) {
+            return new DataKeyCache(rsaEncryptionProvider::decryptDataKey,
+                config.encryptionDataKeyCacheSize(), config.encryptionDataKeyCacheRetention());
+        } else {
+            return null;
+        }
+    }
+
     static ObjectMapper getObjectMapper(final RemoteStorageManagerConfig config,
                                         final RsaEncryptionProvider rsaEncryptionProvider) {
+        return getObjectMapper(config, rsaEncryptionProvider, null);
+    }
+
+    static ObjectMapper getObjectMapper(final RemoteStorageManagerConfig config,
+                                        final RsaEncryptionProvider rsaEncryptionProvider,
+                                        final DataKeyCache dataKeyCache) {
         final ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new Jdk8Module());
         objectMapper.registerModule(KafkaTypeSerdeModule.create());
         if (config.encryptionEnabled()) {
-            objectMapper.registerModule(EncryptionSerdeModule.create(rsaEncryptionProvider));
+            objectMapper.registerModule(EncryptionSerdeModule.create(rsaEncryptionProvider, dataKeyCache));
         }
         return objectMapper;
 
@@ -18,6 +18,7 @@ package io.aiven.kafka.tieredstorage;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.function.IntConsumer;
 
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.record.CompressionType;
@@ -35,9 +36,21 @@ public class SegmentCompressionChecker {
      * @return true if log segment is compressed, otherwise returns false
      */
     public static boolean check(final File file) throws InvalidRecordBatchException {
+        return check(file, inspectedBytes -> { });
+    }
+
+    /**
+     * @param file Kafka log segment file
+     * @param inspectedBytes receives the size of the first batch, the only one read to decide
+     * @return true if log segment is compressed, otherwise returns false
+     */
+    public static boolean check(final File file, final IntConsumer inspectedBytes)
+        throws InvalidRecordBatchException {
         try (final FileRecords records = FileRecords.open(file, false, true, 0, false)) {
             final RecordBatch batch = fistRecordBatch(records);
-            return batch.compressionType() != CompressionType.NONE;
+            final boolean compressed = batch.compressionType() != CompressionType.NONE;
+            inspectedBytes.accept(batch.sizeInBytes());
+            return compressed;
         } catch (final IOException | KafkaException e) {
             throw new InvalidRecordBatchException("Failed to read and validate first batch", e);
         }
@@ -16,7 +16,12 @@
 
 package io.aiven.kafka.tieredstorage;
 
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+
 @FunctionalInterface
 interface UploadMetricReporter {
     void report(final ObjectKeyFactory.Suffix suffix, final long bytes);
+
+    default void recordStage(final UploadStage stage, final long durationNanos, final long bytes) {
+    }
 }
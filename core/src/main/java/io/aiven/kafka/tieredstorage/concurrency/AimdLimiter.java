@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limit of concurrent requests adjusted with additive increase and multiplicative decrease (AIMD).
+ *
+ * <p>The limit starts at its maximum. Every successful request raises it by {@code 1 / limit},
+ * so about one per round of requests, and a throttled request multiplies it by the backoff ratio.
+ * Requests started before the last decrease were sent at the previous limit, so their throttling
+ * does not decrease the limit again; a burst of throttled responses backs off once.
+ *
+ * <p>A limiter can yield to another one: it does not admit requests while the other has requests waiting.
+ */
+class AimdLimiter {
+    // requests yielding to another limiter are not signalled when its waiters leave
+    private static final long YIELD_RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final BooleanSupplier yieldTo;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private double limit;
+    private long generation;
+    private int inFlight;
+    private volatile int waiting;
+
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    AimdLimiter(final int maxLimit, final double backoffRatio) {
+        this(maxLimit, backoffRatio, () -> false);
+    }
+
+    AimdLimiter(final int maxLimit, final double backoffRatio, final BooleanSupplier yieldTo) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("maxLimit must be positive, " + maxLimit + " given");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1, " + backoffRatio + " given");
+        }
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.yieldTo = yieldTo;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Waits until a request can be sent.
+     *
+     * @return the generation of the limit the request was admitted with, to be passed back on release.
+     */
+    long acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            waiting++;
+            try {
+                while (true) {
+                    final boolean yielding = yieldTo.getAsBoolean();
+                    if (!yielding && inFlight < (int) limit) {
+                        break;
+                    }
+                    if (yielding) {
+                        available.awaitNanos(YIELD_RECHECK_NANOS);
+                    } else {
+                        available.await();
+                    }
+                }
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return whether the limit has been decreased, i.e. the request is the first throttled one of its burst.
+     */
+    boolean onThrottled(final long requestGeneration) {
+        throttled.increment();
+        lock.lock();
+        try {
+            final boolean backingOff = requestGeneration == generation;
+            if (backingOff) {
+                backOff();
+            }
+            release();
+            return backingOff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a request that failed for other reasons than throttling, the limit is kept as is.
+     */
+    void onError() {
+        errors.increment();
+        onIgnored();
+    }
+
+    /**
+     * Releases a request without affecting the limit.
+     */
+    void onIgnored() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Decreases the limit on throttling observed by another limiter sharing the same storage.
+     * Only to be called once per burst, i.e. when the other limiter actually backed off.
+     */
+    void onThrottledElsewhere() {
+        lock.lock();
+        try {
+            backOff();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void backOff() {
+        limit = Math.max(1, limit * backoffRatio);
+        generation++;
+    }
+
+    private void release() {
+        inFlight--;
+        available.signal();
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean hasWaiting() {
+        return waiting > 0;
+    }
+
+    int waiting() {
+        return waiting;
+    }
+
+    long throttled() {
+        return throttled.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
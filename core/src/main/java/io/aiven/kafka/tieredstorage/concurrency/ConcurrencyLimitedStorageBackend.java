@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.concurrency;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetrics;
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
+import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.ThrottledException;
+
+/**
+ * Storage backend limiting the concurrent requests sent to another one, backing off when the storage throttles.
+ *
+ * <p>Reads (fetches) and writes (uploads and deletes) have separate {@link AimdLimiter limits}.
+ * Consumer fetches are prioritized over uploads: writes are not started while reads are waiting,
+ * and throttled reads also decrease the write limit, while throttled writes only decrease their own.
+ *
+ * <p>A fetch holds its slot until the backend returns the stream, i.e. until the response starts,
+ * as that is when the storage accepts or throttles the request.
+ */
+public class ConcurrencyLimitedStorageBackend implements StorageBackend {
+    static final String READ = "read";
+    static final String WRITE = "write";
+
+    private final StorageBackend delegate;
+    private final AimdLimiter reads;
+    private final AimdLimiter writes;
+    private final StorageConcurrencyMetrics metrics;
+
+    public ConcurrencyLimitedStorageBackend(final StorageBackend delegate,
+                                            final int maxReads,
+                                            final int maxWrites,
+                                            final double backoffRatio) {
+        this(delegate, maxReads, maxWrites, backoffRatio, Time.SYSTEM);
+    }
+
+    ConcurrencyLimitedStorageBackend(final StorageBackend delegate,
+                                     final int maxReads,
+                                     final int maxWrites,
+                                     final double backoffRatio,
+                                     final Time time) {
+        this.delegate = delegate;
+        this.reads = new AimdLimiter(maxReads, backoffRatio);
+        this.writes = new AimdLimiter(maxWrites, backoffRatio, reads::hasWaiting);
+        this.metrics = new StorageConcurrencyMetrics(time);
+        register(READ, reads);
+        register(WRITE, writes);
+    }
+
+    private void register(final String operation, final AimdLimiter limiter) {
+        metrics.registerOperation(operation, limiter::limit, limiter::inFlight, limiter::waiting,
+            limiter::throttled, limiter::errors);
+    }
+
+    /**
+     * The delegate is expected to be configured already.
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+    }
+
+    @Override
+    public long upload(final InputStream inputStream, final ObjectKey key) throws StorageBackendException {
+        return limited(writes, () -> delegate.upload(inputStream, key));
+    }
+
+    @Override
+    public void delete(final ObjectKey key) throws StorageBackendException {
+        limited(writes, () -> {
+            delegate.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        limited(writes, () -> {
+            delegate.delete(keys);
+            return null;
+        });
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key) throws StorageBackendException {
+        return limited(reads, () -> delegate.fetch(key));
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key, final BytesRange range) throws StorageBackendException {
+        return limited(reads, () -> delegate.fetch(key, range));
+    }
+
+    private <T> T limited(final AimdLimiter limiter, final Request<T> request) throws StorageBackendException {
+        final long generation;
+        try {
+            generation = limiter.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageBackendException("Interrupted while waiting to send a request to " + delegate, e);
+        }
+
+        final T result;
+        try {
+            result = request.send();
+        } catch (final ThrottledException e) {
+            // writes back off once per burst of throttled reads too
+            if (limiter.onThrottled(generation) && limiter == reads) {
+                writes.onThrottledElsewhere();
+            }
+            throw e;
+        } catch (final KeyNotFoundException | InvalidRangeException e) {
+            // the storage answered, these are not failures of the storage itself
+            limiter.onIgnored();
+            throw e;
+        } catch (final Throwable e) {
+            // errors too, so the slot is not leaked
+            limiter.onError();
+            throw e;
+        }
+        limiter.onSuccess();
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface Request<T> {
+        T send() throws StorageBackendException;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            delegate.close();
+        } finally {
+            metrics.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
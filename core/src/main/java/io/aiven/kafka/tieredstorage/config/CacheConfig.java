@@ -34,6 +34,14 @@ public class CacheConfig extends AbstractConfig {
     private static final String CACHE_FETCH_THREAD_POOL_SIZE_CONFIG = "thread.pool.size";
     private static final String CACHE_FETCH_THREAD_POOL_SIZE_DOC = "Size for the thread pool used to "
         + "schedule asynchronous fetching tasks, default to number of processors.";
+    private static final String CACHE_EXECUTOR_TYPE_CONFIG = "executor.type";
+    private static final String CACHE_EXECUTOR_TYPE_DOC = "Executor running asynchronous fetching tasks. "
+        + "\"fork-join\" uses a pool of thread.pool.size platform threads. "
+        + "\"virtual\" runs each task on its own virtual thread, so tasks blocked on storage I/O do not hold "
+        + "a pool thread, with concurrency limited by executor.max.concurrency. Requires Java 21 or newer.";
+    private static final String CACHE_EXECUTOR_MAX_CONCURRENCY_CONFIG = "executor.max.concurrency";
+    private static final String CACHE_EXECUTOR_MAX_CONCURRENCY_DOC = "Maximum number of fetching tasks "
+        + "running concurrently with the \"virtual\" executor type. Tasks above the limit wait for a slot.";
     private static final String CACHE_FETCH_TIMEOUT_MS_CONFIG = "get.timeout.ms";
     private static final String CACHE_FETCH_TIMEOUT_MS_DOC = "When getting an object from the fetch, "
         + "how long to wait before timing out. Defaults to 10 sec.";
@@ -79,6 +87,14 @@ public class CacheConfig extends AbstractConfig {
         return Optional.of(rawValue);
     }
 
+    public ExecutorType executorType() {
+        return ExecutorType.fromValue(getString(CACHE_EXECUTOR_TYPE_CONFIG));
+    }
+
+    public int executorMaxConcurrency() {
+        return getInt(CACHE_EXECUTOR_MAX_CONCURRENCY_CONFIG);
+    }
+
     public Duration getTimeout() {
         return Duration.ofMillis(getLong(CACHE_FETCH_TIMEOUT_MS_CONFIG));
     }
@@ -138,6 +154,22 @@ public class CacheConfig extends AbstractConfig {
                 ConfigDef.Importance.LOW,
                 CACHE_FETCH_THREAD_POOL_SIZE_DOC
             );
+            configDef.define(
+                CACHE_EXECUTOR_TYPE_CONFIG,
+                ConfigDef.Type.STRING,
+                ExecutorType.FORK_JOIN.getValue(),
+                ConfigDef.ValidString.in(ExecutorType.allowedConfigValues()),
+                ConfigDef.Importance.LOW,
+                CACHE_EXECUTOR_TYPE_DOC
+            );
+            configDef.define(
+                CACHE_EXECUTOR_MAX_CONCURRENCY_CONFIG,
+                ConfigDef.Type.INT,
+                256,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                CACHE_EXECUTOR_MAX_CONCURRENCY_DOC
+            );
             configDef.define(
                 CACHE_FETCH_TIMEOUT_MS_CONFIG,
                 ConfigDef.Type.LONG,
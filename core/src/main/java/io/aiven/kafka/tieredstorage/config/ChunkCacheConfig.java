@@ -16,7 +16,9 @@
 
 package io.aiven.kafka.tieredstorage.config;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.kafka.common.config.ConfigDef;
 
@@ -26,6 +28,34 @@ public class ChunkCacheConfig extends CacheConfig {
         "The amount of data that should be eagerly prefetched and cached";
     private static final int CACHE_PREFETCHING_SIZE_DEFAULT = 0; //TODO find out what it should be
 
+    private static final String SCAN_RESISTANCE_THRESHOLD_CONFIG = "scan.resistance.threshold";
+    private static final String SCAN_RESISTANCE_THRESHOLD_DOC = "Number of consecutive chunks of a segment "
+        + "a reader has to read sequentially before it is treated as a one-pass scan (e.g. a backfilling consumer). "
+        + "Chunks missed by such a scan are not admitted to the main cache region, "
+        + "so they do not evict the working set of other readers. \"0\" disables scan detection.";
+    private static final String SCAN_PROBATION_SIZE_CONFIG = "scan.probation.size";
+    private static final String SCAN_PROBATION_SIZE_DOC = "Maximum size in bytes of the probationary region "
+        + "used for chunks fetched by a detected scan. Chunks in this region expire after "
+        + "scan.probation.retention.ms unless a non-scanning reader accesses them. "
+        + "When the region is full, scan chunks are served without being cached.";
+    private static final String SCAN_PROBATION_RETENTION_MS_CONFIG = "scan.probation.retention.ms";
+    private static final String SCAN_PROBATION_RETENTION_MS_DOC = "Retention time ms of chunks "
+        + "in the probationary region.";
+
+    private static final String CONSUMED_RETENTION_MS_CONFIG = "consumed.retention.ms";
+    private static final String CONSUMED_RETENTION_MS_DOC = "Retention time ms of chunks that all active readers "
+        + "of the segment have moved past, as they are unlikely to be read again. "
+        + "Freeing them early leaves more space for chunks ahead of readers. "
+        + "\"-1\" disables this and keeps such chunks for the regular retention.";
+
+    private static final String STREAMING_ENABLED_CONFIG = "streaming.enabled";
+    private static final String STREAMING_ENABLED_DOC = "Whether to return chunk bytes to the reader "
+        + "as they are fetched on a cache miss, instead of after the whole chunk has been cached. "
+        + "Concurrent requests for the chunk read the same in-progress fetch. "
+        + "Up to 1 MiB of each fetched chunk is buffered on heap, "
+        + "readers falling further behind continue from the cached chunk. "
+        + "Reduces the time to first byte for large chunks.";
+
     public static final ConfigDef configDef(final ConfigDef baseConfig) {
         baseConfig.define(
             CACHE_PREFETCH_MAX_SIZE_CONFIG,
@@ -35,6 +65,45 @@ public class ChunkCacheConfig extends CacheConfig {
             ConfigDef.Importance.MEDIUM,
             CACHE_PREFETCH_MAX_SIZE_DOC
         );
+        baseConfig.define(
+            SCAN_RESISTANCE_THRESHOLD_CONFIG,
+            ConfigDef.Type.INT,
+            0,
+            ConfigDef.Range.atLeast(0),
+            ConfigDef.Importance.LOW,
+            SCAN_RESISTANCE_THRESHOLD_DOC
+        );
+        baseConfig.define(
+            SCAN_PROBATION_SIZE_CONFIG,
+            ConfigDef.Type.LONG,
+            0L,
+            ConfigDef.Range.atLeast(0L),
+            ConfigDef.Importance.LOW,
+            SCAN_PROBATION_SIZE_DOC
+        );
+        baseConfig.define(
+            SCAN_PROBATION_RETENTION_MS_CONFIG,
+            ConfigDef.Type.LONG,
+            Duration.ofSeconds(30).toMillis(),
+            ConfigDef.Range.atLeast(1L),
+            ConfigDef.Importance.LOW,
+            SCAN_PROBATION_RETENTION_MS_DOC
+        );
+        baseConfig.define(
+            CONSUMED_RETENTION_MS_CONFIG,
+            ConfigDef.Type.LONG,
+            -1L,
+            ConfigDef.Range.atLeast(-1L),
+            ConfigDef.Importance.LOW,
+            CONSUMED_RETENTION_MS_DOC
+        );
+        baseConfig.define(
+            STREAMING_ENABLED_CONFIG,
+            ConfigDef.Type.BOOLEAN,
+            false,
+            ConfigDef.Importance.LOW,
+            STREAMING_ENABLED_DOC
+        );
         return CacheConfig.defBuilder(baseConfig)
             .withDefaultRetentionMs(ChunkCacheConfig.CACHE_RETENTION_MS_DEFAULT)
             .build();
@@ -51,4 +120,28 @@ public class ChunkCacheConfig extends CacheConfig {
     public int cachePrefetchingSize() {
         return getInt(CACHE_PREFETCH_MAX_SIZE_CONFIG);
     }
+
+    public int scanResistanceThreshold() {
+        return getInt(SCAN_RESISTANCE_THRESHOLD_CONFIG);
+    }
+
+    public long scanProbationSize() {
+        return getLong(SCAN_PROBATION_SIZE_CONFIG);
+    }
+
+    public Duration scanProbationRetention() {
+        return Duration.ofMillis(getLong(SCAN_PROBATION_RETENTION_MS_CONFIG));
+    }
+
+    public Optional<Duration> consumedChunkRetention() {
+        final long retentionMs = getLong(CONSUMED_RETENTION_MS_CONFIG);
+        if (retentionMs == -1) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(retentionMs));
+    }
+
+    public boolean streamingEnabled() {
+        return getBoolean(STREAMING_ENABLED_CONFIG);
+    }
 }
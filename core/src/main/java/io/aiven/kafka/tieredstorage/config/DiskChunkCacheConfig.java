@@ -30,6 +30,15 @@ public class DiskChunkCacheConfig extends ChunkCacheConfig {
     private static final String CACHE_PATH_CONFIG = "path";
     private static final String CACHE_PATH_DOC = "Cache base directory. "
         + "It is required to exist and be writable prior to the execution of the plugin.";
+    private static final String MMAP_ENABLED_CONFIG = "mmap.enabled";
+    private static final String MMAP_ENABLED_DOC = "Whether to serve cache hits from memory-mapped cached files "
+        + "instead of reading them through a file stream, so hits are served from the page cache "
+        + "without extra system calls or copies.";
+    private static final String MMAP_MAX_SIZE_CONFIG = "mmap.max.size";
+    private static final String MMAP_MAX_SIZE_DOC = "Maximum total size in bytes of the chunk files kept "
+        + "memory-mapped at once when mmap.enabled is set. Files are unmapped when evicted from this set, "
+        + "once the reads in progress on them complete.";
+    private static final long MMAP_MAX_SIZE_DEFAULT = 1024L * 1024 * 1024;
 
     public static final String TEMP_CACHE_DIRECTORY = "temp";
     public static final String CACHE_DIRECTORY = "cache";
@@ -44,11 +53,30 @@ public class DiskChunkCacheConfig extends ChunkCacheConfig {
                     ConfigDef.Importance.HIGH,
                     CACHE_PATH_DOC
                 )
+                .define(
+                    MMAP_ENABLED_CONFIG,
+                    ConfigDef.Type.BOOLEAN,
+                    false,
+                    ConfigDef.Importance.LOW,
+                    MMAP_ENABLED_DOC
+                )
+                .define(
+                    MMAP_MAX_SIZE_CONFIG,
+                    ConfigDef.Type.LONG,
+                    MMAP_MAX_SIZE_DEFAULT,
+                    ConfigDef.Range.atLeast(1L),
+                    ConfigDef.Importance.LOW,
+                    MMAP_MAX_SIZE_DOC
+                )
         );
     }
 
     public DiskChunkCacheConfig(final Map<String, ?> props) {
-        super(configDef(), props);
+        this(configDef(), props);
+    }
+
+    protected DiskChunkCacheConfig(final ConfigDef configDef, final Map<String, ?> props) {
+        super(configDef, props);
         final var baseCachePath = baseCachePath();
         if (!Files.isDirectory(baseCachePath) || !Files.isWritable(baseCachePath)) {
             throw new ConfigException(CACHE_PATH_CONFIG, baseCachePath,
@@ -83,4 +111,12 @@ public class DiskChunkCacheConfig extends ChunkCacheConfig {
     public final Path tempCachePath() {
         return baseCachePath().resolve(TEMP_CACHE_DIRECTORY);
     }
+
+    public boolean mmapEnabled() {
+        return getBoolean(MMAP_ENABLED_CONFIG);
+    }
+
+    public long mmapMaxSize() {
+        return getLong(MMAP_MAX_SIZE_CONFIG);
+    }
 }
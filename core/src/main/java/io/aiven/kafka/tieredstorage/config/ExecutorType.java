@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.config;
+
+import java.util.Arrays;
+
+public enum ExecutorType {
+    FORK_JOIN("fork-join"),
+    VIRTUAL("virtual");
+
+    private final String value;
+
+    ExecutorType(final String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ExecutorType fromValue(final String value) {
+        for (final ExecutorType type : values()) {
+            if (type.value.equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown executor type: " + value);
+    }
+
+    public static String[] allowedConfigValues() {
+        return Arrays.stream(ExecutorType.values())
+            .map(ExecutorType::getValue)
+            .toArray(String[]::new);
+    }
+}
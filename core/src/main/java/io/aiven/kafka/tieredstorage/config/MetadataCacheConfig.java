@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+
+/**
+ * Configuration of caches of segment metadata, i.e. manifests and indexes,
+ * which can keep fetched entries on local disk in addition to memory.
+ */
+public class MetadataCacheConfig extends CacheConfig {
+    private static final String DISK_PATH_CONFIG = "disk.path";
+    private static final String DISK_PATH_DOC = "Directory where fetched entries are also stored, "
+        + "so they survive broker restarts and do not have to be fetched from remote storage again. "
+        + "Stored entries are loaded at startup. The directory can be shared by the manifest and indexes caches. "
+        + "By default, entries are only cached in memory.";
+    private static final String DISK_SIZE_CONFIG = "disk.size";
+    private static final String DISK_SIZE_DOC = "Maximum total size in bytes of the entries stored on disk. "
+        + "Entries are evicted by size, preferring the least frequently and recently used.";
+    private static final long DISK_SIZE_DEFAULT = 1024L * 1024 * 1024;
+
+    public static ConfigDef configDef(final ConfigDef baseConfig) {
+        baseConfig.define(
+            DISK_PATH_CONFIG,
+            ConfigDef.Type.STRING,
+            null,
+            ConfigDef.Importance.MEDIUM,
+            DISK_PATH_DOC
+        );
+        baseConfig.define(
+            DISK_SIZE_CONFIG,
+            ConfigDef.Type.LONG,
+            DISK_SIZE_DEFAULT,
+            ConfigDef.Range.atLeast(1L),
+            ConfigDef.Importance.LOW,
+            DISK_SIZE_DOC
+        );
+        return baseConfig;
+    }
+
+    public MetadataCacheConfig(final ConfigDef configDef, final Map<String, ?> props) {
+        super(configDef, props);
+        diskPath().ifPresent(path -> {
+            if (!Files.isDirectory(path) || !Files.isWritable(path)) {
+                throw new ConfigException(DISK_PATH_CONFIG, path, path + " must exists and be a writable directory");
+            }
+        });
+    }
+
+    public Optional<Path> diskPath() {
+        return Optional.ofNullable(getString(DISK_PATH_CONFIG)).map(Path::of);
+    }
+
+    public long diskSize() {
+        return getLong(DISK_SIZE_CONFIG);
+    }
+}
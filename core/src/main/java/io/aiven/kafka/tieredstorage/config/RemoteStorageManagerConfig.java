@@ -17,6 +17,7 @@
 package io.aiven.kafka.tieredstorage.config;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.metrics.Sensor;
 import org.apache.kafka.common.utils.Utils;
 
+import io.aiven.kafka.tieredstorage.ObjectKeyFactory;
 import io.aiven.kafka.tieredstorage.config.validators.Null;
 import io.aiven.kafka.tieredstorage.iceberg.NamespaceAwareCachingCatalog;
 import io.aiven.kafka.tieredstorage.iceberg.StructureProvider;
@@ -64,6 +66,13 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
     private static final String OBJECT_KEY_PREFIX_MASK_CONFIG = "key.prefix.mask";
     private static final String OBJECT_KEY_PREFIX_MASK_DOC = "Whether to mask path prefix in logs";
 
+    private static final String OBJECT_KEY_SHARD_LENGTH_CONFIG = "key.shard.length";
+    private static final String OBJECT_KEY_SHARD_LENGTH_DOC = "The number of hex characters of a hash of the "
+        + "segment path to insert after the key prefix, spreading objects across more key prefixes "
+        + "to distribute request load on the storage backend. "
+        + "The shard is recorded in the segment custom metadata, so changing it does not affect existing segments. "
+        + "0 disables sharding.";
+
     private static final String CHUNK_SIZE_CONFIG = "chunk.size";
     private static final String CHUNK_SIZE_DOC = "Segment files are chunked into smaller parts to allow for faster "
         + "processing (e.g. encryption, compression) and for range-fetching. "
@@ -82,6 +91,16 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
     private static final String ENCRYPTION_DOC = "Segments and indexes can be encrypted, so objects are not accessible "
         + "by accessing the remote storage. Disabled by default.";
 
+    private static final String ENCRYPTION_DATA_KEY_CACHE_SIZE_CONFIG = "encryption.data.key.cache.size";
+    private static final String ENCRYPTION_DATA_KEY_CACHE_SIZE_DOC = "Maximum number of data keys kept decrypted "
+        + "in memory, so reloading the manifests of encrypted segments does not repeat the RSA decryption "
+        + "of their data key, where \"0\" disables caching. Only used if encryption is enabled.";
+
+    private static final String ENCRYPTION_DATA_KEY_CACHE_RETENTION_MS_CONFIG =
+        "encryption.data.key.cache.retention.ms";
+    private static final String ENCRYPTION_DATA_KEY_CACHE_RETENTION_MS_DOC = "How long a decrypted data key "
+        + "is kept in memory after being decrypted, before it is zeroed.";
+
     private static final String CUSTOM_METADATA_FIELDS_INCLUDE_CONFIG = "custom.metadata.fields.include";
     private static final String CUSTOM_METADATA_FIELDS_INCLUDE_DOC = "Custom Metadata to be stored along "
         + "Remote Log Segment metadata on Remote Log Metadata Manager back-end. "
@@ -92,6 +111,59 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
         + "(therefore read from disk) per second. Rate limit must be equal or larger than 1 MiB/sec "
         + "and less than 953 Mib/sec (10^9 byte/sec).";
 
+    private static final String MEMORY_BUDGET_SIZE_CONFIG = "memory.budget.size";
+    private static final String MEMORY_BUDGET_SIZE_DOC = "Memory in bytes shared by the in-memory chunk cache, "
+        + "the segment indexes cache and, when its size is set in bytes, the segment manifest cache, "
+        + "where \"-1\" disables sharing and each cache keeps its own size. "
+        + "When set, the configured cache sizes are scaled to add up to the budget and capacity is periodically "
+        + "moved to the cache that would gain the most hits from it. Shared caches must have a size configured.";
+
+    private static final String MEMORY_BUDGET_REBALANCE_INTERVAL_MS_CONFIG = "memory.budget.rebalance.interval.ms";
+    private static final String MEMORY_BUDGET_REBALANCE_INTERVAL_MS_DOC = "How often capacity is moved between "
+        + "the caches sharing the memory budget.";
+
+    private static final String FETCH_WARM_UP_SEGMENTS_CONFIG = "fetch.warm.up.segments";
+    private static final String FETCH_WARM_UP_SEGMENTS_DOC = "Maximum number of the most recent segments "
+        + "of a partition whose manifest and offset and time indexes are prefetched into the caches "
+        + "when a warm-up is requested, e.g. when the broker becomes leader of the partition. "
+        + "\"0\" disables warm-up.";
+    private static final String FETCH_WARM_UP_MAX_AGE_MS_CONFIG = "fetch.warm.up.max.age.ms";
+    private static final String FETCH_WARM_UP_MAX_AGE_MS_DOC = "Only segments with records newer than this "
+        + "are warmed up, where \"-1\" means no age limit.";
+    private static final String FETCH_WARM_UP_CONCURRENCY_CONFIG = "fetch.warm.up.concurrency";
+    private static final String FETCH_WARM_UP_CONCURRENCY_DOC = "Number of low priority threads warming up "
+        + "segments. Warm-up requests beyond this are queued.";
+
+    private static final String CONCURRENCY_LIMIT_PREFIX = "concurrency.limit.";
+    private static final String CONCURRENCY_LIMIT_ENABLED_CONFIG = CONCURRENCY_LIMIT_PREFIX + "enabled";
+    private static final String CONCURRENCY_LIMIT_ENABLED_DOC = "Whether to limit the concurrent requests "
+        + "to the storage backend, decreasing the limit when the storage throttles requests "
+        + "and increasing it back while requests succeed. Fetches are prioritized over uploads and deletes.";
+    private static final String CONCURRENCY_LIMIT_READ_MAX_CONFIG = CONCURRENCY_LIMIT_PREFIX + "read.max";
+    private static final String CONCURRENCY_LIMIT_READ_MAX_DOC = "Maximum and initial limit of concurrent "
+        + "fetch requests to the storage backend.";
+    private static final String CONCURRENCY_LIMIT_WRITE_MAX_CONFIG = CONCURRENCY_LIMIT_PREFIX + "write.max";
+    private static final String CONCURRENCY_LIMIT_WRITE_MAX_DOC = "Maximum and initial limit of concurrent "
+        + "upload and delete requests to the storage backend.";
+    private static final String CONCURRENCY_LIMIT_BACKOFF_RATIO_CONFIG = CONCURRENCY_LIMIT_PREFIX + "backoff.ratio";
+    private static final String CONCURRENCY_LIMIT_BACKOFF_RATIO_DOC = "Factor the concurrency limit is multiplied "
+        + "by when the storage throttles requests.";
+
+    private static final String DELETE_COALESCING_PREFIX = "delete.coalescing.";
+    private static final String DELETE_COALESCING_ENABLED_CONFIG = DELETE_COALESCING_PREFIX + "enabled";
+    private static final String DELETE_COALESCING_ENABLED_DOC = "Whether to delete segment objects asynchronously, "
+        + "accumulating the keys of many deleted segments and sending them to the storage backend in batches.";
+    private static final String DELETE_COALESCING_BATCH_SIZE_CONFIG = DELETE_COALESCING_PREFIX + "batch.size";
+    private static final String DELETE_COALESCING_BATCH_SIZE_DOC = "Number of keys that triggers a delete "
+        + "request as soon as they are queued.";
+    private static final String DELETE_COALESCING_LINGER_MS_CONFIG = DELETE_COALESCING_PREFIX + "linger.ms";
+    private static final String DELETE_COALESCING_LINGER_MS_DOC = "Maximum time queued keys wait "
+        + "for a full batch before being deleted.";
+    private static final String DELETE_COALESCING_JOURNAL_DIR_CONFIG = DELETE_COALESCING_PREFIX + "journal.dir";
+    private static final String DELETE_COALESCING_JOURNAL_DIR_DOC = "Directory where queued keys are recorded "
+        + "until they are deleted, so keys queued before a crash or restart are deleted on the next start. "
+        + "Without it, objects of segments queued but not deleted before a crash are left behind.";
+
     public static final String METRICS_NUM_SAMPLES_CONFIG = CommonClientConfigs.METRICS_NUM_SAMPLES_CONFIG;
     private static final String METRICS_NUM_SAMPLES_DOC = CommonClientConfigs.METRICS_NUM_SAMPLES_DOC;
 
@@ -166,6 +238,15 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
             OBJECT_KEY_PREFIX_MASK_DOC
         );
 
+        configDef.define(
+            OBJECT_KEY_SHARD_LENGTH_CONFIG,
+            ConfigDef.Type.INT,
+            0,
+            ConfigDef.Range.between(0, ObjectKeyFactory.MAX_SHARD_LENGTH),
+            ConfigDef.Importance.LOW,
+            OBJECT_KEY_SHARD_LENGTH_DOC
+        );
+
         configDef.define(
             CHUNK_SIZE_CONFIG,
             ConfigDef.Type.INT,
@@ -198,6 +279,22 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
             ConfigDef.Importance.HIGH,
             ENCRYPTION_DOC
         );
+        configDef.define(
+            ENCRYPTION_DATA_KEY_CACHE_SIZE_CONFIG,
+            ConfigDef.Type.INT,
+            1000,
+            ConfigDef.Range.atLeast(0),
+            ConfigDef.Importance.LOW,
+            ENCRYPTION_DATA_KEY_CACHE_SIZE_DOC
+        );
+        configDef.define(
+            ENCRYPTION_DATA_KEY_CACHE_RETENTION_MS_CONFIG,
+            ConfigDef.Type.LONG,
+            3_600_000L,
+            ConfigDef.Range.atLeast(1L),
+            ConfigDef.Importance.LOW,
+            ENCRYPTION_DATA_KEY_CACHE_RETENTION_MS_DOC
+        );
 
         configDef.define(
             METRICS_SAMPLE_WINDOW_MS_CONFIG,
@@ -242,6 +339,120 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
             UPLOAD_RATE_LIMIT_BYTES_DOC
         );
 
+        configDef.define(
+            MEMORY_BUDGET_SIZE_CONFIG,
+            ConfigDef.Type.LONG,
+            -1L,
+            ConfigDef.Range.between(-1L, Long.MAX_VALUE),
+            ConfigDef.Importance.MEDIUM,
+            MEMORY_BUDGET_SIZE_DOC
+        );
+
+        configDef.define(
+            MEMORY_BUDGET_REBALANCE_INTERVAL_MS_CONFIG,
+            ConfigDef.Type.LONG,
+            60_000L,
+            ConfigDef.Range.atLeast(1L),
+            ConfigDef.Importance.LOW,
+            MEMORY_BUDGET_REBALANCE_INTERVAL_MS_DOC
+        );
+
+        configDef.define(
+            FETCH_WARM_UP_SEGMENTS_CONFIG,
+            ConfigDef.Type.INT,
+            10,
+            ConfigDef.Range.atLeast(0),
+            ConfigDef.Importance.LOW,
+            FETCH_WARM_UP_SEGMENTS_DOC
+        );
+
+        configDef.define(
+            FETCH_WARM_UP_MAX_AGE_MS_CONFIG,
+            ConfigDef.Type.LONG,
+            -1L,
+            ConfigDef.Range.atLeast(-1L),
+            ConfigDef.Importance.LOW,
+            FETCH_WARM_UP_MAX_AGE_MS_DOC
+        );
+
+        configDef.define(
+            FETCH_WARM_UP_CONCURRENCY_CONFIG,
+            ConfigDef.Type.INT,
+            2,
+            ConfigDef.Range.atLeast(1),
+            ConfigDef.Importance.LOW,
+            FETCH_WARM_UP_CONCURRENCY_DOC
+        );
+
+        configDef.define(
+            CONCURRENCY_LIMIT_ENABLED_CONFIG,
+            ConfigDef.Type.BOOLEAN,
+            false,
+            ConfigDef.Importance.MEDIUM,
+            CONCURRENCY_LIMIT_ENABLED_DOC
+        );
+
+        configDef.define(
+            CONCURRENCY_LIMIT_READ_MAX_CONFIG,
+            ConfigDef.Type.INT,
+            128,
+            ConfigDef.Range.atLeast(1),
+            ConfigDef.Importance.LOW,
+            CONCURRENCY_LIMIT_READ_MAX_DOC
+        );
+
+        configDef.define(
+            CONCURRENCY_LIMIT_WRITE_MAX_CONFIG,
+            ConfigDef.Type.INT,
+            64,
+            ConfigDef.Range.atLeast(1),
+            ConfigDef.Importance.LOW,
+            CONCURRENCY_LIMIT_WRITE_MAX_DOC
+        );
+
+        configDef.define(
+            CONCURRENCY_LIMIT_BACKOFF_RATIO_CONFIG,
+            ConfigDef.Type.DOUBLE,
+            0.9,
+            ConfigDef.Range.between(0.1, 0.99),
+            ConfigDef.Importance.LOW,
+            CONCURRENCY_LIMIT_BACKOFF_RATIO_DOC
+        );
+
+        configDef.define(
+            DELETE_COALESCING_ENABLED_CONFIG,
+            ConfigDef.Type.BOOLEAN,
+            false,
+            ConfigDef.Importance.MEDIUM,
+            DELETE_COALESCING_ENABLED_DOC
+        );
+
+        configDef.define(
+            DELETE_COALESCING_BATCH_SIZE_CONFIG,
+            ConfigDef.Type.INT,
+            1000,
+            ConfigDef.Range.atLeast(1),
+            ConfigDef.Importance.LOW,
+            DELETE_COALESCING_BATCH_SIZE_DOC
+        );
+
+        configDef.define(
+            DELETE_COALESCING_LINGER_MS_CONFIG,
+            ConfigDef.Type.LONG,
+            1000L,
+            ConfigDef.Range.atLeast(0L),
+            ConfigDef.Importance.LOW,
+            DELETE_COALESCING_LINGER_MS_DOC
+        );
+
+        configDef.define(
+            DELETE_COALESCING_JOURNAL_DIR_CONFIG,
+            ConfigDef.Type.STRING,
+            null,
+            ConfigDef.Importance.LOW,
+            DELETE_COALESCING_JOURNAL_DIR_DOC
+        );
+
         configDef.define(
             STRUCTURE_PROVIDER_CLASS_CONFIG,
             ConfigDef.Type.CLASS,
@@ -425,6 +636,10 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
         return getBoolean(OBJECT_KEY_PREFIX_MASK_CONFIG);
     }
 
+    public int keyShardLength() {
+        return getInt(OBJECT_KEY_SHARD_LENGTH_CONFIG);
+    }
+
     public int chunkSize() {
         return getInt(CHUNK_SIZE_CONFIG);
     }
@@ -441,6 +656,14 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
         return getBoolean(ENCRYPTION_CONFIG);
     }
 
+    public int encryptionDataKeyCacheSize() {
+        return getInt(ENCRYPTION_DATA_KEY_CACHE_SIZE_CONFIG);
+    }
+
+    public Duration encryptionDataKeyCacheRetention() {
+        return Duration.ofMillis(getLong(ENCRYPTION_DATA_KEY_CACHE_RETENTION_MS_CONFIG));
+    }
+
     public String encryptionKeyPairId() {
         if (!encryptionEnabled()) {
             return null;
@@ -469,6 +692,66 @@ public class RemoteStorageManagerConfig extends AbstractConfig {
             .collect(Collectors.toSet());
     }
 
+    public Optional<Long> memoryBudgetSize() {
+        final long rawValue = getLong(MEMORY_BUDGET_SIZE_CONFIG);
+        if (rawValue == -1) {
+            return Optional.empty();
+        }
+        return Optional.of(rawValue);
+    }
+
+    public Duration memoryBudgetRebalanceInterval() {
+        return Duration.ofMillis(getLong(MEMORY_BUDGET_REBALANCE_INTERVAL_MS_CONFIG));
+    }
+
+    public int fetchWarmUpSegments() {
+        return getInt(FETCH_WARM_UP_SEGMENTS_CONFIG);
+    }
+
+    public Optional<Duration> fetchWarmUpMaxAge() {
+        final long rawValue = getLong(FETCH_WARM_UP_MAX_AGE_MS_CONFIG);
+        if (rawValue == -1) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofMillis(rawValue));
+    }
+
+    public int fetchWarmUpConcurrency() {
+        return getInt(FETCH_WARM_UP_CONCURRENCY_CONFIG);
+    }
+
+    public boolean concurrencyLimitEnabled() {
+        return getBoolean(CONCURRENCY_LIMIT_ENABLED_CONFIG);
+    }
+
+    public int concurrencyLimitReadMax() {
+        return getInt(CONCURRENCY_LIMIT_READ_MAX_CONFIG);
+    }
+
+    public int concurrencyLimitWriteMax() {
+        return getInt(CONCURRENCY_LIMIT_WRITE_MAX_CONFIG);
+    }
+
+    public double concurrencyLimitBackoffRatio() {
+        return getDouble(CONCURRENCY_LIMIT_BACKOFF_RATIO_CONFIG);
+    }
+
+    public boolean deleteCoalescingEnabled() {
+        return getBoolean(DELETE_COALESCING_ENABLED_CONFIG);
+    }
+
+    public int deleteCoalescingBatchSize() {
+        return getInt(DELETE_COALESCING_BATCH_SIZE_CONFIG);
+    }
+
+    public Duration deleteCoalescingLinger() {
+        return Duration.ofMillis(getLong(DELETE_COALESCING_LINGER_MS_CONFIG));
+    }
+
+    public Optional<Path> deleteCoalescingJournalDir() {
+        return Optional.ofNullable(getString(DELETE_COALESCING_JOURNAL_DIR_CONFIG)).map(Path::of);
+    }
+
     public Map<String, ?> fetchIndexesCacheConfigs() {
         return originalsWithPrefix(FETCH_INDEXES_CACHE_PREFIX);
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.config;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.common.config.ConfigDef;
+
+public class SegmentManifestCacheConfig extends MetadataCacheConfig {
+    private static final String CACHE_SIZE_BYTES_CONFIG = "size.bytes";
+    private static final String CACHE_SIZE_BYTES_DOC = "The maximum estimated heap size of the cached manifests "
+        + "in bytes. When set, manifests are weighed by their estimated retained size and size is ignored, "
+        + "so memory use does not depend on the number of chunks per segment. "
+        + "\"-1\" limits the number of entries with size instead.";
+
+    public static ConfigDef configDef(final ConfigDef baseConfig) {
+        baseConfig.define(
+            CACHE_SIZE_BYTES_CONFIG,
+            ConfigDef.Type.LONG,
+            -1L,
+            ConfigDef.Range.between(-1L, Long.MAX_VALUE),
+            ConfigDef.Importance.MEDIUM,
+            CACHE_SIZE_BYTES_DOC
+        );
+        return MetadataCacheConfig.configDef(baseConfig);
+    }
+
+    public SegmentManifestCacheConfig(final ConfigDef configDef, final Map<String, ?> props) {
+        super(configDef, props);
+    }
+
+    public Optional<Long> cacheSizeBytes() {
+        final long rawValue = getLong(CACHE_SIZE_BYTES_CONFIG);
+        if (rawValue == -1) {
+            return Optional.empty();
+        }
+        return Optional.of(rawValue);
+    }
+}
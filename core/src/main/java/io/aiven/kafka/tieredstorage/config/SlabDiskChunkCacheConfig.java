@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.config;
+
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigDef;
+
+public class SlabDiskChunkCacheConfig extends DiskChunkCacheConfig {
+    private static final String SLAB_SIZE_CONFIG = "slab.size";
+    private static final String SLAB_SIZE_DOC = "Size in bytes of the slab files chunks are appended to. "
+        + "Chunks bigger than this are stored in a slab file of their own. "
+        + "Slab files are created sparse, so their disk space is only allocated as chunks are written.";
+    private static final long SLAB_SIZE_DEFAULT = 256L * 1024 * 1024;
+    private static final String SLAB_COMPACTION_THRESHOLD_CONFIG = "slab.compaction.threshold";
+    private static final String SLAB_COMPACTION_THRESHOLD_DOC = "Ratio of live chunk bytes in a full slab file "
+        + "below which its remaining chunks are moved to the current slab file, so the file can be deleted. "
+        + "\"0\" disables compaction, slab files are then only deleted once all their chunks are evicted.";
+    private static final double SLAB_COMPACTION_THRESHOLD_DEFAULT = 0.5;
+
+    public static ConfigDef configDef() {
+        return DiskChunkCacheConfig.configDef()
+            .define(
+                SLAB_SIZE_CONFIG,
+                ConfigDef.Type.LONG,
+                SLAB_SIZE_DEFAULT,
+                ConfigDef.Range.atLeast(1L),
+                ConfigDef.Importance.MEDIUM,
+                SLAB_SIZE_DOC
+            )
+            .define(
+                SLAB_COMPACTION_THRESHOLD_CONFIG,
+                ConfigDef.Type.DOUBLE,
+                SLAB_COMPACTION_THRESHOLD_DEFAULT,
+                ConfigDef.Range.between(0.0, 1.0),
+                ConfigDef.Importance.LOW,
+                SLAB_COMPACTION_THRESHOLD_DOC
+            );
+    }
+
+    public SlabDiskChunkCacheConfig(final Map<String, ?> props) {
+        super(configDef(), props);
+    }
+
+    public long slabSize() {
+        return getLong(SLAB_SIZE_CONFIG);
+    }
+
+    public double slabCompactionThreshold() {
+        return getDouble(SLAB_COMPACTION_THRESHOLD_CONFIG);
+    }
+}
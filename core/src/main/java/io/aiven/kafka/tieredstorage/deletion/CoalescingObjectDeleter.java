@@ -0,0 +1,398 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.deletion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetrics;
+import io.aiven.kafka.tieredstorage.storage.ObjectDeleter;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Object deleter queueing keys and deleting them asynchronously in batches
+ * spanning the objects of many segments.
+ *
+ * <p>A batch is deleted as soon as {@code batchSize} keys are queued, or when the oldest queued key
+ * has waited for {@code linger}. A failed batch is split in halves, each retried on its own
+ * after an exponential backoff, so keys that keep failing end up isolated from the others.
+ * Keys still failing after {@code maxAttempts} are given up on, leaving their objects behind.
+ *
+ * <p>With a journal directory, queued keys are synced to disk before {@link #delete(Set)} returns,
+ * and the keys left by a previous run are queued again on start, so a crash only delays deletions.
+ * Without it, objects whose keys are still queued on a crash are left behind.
+ */
+public class CoalescingObjectDeleter implements ObjectDeleter, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(CoalescingObjectDeleter.class);
+
+    static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(5);
+    static final int MAX_ATTEMPTS = 10;
+
+    private final ObjectDeleter delegate;
+    private final int batchSize;
+    private final long lingerMs;
+    private final long retryBackoffMs;
+    private final int maxAttempts;
+    private final Time time;
+    private final DeleteJournal journal;
+    private final DeleteCoalescingMetrics metrics;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<QueuedKey> queue = new ArrayDeque<>();
+    private final PriorityQueue<Batch> retries = new PriorityQueue<>(Comparator.comparingLong(b -> b.retryAtMs));
+    private int retryingKeys = 0;
+    private boolean closed = false;
+
+    private final Thread flusher;
+
+    public CoalescingObjectDeleter(final ObjectDeleter delegate,
+                                   final int batchSize,
+                                   final Duration linger,
+                                   final Optional<Path> journalDir) throws IOException {
+        this(delegate, batchSize, linger, journalDir, RETRY_BACKOFF, MAX_ATTEMPTS, Time.SYSTEM);
+    }
+
+    CoalescingObjectDeleter(final ObjectDeleter delegate,
+                            final int batchSize,
+                            final Duration linger,
+                            final Optional<Path> journalDir,
+                            final Duration retryBackoff,
+                            final int maxAttempts,
+                            final Time time) throws IOException {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.lingerMs = linger.toMillis();
+        this.retryBackoffMs = retryBackoff.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.time = time;
+        this.journal = journalDir.isPresent() ? new DeleteJournal(journalDir.get(), batchSize) : null;
+        this.metrics = new DeleteCoalescingMetrics(time, this::queuedKeys);
+
+        if (journal != null) {
+            recover(journalDir.get());
+        }
+
+        flusher = new Thread(this::run, "delete-coalescing-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    private void recover(final Path journalDir) throws IOException {
+        final long now = time.milliseconds();
+        int recovered = 0;
+        for (final Map.Entry<Long, List<String>> generation : journal.recover().entrySet()) {
+            for (final String key : generation.getValue()) {
+                queue.add(new QueuedKey(new RecoveredObjectKey(key), generation.getKey(), now));
+            }
+            recovered += generation.getValue().size();
+        }
+        if (recovered > 0) {
+            log.info("Queued {} keys left to delete in {}", recovered, journalDir);
+        }
+    }
+
+    @Override
+    public void delete(final ObjectKey key) throws StorageBackendException {
+        delete(Set.of(key));
+    }
+
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Deleter is closed");
+            }
+            long generation = 0;
+            if (journal != null) {
+                try {
+                    generation = journal.append(keys.stream().map(ObjectKey::value).collect(Collectors.toList()));
+                } catch (final IOException e) {
+                    throw new StorageBackendException("Failed to record keys to delete", e);
+                }
+            }
+            final long now = time.milliseconds();
+            for (final ObjectKey key : keys) {
+                queue.add(new QueuedKey(key, generation, now));
+            }
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            final Batch batch;
+            lock.lock();
+            try {
+                batch = awaitBatch();
+            } catch (final InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            if (batch.keys.isEmpty()) {
+                return;
+            }
+            deleteBatch(batch);
+        }
+    }
+
+    /**
+     * Waits for a batch to retry, a full batch or the linger of the oldest key to expire.
+     *
+     * <p>When closed, returns what is left to retry or in the queue, down to an empty batch.
+     */
+    private Batch awaitBatch() throws InterruptedException {
+        while (true) {
+            if (closed) {
+                return retries.isEmpty() ? new Batch(poll(), 0, 0) : pollRetry();
+            }
+            final long now = time.milliseconds();
+            long waitMs = Long.MAX_VALUE;
+            if (!retries.isEmpty()) {
+                waitMs = retries.peek().retryAtMs - now;
+                if (waitMs <= 0) {
+                    return pollRetry();
+                }
+            }
+            if (queue.size() >= batchSize) {
+                return new Batch(poll(), 0, 0);
+            }
+            if (!queue.isEmpty()) {
+                final long lingerLeftMs = queue.peekFirst().queuedAtMs + lingerMs - now;
+                if (lingerLeftMs <= 0) {
+                    return new Batch(poll(), 0, 0);
+                }
+                waitMs = Math.min(waitMs, lingerLeftMs);
+            }
+            if (waitMs == Long.MAX_VALUE) {
+                changed.await();
+            } else {
+                changed.await(waitMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private List<QueuedKey> poll() {
+        final List<QueuedKey> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        while (batch.size() < batchSize && !queue.isEmpty()) {
+            batch.add(queue.pollFirst());
+        }
+        return batch;
+    }
+
+    private Batch pollRetry() {
+        final Batch batch = retries.poll();
+        retryingKeys -= batch.keys.size();
+        return batch;
+    }
+
+    private void deleteBatch(final Batch batch) {
+        final Set<ObjectKey> keys = new LinkedHashSet<>();
+        for (final QueuedKey queuedKey : batch.keys) {
+            keys.add(queuedKey.key);
+        }
+        try {
+            delegate.delete(keys);
+            metrics.recordBatch(keys.size());
+        } catch (final StorageBackendException | RuntimeException e) {
+            metrics.recordBatchError();
+            retry(batch, e);
+            return;
+        }
+        removeFromJournal(batch.keys);
+    }
+
+    private void retry(final Batch batch, final Exception e) {
+        lock.lock();
+        try {
+            if (closed) {
+                log.warn("Failed to delete {} keys while closing, {}", batch.keys.size(),
+                    journal != null ? "they will be deleted after restart" : "leaving the objects behind", e);
+                return;
+            }
+            final int attempts = batch.attempts + 1;
+            if (attempts >= maxAttempts) {
+                final List<String> keys = batch.keys.stream().map(k -> k.key.value()).collect(Collectors.toList());
+                log.error("Failed to delete {} keys after {} attempts, leaving the objects behind: {}",
+                    keys.size(), attempts, keys, e);
+                metrics.recordDroppedKeys(batch.keys.size());
+                removeFromJournal(batch.keys);
+                return;
+            }
+            final long backoffMs = Math.min(retryBackoffMs << Math.min(attempts - 1, 30), MAX_RETRY_BACKOFF.toMillis());
+            log.warn("Failed to delete {} keys, attempt {} of {}, retrying in {} ms",
+                batch.keys.size(), attempts, maxAttempts, backoffMs, e);
+            final long retryAtMs = time.milliseconds() + backoffMs;
+            final int half = (batch.keys.size() + 1) / 2;
+            retries.add(new Batch(batch.keys.subList(0, half), attempts, retryAtMs));
+            if (half < batch.keys.size()) {
+                retries.add(new Batch(batch.keys.subList(half, batch.keys.size()), attempts, retryAtMs));
+            }
+            retryingKeys += batch.keys.size();
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removeFromJournal(final List<QueuedKey> keys) {
+        if (journal == null) {
+            return;
+        }
+        final Map<Long, Long> keysByGeneration = keys.stream()
+            .collect(Collectors.groupingBy(k -> k.generation, Collectors.counting()));
+        lock.lock();
+        try {
+            for (final Map.Entry<Long, Long> generation : keysByGeneration.entrySet()) {
+                journal.deleted(generation.getKey(), generation.getValue().intValue());
+            }
+        } catch (final IOException e) {
+            // Keys are deleted again after a restart.
+            log.warn("Failed to record deleted keys", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queuedKeys() {
+        lock.lock();
+        try {
+            return queue.size() + retryingKeys;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the queued keys and the keys waiting for a retry, with a single attempt, and stops.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.close();
+        if (journal != null) {
+            lock.lock();
+            try {
+                journal.close();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final List<QueuedKey> keys;
+        private final int attempts;
+        private final long retryAtMs;
+
+        private Batch(final List<QueuedKey> keys, final int attempts, final long retryAtMs) {
+            this.keys = keys;
+            this.attempts = attempts;
+            this.retryAtMs = retryAtMs;
+        }
+    }
+
+    private static final class QueuedKey {
+        private final ObjectKey key;
+        private final long generation;
+        private final long queuedAtMs;
+
+        private QueuedKey(final ObjectKey key, final long generation, final long queuedAtMs) {
+            this.key = key;
+            this.generation = generation;
+            this.queuedAtMs = queuedAtMs;
+        }
+    }
+
+    /**
+     * Key read back from the journal, only known by its value.
+     */
+    private static final class RecoveredObjectKey implements ObjectKey {
+        private final String value;
+
+        private RecoveredObjectKey(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return value.equals(((RecoveredObjectKey) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+}
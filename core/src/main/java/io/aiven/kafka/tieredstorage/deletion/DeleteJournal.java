@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.deletion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only record of the keys queued for deletion.
+ *
+ * <p>Keys are appended to generation files of up to {@code keysPerFile} keys, each append being synced to disk.
+ * A generation file is removed once all its keys are deleted, so the files left after a crash contain
+ * every key that may still exist, besides keys that were deleted already, which are deleted again harmlessly.
+ *
+ * <p>Not thread-safe.
+ */
+class DeleteJournal implements Closeable {
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("^delete-(\\d{20})\\.journal$");
+
+    private final Path dir;
+    private final int keysPerFile;
+    private final Map<Long, Integer> remainingKeys = new HashMap<>();
+
+    private long generation = 0;
+    private int generationKeys = 0;
+    private FileChannel channel = null;
+
+    DeleteJournal(final Path dir, final int keysPerFile) throws IOException {
+        this.dir = dir;
+        this.keysPerFile = keysPerFile;
+        Files.createDirectories(dir);
+    }
+
+    /**
+     * Reads the keys left by a previous run, by generation, and continues with the next generation.
+     *
+     * <p>The recovered keys are expected to be passed to {@link #deleted(long, int)} once deleted as well.
+     */
+    Map<Long, List<String>> recover() throws IOException {
+        final Map<Long, List<String>> recovered = new TreeMap<>();
+        try (final Stream<Path> files = Files.list(dir)) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                final Matcher matcher = FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                final long fileGeneration = Long.parseLong(matcher.group(1));
+                generation = Math.max(generation, fileGeneration);
+                final List<String> keys = readKeys(file);
+                if (keys.isEmpty()) {
+                    Files.delete(file);
+                } else {
+                    recovered.put(fileGeneration, keys);
+                    remainingKeys.put(fileGeneration, keys.size());
+                }
+            }
+        }
+        return recovered;
+    }
+
+    private static List<String> readKeys(final Path file) throws IOException {
+        final String content = Files.readString(file, StandardCharsets.UTF_8);
+        // A line without its line break was being written during the crash, so its key was never queued.
+        final int end = content.lastIndexOf('\n');
+        if (end < 0) {
+            return List.of();
+        }
+        return List.of(content.substring(0, end).split("\n"));
+    }
+
+    /**
+     * Appends keys and syncs them to disk.
+     *
+     * @return the generation the keys belong to.
+     */
+    long append(final Collection<String> keys) throws IOException {
+        if (channel == null || generationKeys >= keysPerFile) {
+            roll();
+        }
+        final StringBuilder lines = new StringBuilder();
+        for (final String key : keys) {
+            lines.append(key).append('\n');
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        generationKeys += keys.size();
+        remainingKeys.merge(generation, keys.size(), Integer::sum);
+        return generation;
+    }
+
+    private void roll() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        generation++;
+        generationKeys = 0;
+        channel = FileChannel.open(file(generation), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Marks keys of a generation as deleted, removing its file when none is left.
+     */
+    void deleted(final long keysGeneration, final int keys) throws IOException {
+        final Integer remaining = remainingKeys.computeIfPresent(keysGeneration, (g, r) -> r > keys ? r - keys : null);
+        if (remaining != null) {
+            return;
+        }
+        if (keysGeneration == generation && channel != null) {
+            channel.close();
+            channel = null;
+        }
+        Files.deleteIfExists(file(keysGeneration));
+    }
+
+    private Path file(final long fileGeneration) {
+        return dir.resolve(String.format("delete-%020d.journal", fileGeneration));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.kafka.common.config.ConfigException;
+
+import io.aiven.kafka.tieredstorage.config.CacheConfig;
+import io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitor;
+
+public final class CacheExecutors {
+    private CacheExecutors() {
+    }
+
+    /**
+     * Creates the executor running asynchronous fetching tasks of a cache and registers its metrics.
+     */
+    public static Executor create(final CacheConfig config, final String threadPoolMetricGroup) {
+        final Executor executor;
+        switch (config.executorType()) {
+            case VIRTUAL:
+                if (!VirtualThreadExecutor.isSupported()) {
+                    throw new ConfigException("Executor type \"virtual\" requires Java 21 or newer, running on "
+                        + Runtime.version());
+                }
+                executor = new VirtualThreadExecutor(config.executorMaxConcurrency());
+                break;
+            case FORK_JOIN:
+            default:
+                executor = config.threadPoolSize().map(ForkJoinPool::new).orElse(new ForkJoinPool());
+                break;
+        }
+        new ThreadPoolMonitor(threadPoolMetricGroup, executor);
+        return executor;
+    }
+
+    /**
+     * Shuts down an executor created by {@link #create}, letting the running tasks complete.
+     */
+    public static void close(final Executor executor) {
+        if (executor instanceof VirtualThreadExecutor) {
+            ((VirtualThreadExecutor) executor).close();
+        } else if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+}
@@ -28,4 +28,21 @@ public interface ChunkManager {
     InputStream getChunk(final ObjectKey objectKey,
                          final SegmentManifest manifest,
                          final int chunkId) throws StorageBackendException, IOException;
+
+    /**
+     * Notifies that a reader of the segment is about to read the given chunk,
+     * i.e. it will not read any preceding chunk anymore.
+     *
+     * @param reader identifies the reader across notifications
+     */
+    default void onReadProgress(final ObjectKey objectKey, final Object reader, final int chunkId) {
+    }
+
+    /**
+     * Notifies that a reader of the segment is closed and will not read any chunk anymore.
+     *
+     * @param reader identifies the reader across notifications
+     */
+    default void onReadClosed(final ObjectKey objectKey, final Object reader) {
+    }
 }
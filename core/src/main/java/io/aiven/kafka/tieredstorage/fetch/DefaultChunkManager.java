@@ -23,6 +23,9 @@ import java.util.Optional;
 import io.aiven.kafka.tieredstorage.Chunk;
 import io.aiven.kafka.tieredstorage.manifest.SegmentEncryptionMetadata;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageContext;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageRecorder;
 import io.aiven.kafka.tieredstorage.security.AesEncryptionProvider;
 import io.aiven.kafka.tieredstorage.storage.ObjectFetcher;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
@@ -45,25 +48,34 @@ public class DefaultChunkManager implements ChunkManager {
     /**
      * Gets a chunk of a segment.
      *
+     * <p>Stage times are recorded to the recorder bound by {@link FetchStageContext}.
+     * Transferring a chunk that needs no de-transformation happens as the returned stream is read,
+     * so it's not recorded here.
+     *
      * @return an {@link InputStream} of the chunk, plain text (i.e., decrypted and decompressed).
      */
     public InputStream getChunk(final ObjectKey objectKey, final SegmentManifest manifest,
                                 final int chunkId) throws StorageBackendException {
         final Chunk chunk = manifest.chunkIndex().chunks().get(chunkId);
 
+        final FetchStageRecorder stageRecorder = FetchStageContext.current();
+        final long fetchStart = System.nanoTime();
         final InputStream chunkContent = fetcher.fetch(objectKey, chunk.range());
+        stageRecorder.record(FetchStage.STORAGE_FIRST_BYTE, System.nanoTime() - fetchStart);
 
-        DetransformChunkEnumeration detransformEnum = new BaseDetransformChunkEnumeration(chunkContent, List.of(chunk));
+        DetransformChunkEnumeration detransformEnum =
+            new BaseDetransformChunkEnumeration(chunkContent, List.of(chunk), stageRecorder);
         final Optional<SegmentEncryptionMetadata> encryptionMetadata = manifest.encryption();
         if (encryptionMetadata.isPresent()) {
             detransformEnum = new DecryptionChunkEnumeration(
                 detransformEnum,
                 encryptionMetadata.get().ivSize(),
-                encryptedChunk -> aesEncryptionProvider.decryptionCipher(encryptedChunk, encryptionMetadata.get())
+                encryptedChunk -> aesEncryptionProvider.decryptionCipher(encryptedChunk, encryptionMetadata.get()),
+                stageRecorder
             );
         }
         if (manifest.compression()) {
-            detransformEnum = new DecompressionChunkEnumeration(detransformEnum);
+            detransformEnum = new DecompressionChunkEnumeration(detransformEnum, stageRecorder);
         }
         final DetransformFinisher detransformFinisher = new DetransformFinisher(detransformEnum);
         return detransformFinisher.toInputStream();
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Keeps fetched segment metadata, like manifests and indexes, on local disk so that it survives broker restarts.
+ *
+ * <p>Each entry is stored in its own file as a record of the entry key, the payload and a CRC32C checksum of both.
+ * Files are written to a temporary file first and atomically moved in place, so a crash does not leave partial
+ * records behind. Entries found in the directory are loaded at startup, oldest first. Their checksums are verified
+ * when they are read, and entries that fail verification are deleted and treated as missing.
+ *
+ * <p>The total size is bounded, entries being evicted by size, preferring the least frequently and recently used.
+ */
+public class DiskMetadataStore {
+    private static final Logger log = LoggerFactory.getLogger(DiskMetadataStore.class);
+
+    static final byte RECORD_VERSION = 1;
+    // version, key length, payload length, checksum
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final Cache<String, Integer> entries;
+    // File names of the entries by object key hash, updated while holding the lock of the entry.
+    private final ConcurrentHashMap<String, Set<String>> fileNamesByObject = new ConcurrentHashMap<>();
+
+    public DiskMetadataStore(final Path directory, final long maxSize) {
+        this.directory = directory;
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxSize)
+            .weigher((String fileName, Integer size) -> size)
+            .evictionListener((String fileName, Integer size, RemovalCause cause) -> {
+                deleteFile(fileName);
+                unindex(fileName);
+            })
+            .executor(Runnable::run)
+            .build();
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load stored entries from " + directory, e);
+        }
+    }
+
+    private void load() throws IOException {
+        final List<Path> files;
+        try (final Stream<Path> paths = Files.list(directory)) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        final List<Path> stored = files.stream()
+            .filter(file -> !isTempFile(file))
+            .sorted(Comparator.comparing(DiskMetadataStore::lastModifiedTime))
+            .collect(Collectors.toList());
+        for (final Path file : files) {
+            if (isTempFile(file)) {
+                // Left behind by a write interrupted by a crash.
+                Files.deleteIfExists(file);
+            }
+        }
+        for (final Path file : stored) {
+            final String fileName = file.getFileName().toString();
+            final int size = (int) Files.size(file);
+            entries.asMap().compute(fileName, (k, v) -> {
+                index(fileName);
+                return size;
+            });
+        }
+        log.info("Loaded {} stored entries from {}", stored.size(), directory);
+    }
+
+    /**
+     * @param objectKey the remote object the entry was fetched from.
+     * @param name      identifies the entry among the ones fetched from the same object.
+     * @return the stored payload, or empty if there is no valid entry.
+     */
+    public Optional<byte[]> get(final ObjectKey objectKey, final String name) {
+        final String fileName = fileName(objectKey, name);
+        if (entries.getIfPresent(fileName) == null) {
+            return Optional.empty();
+        }
+        final byte[] record;
+        try {
+            record = Files.readAllBytes(directory.resolve(fileName));
+        } catch (final NoSuchFileException e) {
+            remove(fileName);
+            return Optional.empty();
+        } catch (final IOException e) {
+            log.warn("Failed to read stored entry {} for {}", name, objectKey, e);
+            return Optional.empty();
+        }
+        final byte[] payload = decode(record, entryKey(objectKey, name));
+        if (payload == null) {
+            log.warn("Discarding corrupted stored entry {} for {}", name, objectKey);
+            remove(fileName);
+            return Optional.empty();
+        }
+        return Optional.of(payload);
+    }
+
+    /**
+     * Stores the entry, replacing any previous one.
+     * Failing to store is logged rather than thrown, as the entry can always be fetched again.
+     */
+    public void put(final ObjectKey objectKey, final String name, final byte[] payload) {
+        final String fileName = fileName(objectKey, name);
+        final byte[] record = encode(entryKey(objectKey, name), payload);
+        try {
+            final Path tempFile = Files.createTempFile(directory, fileName, TEMP_FILE_SUFFIX);
+            try {
+                Files.write(tempFile, record);
+                // Moving under the entry lock keeps it ordered with the eviction of the previous entry.
+                entries.asMap().compute(fileName, (k, v) -> {
+                    try {
+                        Files.move(tempFile, directory.resolve(fileName), ATOMIC_MOVE, REPLACE_EXISTING);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    index(fileName);
+                    return record.length;
+                });
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException | UncheckedIOException e) {
+            log.warn("Failed to store entry {} for {}", name, objectKey, e);
+        }
+    }
+
+    /**
+     * Deletes all entries fetched from the remote object, e.g. when the segment is deleted.
+     */
+    public void invalidate(final ObjectKey objectKey) {
+        final Set<String> fileNames = fileNamesByObject.get(objectKeyHash(objectKey));
+        if (fileNames != null) {
+            for (final String fileName : List.copyOf(fileNames)) {
+                remove(fileName);
+            }
+        }
+    }
+
+    private void remove(final String fileName) {
+        entries.asMap().computeIfPresent(fileName, (k, v) -> {
+            deleteFile(fileName);
+            unindex(fileName);
+            return null;
+        });
+    }
+
+    private void index(final String fileName) {
+        // Adding within compute keeps it ordered with the removal of the emptied set.
+        fileNamesByObject.compute(objectKeyHash(fileName), (k, fileNames) -> {
+            final Set<String> updated = fileNames == null ? ConcurrentHashMap.newKeySet() : fileNames;
+            updated.add(fileName);
+            return updated;
+        });
+    }
+
+    private void unindex(final String fileName) {
+        fileNamesByObject.computeIfPresent(objectKeyHash(fileName), (k, fileNames) -> {
+            fileNames.remove(fileName);
+            return fileNames.isEmpty() ? null : fileNames;
+        });
+    }
+
+    private void deleteFile(final String fileName) {
+        try {
+            Files.deleteIfExists(directory.resolve(fileName));
+        } catch (final IOException e) {
+            log.warn("Failed to delete stored entry {}", fileName, e);
+        }
+    }
+
+    long size() {
+        return entries.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+    }
+
+    static byte[] encode(final String key, final byte[] payload) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocate(RECORD_OVERHEAD + keyBytes.length + payload.length);
+        buffer.put(RECORD_VERSION);
+        buffer.putInt(keyBytes.length);
+        buffer.put(keyBytes);
+        buffer.putInt(payload.length);
+        buffer.put(payload);
+        buffer.putInt(checksum(buffer.array(), buffer.position()));
+        return buffer.array();
+    }
+
+    /**
+     * @return the payload, or {@code null} if the record is corrupted or belongs to another key.
+     */
+    static byte[] decode(final byte[] record, final String key) {
+        if (record.length < RECORD_OVERHEAD) {
+            return null;
+        }
+        final int checksumPosition = record.length - Integer.BYTES;
+        final ByteBuffer buffer = ByteBuffer.wrap(record);
+        if (buffer.getInt(checksumPosition) != checksum(record, checksumPosition)) {
+            return null;
+        }
+        if (buffer.get() != RECORD_VERSION) {
+            return null;
+        }
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final int keyLength = buffer.getInt();
+        if (keyLength != keyBytes.length
+            || !Arrays.equals(record, buffer.position(), buffer.position() + keyLength, keyBytes, 0, keyLength)) {
+            return null;
+        }
+        buffer.position(buffer.position() + keyLength);
+        final int payloadLength = buffer.getInt();
+        if (payloadLength != checksumPosition - buffer.position()) {
+            return null;
+        }
+        final byte[] payload = new byte[payloadLength];
+        buffer.get(payload);
+        return payload;
+    }
+
+    private static int checksum(final byte[] bytes, final int length) {
+        final CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static String entryKey(final ObjectKey objectKey, final String name) {
+        return objectKey.value() + ":" + name;
+    }
+
+    // Object keys can be long and contain separators, so files are named after their hash.
+    private static String fileName(final ObjectKey objectKey, final String name) {
+        return objectKeyHash(objectKey) + "." + name;
+    }
+
+    private static String objectKeyHash(final ObjectKey objectKey) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectKey.value().getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String objectKeyHash(final String fileName) {
+        final int separator = fileName.indexOf('.');
+        return separator < 0 ? fileName : fileName.substring(0, separator);
+    }
+
+    private static boolean isTempFile(final Path file) {
+        return file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX);
+    }
+
+    private static long lastModifiedTime(final Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (final IOException e) {
+            return 0;
+        }
+    }
+}
@@ -27,6 +27,8 @@ import java.util.Objects;
 import io.aiven.kafka.tieredstorage.Chunk;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
 import io.aiven.kafka.tieredstorage.manifest.index.ChunkIndex;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageContext;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageRecorder;
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
@@ -44,6 +46,8 @@ public class FetchChunkEnumeration implements Enumeration<InputStream> {
     private final ChunkIndex chunkIndex;
     int currentChunkId;
     public boolean closed;
+    // chunks are fetched as the stream is read, possibly after the fetch call bound the recorder returned
+    private final FetchStageRecorder stageRecorder = FetchStageContext.current();
 
     /**
      * @param chunkManager provides chunk input to fetch from
@@ -102,6 +106,7 @@ public class FetchChunkEnumeration implements Enumeration<InputStream> {
             throw new NoSuchElementException();
         }
 
+        chunkManager.onReadProgress(objectKey, this, currentChunkId);
         InputStream chunkContent = getChunkContent(currentChunkId);
 
         final Chunk currentChunk = chunkIndex.chunks().get(currentChunkId);
@@ -138,7 +143,7 @@ public class FetchChunkEnumeration implements Enumeration<InputStream> {
     }
 
     private InputStream getChunkContent(final int chunkId) {
-        try {
+        try (final var ignored = FetchStageContext.bind(stageRecorder)) {
             return chunkManager.getChunk(objectKey, manifest, chunkId);
         } catch (final KeyNotFoundException e) {
             throw new KeyNotFoundRuntimeException(e);
@@ -152,7 +157,10 @@ public class FetchChunkEnumeration implements Enumeration<InputStream> {
     }
 
     public void close() {
-        closed = true;
+        if (!closed) {
+            closed = true;
+            chunkManager.onReadClosed(objectKey, this);
+        }
     }
 
     /**
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetrics;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory budget shared by the in-memory caches of the plugin.
+ *
+ * <p>Caches register their eviction policy, and the sum of their maximum weights is kept equal to the budget.
+ * Capacity is then periodically moved, one step at a time, from the cache that would lose the fewest hits
+ * to the one that would gain the most.
+ *
+ * <p>The gain is estimated with a ghost list per cache: keys evicted for lack of space are remembered up to
+ * one step worth of bytes, and a miss on a remembered key would have been a hit with one more step of capacity.
+ */
+public class MemoryBudget implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(MemoryBudget.class);
+
+    static final int STEPS = 20;
+
+    private final long size;
+    private final long step;
+    private final Duration rebalanceInterval;
+    private final List<Share> shares = new CopyOnWriteArrayList<>();
+    private final MemoryBudgetMetrics metrics;
+    private ScheduledExecutorService scheduler;
+
+    public MemoryBudget(final long size, final Duration rebalanceInterval) {
+        this(size, rebalanceInterval, Time.SYSTEM);
+    }
+
+    MemoryBudget(final long size, final Duration rebalanceInterval, final Time time) {
+        this.size = size;
+        this.step = Math.max(1, size / STEPS);
+        this.rebalanceInterval = rebalanceInterval;
+        this.metrics = new MemoryBudgetMetrics(time, size, this::usedBytes);
+    }
+
+    /**
+     * Registers a cache to share the budget. The cache must be bounded by weight, in bytes.
+     *
+     * @param name        identifies the cache in metrics.
+     * @param eviction    policy of the cache, used to resize it.
+     */
+    public Share register(final String name, final Policy.Eviction<?, ?> eviction) {
+        if (!eviction.isWeighted()) {
+            throw new IllegalArgumentException("Cache " + name + " must be weighted to share the memory budget");
+        }
+        if (shares.stream().anyMatch(share -> share.name.equals(name))) {
+            throw new IllegalArgumentException("Cache " + name + " is already registered");
+        }
+        final Share share = new Share(name, eviction, step);
+        shares.add(share);
+        metrics.registerCache(name, share::capacity, share::usedBytes);
+        return share;
+    }
+
+    /**
+     * Sizes the registered caches to fit the budget, then starts rebalancing periodically.
+     */
+    public void start() {
+        fit();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "memory-budget-rebalancer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMs = rebalanceInterval.toMillis();
+        scheduler.scheduleAtFixedRate(this::rebalance, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Scales the capacities of the caches proportionally to their configured sizes, so they add up to the budget.
+     */
+    void fit() {
+        if (shares.isEmpty()) {
+            return;
+        }
+        final double total = shares.stream().mapToLong(Share::capacity).sum();
+        long remaining = size;
+        for (final Iterator<Share> it = shares.iterator(); it.hasNext(); ) {
+            final Share share = it.next();
+            final double ratio = total > 0 ? share.capacity() / total : 1.0 / shares.size();
+            final long capacity = it.hasNext()
+                ? Math.max(step, (long) (size * ratio))
+                : Math.max(step, remaining);
+            share.resize(capacity);
+            remaining -= capacity;
+        }
+        log.info("Memory budget of {} bytes shared by caches {}", size, shares);
+    }
+
+    /**
+     * Moves one step of capacity from the cache with the fewest ghost hits since the last rebalance,
+     * to the one with the most, if they differ.
+     */
+    void rebalance() {
+        try {
+            final Map<Share, Long> ghostHits = new LinkedHashMap<>();
+            for (final Share share : shares) {
+                ghostHits.put(share, share.ghostHits.getAndSet(0));
+            }
+            final Optional<Share> receiver = shares.stream()
+                .filter(share -> ghostHits.get(share) > 0)
+                .max(Comparator.comparing(ghostHits::get));
+            if (receiver.isEmpty()) {
+                return;
+            }
+            final Optional<Share> donor = shares.stream()
+                .filter(share -> share != receiver.get())
+                .filter(share -> share.capacity() >= 2 * step)
+                .min(Comparator.comparing(ghostHits::get));
+            if (donor.isEmpty() || ghostHits.get(donor.get()) >= ghostHits.get(receiver.get())) {
+                return;
+            }
+            // shrink first, so the caches never hold more than the budget together
+            donor.get().resize(donor.get().capacity() - step);
+            receiver.get().resize(receiver.get().capacity() + step);
+            metrics.recordRebalance(step);
+            log.debug("Moved {} bytes of memory budget from {} to {}", step, donor.get(), receiver.get());
+        } catch (final RuntimeException e) {
+            log.warn("Failed to rebalance memory budget", e);
+        }
+    }
+
+    long usedBytes() {
+        return shares.stream().mapToLong(Share::usedBytes).sum();
+    }
+
+    List<Share> shares() {
+        return shares;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * The part of the budget assigned to a cache.
+     *
+     * <p>The cache reports its misses and the entries it evicts, to estimate what more capacity would gain it.
+     */
+    public static class Share {
+        final String name;
+        private final Policy.Eviction<?, ?> eviction;
+        private final long ghostCapacity;
+        // keys evicted for lack of space, with their weight, in eviction order
+        private final LinkedHashMap<Object, Integer> ghost = new LinkedHashMap<>();
+        private long ghostWeight = 0;
+        final AtomicLong ghostHits = new AtomicLong();
+
+        Share(final String name, final Policy.Eviction<?, ?> eviction, final long ghostCapacity) {
+            this.name = name;
+            this.eviction = eviction;
+            this.ghostCapacity = ghostCapacity;
+        }
+
+        public void recordEviction(final Object key, final int weight, final RemovalCause cause) {
+            if (cause != RemovalCause.SIZE || weight > ghostCapacity) {
+                return;
+            }
+            synchronized (ghost) {
+                final Integer previous = ghost.put(key, weight);
+                ghostWeight += weight - (previous == null ? 0 : previous);
+                final Iterator<Integer> it = ghost.values().iterator();
+                while (ghostWeight > ghostCapacity) {
+                    ghostWeight -= it.next();
+                    it.remove();
+                }
+            }
+        }
+
+        public void recordMiss(final Object key) {
+            final Integer weight;
+            synchronized (ghost) {
+                weight = ghost.remove(key);
+                if (weight != null) {
+                    ghostWeight -= weight;
+                }
+            }
+            if (weight != null) {
+                ghostHits.incrementAndGet();
+            }
+        }
+
+        long capacity() {
+            return eviction.getMaximum();
+        }
+
+        void resize(final long capacity) {
+            eviction.setMaximum(capacity);
+        }
+
+        long usedBytes() {
+            return eviction.weightedSize().orElse(0);
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + capacity();
+        }
+    }
+}
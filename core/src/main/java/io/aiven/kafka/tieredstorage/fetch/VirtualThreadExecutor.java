@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.io.Closeable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * Runs each task on its own virtual thread, limiting the number of tasks running concurrently.
+ *
+ * <p>Fetching tasks spend most of their time blocked on storage I/O, so running them on virtual threads
+ * avoids sizing a platform thread pool by the expected number of concurrent requests.
+ * Tasks above the concurrency limit are queued, and only get a virtual thread once a slot is free.
+ *
+ * <p>Virtual threads are only available from Java 21, so the executor is looked up reflectively
+ * to keep the plugin runnable on Java 17.
+ */
+public class VirtualThreadExecutor implements Executor, Closeable {
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+    private final ExecutorService delegate;
+    private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Time time;
+
+    private final AtomicLong waitingTasks = new AtomicLong();
+    private final AtomicLong runningTasks = new AtomicLong();
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder queueTimeNanos = new LongAdder();
+    private volatile boolean closed = false;
+
+    public VirtualThreadExecutor(final int maxConcurrency) {
+        this(newVirtualThreadPerTaskExecutor(), maxConcurrency, Time.SYSTEM);
+    }
+
+    VirtualThreadExecutor(final ExecutorService delegate, final int maxConcurrency, final Time time) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive, " + maxConcurrency + " given");
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.time = time;
+    }
+
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (closed) {
+            throw new RejectedExecutionException("Executor is closed");
+        }
+        waitingTasks.incrementAndGet();
+        queue.add(new Task(command, time.nanoseconds()));
+        startQueuedTasks();
+    }
+
+    /**
+     * Starts queued tasks while slots are free.
+     *
+     * <p>Called after queueing a task and after a task frees its slot, so a queued task is never left
+     * behind while a slot is free.
+     */
+    private void startQueuedTasks() {
+        while (!closed && !queue.isEmpty() && permits.tryAcquire()) {
+            final Task task = queue.poll();
+            if (task == null) {
+                permits.release();
+                continue;
+            }
+            waitingTasks.decrementAndGet();
+            try {
+                delegate.execute(() -> run(task));
+            } catch (final RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+
+    private void run(final Task task) {
+        runningTasks.incrementAndGet();
+        startedTasks.increment();
+        queueTimeNanos.add(time.nanoseconds() - task.submittedAt);
+        try {
+            task.command.run();
+        } finally {
+            runningTasks.decrementAndGet();
+            permits.release();
+            startQueuedTasks();
+        }
+    }
+
+    /**
+     * Drops the queued tasks and shuts down, letting the running tasks complete.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        delegate.shutdown();
+        while (queue.poll() != null) {
+            waitingTasks.decrementAndGet();
+        }
+    }
+
+    public long maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public long waitingTaskCount() {
+        return waitingTasks.get();
+    }
+
+    public long runningTaskCount() {
+        return runningTasks.get();
+    }
+
+    public long startedTaskCount() {
+        return startedTasks.sum();
+    }
+
+    public long queueTimeMsTotal() {
+        return TimeUnit.NANOSECONDS.toMillis(queueTimeNanos.sum());
+    }
+
+    private static MethodHandle findVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Task {
+        private final Runnable command;
+        private final long submittedAt;
+
+        private Task(final Runnable command, final long submittedAt) {
+            this.command = command;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
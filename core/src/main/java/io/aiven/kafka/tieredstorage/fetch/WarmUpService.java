@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentId;
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prefetches the metadata of the most recent remote segments of a partition into the caches,
+ * so the first consumer reads after the broker becomes leader do not pay for cold manifests and indexes.
+ *
+ * <p>Segments are selected by recency: the ones with records newer than the maximum age, if any,
+ * and up to a maximum number of them, the latest first. They are warmed up by a bounded number
+ * of low priority daemon threads. A segment already queued or being warmed up is not queued again.
+ * Failures are only logged, as the segment will be fetched on demand anyway.
+ */
+public class WarmUpService implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WarmUpService.class);
+
+    @FunctionalInterface
+    public interface SegmentWarmer {
+        void warmUp(RemoteLogSegmentMetadata segment) throws Exception;
+    }
+
+    private final int maxSegments;
+    private final Optional<Duration> maxAge;
+    private final Time time;
+    private final SegmentWarmer warmer;
+    private final ThreadPoolExecutor executor;
+    private final Set<RemoteLogSegmentId> pending = ConcurrentHashMap.newKeySet();
+
+    public WarmUpService(final int maxSegments,
+                         final Optional<Duration> maxAge,
+                         final int concurrency,
+                         final Time time,
+                         final SegmentWarmer warmer) {
+        this.maxSegments = maxSegments;
+        this.maxAge = maxAge;
+        this.time = time;
+        this.warmer = warmer;
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            concurrency, concurrency, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+            r -> {
+                final Thread thread = new Thread(r, "segment-warm-up-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues the warm-up of the most recent of the given segments and returns without waiting for it.
+     *
+     * @param segments remote segments of a partition, e.g. the one the broker just became leader of.
+     */
+    public void warmUp(final Collection<RemoteLogSegmentMetadata> segments) {
+        final List<RemoteLogSegmentMetadata> selected = select(segments);
+        for (final RemoteLogSegmentMetadata segment : selected) {
+            final RemoteLogSegmentId segmentId = segment.remoteLogSegmentId();
+            if (pending.add(segmentId)) {
+                executor.execute(() -> {
+                    try {
+                        warmer.warmUp(segment);
+                    } catch (final Exception e) {
+                        log.debug("Failed to warm up segment {}", segmentId, e);
+                    } finally {
+                        pending.remove(segmentId);
+                    }
+                });
+            }
+        }
+        log.debug("Queued warm-up of {} out of {} segments", selected.size(), segments.size());
+    }
+
+    List<RemoteLogSegmentMetadata> select(final Collection<RemoteLogSegmentMetadata> segments) {
+        final long minTimestamp = maxAge.map(age -> time.milliseconds() - age.toMillis()).orElse(Long.MIN_VALUE);
+        return segments.stream()
+            .filter(segment -> segment.maxTimestampMs() >= minTimestamp)
+            .sorted(Comparator.comparingLong(RemoteLogSegmentMetadata::endOffset).reversed())
+            .limit(maxSegments)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
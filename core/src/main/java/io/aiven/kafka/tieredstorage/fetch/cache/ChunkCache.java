@@ -16,26 +16,33 @@
 
 package io.aiven.kafka.tieredstorage.fetch.cache;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
 
 import org.apache.kafka.common.Configurable;
+import org.apache.kafka.common.utils.Time;
 
 import io.aiven.kafka.tieredstorage.config.ChunkCacheConfig;
+import io.aiven.kafka.tieredstorage.fetch.CacheExecutors;
 import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
 import io.aiven.kafka.tieredstorage.fetch.ChunkManager;
+import io.aiven.kafka.tieredstorage.fetch.MemoryBudget;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
 import io.aiven.kafka.tieredstorage.metrics.CaffeineStatsCounter;
-import io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitor;
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageContext;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageRecorder;
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
@@ -45,13 +52,17 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Scheduler;
 import com.github.benmanes.caffeine.cache.Weigher;
+import org.apache.commons.io.input.TeeInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public abstract class ChunkCache<T> implements ChunkManager, Configurable {
+public abstract class ChunkCache<T> implements ChunkManager, Configurable, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ChunkCache.class);
     public static final String METRIC_GROUP = "chunk-cache-metrics";
     public static final String THREAD_POOL_METRIC_GROUP = "chunk-cache-thread-pool-metrics";
 
     private final ChunkManager chunkManager;
-    private ExecutorService executor;
+    private Executor executor;
 
     final CaffeineStatsCounter statsCounter;
 
@@ -59,6 +70,12 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
 
     private int prefetchingSize;
     private Duration getTimeout;
+    private ScanResistantAdmission scanAdmission;
+    private ReadCursorTracker readCursors;
+    private Duration consumedChunkRetention;
+    private boolean streaming;
+    private final ConcurrentHashMap<ChunkKey, StreamingChunk> streamingChunks = new ConcurrentHashMap<>();
+    protected volatile MemoryBudget.Share budgetShare;
 
     protected ChunkCache(final ChunkManager chunkManager) {
         this.chunkManager = chunkManager;
@@ -77,12 +94,29 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
                                 final SegmentManifest manifest,
                                 final int chunkId) throws StorageBackendException, IOException {
         final var currentChunk = manifest.chunkIndex().chunks().get(chunkId);
-        startPrefetching(objectKey, manifest, currentChunk.originalPosition + currentChunk.originalSize);
         final ChunkKey chunkKey = new ChunkKey(objectKey.value(), chunkId);
+        final boolean scan = scanAdmission != null && scanAdmission.isScan(chunkKey);
+        startPrefetching(objectKey, manifest, currentChunk.originalPosition + currentChunk.originalSize, scan);
+        if (scan) {
+            if (!cache.asMap().containsKey(chunkKey)
+                && !scanAdmission.admitToProbation(chunkKey, currentChunk.originalSize)) {
+                statsCounter.recordMiss();
+                scanAdmission.recordBypass(currentChunk.originalSize);
+                return chunkManager.getChunk(objectKey, manifest, chunkId);
+            }
+        } else if (scanAdmission != null) {
+            scanAdmission.promote(chunkKey);
+        }
+        if (streaming) {
+            return getChunkStreaming(objectKey, manifest, chunkId, chunkKey, currentChunk.originalSize);
+        }
         final AtomicReference<InputStream> result = new AtomicReference<>();
+        final FetchStageRecorder stageRecorder = FetchStageContext.current();
+        final long submitted = System.nanoTime();
         try {
             return cache.asMap()
                 .compute(chunkKey, (key, val) -> CompletableFuture.supplyAsync(() -> {
+                    stageRecorder.record(FetchStage.CACHE_QUEUE, System.nanoTime() - submitted);
                     if (val != null && !val.isCompletedExceptionally()) {
                         statsCounter.recordHit();
                         try {
@@ -93,14 +127,15 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
                             throw new CompletionException(e);
                         }
                     } else {
-                        statsCounter.recordMiss();
-                        try {
+                        recordMiss(chunkKey);
+                        try (final var ignored = FetchStageContext.bind(stageRecorder)) {
                             final InputStream chunk =
                                     chunkManager.getChunk(objectKey, manifest, chunkId);
                             final T t = this.cacheChunk(chunkKey, chunk);
                             result.getAndSet(cachedChunkToInputStream(t));
                             return t;
                         } catch (final StorageBackendException | IOException e) {
+                            releaseProbation(chunkKey);
                             throw new CompletionException(e);
                         }
                     }
@@ -128,6 +163,126 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
         }
     }
 
+    @Override
+    public void onReadProgress(final ObjectKey objectKey, final Object reader, final int chunkId) {
+        if (readCursors != null) {
+            readCursors.advance(objectKey.value(), reader, chunkId, consumedChunkHandler(objectKey));
+        }
+    }
+
+    @Override
+    public void onReadClosed(final ObjectKey objectKey, final Object reader) {
+        if (readCursors != null) {
+            readCursors.close(objectKey.value(), reader, consumedChunkHandler(objectKey));
+        }
+    }
+
+    /**
+     * Shortens the retention of chunks all readers have moved past, unless it is already shorter.
+     */
+    private IntConsumer consumedChunkHandler(final ObjectKey objectKey) {
+        return chunkId -> cache.synchronous().policy().expireVariably().ifPresent(policy -> {
+            final ChunkKey chunkKey = new ChunkKey(objectKey.value(), chunkId);
+            policy.getExpiresAfter(chunkKey)
+                .filter(expiresAfter -> expiresAfter.compareTo(consumedChunkRetention) > 0)
+                .ifPresent(expiresAfter -> policy.setExpiresAfter(chunkKey, consumedChunkRetention));
+        });
+    }
+
+    /**
+     * On a cache miss, returns the chunk bytes as they are fetched while they are being cached.
+     * Concurrent requests for a chunk being loaded this way read from the same fetch.
+     *
+     * <p>If caching fails after the whole chunk was fetched, the chunk is dropped from the cache
+     * but its readers still get all of its bytes.
+     */
+    private InputStream getChunkStreaming(final ObjectKey objectKey,
+                                          final SegmentManifest manifest,
+                                          final int chunkId,
+                                          final ChunkKey chunkKey,
+                                          final int chunkSize) throws StorageBackendException, IOException {
+        final AtomicReference<StreamingChunk> streamingChunk = new AtomicReference<>();
+        final FetchStageRecorder stageRecorder = FetchStageContext.current();
+        final long submitted = System.nanoTime();
+        final CompletableFuture<T> future = cache.asMap().compute(chunkKey, (key, val) -> {
+            if (val != null && !val.isCompletedExceptionally()) {
+                statsCounter.recordHit();
+                // still loading if present
+                streamingChunk.set(streamingChunks.get(key));
+                return val;
+            }
+            recordMiss(key);
+            final StreamingChunk loading = new StreamingChunk(chunkSize, getTimeout);
+            streamingChunks.put(key, loading);
+            streamingChunk.set(loading);
+            final StreamingChunk.Source fromStorage = () -> {
+                try {
+                    return chunkManager.getChunk(objectKey, manifest, chunkId);
+                } catch (final StorageBackendException e) {
+                    throw new IOException(e);
+                }
+            };
+            return CompletableFuture.supplyAsync(() -> {
+                stageRecorder.record(FetchStage.CACHE_QUEUE, System.nanoTime() - submitted);
+                try (final var ignored = FetchStageContext.bind(stageRecorder)) {
+                    final InputStream chunk = chunkManager.getChunk(objectKey, manifest, chunkId);
+                    loading.opened();
+                    final T t = this.cacheChunk(key, new TeeInputStream(chunk, loading));
+                    loading.complete(() -> {
+                        try {
+                            return cachedChunkToInputStream(t);
+                        } catch (final RuntimeException e) {
+                            // evicted meanwhile
+                            return fromStorage.open();
+                        }
+                    });
+                    return t;
+                } catch (final StorageBackendException | IOException | RuntimeException e) {
+                    if (loading.hasAllBytes(chunkSize)) {
+                        log.warn("Failed to cache chunk {}, serving it uncached", key, e);
+                        loading.complete(fromStorage);
+                    } else {
+                        loading.fail(e);
+                    }
+                    releaseProbation(key);
+                    throw new CompletionException(e);
+                } finally {
+                    streamingChunks.remove(key, loading);
+                }
+            }, executor);
+        });
+        try {
+            if (streamingChunk.get() != null) {
+                return streamingChunk.get().newInputStream();
+            }
+            return cachedChunkToInputStream(future.get(getTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof StorageBackendException) {
+                throw (StorageBackendException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e);
+        } catch (final InterruptedException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void recordMiss(final ChunkKey chunkKey) {
+        statsCounter.recordMiss();
+        final MemoryBudget.Share share = budgetShare;
+        if (share != null) {
+            share.recordMiss(chunkKey);
+        }
+    }
+
+    private void releaseProbation(final ChunkKey chunkKey) {
+        if (scanAdmission != null) {
+            scanAdmission.release(chunkKey);
+        }
+    }
+
     public abstract InputStream cachedChunkToInputStream(final T cachedChunk);
 
     public abstract T cacheChunk(final ChunkKey chunkKey, final InputStream chunk) throws IOException;
@@ -137,15 +292,42 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
     public abstract Weigher<ChunkKey, T> weigher();
 
     protected AsyncCache<ChunkKey, T> buildCache(final ChunkCacheConfig config) {
-        this.executor = config.threadPoolSize().map(ForkJoinPool::new).orElse(new ForkJoinPool());
-        new ThreadPoolMonitor(THREAD_POOL_METRIC_GROUP, this.executor);
+        this.executor = CacheExecutors.create(config, THREAD_POOL_METRIC_GROUP);
         this.getTimeout = config.getTimeout();
         this.prefetchingSize = config.cachePrefetchingSize();
+        this.streaming = config.streamingEnabled();
 
         final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
         config.cacheSize().ifPresent(maximumWeight -> cacheBuilder.maximumWeight(maximumWeight).weigher(weigher()));
-        config.cacheRetention().ifPresent(cacheBuilder::expireAfterAccess);
-        final var cache = cacheBuilder.evictionListener(removalListener())
+        RemovalListener<ChunkKey, T> removalListener = removalListener();
+        if (config.scanResistanceThreshold() > 0) {
+            final var admission = new ScanResistantAdmission(config, Time.SYSTEM);
+            this.scanAdmission = admission;
+            final RemovalListener<ChunkKey, T> delegate = removalListener;
+            removalListener = (key, value, cause) -> {
+                admission.release(key);
+                delegate.onRemoval(key, value, cause);
+            };
+        }
+        final RemovalListener<ChunkKey, T> cacheRemovalListener = removalListener;
+        removalListener = (key, value, cause) -> {
+            final MemoryBudget.Share share = budgetShare;
+            if (share != null && value != null) {
+                share.recordEviction(key, weigher().weigh(key, value), cause);
+            }
+            cacheRemovalListener.onRemoval(key, value, cause);
+        };
+        config.consumedChunkRetention().ifPresent(retention -> {
+            this.readCursors = new ReadCursorTracker();
+            this.consumedChunkRetention = retention;
+        });
+        // Per-entry retention is needed to override it for some chunks, otherwise the plain access-based one is enough.
+        if (scanAdmission != null || readCursors != null) {
+            cacheBuilder.expireAfter(new ChunkExpiry<T>(config.cacheRetention(), scanAdmission));
+        } else {
+            config.cacheRetention().ifPresent(cacheBuilder::expireAfterAccess);
+        }
+        final var cache = cacheBuilder.evictionListener(removalListener)
             .scheduler(Scheduler.systemScheduler())
             .executor(executor)
             .recordStats(() -> statsCounter)
@@ -158,7 +340,8 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
 
     private void startPrefetching(final ObjectKey segmentKey,
                                   final SegmentManifest segmentManifest,
-                                  final int startPosition) {
+                                  final int startPosition,
+                                  final boolean scan) {
         if (prefetchingSize > 0) {
             final BytesRange prefetchingRange;
             if (Integer.MAX_VALUE - startPosition < prefetchingSize) {
@@ -167,19 +350,37 @@ public abstract class ChunkCache<T> implements ChunkManager, Configurable {
                 prefetchingRange = BytesRange.ofFromPositionAndSize(startPosition, prefetchingSize);
             }
             final var chunks = segmentManifest.chunkIndex().chunksForRange(prefetchingRange);
-            chunks.forEach(chunk -> {
+            // prefetching is not waited for, so only its storage stages are recorded
+            final FetchStageRecorder stageRecorder = FetchStageContext.current();
+            for (final var chunk : chunks) {
                 final ChunkKey chunkKey = new ChunkKey(segmentKey.value(), chunk.id);
+                // Chunks prefetched for a scan go to the probationary region as well; stop once it is full.
+                if (scan && !cache.asMap().containsKey(chunkKey)
+                    && !scanAdmission.admitToProbation(chunkKey, chunk.originalSize)) {
+                    break;
+                }
                 cache.asMap()
                     .computeIfAbsent(chunkKey, key -> CompletableFuture.supplyAsync(() -> {
-                        try {
+                        try (final var ignored = FetchStageContext.bind(stageRecorder)) {
                             final InputStream chunkStream =
                                 chunkManager.getChunk(segmentKey, segmentManifest, chunk.id);
                             return this.cacheChunk(chunkKey, chunkStream);
                         } catch (final StorageBackendException | IOException e) {
+                            releaseProbation(chunkKey);
                             throw new CompletionException(e);
                         }
                     }, executor));
-            });
+            }
+        }
+    }
+
+    /**
+     * Shuts down the executor fetching chunks, letting the running fetches complete.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            CacheExecutors.close(executor);
         }
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Access-based retention of chunks that can be overridden per entry,
+ * e.g. for chunks in the probationary region or chunks all readers have moved past.
+ */
+class ChunkExpiry<T> implements Expiry<ChunkKey, T> {
+    private final long retentionNanos;
+    private final ScanResistantAdmission scanAdmission;
+
+    ChunkExpiry(final Optional<Duration> retention, final ScanResistantAdmission scanAdmission) {
+        this.retentionNanos = retention.map(Duration::toNanos).orElse(Long.MAX_VALUE);
+        this.scanAdmission = scanAdmission;
+    }
+
+    @Override
+    public long expireAfterCreate(final ChunkKey key, final T value, final long currentTime) {
+        return durationFor(key);
+    }
+
+    @Override
+    public long expireAfterUpdate(final ChunkKey key, final T value,
+                                  final long currentTime, final long currentDuration) {
+        return durationFor(key);
+    }
+
+    @Override
+    public long expireAfterRead(final ChunkKey key, final T value,
+                                final long currentTime, final long currentDuration) {
+        return durationFor(key);
+    }
+
+    private long durationFor(final ChunkKey key) {
+        if (scanAdmission != null && scanAdmission.inProbation(key)) {
+            return scanAdmission.probationRetentionNanos();
+        }
+        return retentionNanos;
+    }
+}
@@ -41,6 +41,7 @@ public class DiskChunkCache extends ChunkCache<Path> {
     private final DiskChunkCacheMetrics metrics;
 
     private DiskChunkCacheConfig config;
+    private MappedChunkFiles mappedFiles;
 
     public DiskChunkCache(final ChunkManager chunkManager) {
         this(chunkManager, Time.SYSTEM);
@@ -54,6 +55,9 @@ public class DiskChunkCache extends ChunkCache<Path> {
     @Override
     public InputStream cachedChunkToInputStream(final Path cachedChunk) {
         try {
+            if (mappedFiles != null) {
+                return mappedFiles.newInputStream(cachedChunk);
+            }
             return Files.newInputStream(cachedChunk);
         } catch (final IOException e) {
             throw new RuntimeException(e);
@@ -99,6 +103,9 @@ public class DiskChunkCache extends ChunkCache<Path> {
         return (key, path, cause) -> {
             try {
                 if (path != null) {
+                    if (mappedFiles != null) {
+                        mappedFiles.unmap(path);
+                    }
                     final long fileSize = Files.size(path);
                     try {
                         Files.delete(path);
@@ -142,6 +149,9 @@ public class DiskChunkCache extends ChunkCache<Path> {
     @Override
     public void configure(final Map<String, ?> configs) {
         this.config = new DiskChunkCacheConfig(configs);
+        if (config.mmapEnabled()) {
+            this.mappedFiles = new MappedChunkFiles(config.mmapMaxSize());
+        }
         this.cache = buildCache(config);
     }
 }
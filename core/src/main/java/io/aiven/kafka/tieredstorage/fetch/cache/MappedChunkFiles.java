@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * Bounded set of memory-mapped cached chunk files.
+ *
+ * <p>Files are mapped on their first read and unmapped when they're evicted from this set,
+ * or deleted from the cache, once the streams reading from them are closed.
+ */
+class MappedChunkFiles {
+    private final Cache<Path, MappedFile> mappings;
+
+    MappedChunkFiles(final long maxSize) {
+        this.mappings = Caffeine.newBuilder()
+            .maximumWeight(maxSize)
+            .weigher((Path path, MappedFile mapping) -> mapping.size())
+            .removalListener((Path path, MappedFile mapping, RemovalCause cause) -> {
+                if (mapping != null) {
+                    mapping.release();
+                }
+            })
+            .executor(Runnable::run)
+            .build();
+    }
+
+    InputStream newInputStream(final Path path) throws IOException {
+        final AtomicReference<InputStream> stream = new AtomicReference<>();
+        try {
+            // opening the stream within the computation keeps the mapping from being unmapped in between,
+            // even if it is evicted right away
+            mappings.asMap().compute(path, (p, current) -> {
+                if (current != null) {
+                    stream.set(current.newInputStream(0, current.size()));
+                    if (stream.get() != null) {
+                        return current;
+                    }
+                }
+                final MappedFile mapping = map(p);
+                stream.set(mapping.newInputStream(0, mapping.size()));
+                return mapping;
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return stream.get();
+    }
+
+    void unmap(final Path path) {
+        mappings.invalidate(path);
+    }
+
+    private MappedFile map(final Path path) {
+        try {
+            return MappedFile.map(path, Files.size(path));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import org.apache.kafka.common.utils.ByteBufferInputStream;
+import org.apache.kafka.common.utils.ByteBufferUnmapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Read-only memory mapping of a cached file, shared by the streams reading from it.
+ *
+ * <p>The mapping is reference counted: the owner holds one reference, released when the file is evicted,
+ * and every open stream holds one more. The file is unmapped only when the last reference is released,
+ * so evicting a file never invalidates the memory a stream is still reading.
+ */
+class MappedFile {
+    private static final Logger log = LoggerFactory.getLogger(MappedFile.class);
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int references = 1;
+
+    private MappedFile(final Path path, final MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static MappedFile map(final Path path, final long size) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, READ)) {
+            // the mapping stays valid after the channel is closed
+            return new MappedFile(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    int size() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Opens a stream over a region of the mapping, holding a reference until the stream is closed.
+     *
+     * @return {@code null} if the file has already been unmapped.
+     */
+    InputStream newInputStream(final int offset, final int length) {
+        synchronized (this) {
+            if (references == 0) {
+                return null;
+            }
+            references += 1;
+        }
+        final ByteBuffer region = buffer.duplicate().position(offset).limit(offset + length).slice();
+        return new MappedInputStream(region);
+    }
+
+    /**
+     * Releases a reference, unmapping the file if it was the last one.
+     */
+    void release() {
+        final boolean unmap;
+        synchronized (this) {
+            if (references == 0) {
+                return;
+            }
+            references -= 1;
+            unmap = references == 0;
+        }
+        if (unmap) {
+            try {
+                ByteBufferUnmapper.unmap(path.toString(), buffer);
+                log.trace("Unmapped file {}", path);
+            } catch (final IOException e) {
+                // the mapping is then released on garbage collection
+                log.warn("Failed to unmap file {}", path, e);
+            }
+        }
+    }
+
+    private class MappedInputStream extends ByteBufferInputStream {
+        private boolean closed = false;
+
+        MappedInputStream(final ByteBuffer buffer) {
+            super(buffer);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
@@ -21,9 +21,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 
+import org.apache.kafka.common.config.ConfigException;
+
 import io.aiven.kafka.tieredstorage.config.ChunkCacheConfig;
 import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
 import io.aiven.kafka.tieredstorage.fetch.ChunkManager;
+import io.aiven.kafka.tieredstorage.fetch.MemoryBudget;
 
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Weigher;
@@ -65,4 +68,13 @@ public class MemoryChunkCache extends ChunkCache<byte[]> {
         final ChunkCacheConfig config = new ChunkCacheConfig(configs);
         this.cache = buildCache(config);
     }
+
+    /**
+     * Shares the memory budget with other caches, the configured size becoming the initial share.
+     */
+    public void registerWith(final MemoryBudget budget) {
+        final var eviction = cache.synchronous().policy().eviction()
+            .orElseThrow(() -> new ConfigException("Chunk cache size must be set to share the memory budget"));
+        this.budgetShare = budget.register("chunk-cache", eviction);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tracks the positions of active readers per segment to find chunks that all of them have moved past.
+ *
+ * <p>Segments without reader activity for a while are forgotten, so readers that are never closed
+ * do not hold on to their position forever.
+ */
+class ReadCursorTracker {
+    private static final long MAX_TRACKED_SEGMENTS = 10_000;
+    private static final Duration CURSOR_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final Cache<String, Map<Object, Integer>> cursorsBySegment = Caffeine.newBuilder()
+        .maximumSize(MAX_TRACKED_SEGMENTS)
+        .expireAfterAccess(CURSOR_IDLE_TIMEOUT)
+        .build();
+
+    /**
+     * Moves the cursor of a reader to the given chunk, opening it if needed.
+     *
+     * @param consumedChunks receives the ids of chunks that got behind all readers of the segment.
+     */
+    void advance(final String segment, final Object reader, final int chunkId, final IntConsumer consumedChunks) {
+        final Map<Object, Integer> cursors = cursorsBySegment.get(segment, k -> new HashMap<>());
+        synchronized (cursors) {
+            final int minBefore = minPosition(cursors);
+            cursors.put(reader, chunkId);
+            notifyConsumed(minBefore, minPosition(cursors), consumedChunks);
+        }
+    }
+
+    /**
+     * Closes the cursor of a reader.
+     *
+     * @param consumedChunks receives the ids of chunks that got behind all remaining readers of the segment.
+     */
+    void close(final String segment, final Object reader, final IntConsumer consumedChunks) {
+        final Map<Object, Integer> cursors = cursorsBySegment.getIfPresent(segment);
+        if (cursors == null) {
+            return;
+        }
+        synchronized (cursors) {
+            final int minBefore = minPosition(cursors);
+            if (cursors.remove(reader) != null && !cursors.isEmpty()) {
+                notifyConsumed(minBefore, minPosition(cursors), consumedChunks);
+            }
+        }
+    }
+
+    private static int minPosition(final Map<Object, Integer> cursors) {
+        int min = Integer.MAX_VALUE;
+        for (final int position : cursors.values()) {
+            min = Math.min(min, position);
+        }
+        return min;
+    }
+
+    private static void notifyConsumed(final int minBefore, final int minAfter, final IntConsumer consumedChunks) {
+        // no readers before means nothing is known to be consumed yet
+        if (minBefore == Integer.MAX_VALUE) {
+            return;
+        }
+        for (int chunkId = minBefore; chunkId < minAfter; chunkId++) {
+            consumedChunks.accept(chunkId);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.config.ChunkCacheConfig;
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+import io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetrics;
+
+/**
+ * Keeps sequential one-pass scans from flushing the chunk cache.
+ *
+ * <p>Chunks missed by a detected scan are admitted into a small probationary region: they are stored
+ * in the same cache but expire after a short retention, unless a non-scanning reader accesses them,
+ * which promotes them to the regular retention. When the probationary region is full,
+ * scan chunks are served without being cached at all.
+ */
+class ScanResistantAdmission {
+    private final SequentialScanDetector detector;
+    private final long probationMaxSize;
+    private final long probationRetentionNanos;
+
+    private final ConcurrentHashMap<ChunkKey, Integer> probation = new ConcurrentHashMap<>();
+    private final AtomicLong probationSize = new AtomicLong();
+
+    private final ScanAdmissionMetrics metrics;
+
+    ScanResistantAdmission(final ChunkCacheConfig config, final Time time) {
+        this.detector = new SequentialScanDetector(config.scanResistanceThreshold());
+        this.probationMaxSize = config.scanProbationSize();
+        this.probationRetentionNanos = config.scanProbationRetention().toNanos();
+        this.metrics = new ScanAdmissionMetrics(time, probationSize::get);
+    }
+
+    /**
+     * @return whether the access to the chunk is part of a sequential scan.
+     */
+    boolean isScan(final ChunkKey chunkKey) {
+        return detector.recordAccess(chunkKey);
+    }
+
+    /**
+     * Reserves space in the probationary region for a chunk about to be cached on behalf of a scan.
+     *
+     * @return {@code false} if the region is full and the chunk should bypass the cache.
+     */
+    boolean admitToProbation(final ChunkKey chunkKey, final int chunkSize) {
+        if (probation.containsKey(chunkKey)) {
+            return true;
+        }
+        long current;
+        do {
+            current = probationSize.get();
+            if (current + chunkSize > probationMaxSize) {
+                return false;
+            }
+        } while (!probationSize.compareAndSet(current, current + chunkSize));
+
+        if (probation.putIfAbsent(chunkKey, chunkSize) != null) {
+            // admitted concurrently
+            probationSize.addAndGet(-chunkSize);
+        } else {
+            metrics.chunkAdmittedToProbation(chunkSize);
+        }
+        return true;
+    }
+
+    /**
+     * Moves a chunk accessed by a non-scanning reader out of the probationary region, if it was there.
+     */
+    void promote(final ChunkKey chunkKey) {
+        if (release(chunkKey)) {
+            metrics.chunkPromoted();
+        }
+    }
+
+    /**
+     * Frees the probationary space held by a chunk, e.g. when it's evicted or failed to load.
+     */
+    boolean release(final ChunkKey chunkKey) {
+        final Integer chunkSize = probation.remove(chunkKey);
+        if (chunkSize != null) {
+            probationSize.addAndGet(-chunkSize);
+            return true;
+        }
+        return false;
+    }
+
+    void recordBypass(final int chunkSize) {
+        metrics.chunkBypassed(chunkSize);
+    }
+
+    boolean inProbation(final ChunkKey chunkKey) {
+        return probation.containsKey(chunkKey);
+    }
+
+    long probationRetentionNanos() {
+        return probationRetentionNanos;
+    }
+}
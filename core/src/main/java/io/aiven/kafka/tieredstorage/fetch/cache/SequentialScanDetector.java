@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tracks access streams per segment to tell long sequential one-pass scans apart from other reads.
+ *
+ * <p>Each segment keeps a handful of streams, each one being the last chunk read and the length of the run
+ * of consecutive chunks leading to it. An access continues a stream when it reads the same chunk again
+ * (consecutive fetches usually overlap on their boundary chunk) or the next one.
+ * Any other access starts a new stream, replacing the least recently started one.
+ */
+class SequentialScanDetector {
+    static final int MAX_STREAMS_PER_SEGMENT = 4;
+    private static final long MAX_TRACKED_SEGMENTS = 10_000;
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int threshold;
+    private final Cache<String, Deque<Stream>> streamsBySegment;
+
+    SequentialScanDetector(final int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive, " + threshold + " given");
+        }
+        this.threshold = threshold;
+        this.streamsBySegment = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_SEGMENTS)
+            .expireAfterAccess(STREAM_IDLE_TIMEOUT)
+            .build();
+    }
+
+    /**
+     * Records an access to a chunk.
+     *
+     * @return whether the access is part of a sequential scan.
+     */
+    boolean recordAccess(final ChunkKey chunkKey) {
+        final Deque<Stream> streams = streamsBySegment.get(chunkKey.segmentFileName, k -> new ArrayDeque<>());
+        synchronized (streams) {
+            for (final Stream stream : streams) {
+                if (stream.lastChunkId == chunkKey.chunkId) {
+                    return stream.length >= threshold;
+                }
+                if (stream.lastChunkId + 1 == chunkKey.chunkId) {
+                    stream.lastChunkId = chunkKey.chunkId;
+                    stream.length += 1;
+                    return stream.length >= threshold;
+                }
+            }
+            if (streams.size() >= MAX_STREAMS_PER_SEGMENT) {
+                streams.removeFirst();
+            }
+            streams.addLast(new Stream(chunkKey.chunkId));
+            return threshold == 1;
+        }
+    }
+
+    private static class Stream {
+        int lastChunkId;
+        int length = 1;
+
+        Stream(final int chunkId) {
+            this.lastChunkId = chunkId;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * File of a fixed size chunks are appended to.
+ *
+ * <p>Once full, a slab is sealed and its file is deleted as soon as no chunk stored in it is cached anymore
+ * and no reader is reading from it. When memory-mapped, streams still reading from the mapping keep it
+ * valid after the file is deleted.
+ */
+class Slab {
+    private static final Logger log = LoggerFactory.getLogger(Slab.class);
+
+    final long id;
+    private final Path path;
+    private final long capacity;
+    private final FileChannel channel;
+    private final MappedFile mapped;
+
+    private final Map<ChunkKey, SlabEntry> entries = new ConcurrentHashMap<>();
+
+    private long position = 0;
+    private long liveBytes = 0;
+    private int readers = 0;
+    private boolean sealed = false;
+    private boolean deleted = false;
+    private boolean compacting = false;
+
+    Slab(final long id, final Path path, final long capacity, final boolean mmap) throws IOException {
+        this.id = id;
+        this.path = path;
+        this.capacity = capacity;
+        // Sets the file size only: on most file systems the file is sparse and blocks are allocated on write,
+        // so the disk space of the slab is not reserved and writes may still fail when the disk is full.
+        try (final var file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(capacity);
+        }
+        this.channel = FileChannel.open(path, READ, WRITE);
+        // a single mapping cannot be larger than 2 GiB, bigger slabs are read through the channel
+        this.mapped = mmap && capacity <= Integer.MAX_VALUE ? MappedFile.map(path, capacity) : null;
+    }
+
+    /**
+     * Reserves space at the end of the slab.
+     *
+     * @return the offset of the reserved space, or {@code -1} if the slab has no space left.
+     */
+    synchronized long reserve(final int length) {
+        if (sealed || position + length > capacity) {
+            return -1;
+        }
+        final long offset = position;
+        position += length;
+        liveBytes += length;
+        return offset;
+    }
+
+    void write(final ChunkKey chunkKey, final SlabEntry entry, final byte[] bytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, entry.offset + buffer.position());
+        }
+        entries.put(chunkKey, entry);
+    }
+
+    InputStream newInputStream(final SlabEntry entry) throws IOException {
+        if (mapped == null) {
+            return new ByteArrayInputStream(read(entry));
+        }
+        final InputStream stream = mapped.newInputStream((int) entry.offset, entry.length);
+        if (stream == null) {
+            throw new IOException("Slab file " + path + " has already been deleted");
+        }
+        return stream;
+    }
+
+    byte[] read(final SlabEntry entry) throws IOException {
+        if (!retain()) {
+            throw new IOException("Slab file " + path + " has already been deleted");
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, entry.offset + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of slab file " + path);
+                }
+            }
+            return buffer.array();
+        } finally {
+            releaseReader();
+        }
+    }
+
+    /**
+     * Frees the space held by an entry.
+     */
+    void remove(final ChunkKey chunkKey, final SlabEntry entry) {
+        entries.remove(chunkKey, entry);
+        synchronized (this) {
+            liveBytes -= entry.length;
+            deleteIfUnused();
+        }
+    }
+
+    Map<ChunkKey, SlabEntry> entries() {
+        return Map.copyOf(entries);
+    }
+
+    synchronized void seal() {
+        sealed = true;
+        deleteIfUnused();
+    }
+
+    /**
+     * @return whether the slab is sealed, its live ratio is under the threshold, and it's not compacted already.
+     */
+    synchronized boolean startCompaction(final double threshold) {
+        if (!sealed || deleted || compacting || liveBytes >= capacity * threshold) {
+            return false;
+        }
+        compacting = true;
+        return true;
+    }
+
+    synchronized void finishCompaction() {
+        compacting = false;
+    }
+
+    private synchronized boolean retain() {
+        if (deleted) {
+            return false;
+        }
+        readers += 1;
+        return true;
+    }
+
+    private synchronized void releaseReader() {
+        readers -= 1;
+        deleteIfUnused();
+    }
+
+    private void deleteIfUnused() {
+        if (!sealed || deleted || liveBytes > 0 || readers > 0) {
+            return;
+        }
+        deleted = true;
+        if (mapped != null) {
+            mapped.release();
+        }
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+            log.trace("Deleted slab file {}", path);
+        } catch (final IOException e) {
+            log.warn("Failed to delete slab file {}", path, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.config.SlabDiskChunkCacheConfig;
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+import io.aiven.kafka.tieredstorage.fetch.ChunkManager;
+
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disk chunk cache storing chunks in a few large slab files instead of a file per chunk,
+ * which keeps the number of open, created and deleted files low when chunks are small.
+ *
+ * <p>Unlike {@link DiskChunkCache}, cached chunks are lost on restart, as the offset index is kept in memory only.
+ */
+public class SlabDiskChunkCache extends ChunkCache<SlabEntry> {
+    private static final Logger log = LoggerFactory.getLogger(SlabDiskChunkCache.class);
+
+    private final DiskChunkCacheMetrics metrics;
+
+    private SlabStore store;
+
+    public SlabDiskChunkCache(final ChunkManager chunkManager) {
+        this(chunkManager, Time.SYSTEM);
+    }
+
+    SlabDiskChunkCache(final ChunkManager chunkManager, final Time time) {
+        super(chunkManager);
+        metrics = new DiskChunkCacheMetrics(time);
+    }
+
+    @Override
+    public InputStream cachedChunkToInputStream(final SlabEntry cachedChunk) {
+        try {
+            return store.newInputStream(cachedChunk);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public SlabEntry cacheChunk(final ChunkKey chunkKey, final InputStream chunk) throws IOException {
+        final byte[] bytes;
+        try (chunk) {
+            bytes = chunk.readAllBytes();
+        }
+        final SlabEntry entry = store.append(chunkKey, bytes);
+        log.trace("Chunk {} has been stored to {}", chunkKey, entry);
+        return entry;
+    }
+
+    @Override
+    public RemovalListener<ChunkKey, SlabEntry> removalListener() {
+        return (key, entry, cause) -> {
+            if (entry != null) {
+                store.release(key, entry);
+                log.trace("Released {} for key {}. The reason of the deletion is {}", entry, key, cause);
+            } else {
+                log.warn("Entry not present when trying to release cached chunk for key {}."
+                    + " The reason of the deletion is {}", key, cause);
+            }
+        };
+    }
+
+    @Override
+    public Weigher<ChunkKey, SlabEntry> weigher() {
+        return (key, entry) -> entry.length;
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final SlabDiskChunkCacheConfig config = new SlabDiskChunkCacheConfig(configs);
+        this.store = new SlabStore(
+            config.cachePath(),
+            config.slabSize(),
+            config.slabCompactionThreshold(),
+            config.mmapEnabled(),
+            metrics,
+            this::relocate
+        );
+        this.cache = buildCache(config);
+    }
+
+    private boolean relocate(final ChunkKey chunkKey, final SlabEntry from, final SlabEntry to) {
+        final AtomicBoolean relocated = new AtomicBoolean(false);
+        cache.asMap().computeIfPresent(chunkKey, (key, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally() && future.join() == from) {
+                relocated.set(true);
+                return CompletableFuture.completedFuture(to);
+            }
+            return future;
+        });
+        return relocated.get();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        if (store != null) {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+/**
+ * Location of a cached chunk within a slab file.
+ */
+public final class SlabEntry {
+    final Slab slab;
+    final long offset;
+    final int length;
+
+    SlabEntry(final Slab slab, final long offset, final int length) {
+        this.slab = slab;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public String toString() {
+        return "SlabEntry("
+            + "slab=" + slab
+            + ", offset=" + offset
+            + ", length=" + length
+            + ")";
+    }
+}
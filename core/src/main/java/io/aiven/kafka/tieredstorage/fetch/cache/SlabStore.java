@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores chunks appended into a few large slab files instead of a file per chunk.
+ *
+ * <p>Sealed slabs whose ratio of live bytes drops under the compaction threshold are compacted in the background:
+ * their remaining chunks are appended to the current slab and relocated in the cache,
+ * so the slab file can be deleted.
+ */
+class SlabStore implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(SlabStore.class);
+
+    private final Path directory;
+    private final long slabSize;
+    private final double compactionThreshold;
+    private final boolean mmap;
+    private final DiskChunkCacheMetrics metrics;
+    private final Relocator relocator;
+
+    private final AtomicLong slabIds = new AtomicLong();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "slab-chunk-cache-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Slab currentSlab;
+
+    SlabStore(final Path directory,
+              final long slabSize,
+              final double compactionThreshold,
+              final boolean mmap,
+              final DiskChunkCacheMetrics metrics,
+              final Relocator relocator) {
+        this.directory = directory;
+        this.slabSize = slabSize;
+        this.compactionThreshold = compactionThreshold;
+        this.mmap = mmap;
+        this.metrics = metrics;
+        this.relocator = relocator;
+    }
+
+    SlabEntry append(final ChunkKey chunkKey, final byte[] bytes) throws IOException {
+        final SlabEntry entry = reserve(bytes.length);
+        try {
+            entry.slab.write(chunkKey, entry, bytes);
+        } catch (final IOException e) {
+            entry.slab.remove(chunkKey, entry);
+            throw e;
+        }
+        metrics.chunkWritten(bytes.length);
+        return entry;
+    }
+
+    private synchronized SlabEntry reserve(final int length) throws IOException {
+        if (length > slabSize) {
+            // too big to share a slab with other chunks
+            final Slab slab = newSlab(length);
+            final long offset = slab.reserve(length);
+            slab.seal();
+            return new SlabEntry(slab, offset, length);
+        }
+        long offset = currentSlab == null ? -1 : currentSlab.reserve(length);
+        if (offset < 0) {
+            if (currentSlab != null) {
+                currentSlab.seal();
+            }
+            currentSlab = newSlab(slabSize);
+            offset = currentSlab.reserve(length);
+        }
+        return new SlabEntry(currentSlab, offset, length);
+    }
+
+    private Slab newSlab(final long capacity) throws IOException {
+        final long id = slabIds.getAndIncrement();
+        return new Slab(id, directory.resolve("slab-" + id), capacity, mmap);
+    }
+
+    byte[] read(final SlabEntry entry) throws IOException {
+        return entry.slab.read(entry);
+    }
+
+    InputStream newInputStream(final SlabEntry entry) throws IOException {
+        return entry.slab.newInputStream(entry);
+    }
+
+    /**
+     * Frees the space held by a chunk removed from the cache.
+     */
+    void release(final ChunkKey chunkKey, final SlabEntry entry) {
+        entry.slab.remove(chunkKey, entry);
+        metrics.chunkDeleted(entry.length);
+        if (compactionThreshold > 0 && entry.slab.startCompaction(compactionThreshold)) {
+            try {
+                compactor.submit(() -> compact(entry.slab));
+            } catch (final RejectedExecutionException e) {
+                // the store is closed
+                entry.slab.finishCompaction();
+            }
+        }
+    }
+
+    private void compact(final Slab slab) {
+        try {
+            for (final Map.Entry<ChunkKey, SlabEntry> e : slab.entries().entrySet()) {
+                final ChunkKey chunkKey = e.getKey();
+                final SlabEntry from = e.getValue();
+                final SlabEntry to = append(chunkKey, read(from));
+                if (relocator.relocate(chunkKey, from, to)) {
+                    release(chunkKey, from);
+                } else {
+                    // the chunk has been removed from the cache meanwhile, or is still being loaded
+                    release(chunkKey, to);
+                }
+            }
+            log.trace("Compacted slab file {}", slab);
+        } catch (final IOException | RuntimeException e) {
+            log.warn("Failed to compact slab file {}", slab, e);
+        } finally {
+            slab.finishCompaction();
+        }
+    }
+
+    /**
+     * Stops the background compaction. Slabs keep the chunks not relocated yet.
+     */
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    interface Relocator {
+        /**
+         * Points the cache entry of a chunk to its new location, if it still points to the old one.
+         *
+         * @return whether the entry has been relocated.
+         */
+        boolean relocate(ChunkKey chunkKey, SlabEntry from, SlabEntry to);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeoutException;
+
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+
+/**
+ * Chunk being loaded into the cache, whose bytes are already readable while they are fetched.
+ *
+ * <p>The loading task writes fetched bytes into it as they are consumed by the cache,
+ * and any number of readers can follow the loading from the beginning of the chunk,
+ * waiting for more bytes when they catch up with it.
+ *
+ * <p>Only the last {@code maxBufferSize} written bytes are kept on heap. Readers falling further behind,
+ * or starting after those bytes are gone, continue from the source given on completion instead.
+ */
+class StreamingChunk extends OutputStream {
+    static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+    private final int maxBufferSize;
+    private final long waitTimeoutMs;
+
+    // ring buffer, which only wraps around once it reached maxBufferSize
+    private byte[] buffer;
+    private int size = 0;
+    private boolean opened = false;
+    private boolean completed = false;
+    private Source source = null;
+    private Throwable failure = null;
+
+    StreamingChunk(final int expectedSize, final Duration waitTimeout) {
+        this(expectedSize, MAX_BUFFER_SIZE, waitTimeout);
+    }
+
+    StreamingChunk(final int expectedSize, final int maxBufferSize, final Duration waitTimeout) {
+        this.maxBufferSize = maxBufferSize;
+        this.buffer = new byte[Math.min(Math.max(expectedSize, 0), maxBufferSize)];
+        this.waitTimeoutMs = waitTimeout.toMillis();
+    }
+
+    /**
+     * Marks that the chunk started to be fetched from remote storage.
+     */
+    synchronized void opened() {
+        opened = true;
+        notifyAll();
+    }
+
+    /**
+     * Marks that all bytes of the chunk have been written.
+     *
+     * @param source opens the whole chunk for readers whose next bytes are not buffered anymore.
+     */
+    synchronized void complete(final Source source) {
+        this.source = source;
+        opened = true;
+        completed = true;
+        notifyAll();
+    }
+
+    synchronized void fail(final Throwable e) {
+        failure = e;
+        notifyAll();
+    }
+
+    /**
+     * @return whether the chunk started to be fetched and {@code expectedSize} bytes were written
+     */
+    synchronized boolean hasAllBytes(final int expectedSize) {
+        return opened && size >= expectedSize;
+    }
+
+    @Override
+    public void write(final int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+        if (len == 0) {
+            return;
+        }
+        if (size + len > buffer.length && buffer.length < maxBufferSize) {
+            final long grown = Math.max(buffer.length * 2L, (long) size + len);
+            buffer = Arrays.copyOf(buffer, (int) Math.min(grown, maxBufferSize));
+        }
+        // bytes that would be overwritten within this write are not copied at all
+        final int skipped = Math.max(len - buffer.length, 0);
+        int written = skipped;
+        while (written < len) {
+            final int index = (size + written) % buffer.length;
+            final int toWrite = Math.min(len - written, buffer.length - index);
+            System.arraycopy(b, off + written, buffer, index, toWrite);
+            written += toWrite;
+        }
+        size += len;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the chunk starts to be fetched, so fetching errors are thrown to the requester
+     * the same way as when it waits for the whole chunk to be cached.
+     */
+    synchronized InputStream newInputStream()
+        throws StorageBackendException, IOException, InterruptedException, TimeoutException {
+        final long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (!opened && failure == null) {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutException("Timed out waiting for chunk to start being fetched");
+            }
+            wait(remaining);
+        }
+        if (!opened) {
+            if (failure instanceof StorageBackendException) {
+                throw (StorageBackendException) failure;
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            throw new RuntimeException(failure);
+        }
+        return new Reader();
+    }
+
+    /**
+     * Whole chunk, from the cache or remote storage.
+     */
+    @FunctionalInterface
+    interface Source {
+        InputStream open() throws IOException;
+    }
+
+    private class Reader extends InputStream {
+        private int position = 0;
+        private InputStream fromSource = null;
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            final int read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (fromSource == null) {
+                synchronized (StreamingChunk.this) {
+                    if (isBuffered()) {
+                        awaitBytes();
+                    }
+                    if (isBuffered()) {
+                        if (position >= size) {
+                            return -1;
+                        }
+                        final int index = position % buffer.length;
+                        final int toRead = Math.min(Math.min(len, size - position), buffer.length - index);
+                        System.arraycopy(buffer, index, b, off, toRead);
+                        position += toRead;
+                        return toRead;
+                    }
+                }
+                fromSource = openSource();
+            }
+            return fromSource.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (fromSource != null) {
+                return fromSource.available();
+            }
+            synchronized (StreamingChunk.this) {
+                return isBuffered() ? size - position : 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fromSource != null) {
+                fromSource.close();
+            }
+        }
+
+        private boolean isBuffered() {
+            return position >= size - buffer.length;
+        }
+
+        private void awaitBytes() throws IOException {
+            final long deadline = System.currentTimeMillis() + waitTimeoutMs;
+            while (position >= size && !completed && failure == null) {
+                awaitUntil(deadline, "Timed out waiting for chunk bytes to be fetched");
+            }
+            if (position >= size && !completed) {
+                throw new IOException("Failed to fetch chunk", failure);
+            }
+        }
+
+        private InputStream openSource() throws IOException {
+            final Source completedSource;
+            synchronized (StreamingChunk.this) {
+                final long deadline = System.currentTimeMillis() + waitTimeoutMs;
+                while (!completed && failure == null) {
+                    awaitUntil(deadline, "Timed out waiting for chunk to be fetched");
+                }
+                if (!completed) {
+                    throw new IOException("Failed to fetch chunk", failure);
+                }
+                completedSource = source;
+            }
+            final InputStream inputStream = completedSource.open();
+            inputStream.skipNBytes(position);
+            return inputStream;
+        }
+
+        private void awaitUntil(final long deadline, final String timeoutMessage) throws IOException {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new IOException(timeoutMessage);
+            }
+            try {
+                StreamingChunk.this.wait(remaining);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -21,20 +21,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager.IndexType;
 
 import io.aiven.kafka.tieredstorage.config.CacheConfig;
+import io.aiven.kafka.tieredstorage.config.MetadataCacheConfig;
+import io.aiven.kafka.tieredstorage.fetch.CacheExecutors;
+import io.aiven.kafka.tieredstorage.fetch.DiskMetadataStore;
+import io.aiven.kafka.tieredstorage.fetch.MemoryBudget;
 import io.aiven.kafka.tieredstorage.metrics.CaffeineStatsCounter;
-import io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitor;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
 
@@ -53,12 +57,15 @@ public class MemorySegmentIndexesCache implements SegmentIndexesCache {
     public static final String THREAD_POOL_METRIC_GROUP = "segment-indexes-cache-thread-pool-metrics";
 
     private static final long DEFAULT_MAX_SIZE_BYTES = 10 * 1024 * 1024;
+    private static final String DISK_DIRECTORY = "indexes";
 
     private final CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(METRIC_GROUP);
 
-    private ExecutorService executor;
+    private Executor executor;
     protected AsyncCache<SegmentIndexKey, byte[]> cache;
     private Duration getTimeout;
+    private volatile MemoryBudget.Share budgetShare;
+    private DiskMetadataStore diskStore;
 
     // for testing
     RemovalListener<SegmentIndexKey, byte[]> removalListener() {
@@ -71,14 +78,21 @@ public class MemorySegmentIndexesCache implements SegmentIndexesCache {
     }
 
     protected AsyncCache<SegmentIndexKey, byte[]> buildCache(final CacheConfig config) {
-        this.executor = config.threadPoolSize().map(ForkJoinPool::new).orElse(new ForkJoinPool());
-        new ThreadPoolMonitor(THREAD_POOL_METRIC_GROUP, executor);
+        this.executor = CacheExecutors.create(config, THREAD_POOL_METRIC_GROUP);
         this.getTimeout = config.getTimeout();
 
         final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
         config.cacheSize().ifPresent(maximumWeight -> cacheBuilder.maximumWeight(maximumWeight).weigher(weigher()));
         config.cacheRetention().ifPresent(cacheBuilder::expireAfterAccess);
-        final var cache = cacheBuilder.evictionListener(removalListener())
+        final RemovalListener<SegmentIndexKey, byte[]> removalListener = removalListener();
+        final RemovalListener<SegmentIndexKey, byte[]> evictionListener = (key, value, cause) -> {
+            final MemoryBudget.Share share = budgetShare;
+            if (share != null && value != null) {
+                share.recordEviction(key, value.length, cause);
+            }
+            removalListener.onRemoval(key, value, cause);
+        };
+        final var cache = cacheBuilder.evictionListener(evictionListener)
             .scheduler(Scheduler.systemScheduler())
             .executor(executor)
             .recordStats(() -> statsCounter)
@@ -100,7 +114,11 @@ public class MemorySegmentIndexesCache implements SegmentIndexesCache {
                 .compute(new SegmentIndexKey(objectKey, indexType), (key, val) -> {
                     if (val == null) {
                         statsCounter.recordMiss();
-                        return CompletableFuture.supplyAsync(indexSupplier, executor);
+                        final MemoryBudget.Share share = budgetShare;
+                        if (share != null) {
+                            share.recordMiss(key);
+                        }
+                        return CompletableFuture.supplyAsync(() -> loadIndex(key, indexSupplier), executor);
                     } else {
                         statsCounter.recordHit();
                         return val;
@@ -133,15 +151,61 @@ public class MemorySegmentIndexesCache implements SegmentIndexesCache {
         }
     }
 
+    private byte[] loadIndex(final SegmentIndexKey key, final Supplier<byte[]> indexSupplier) {
+        if (diskStore != null) {
+            final Optional<byte[]> stored = diskStore.get(key.indexesKey, key.indexType.name());
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+        final byte[] index = indexSupplier.get();
+        if (diskStore != null) {
+            diskStore.put(key.indexesKey, key.indexType.name(), index);
+        }
+        return index;
+    }
+
+    @Override
+    public void invalidate(final ObjectKey key) {
+        for (final IndexType indexType : IndexType.values()) {
+            cache.synchronous().invalidate(new SegmentIndexKey(key, indexType));
+        }
+        if (diskStore != null) {
+            diskStore.invalidate(key);
+        }
+    }
+
     @Override
     public void configure(final Map<String, ?> configs) {
-        final var config = new CacheConfig(configDef(), configs);
+        final var config = new MetadataCacheConfig(configDef(), configs);
+        this.diskStore = config.diskPath()
+            .map(path -> new DiskMetadataStore(path.resolve(DISK_DIRECTORY), config.diskSize()))
+            .orElse(null);
         this.cache = buildCache(config);
     }
 
+    /**
+     * Shares the memory budget with other caches, the configured size becoming the initial share.
+     */
+    public void registerWith(final MemoryBudget budget) {
+        final var eviction = cache.synchronous().policy().eviction()
+            .orElseThrow(() -> new ConfigException("Indexes cache size must be set to share the memory budget"));
+        this.budgetShare = budget.register("segment-indexes-cache", eviction);
+    }
+
+    /**
+     * Shuts down the executor loading indexes, letting the running loads complete.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            CacheExecutors.close(executor);
+        }
+    }
+
     public static ConfigDef configDef() {
-        return CacheConfig.defBuilder()
+        return MetadataCacheConfig.configDef(CacheConfig.defBuilder()
             .withDefaultSize(DEFAULT_MAX_SIZE_BYTES)
-            .build();
+            .build());
     }
 }
@@ -16,6 +16,7 @@
 
 package io.aiven.kafka.tieredstorage.fetch.index;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.function.Supplier;
@@ -26,10 +27,15 @@ import org.apache.kafka.server.log.remote.storage.RemoteStorageManager.IndexType
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
 
-public interface SegmentIndexesCache extends Configurable {
+public interface SegmentIndexesCache extends Configurable, Closeable {
     InputStream get(
         final ObjectKey key,
         IndexType indexType,
         final Supplier<byte[]> indexSupplier
     ) throws StorageBackendException, IOException;
+
+    /**
+     * Drops all cached indexes of the segment, e.g. when it is deleted.
+     */
+    void invalidate(final ObjectKey key);
 }
@@ -20,17 +20,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
 
 import io.aiven.kafka.tieredstorage.config.CacheConfig;
+import io.aiven.kafka.tieredstorage.config.SegmentManifestCacheConfig;
+import io.aiven.kafka.tieredstorage.fetch.CacheExecutors;
+import io.aiven.kafka.tieredstorage.fetch.DiskMetadataStore;
+import io.aiven.kafka.tieredstorage.fetch.MemoryBudget;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
 import io.aiven.kafka.tieredstorage.metrics.CaffeineStatsCounter;
-import io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitor;
 import io.aiven.kafka.tieredstorage.storage.ObjectFetcher;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
@@ -50,14 +55,20 @@ public class MemorySegmentManifestCache implements SegmentManifestCache {
     public static final String THREAD_POOL_METRIC_GROUP = "segment-manifest-cache-thread-pool-metrics";
     private static final long DEFAULT_MAX_SIZE = 1000L;
     private static final long DEFAULT_RETENTION_MS = 3_600_000;
+    private static final String MANIFEST_ENTRY = "manifest";
+    private static final String DISK_DIRECTORY = "manifests";
 
-    private AsyncLoadingCache<ObjectKey, SegmentManifest> cache;
+    AsyncLoadingCache<ObjectKey, SegmentManifest> cache;
     final CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(METRIC_GROUP);
 
     final ObjectFetcher fileFetcher;
     final ObjectMapper mapper;
 
+    private Executor executor;
     Duration getTimeout;
+    private boolean weighedInBytes;
+    private volatile MemoryBudget.Share budgetShare;
+    DiskMetadataStore diskStore;
 
     public MemorySegmentManifestCache(final ObjectFetcher fileFetcher, final ObjectMapper mapper) {
         this.fileFetcher = fileFetcher;
@@ -95,26 +106,41 @@ public class MemorySegmentManifestCache implements SegmentManifestCache {
             + " The reason of the deletion is {}", key, cause);
     }
 
-    private static Weigher<ObjectKey, SegmentManifest> weigher() {
+    private Weigher<ObjectKey, SegmentManifest> weigher() {
+        if (weighedInBytes) {
+            return new SegmentManifestWeigher();
+        }
         return (key, value) -> 1;
     }
 
-    protected AsyncLoadingCache<ObjectKey, SegmentManifest> buildCache(final CacheConfig config) {
-        final var executor = config.threadPoolSize().map(ForkJoinPool::new).orElse(new ForkJoinPool());
-        new ThreadPoolMonitor(THREAD_POOL_METRIC_GROUP, executor);
+    protected AsyncLoadingCache<ObjectKey, SegmentManifest> buildCache(final SegmentManifestCacheConfig config) {
+        this.executor = CacheExecutors.create(config, THREAD_POOL_METRIC_GROUP);
         getTimeout = config.getTimeout();
+        weighedInBytes = config.cacheSizeBytes().isPresent();
 
         final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder();
-        config.cacheSize().ifPresent(maximumWeight -> cacheBuilder.maximumWeight(maximumWeight).weigher(weigher()));
+        config.cacheSizeBytes().or(config::cacheSize)
+            .ifPresent(maximumWeight -> cacheBuilder.maximumWeight(maximumWeight).weigher(weigher()));
         config.cacheRetention().ifPresent(cacheBuilder::expireAfterAccess);
-        final var cache = cacheBuilder.evictionListener(removalListener())
+        final Weigher<ObjectKey, SegmentManifest> weigher = weigher();
+        final RemovalListener<ObjectKey, SegmentManifest> removalListener = removalListener();
+        final RemovalListener<ObjectKey, SegmentManifest> evictionListener = (key, value, cause) -> {
+            final MemoryBudget.Share share = budgetShare;
+            if (share != null && value != null) {
+                share.recordEviction(key, weigher.weigh(key, value), cause);
+            }
+            removalListener.onRemoval(key, value, cause);
+        };
+        final var cache = cacheBuilder.evictionListener(evictionListener)
             .scheduler(Scheduler.systemScheduler())
             .executor(executor)
             .recordStats(() -> statsCounter)
             .buildAsync(key -> {
-                try (final InputStream is = fileFetcher.fetch(key)) {
-                    return mapper.readValue(is, SegmentManifest.class);
+                final MemoryBudget.Share share = budgetShare;
+                if (share != null) {
+                    share.recordMiss(key);
                 }
+                return mapper.readValue(fetchManifest(key), SegmentManifest.class);
             });
 
         statsCounter.registerSizeMetric(cache.synchronous()::estimatedSize);
@@ -122,17 +148,71 @@ public class MemorySegmentManifestCache implements SegmentManifestCache {
         return cache;
     }
 
+    private byte[] fetchManifest(final ObjectKey key) throws StorageBackendException, IOException {
+        if (diskStore != null) {
+            final Optional<byte[]> stored = diskStore.get(key, MANIFEST_ENTRY);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+        final byte[] manifest;
+        try (final InputStream is = fileFetcher.fetch(key)) {
+            manifest = is.readAllBytes();
+        }
+        if (diskStore != null) {
+            // Stored as fetched: the data key remains wrapped on disk.
+            diskStore.put(key, MANIFEST_ENTRY, manifest);
+        }
+        return manifest;
+    }
+
+    @Override
+    public void invalidate(final ObjectKey manifestKey) {
+        cache.synchronous().invalidate(manifestKey);
+        if (diskStore != null) {
+            diskStore.invalidate(manifestKey);
+        }
+    }
+
     @Override
     public void configure(final Map<String, ?> configs) {
-        final var config = new CacheConfig(configDef(), configs);
+        final var config = new SegmentManifestCacheConfig(configDef(), configs);
+        this.diskStore = config.diskPath()
+            .map(path -> new DiskMetadataStore(path.resolve(DISK_DIRECTORY), config.diskSize()))
+            .orElse(null);
         this.cache = buildCache(config);
     }
 
+    /**
+     * Shares the memory budget with other caches, the configured size in bytes becoming the initial share.
+     */
+    public void registerWith(final MemoryBudget budget) {
+        if (!weighedInBytes) {
+            throw new ConfigException("Manifest cache size.bytes must be set to share the memory budget");
+        }
+        final var eviction = cache.synchronous().policy().eviction().orElseThrow();
+        this.budgetShare = budget.register("segment-manifest-cache", eviction);
+    }
+
+    public boolean weighedInBytes() {
+        return weighedInBytes;
+    }
+
+    /**
+     * Shuts down the executor loading manifests, letting the running loads complete.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            CacheExecutors.close(executor);
+        }
+    }
+
     public static ConfigDef configDef() {
-        return CacheConfig.defBuilder()
+        return SegmentManifestCacheConfig.configDef(CacheConfig.defBuilder()
             .withDefaultSize(DEFAULT_MAX_SIZE)
             .withDefaultRetentionMs(DEFAULT_RETENTION_MS)
             .withSizeDoc("The maximum number of entries in the cache, where `-1` represents an unbounded cache.")
-            .build();
+            .build());
     }
 }
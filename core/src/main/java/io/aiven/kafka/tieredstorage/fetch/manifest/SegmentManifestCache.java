@@ -16,6 +16,7 @@
 
 package io.aiven.kafka.tieredstorage.fetch.manifest;
 
+import java.io.Closeable;
 import java.io.IOException;
 
 import org.apache.kafka.common.Configurable;
@@ -24,7 +25,12 @@ import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
 
-public interface SegmentManifestCache extends Configurable {
+public interface SegmentManifestCache extends Configurable, Closeable {
     SegmentManifest get(final ObjectKey manifestKey)
         throws StorageBackendException, IOException;
+
+    /**
+     * Drops the cached manifest, e.g. when the segment is deleted.
+     */
+    void invalidate(final ObjectKey manifestKey);
 }
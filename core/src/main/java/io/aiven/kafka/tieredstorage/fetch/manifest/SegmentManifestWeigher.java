@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.manifest;
+
+import io.aiven.kafka.tieredstorage.manifest.SegmentEncryptionMetadata;
+import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cached manifests by an estimate of the heap they retain, in bytes.
+ *
+ * <p>The estimate assumes compressed object pointers and errs on the high side.
+ * Only the chunk index grows with the segment, the rest of a manifest is of about constant size.
+ */
+class SegmentManifestWeigher implements Weigher<ObjectKey, SegmentManifest> {
+    // Cache node and completed future, manifest object, segment indexes with their five entries.
+    static final long ENTRY_OVERHEAD = 96 + 32 + 32 + 5 * 24;
+    // String object and its backing array, Latin-1 encoded.
+    static final long STRING_OVERHEAD = 24 + 16;
+    // Metadata object, secret key spec with its encoded key (up to 256 bits), AAD array header.
+    static final long ENCRYPTION_OVERHEAD = 24 + 48 + 16 + 32 + 16;
+
+    @Override
+    public int weigh(final ObjectKey key, final SegmentManifest manifest) {
+        long size = ENTRY_OVERHEAD + STRING_OVERHEAD + key.value().length();
+        size += manifest.chunkIndex().estimatedSize();
+        if (manifest.encryption().isPresent()) {
+            final SegmentEncryptionMetadata encryption = manifest.encryption().get();
+            size += ENCRYPTION_OVERHEAD + encryption.aad().length;
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+}
@@ -22,8 +22,28 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum SegmentFormat {
-    KAFKA,
-    ICEBERG;
+    // ids are stored in segment custom metadata and cannot be changed without breaking compatibility.
+    KAFKA((byte) 0),
+    ICEBERG((byte) 1);
+
+    private final byte id;
+
+    SegmentFormat(final byte id) {
+        this.id = id;
+    }
+
+    public byte id() {
+        return id;
+    }
+
+    public static SegmentFormat fromId(final byte id) {
+        for (final SegmentFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown segment format id: " + id);
+    }
 
     @JsonValue
     public String getValue() {
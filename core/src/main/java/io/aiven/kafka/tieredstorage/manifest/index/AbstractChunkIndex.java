@@ -16,8 +16,10 @@
 
 package io.aiven.kafka.tieredstorage.manifest.index;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import io.aiven.kafka.tieredstorage.Chunk;
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
@@ -32,6 +34,28 @@ public abstract class AbstractChunkIndex implements ChunkIndex {
     protected final int finalTransformedChunkSize;
     protected final int chunkCount;
 
+    /**
+     * Rough heap size of an index object with its fields, but without any per-chunk data.
+     */
+    protected static final long BASE_ESTIMATED_SIZE = 48;
+    protected static final long ARRAY_HEADER_SIZE = 16;
+
+    private final List<Chunk> chunks = new AbstractList<>() {
+        @Override
+        public Chunk get(final int index) {
+            Objects.checkIndex(index, size());
+            if (chunkCount == 0) {
+                return new Chunk(0, 0, 0, 0, 0);
+            }
+            return chunk(index);
+        }
+
+        @Override
+        public int size() {
+            return Math.max(chunkCount, 1);
+        }
+    };
+
     protected AbstractChunkIndex(final int originalChunkSize,
                                  final int originalFileSize,
                                  final int finalTransformedChunkSize,
@@ -48,27 +72,15 @@ public abstract class AbstractChunkIndex implements ChunkIndex {
         this.chunkCount = chunkCount;
     }
 
-    // Override with care, this method is indirectly called from a constructor.
-    protected final List<Chunk> materializeChunks() {
-        final List<Chunk> chunks = new ArrayList<>(chunkCount);
-        int originalPosition = 0;
-        int transformedPosition = 0;
-        if (chunkCount == 0) {
-            chunks.add(new Chunk(0, 0, 0, 0, 0));
-        } else {
-            for (int chunkI = 0; chunkI < chunkCount; chunkI++) {
-                final int originalSize = originalChunkSize(chunkI);
-                final int transformedSize = transformedChunkSize(chunkI);
-                chunks.add(new Chunk(
-                    chunkI,
-                    originalPosition, originalSize,
-                    transformedPosition, transformedSize
-                ));
-                originalPosition += originalSize;
-                transformedPosition += transformedSize;
-            }
-        }
-        return List.copyOf(chunks);  // make unmodifiable
+    /**
+     * Returns all chunks in the index.
+     *
+     * <p>The chunks are computed on access rather than kept in memory,
+     * so indexes of large segments stay compact when cached.
+     */
+    @Override
+    public List<Chunk> chunks() {
+        return chunks;
     }
 
     @Override
@@ -78,35 +90,7 @@ public abstract class AbstractChunkIndex implements ChunkIndex {
         if (offset >= originalFileSize) {
             return null;
         }
-
-        // Find the chunk index that corresponds to the offset in the original file
-        // while counting the original and transformed chunk start position.
-        int chunkI = 0;
-        int curOriginalChunkPosition = 0;
-        int curTransformedChunkPosition = 0;
-        for (; chunkI < chunkCount; chunkI++) {
-            // The situation we're looking for:
-            //     chunkI--|      |--1st offset beyond current chunk
-            //             v      v
-            // |-----|-----|--*--|-----|-----
-            //                ^
-            //             offset
-            final int firstOffsetBeyondCurOriginalChunk = (chunkI + 1) * originalChunkSize;
-            if (offset < firstOffsetBeyondCurOriginalChunk) {
-                break;
-            }
-
-            curOriginalChunkPosition += originalChunkSize(chunkI);
-            curTransformedChunkPosition += transformedChunkSize(chunkI);
-        }
-
-        return new Chunk(
-            chunkI,
-            curOriginalChunkPosition,
-            originalChunkSize(chunkI),
-            curTransformedChunkPosition,
-            transformedChunkSize(chunkI)
-        );
+        return chunk(offset / originalChunkSize);
     }
 
     @Override
@@ -122,6 +106,14 @@ public abstract class AbstractChunkIndex implements ChunkIndex {
         return result;
     }
 
+    private Chunk chunk(final int chunkI) {
+        return new Chunk(
+            chunkI,
+            chunkI * originalChunkSize, originalChunkSize(chunkI),
+            transformedChunkPosition(chunkI), transformedChunkSize(chunkI)
+        );
+    }
+
     private int originalChunkSize(final int chunkI) {
         final boolean isFinalChunk = chunkI == chunkCount - 1;
         return isFinalChunk ? (originalFileSize - (chunkCount - 1) * originalChunkSize) : originalChunkSize;
@@ -129,6 +121,8 @@ public abstract class AbstractChunkIndex implements ChunkIndex {
 
     protected abstract int transformedChunkSize(final int chunkI);
 
+    protected abstract int transformedChunkPosition(final int chunkI);
+
     protected static void checkSizeNonNegative(final int size, final String name) {
         if (size < 0) {
             throw new IllegalArgumentException(
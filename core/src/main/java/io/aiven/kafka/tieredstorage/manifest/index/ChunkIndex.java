@@ -52,4 +52,9 @@ public interface ChunkIndex {
     List<Chunk> chunks();
 
     List<Chunk> chunksForRange(BytesRange bytesRange);
+
+    /**
+     * An estimate of the heap retained by the index, in bytes.
+     */
+    long estimatedSize();
 }
@@ -16,11 +16,8 @@
 
 package io.aiven.kafka.tieredstorage.manifest.index;
 
-import java.util.List;
 import java.util.Objects;
 
-import io.aiven.kafka.tieredstorage.Chunk;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -51,10 +48,6 @@ public class FixedSizeChunkIndex extends AbstractChunkIndex {
         return finalTransformedChunkSize;
     }
 
-    // This only a materialization for convenience and performance,
-    // it should not be persisted.
-    private final List<Chunk> chunks;
-
     @JsonCreator
     public FixedSizeChunkIndex(
         @JsonProperty(value = "originalChunkSize", required = true) final int originalChunkSize,
@@ -67,8 +60,6 @@ public class FixedSizeChunkIndex extends AbstractChunkIndex {
 
         checkSizeNonNegative(transformedChunkSize, "Transformed chunk size");
         this.transformedChunkSize = transformedChunkSize;
-
-        chunks = materializeChunks();
     }
 
     private static int chunkCount(final int originalChunkSize, final int originalFileSize) {
@@ -79,17 +70,23 @@ public class FixedSizeChunkIndex extends AbstractChunkIndex {
             : originalFileSize / originalChunkSize + 1;
     }
 
-    public List<Chunk> chunks() {
-        return chunks;
-    }
-
     @Override
-    // Override with care, this method is indirectly called from a constructor.
     protected final int transformedChunkSize(final int chunkI) {
         final boolean isFinalChunk = chunkI == chunkCount - 1;
         return isFinalChunk ? finalTransformedChunkSize : transformedChunkSize;
     }
 
+    @Override
+    protected final int transformedChunkPosition(final int chunkI) {
+        return chunkI * transformedChunkSize;
+    }
+
+    @Override
+    public long estimatedSize() {
+        // Chunks are computed from the sizes, nothing is stored per chunk.
+        return BASE_ESTIMATED_SIZE;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -16,10 +16,11 @@
 
 package io.aiven.kafka.tieredstorage.manifest.index;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-import io.aiven.kafka.tieredstorage.Chunk;
 import io.aiven.kafka.tieredstorage.manifest.index.serde.TransformedChunksDeserializer;
 import io.aiven.kafka.tieredstorage.manifest.index.serde.TransformedChunksSerializer;
 
@@ -47,16 +48,10 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
  * <p>Once constructed, the object remains immutable.
  */
 public class VariableSizeChunkIndex extends AbstractChunkIndex {
-    @JsonProperty("transformedChunks")
-    @JsonSerialize(using = TransformedChunksSerializer.class)
-    private final List<Integer> transformedChunks;
+    // Packed transformed chunk boundaries: chunk i spans [positions[i], positions[i + 1]).
+    // Much smaller than boxed sizes and materialized chunks, which matters for cached manifests.
+    private final int[] transformedChunkPositions;
 
-    // This only a materialization for convenience and performance,
-    // it should not be persisted.
-    private final List<Chunk> chunks;
-
-    // TODO consider storing and caching chunks encoded when they are fetched from remote storage
-    // This will have smaller memory footprint than boxed integers.
     @JsonCreator
     public VariableSizeChunkIndex(
         @JsonProperty(value = "originalChunkSize", required = true) final int originalChunkSize,
@@ -67,23 +62,39 @@ public class VariableSizeChunkIndex extends AbstractChunkIndex {
         super(originalChunkSize, originalFileSize,
             finalTransformedChunkSize(Objects.requireNonNull(transformedChunks, "transformedChunks cannot be null")),
             transformedChunks.size());
-        this.transformedChunks = transformedChunks;
-
-        chunks = materializeChunks();
+        this.transformedChunkPositions = new int[transformedChunks.size() + 1];
+        for (int chunkI = 0; chunkI < transformedChunks.size(); chunkI++) {
+            transformedChunkPositions[chunkI + 1] = transformedChunkPositions[chunkI] + transformedChunks.get(chunkI);
+        }
     }
 
     private static int finalTransformedChunkSize(final List<Integer> transformedChunks) {
         return transformedChunks.get(transformedChunks.size() - 1);
     }
 
-    public List<Chunk> chunks() {
-        return chunks;
+    @JsonProperty("transformedChunks")
+    @JsonSerialize(using = TransformedChunksSerializer.class)
+    private List<Integer> transformedChunks() {
+        final List<Integer> transformedChunks = new ArrayList<>(chunkCount);
+        for (int chunkI = 0; chunkI < chunkCount; chunkI++) {
+            transformedChunks.add(transformedChunkSize(chunkI));
+        }
+        return transformedChunks;
     }
 
     @Override
-    // Override with care, this method is indirectly called from a constructor.
     protected final int transformedChunkSize(final int chunkI) {
-        return transformedChunks.get(chunkI);
+        return transformedChunkPositions[chunkI + 1] - transformedChunkPositions[chunkI];
+    }
+
+    @Override
+    protected final int transformedChunkPosition(final int chunkI) {
+        return transformedChunkPositions[chunkI];
+    }
+
+    @Override
+    public long estimatedSize() {
+        return BASE_ESTIMATED_SIZE + ARRAY_HEADER_SIZE + (long) Integer.BYTES * transformedChunkPositions.length;
     }
 
     @Override
@@ -97,12 +108,14 @@ public class VariableSizeChunkIndex extends AbstractChunkIndex {
         final VariableSizeChunkIndex that = (VariableSizeChunkIndex) o;
         return originalChunkSize == that.originalChunkSize
             && originalFileSize == that.originalFileSize
-            && Objects.equals(transformedChunks, that.transformedChunks);
+            && Arrays.equals(transformedChunkPositions, that.transformedChunkPositions);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(originalChunkSize, originalFileSize, transformedChunks);
+        int result = Objects.hash(originalChunkSize, originalFileSize);
+        result = 31 * result + Arrays.hashCode(transformedChunkPositions);
+        return result;
     }
 
     @Override
@@ -110,7 +123,7 @@ public class VariableSizeChunkIndex extends AbstractChunkIndex {
         return "VariableSizeChunkIndex("
             + "originalChunkSize=" + originalChunkSize
             + ", originalFileSize=" + originalFileSize
-            + ", transformedChunks=" + transformedChunks
+            + ", transformedChunks=" + transformedChunks()
             + ")";
     }
 }
@@ -18,6 +18,7 @@ package io.aiven.kafka.tieredstorage.manifest.serde;
 
 import javax.crypto.SecretKey;
 
+import io.aiven.kafka.tieredstorage.security.DataKeyCache;
 import io.aiven.kafka.tieredstorage.security.RsaEncryptionProvider;
 
 import com.fasterxml.jackson.databind.Module;
@@ -25,12 +26,22 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 
 public final class EncryptionSerdeModule {
     public static Module create(final RsaEncryptionProvider rsaEncryptionProvider) {
+        return create(rsaEncryptionProvider, null);
+    }
+
+    /**
+     * @param dataKeyCache cache of decrypted data keys, or {@code null} to decrypt them every time.
+     */
+    public static Module create(final RsaEncryptionProvider rsaEncryptionProvider,
+                                final DataKeyCache dataKeyCache) {
         final var module = new SimpleModule();
 
         module.addSerializer(SecretKey.class,
             new DataKeySerializer(rsaEncryptionProvider::encryptDataKey));
         module.addDeserializer(SecretKey.class,
-            new DataKeyDeserializer(rsaEncryptionProvider::decryptDataKey));
+            new DataKeyDeserializer(dataKeyCache != null
+                ? dataKeyCache::decryptDataKey
+                : rsaEncryptionProvider::decryptDataKey));
 
         return module;
     }
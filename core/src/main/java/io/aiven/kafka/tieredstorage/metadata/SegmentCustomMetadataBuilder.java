@@ -24,20 +24,24 @@ import java.util.TreeMap;
 import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
 
 import io.aiven.kafka.tieredstorage.ObjectKeyFactory;
+import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
 
 public class SegmentCustomMetadataBuilder {
     final ObjectKeyFactory objectKeyFactory;
     final RemoteLogSegmentMetadata segmentMetadata;
+    final SegmentFormat segmentFormat;
     final EnumMap<ObjectKeyFactory.Suffix, Long> uploadResults;
 
     final Set<SegmentCustomMetadataField> fields;
 
     public SegmentCustomMetadataBuilder(final Set<SegmentCustomMetadataField> fields,
                                         final ObjectKeyFactory objectKeyFactory,
-                                        final RemoteLogSegmentMetadata segmentMetadata) {
+                                        final RemoteLogSegmentMetadata segmentMetadata,
+                                        final SegmentFormat segmentFormat) {
         this.fields = fields;
         this.objectKeyFactory = objectKeyFactory;
         this.segmentMetadata = segmentMetadata;
+        this.segmentFormat = segmentFormat;
         this.uploadResults = new EnumMap<>(ObjectKeyFactory.Suffix.class);
     }
 
@@ -57,10 +61,16 @@ public class SegmentCustomMetadataBuilder {
     /**
      * {@code NavigableMap} is required by {@link org.apache.kafka.common.protocol.types.TaggedFields},
      * therefore is enforced on this API.
+     *
+     * <p>The object shard is always included when sharding is enabled, as keys could not be resolved without it.
      */
     public NavigableMap<Integer, Object> build() {
         final TreeMap<Integer, Object> taggedFields = new TreeMap<>();
         fields.forEach(field -> taggedFields.put(field.index(), field.valueProvider.apply(this)));
+        if (objectKeyFactory.shardingEnabled()) {
+            final var shard = SegmentCustomMetadataField.OBJECT_SHARD;
+            taggedFields.put(shard.index(), shard.valueProvider.apply(this));
+        }
         return taggedFields;
     }
 }
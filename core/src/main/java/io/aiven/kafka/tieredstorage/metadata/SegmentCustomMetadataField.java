@@ -30,12 +30,16 @@ import io.aiven.kafka.tieredstorage.ObjectKeyFactory;
 public enum SegmentCustomMetadataField {
     REMOTE_SIZE(0, new Field("remote_size", Type.VARLONG), SegmentCustomMetadataBuilder::totalSize),
     OBJECT_PREFIX(1, new Field("object_prefix", Type.COMPACT_STRING), b -> b.objectKeyFactory.prefix()),
-    OBJECT_KEY(2, new Field("object_key", Type.COMPACT_STRING), b -> ObjectKeyFactory.mainPath(b.segmentMetadata));
+    OBJECT_KEY(2, new Field("object_key", Type.COMPACT_STRING), b -> ObjectKeyFactory.mainPath(b.segmentMetadata)),
+    SEGMENT_FORMAT(3, new Field("segment_format", Type.INT8), b -> b.segmentFormat.id()),
+    OBJECT_SHARD(4, new Field("object_shard", Type.COMPACT_STRING), b -> b.objectKeyFactory.shard(b.segmentMetadata));
 
     static final TaggedFieldsSection FIELDS_SECTION = TaggedFieldsSection.of(
         REMOTE_SIZE.index, REMOTE_SIZE.field,
         OBJECT_PREFIX.index, OBJECT_PREFIX.field,
-        OBJECT_KEY.index, OBJECT_KEY.field
+        OBJECT_KEY.index, OBJECT_KEY.field,
+        SEGMENT_FORMAT.index, SEGMENT_FORMAT.field,
+        OBJECT_SHARD.index, OBJECT_SHARD.field
     );
     public static final Schema CUSTOM_METADATA_SCHEMA = new Schema(FIELDS_SECTION);
     public static final String TAGGED_FIELD_NAME = FIELDS_SECTION.name;
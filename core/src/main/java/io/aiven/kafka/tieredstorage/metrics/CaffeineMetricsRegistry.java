@@ -27,6 +27,7 @@ public class CaffeineMetricsRegistry {
     static final String CACHE_HITS_TOTAL = CACHE_HITS + "-total";
     static final String CACHE_MISSES = "cache-misses";
     static final String CACHE_MISSES_TOTAL = CACHE_MISSES + "-total";
+    static final String CACHE_HIT_RATIO = "cache-hit-ratio";
     static final String CACHE_LOAD = "cache-load";
     static final String CACHE_LOAD_SUCCESS = CACHE_LOAD + "-success";
     static final String CACHE_LOAD_SUCCESS_TOTAL = CACHE_LOAD_SUCCESS + "-total";
@@ -49,6 +50,7 @@ public class CaffeineMetricsRegistry {
 
     final MetricNameTemplate cacheHitsMetricName;
     final MetricNameTemplate cacheMissesMetricName;
+    final MetricNameTemplate cacheHitRatioMetricName;
     final MetricNameTemplate cacheLoadSuccessMetricName;
     final MetricNameTemplate cacheLoadSuccessTimeMetricName;
     final MetricNameTemplate cacheLoadFailureMetricName;
@@ -71,6 +73,11 @@ public class CaffeineMetricsRegistry {
             groupName,
             "Cache misses"
         );
+        cacheHitRatioMetricName = new MetricNameTemplate(
+            CACHE_HIT_RATIO,
+            groupName,
+            "Ratio of cache hits to all requests"
+        );
         cacheLoadSuccessMetricName = new MetricNameTemplate(
             CACHE_LOAD_SUCCESS_TOTAL,
             groupName,
@@ -124,6 +131,7 @@ public class CaffeineMetricsRegistry {
         return List.of(
             cacheHitsMetricName,
             cacheMissesMetricName,
+            cacheHitRatioMetricName,
             cacheLoadSuccessMetricName,
             cacheLoadSuccessTimeMetricName,
             cacheLoadFailureMetricName,
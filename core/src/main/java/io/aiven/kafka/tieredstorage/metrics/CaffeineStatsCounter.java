@@ -37,6 +37,7 @@ import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_EVICTION;
 import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_EVICTION_WEIGHT;
 import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_HITS;
+import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_HIT_RATIO;
 import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_LOAD_FAILURE;
 import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_LOAD_FAILURE_TIME;
 import static io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry.CACHE_LOAD_SUCCESS;
@@ -102,6 +103,9 @@ public class CaffeineStatsCounter implements StatsCounter {
             CACHE_MISSES,
             cacheMissCount
         );
+        new SensorProvider(metrics, CACHE_HIT_RATIO)
+            .with(metricsRegistry.cacheHitRatioMetricName, new MeasurableValue(this::hitRatio))
+            .get();
         initSensor(
             metricsRegistry.cacheLoadSuccessMetricName,
             CACHE_LOAD_SUCCESS,
@@ -226,6 +230,12 @@ public class CaffeineStatsCounter implements StatsCounter {
             .get();
     }
 
+    private double hitRatio() {
+        final long hits = cacheHitCount.sum();
+        final long requests = hits + cacheMissCount.sum();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
     @Override
     public CacheStats snapshot() {
         return CacheStats.of(
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.metrics.stats.WindowedCount;
+import org.apache.kafka.common.utils.Time;
+
+import static io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetricsRegistry.BATCH;
+import static io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetricsRegistry.BATCH_ERRORS;
+import static io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetricsRegistry.DROPPED_KEYS;
+import static io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetricsRegistry.METRIC_CONTEXT;
+import static io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetricsRegistry.QUEUED_KEYS;
+
+public class DeleteCoalescingMetrics implements Closeable {
+    private final Metrics metrics;
+    private final DeleteCoalescingMetricsRegistry metricsRegistry = new DeleteCoalescingMetricsRegistry();
+
+    private final Sensor batch;
+    private final Sensor batchErrors;
+    private final Sensor droppedKeys;
+
+    public DeleteCoalescingMetrics(final Time time, final Supplier<Integer> queuedKeys) {
+        final JmxReporter reporter = new JmxReporter();
+        metrics = new Metrics(
+            new MetricConfig(), List.of(reporter), time,
+            new KafkaMetricsContext(METRIC_CONTEXT)
+        );
+
+        new SensorProvider(metrics, QUEUED_KEYS)
+            .with(metricsRegistry.queuedKeysMetricName, new MeasurableValue(queuedKeys))
+            .get();
+        batch = new SensorProvider(metrics, BATCH)
+            .with(metricsRegistry.batchRateMetricName, new Rate(new WindowedCount()))
+            .with(metricsRegistry.batchTotalMetricName, new CumulativeCount())
+            .with(metricsRegistry.batchSizeAvgMetricName, new Avg())
+            .with(metricsRegistry.batchSizeMaxMetricName, new Max())
+            .with(metricsRegistry.deletedKeysTotalMetricName, new CumulativeSum())
+            .get();
+        batchErrors = new SensorProvider(metrics, BATCH_ERRORS)
+            .with(metricsRegistry.batchErrorsTotalMetricName, new CumulativeCount())
+            .get();
+        droppedKeys = new SensorProvider(metrics, DROPPED_KEYS)
+            .with(metricsRegistry.droppedKeysTotalMetricName, new CumulativeSum())
+            .get();
+    }
+
+    public void recordBatch(final int keys) {
+        batch.record(keys);
+    }
+
+    public void recordBatchError() {
+        batchErrors.record();
+    }
+
+    public void recordDroppedKeys(final int keys) {
+        droppedKeys.record(keys);
+    }
+
+    @Override
+    public void close() {
+        metrics.close();
+    }
+}
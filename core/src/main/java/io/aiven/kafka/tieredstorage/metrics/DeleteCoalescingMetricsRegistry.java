@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+
+import org.apache.kafka.common.MetricNameTemplate;
+
+public class DeleteCoalescingMetricsRegistry {
+    public static final String METRIC_CONTEXT = "aiven.kafka.server.tieredstorage";
+    public static final String METRIC_GROUP = "delete-coalescing-metrics";
+
+    static final String QUEUED_KEYS = "queued-keys";
+    static final String QUEUED_KEYS_DOC = "Object keys waiting to be deleted";
+    static final String BATCH = "batch";
+    static final String BATCH_RATE = BATCH + "-rate";
+    static final String BATCH_RATE_DOC = "Rate of delete requests sent to the storage backend";
+    static final String BATCH_TOTAL = BATCH + "-total";
+    static final String BATCH_TOTAL_DOC = "Number of delete requests sent to the storage backend";
+    static final String BATCH_SIZE_AVG = BATCH + "-size-avg";
+    static final String BATCH_SIZE_AVG_DOC = "Average number of keys per delete request";
+    static final String BATCH_SIZE_MAX = BATCH + "-size-max";
+    static final String BATCH_SIZE_MAX_DOC = "Maximum number of keys per delete request";
+    static final String DELETED_KEYS_TOTAL = "deleted-keys-total";
+    static final String DELETED_KEYS_TOTAL_DOC = "Number of object keys deleted";
+    static final String BATCH_ERRORS = BATCH + "-errors";
+    static final String BATCH_ERRORS_TOTAL = BATCH_ERRORS + "-total";
+    static final String BATCH_ERRORS_TOTAL_DOC = "Number of failed delete requests, whose keys are retried";
+    static final String DROPPED_KEYS = "dropped-keys";
+    static final String DROPPED_KEYS_TOTAL = DROPPED_KEYS + "-total";
+    static final String DROPPED_KEYS_TOTAL_DOC = "Number of object keys given up on after repeated delete failures";
+
+    final MetricNameTemplate queuedKeysMetricName;
+    final MetricNameTemplate batchRateMetricName;
+    final MetricNameTemplate batchTotalMetricName;
+    final MetricNameTemplate batchSizeAvgMetricName;
+    final MetricNameTemplate batchSizeMaxMetricName;
+    final MetricNameTemplate deletedKeysTotalMetricName;
+    final MetricNameTemplate batchErrorsTotalMetricName;
+    final MetricNameTemplate droppedKeysTotalMetricName;
+
+    public DeleteCoalescingMetricsRegistry() {
+        queuedKeysMetricName = new MetricNameTemplate(
+            QUEUED_KEYS,
+            METRIC_GROUP,
+            QUEUED_KEYS_DOC
+        );
+        batchRateMetricName = new MetricNameTemplate(
+            BATCH_RATE,
+            METRIC_GROUP,
+            BATCH_RATE_DOC
+        );
+        batchTotalMetricName = new MetricNameTemplate(
+            BATCH_TOTAL,
+            METRIC_GROUP,
+            BATCH_TOTAL_DOC
+        );
+        batchSizeAvgMetricName = new MetricNameTemplate(
+            BATCH_SIZE_AVG,
+            METRIC_GROUP,
+            BATCH_SIZE_AVG_DOC
+        );
+        batchSizeMaxMetricName = new MetricNameTemplate(
+            BATCH_SIZE_MAX,
+            METRIC_GROUP,
+            BATCH_SIZE_MAX_DOC
+        );
+        deletedKeysTotalMetricName = new MetricNameTemplate(
+            DELETED_KEYS_TOTAL,
+            METRIC_GROUP,
+            DELETED_KEYS_TOTAL_DOC
+        );
+        batchErrorsTotalMetricName = new MetricNameTemplate(
+            BATCH_ERRORS_TOTAL,
+            METRIC_GROUP,
+            BATCH_ERRORS_TOTAL_DOC
+        );
+        droppedKeysTotalMetricName = new MetricNameTemplate(
+            DROPPED_KEYS_TOTAL,
+            METRIC_GROUP,
+            DROPPED_KEYS_TOTAL_DOC
+        );
+    }
+
+    public List<MetricNameTemplate> all() {
+        return List.of(
+            queuedKeysMetricName,
+            batchRateMetricName,
+            batchTotalMetricName,
+            batchSizeAvgMetricName,
+            batchSizeMaxMetricName,
+            deletedKeysTotalMetricName,
+            batchErrorsTotalMetricName,
+            droppedKeysTotalMetricName
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+/**
+ * Holds the recorder of the fetch running on the current thread.
+ *
+ * <p>Chunks are fetched through components shared by all partitions, so the recorder of the partition being fetched
+ * travels with the thread instead of through their APIs.
+ * Work handed over to another thread has to bind the recorder again.
+ */
+public final class FetchStageContext {
+    private static final ThreadLocal<FetchStageRecorder> CURRENT =
+        ThreadLocal.withInitial(() -> FetchStageRecorder.NOOP);
+
+    private FetchStageContext() {
+    }
+
+    /**
+     * @return the recorder bound to the current thread, or {@link FetchStageRecorder#NOOP} if none is.
+     */
+    public static FetchStageRecorder current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the recorder to the current thread until the returned scope is closed,
+     * then restores the previously bound one.
+     */
+    public static Scope bind(final FetchStageRecorder recorder) {
+        final FetchStageRecorder previous = CURRENT.get();
+        CURRENT.set(recorder);
+        return () -> CURRENT.set(previous);
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -23,19 +23,19 @@ import org.apache.kafka.common.metrics.Sensor;
 import org.apache.kafka.common.metrics.stats.Value;
 
 /**
- * Implementation of {@link Value} that allows fetching a value from provided {@code Long} {@link Supplier}
+ * Implementation of {@link Value} that allows fetching a value from provided numeric {@link Supplier}
  * to avoid unnecessary calls to {@link Sensor#record()} that under the hood has a synchronized block and affects
  * performance because of that.
  */
 class MeasurableValue extends Value {
-    private final Supplier<Long> value;
+    private final Supplier<? extends Number> value;
 
-    MeasurableValue(final Supplier<Long> value) {
+    MeasurableValue(final Supplier<? extends Number> value) {
         this.value = value;
     }
 
     @Override
     public double measure(final MetricConfig config, final long now) {
-        return value.get();
+        return value.get().doubleValue();
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.MetricNameTemplate;
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.BUDGET_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.CACHE_TAG;
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.CAPACITY_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.METRIC_CONTEXT;
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.REBALANCE;
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.REBALANCED_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry.USED_BYTES;
+
+public class MemoryBudgetMetrics {
+    private final Metrics metrics;
+    private final MemoryBudgetMetricsRegistry metricsRegistry = new MemoryBudgetMetricsRegistry();
+
+    private final LongAdder rebalances = new LongAdder();
+    private final LongAdder rebalancedBytes = new LongAdder();
+
+    public MemoryBudgetMetrics(final Time time, final long budget, final Supplier<Long> usedBytes) {
+        final JmxReporter reporter = new JmxReporter();
+        metrics = new Metrics(
+            new MetricConfig(), List.of(reporter), time,
+            new KafkaMetricsContext(METRIC_CONTEXT)
+        );
+
+        registerSensor(metricsRegistry.budgetBytesMetricName, BUDGET_BYTES, Map.of(), () -> budget);
+        registerSensor(metricsRegistry.usedBytesMetricName, USED_BYTES, Map.of(), usedBytes);
+        registerSensor(metricsRegistry.rebalanceTotalMetricName, REBALANCE, Map.of(), rebalances::sum);
+        registerSensor(metricsRegistry.rebalancedBytesTotalMetricName, REBALANCED_BYTES, Map.of(),
+            rebalancedBytes::sum);
+    }
+
+    public void registerCache(final String cacheName,
+                              final Supplier<Long> capacityBytes,
+                              final Supplier<Long> usedBytes) {
+        final Map<String, String> tags = Map.of(CACHE_TAG, cacheName);
+        registerSensor(metricsRegistry.capacityBytesMetricName,
+            CACHE_TAG + "." + cacheName + "." + CAPACITY_BYTES, tags, capacityBytes);
+        registerSensor(metricsRegistry.cacheUsedBytesMetricName,
+            CACHE_TAG + "." + cacheName + "." + USED_BYTES, tags, usedBytes);
+    }
+
+    public void recordRebalance(final long bytes) {
+        rebalances.increment();
+        rebalancedBytes.add(bytes);
+    }
+
+    private void registerSensor(final MetricNameTemplate metricName,
+                                final String sensorName,
+                                final Map<String, String> tags,
+                                final Supplier<Long> supplier) {
+        new SensorProvider(metrics, sensorName, () -> tags)
+            .with(metricName, new MeasurableValue(supplier))
+            .get();
+    }
+}
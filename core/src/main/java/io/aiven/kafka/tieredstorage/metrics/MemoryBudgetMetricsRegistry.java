@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+
+import org.apache.kafka.common.MetricNameTemplate;
+
+public class MemoryBudgetMetricsRegistry {
+    public static final String METRIC_CONTEXT = "aiven.kafka.server.tieredstorage.cache";
+    public static final String METRIC_GROUP = "memory-budget-metrics";
+    static final String CACHE_TAG = "cache";
+
+    static final String BUDGET_BYTES = "budget-bytes";
+    static final String BUDGET_BYTES_DOC = "Memory budget shared by the caches in bytes";
+    static final String USED_BYTES = "used-bytes";
+    static final String USED_BYTES_DOC = "Estimated memory used by all the caches sharing the budget in bytes";
+    static final String CACHE_USED_BYTES_DOC = "Estimated memory used by the cache in bytes tagged by cache";
+    static final String CAPACITY_BYTES = "capacity-bytes";
+    static final String CAPACITY_BYTES_DOC = "Share of the memory budget assigned to the cache in bytes "
+        + "tagged by cache";
+    static final String REBALANCE = "rebalance";
+    static final String REBALANCE_TOTAL = REBALANCE + "-total";
+    static final String REBALANCE_TOTAL_DOC = "Number of times capacity has been moved from a cache to another";
+    static final String REBALANCED_BYTES = "rebalanced-bytes";
+    static final String REBALANCED_BYTES_TOTAL = REBALANCED_BYTES + "-total";
+    static final String REBALANCED_BYTES_TOTAL_DOC = "Capacity moved from a cache to another in bytes";
+
+    final MetricNameTemplate budgetBytesMetricName;
+    final MetricNameTemplate usedBytesMetricName;
+    final MetricNameTemplate cacheUsedBytesMetricName;
+    final MetricNameTemplate capacityBytesMetricName;
+    final MetricNameTemplate rebalanceTotalMetricName;
+    final MetricNameTemplate rebalancedBytesTotalMetricName;
+
+    public MemoryBudgetMetricsRegistry() {
+        budgetBytesMetricName = new MetricNameTemplate(
+            BUDGET_BYTES,
+            METRIC_GROUP,
+            BUDGET_BYTES_DOC
+        );
+        usedBytesMetricName = new MetricNameTemplate(
+            USED_BYTES,
+            METRIC_GROUP,
+            USED_BYTES_DOC
+        );
+        cacheUsedBytesMetricName = new MetricNameTemplate(
+            USED_BYTES,
+            METRIC_GROUP,
+            CACHE_USED_BYTES_DOC,
+            CACHE_TAG
+        );
+        capacityBytesMetricName = new MetricNameTemplate(
+            CAPACITY_BYTES,
+            METRIC_GROUP,
+            CAPACITY_BYTES_DOC,
+            CACHE_TAG
+        );
+        rebalanceTotalMetricName = new MetricNameTemplate(
+            REBALANCE_TOTAL,
+            METRIC_GROUP,
+            REBALANCE_TOTAL_DOC
+        );
+        rebalancedBytesTotalMetricName = new MetricNameTemplate(
+            REBALANCED_BYTES_TOTAL,
+            METRIC_GROUP,
+            REBALANCED_BYTES_TOTAL_DOC
+        );
+    }
+
+    public List<MetricNameTemplate> all() {
+        return List.of(
+            budgetBytesMetricName,
+            usedBytesMetricName,
+            cacheUsedBytesMetricName,
+            capacityBytesMetricName,
+            rebalanceTotalMetricName,
+            rebalancedBytesTotalMetricName
+        );
+    }
+}
@@ -16,7 +16,13 @@
 
 package io.aiven.kafka.tieredstorage.metrics;
 
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.metrics.JmxReporter;
@@ -32,9 +38,12 @@ import org.apache.kafka.common.utils.Time;
 
 import io.aiven.kafka.tieredstorage.ObjectKeyFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.FETCH_STAGE_TIME;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.METRIC_CONTEXT;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.OBJECT_UPLOAD;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.OBJECT_UPLOAD_BYTES;
@@ -44,25 +53,56 @@ import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.SEGMENT_DELET
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.SEGMENT_DELETE_ERRORS;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.SEGMENT_DELETE_TIME;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.SEGMENT_FETCH_REQUESTED_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.UPLOAD_STAGE_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.UPLOAD_STAGE_TIME;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.objectTypeTags;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorName;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByObjectType;
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByStage;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByTopic;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByTopicAndObjectType;
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByTopicAndStage;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByTopicPartition;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.sensorNameByTopicPartitionAndObjectType;
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.stageTags;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.topicAndObjectTypeTags;
+import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.topicAndStageTags;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.topicPartitionAndObjectTypeTags;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.topicPartitionTags;
 import static io.aiven.kafka.tieredstorage.metrics.MetricsRegistry.topicTags;
 
+/**
+ * Records the remote storage manager metrics.
+ *
+ * <p>Sensors are resolved once per partition and kept in {@link PartitionSensors},
+ * so recording does not build sensor names and look them up on every call.
+ * Handles of partitions not recorded for a while are dropped; the sensors themselves stay registered.
+ */
 public class Metrics {
     private static final Logger log = LoggerFactory.getLogger(Metrics.class);
+    static final Duration PARTITION_SENSORS_IDLE_TIMEOUT = Duration.ofHours(1);
+    // 250 buckets, whose width grows linearly from 0.3 ms: about 8 ms wide around 100 ms and 80 ms around 10 s.
+    // Stages above 10 s are counted in the last bucket.
+    // Each bucket takes 4 bytes per sample, so about 2 KB per stage with the default 2 samples.
+    static final int FETCH_STAGE_HISTOGRAM_SIZE_IN_BYTES = 1000;
+    static final double FETCH_STAGE_HISTOGRAM_MAX_MS = 10_000;
+    // 250 buckets, whose width grows linearly from 2 ms: about 60 ms wide around 1 s,
+    // as whole objects are uploaded in a single stage
+    static final int UPLOAD_STAGE_HISTOGRAM_SIZE_IN_BYTES = 1000;
+    static final double UPLOAD_STAGE_HISTOGRAM_MAX_MS = 60_000;
+    private static final String FETCH_STAGE_TIME_PERCENTILES = FETCH_STAGE_TIME + "-percentiles";
+    private static final String UPLOAD_STAGE_TIME_PERCENTILES = UPLOAD_STAGE_TIME + "-percentiles";
 
     private final org.apache.kafka.common.metrics.Metrics metrics;
 
     private final MetricsRegistry metricsRegistry;
 
+    private final Cache<TopicPartition, PartitionSensors> sensorsByPartition = Caffeine.newBuilder()
+        .expireAfterAccess(PARTITION_SENSORS_IDLE_TIMEOUT)
+        .build();
+    // kept as a field, so looking up existing partition sensors does not allocate a new function
+    private final Function<TopicPartition, PartitionSensors> partitionSensorsFactory = PartitionSensors::new;
+
     public Metrics(final Time time, final MetricConfig metricConfig) {
         final JmxReporter reporter = new JmxReporter();
 
@@ -77,225 +117,52 @@ public class Metrics {
     }
 
     public void recordSegmentCopyTime(final TopicPartition topicPartition, final long startMs, final long endMs) {
-        final var time = endMs - startMs;
-        new SensorProvider(metrics, sensorName(SEGMENT_COPY_TIME))
-            .with(metricsRegistry.segmentCopyTimeAvg, new Avg())
-            .with(metricsRegistry.segmentCopyTimeMax, new Max())
-            .get()
-            .record(time);
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_COPY_TIME),
-            () -> topicTags(topicPartition))
-            .with(metricsRegistry.segmentCopyTimeAvgByTopic, new Avg())
-            .with(metricsRegistry.segmentCopyTimeMaxByTopic, new Max())
-            .get()
-            .record(time);
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_COPY_TIME),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.segmentCopyTimeAvgByTopicPartition, new Avg())
-            .with(metricsRegistry.segmentCopyTimeMaxByTopicPartition, new Max())
-            .get()
-            .record(time);
+        sensors(topicPartition).segmentCopyTime.record(endMs - startMs);
     }
 
     public void recordSegmentDelete(final TopicPartition topicPartition, final long bytes) {
-        recordSegmentDeleteRequests(topicPartition);
-        recordSegmentDeleteBytes(topicPartition, bytes);
-    }
-
-    private void recordSegmentDeleteBytes(final TopicPartition topicPartition, final long bytes) {
-        new SensorProvider(metrics, sensorName(SEGMENT_DELETE_BYTES))
-            .with(metricsRegistry.segmentDeleteBytesRate, new Rate())
-            .with(metricsRegistry.segmentDeleteBytesTotal, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(
-            metrics,
-            sensorNameByTopic(topicPartition, SEGMENT_DELETE_BYTES),
-            () -> MetricsRegistry.topicTags(topicPartition))
-            .with(metricsRegistry.segmentDeleteBytesRateByTopic, new Rate())
-            .with(metricsRegistry.segmentDeleteBytesTotalByTopic, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(
-            metrics,
-            sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE_BYTES),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.segmentDeleteBytesRateByTopicPartition, new Rate())
-            .with(metricsRegistry.segmentDeleteBytesTotalByTopicPartition, new CumulativeSum())
-            .get()
-            .record(bytes);
-    }
-
-    private void recordSegmentDeleteRequests(final TopicPartition topicPartition) {
-        new SensorProvider(metrics, sensorName(SEGMENT_DELETE))
-            .with(metricsRegistry.segmentDeleteRequestsRate, new Rate())
-            .with(metricsRegistry.segmentDeleteRequestsTotal, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE),
-            () -> MetricsRegistry.topicTags(topicPartition))
-            .with(metricsRegistry.segmentDeleteRequestsRateByTopic, new Rate())
-            .with(metricsRegistry.segmentDeleteRequestsTotalByTopic, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.segmentDeleteRequestsRateByTopicPartition, new Rate())
-            .with(metricsRegistry.segmentDeleteRequestsTotalByTopicPartition, new CumulativeCount())
-            .get()
-            .record();
+        final PartitionSensors sensors = sensors(topicPartition);
+        sensors.segmentDeleteRequests.record();
+        sensors.segmentDeleteBytes.record(bytes);
     }
 
     public void recordSegmentDeleteTime(final TopicPartition topicPartition, final long startMs, final long endMs) {
-        final var time = endMs - startMs;
-        new SensorProvider(metrics, sensorName(SEGMENT_DELETE_TIME))
-            .with(metricsRegistry.segmentDeleteTimeAvg, new Avg())
-            .with(metricsRegistry.segmentDeleteTimeMax, new Max())
-            .get()
-            .record(time);
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE_TIME),
-            () -> topicTags(topicPartition))
-            .with(metricsRegistry.segmentDeleteTimeAvgByTopic, new Avg())
-            .with(metricsRegistry.segmentDeleteTimeMaxByTopic, new Max())
-            .get()
-            .record(time);
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE_TIME),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.segmentDeleteTimeAvgByTopicPartition, new Avg())
-            .with(metricsRegistry.segmentDeleteTimeMaxByTopicPartition, new Max())
-            .get()
-            .record(time);
+        sensors(topicPartition).segmentDeleteTime.record(endMs - startMs);
     }
 
     public void recordSegmentDeleteError(final TopicPartition topicPartition) {
-        new SensorProvider(metrics, sensorName(SEGMENT_DELETE_ERRORS))
-            .with(metricsRegistry.segmentDeleteErrorsRate, new Rate())
-            .with(metricsRegistry.segmentDeleteErrorsTotal, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE_ERRORS),
-            () -> topicTags(topicPartition))
-            .with(metricsRegistry.segmentDeleteErrorsRateByTopic, new Rate())
-            .with(metricsRegistry.segmentDeleteErrorsTotalByTopic, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE_ERRORS),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.segmentDeleteErrorsRateByTopicPartition, new Rate())
-            .with(metricsRegistry.segmentDeleteErrorsTotalByTopicPartition, new CumulativeCount())
-            .get()
-            .record();
+        sensors(topicPartition).segmentDeleteErrors.record();
     }
 
     public void recordSegmentFetch(final TopicPartition topicPartition, final long bytes) {
-        recordSegmentFetchRequestedBytes(topicPartition, bytes);
-    }
-
-    private void recordSegmentFetchRequestedBytes(final TopicPartition topicPartition, final long bytes) {
-        new SensorProvider(metrics, sensorName(SEGMENT_FETCH_REQUESTED_BYTES))
-            .with(metricsRegistry.segmentFetchRequestedBytesRate, new Rate())
-            .with(metricsRegistry.segmentFetchRequestedBytesTotal, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_FETCH_REQUESTED_BYTES),
-            () -> topicTags(topicPartition))
-            .with(metricsRegistry.segmentFetchRequestedBytesRateByTopic, new Rate())
-            .with(metricsRegistry.segmentFetchRequestedBytesTotalByTopic, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_FETCH_REQUESTED_BYTES),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.segmentFetchRequestedBytesRateByTopicPartition, new Rate())
-            .with(metricsRegistry.segmentFetchRequestedBytesTotalByTopicPartition, new CumulativeSum())
-            .get()
-            .record(bytes);
+        sensors(topicPartition).segmentFetchRequestedBytes.record(bytes);
     }
 
     public void recordObjectUpload(final TopicPartition topicPartition, final ObjectKeyFactory.Suffix suffix,
                                    final long bytes) {
-        recordObjectUploadRequests(topicPartition, suffix);
-        recordObjectUploadBytes(topicPartition, suffix, bytes);
+        final PartitionSensors sensors = sensors(topicPartition);
+        sensors.objectUploadRequests.record();
+        sensors.objectUploadRequestsByObjectType.get(suffix).record();
+        sensors.objectUploadBytes.record(bytes);
+        sensors.objectUploadBytesByObjectType.get(suffix).record(bytes);
     }
 
-    private void recordObjectUploadBytes(final TopicPartition topicPartition,
-                                         final ObjectKeyFactory.Suffix suffix,
-                                         final long bytes) {
-        new SensorProvider(metrics, sensorName(OBJECT_UPLOAD_BYTES))
-            .with(metricsRegistry.objectUploadBytesRate, new Rate())
-            .with(metricsRegistry.objectUploadBytesTotal, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, OBJECT_UPLOAD_BYTES),
-            () -> topicTags(topicPartition))
-            .with(metricsRegistry.objectUploadBytesRateByTopic, new Rate())
-            .with(metricsRegistry.objectUploadBytesTotalByTopic, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, OBJECT_UPLOAD_BYTES),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadBytesRateByTopicPartition, new Rate())
-            .with(metricsRegistry.objectUploadBytesTotalByTopicPartition, new CumulativeSum())
-            .get()
-            .record(bytes);
-        // with suffix
-        new SensorProvider(metrics, sensorNameByObjectType(suffix, OBJECT_UPLOAD_BYTES),
-            () -> objectTypeTags(suffix), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadBytesRateByObjectType, new Rate())
-            .with(metricsRegistry.objectUploadBytesTotalByObjectType, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(metrics, sensorNameByTopicAndObjectType(topicPartition, suffix, OBJECT_UPLOAD_BYTES),
-            () -> topicAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadBytesRateByTopicAndObjectType, new Rate())
-            .with(metricsRegistry.objectUploadBytesTotalByTopicAndObjectType, new CumulativeSum())
-            .get()
-            .record(bytes);
-        new SensorProvider(metrics,
-            sensorNameByTopicPartitionAndObjectType(topicPartition, suffix, OBJECT_UPLOAD_BYTES),
-            () -> topicPartitionAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadBytesRateByTopicPartitionAndObjectType, new Rate())
-            .with(metricsRegistry.objectUploadBytesTotalByTopicPartitionAndObjectType, new CumulativeSum())
-            .get()
-            .record(bytes);
+    /**
+     * @return the recorder of the fetch stage times of the partition, to be bound with {@link FetchStageContext}.
+     */
+    public FetchStageRecorder fetchStageRecorder(final TopicPartition topicPartition) {
+        return sensors(topicPartition).fetchStageRecorder;
     }
 
-    private void recordObjectUploadRequests(final TopicPartition topicPartition, final ObjectKeyFactory.Suffix suffix) {
-        new SensorProvider(metrics, sensorName(OBJECT_UPLOAD))
-            .with(metricsRegistry.objectUploadRequestsRate, new Rate())
-            .with(metricsRegistry.objectUploadRequestsTotal, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopic(topicPartition, OBJECT_UPLOAD),
-            () -> topicTags(topicPartition))
-            .with(metricsRegistry.objectUploadRequestsRateByTopic, new Rate())
-            .with(metricsRegistry.objectUploadRequestsTotalByTopic, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, OBJECT_UPLOAD),
-            () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadRequestsRateByTopicPartition, new Rate())
-            .with(metricsRegistry.objectUploadRequestsTotalByTopicPartition, new CumulativeCount())
-            .get()
-            .record();
-        // With suffix
-        new SensorProvider(metrics, sensorNameByObjectType(suffix, OBJECT_UPLOAD),
-            () -> objectTypeTags(suffix), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadRequestsRateByObjectType, new Rate())
-            .with(metricsRegistry.objectUploadRequestsTotalByObjectType, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopicAndObjectType(topicPartition, suffix, OBJECT_UPLOAD),
-            () -> topicAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadRequestsRateByTopicAndObjectType, new Rate())
-            .with(metricsRegistry.objectUploadRequestsTotalByTopicAndObjectType, new CumulativeCount())
-            .get()
-            .record();
-        new SensorProvider(metrics, sensorNameByTopicPartitionAndObjectType(topicPartition, suffix, OBJECT_UPLOAD),
-            () -> topicPartitionAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
-            .with(metricsRegistry.objectUploadRequestsRateByTopicPartitionAndObjectType, new Rate())
-            .with(metricsRegistry.objectUploadRequestsTotalByTopicPartitionAndObjectType, new CumulativeCount())
-            .get()
-            .record();
+    /**
+     * @return the recorder of the upload stage times and processed bytes of the partition.
+     */
+    public UploadStageRecorder uploadStageRecorder(final TopicPartition topicPartition) {
+        return sensors(topicPartition).uploadStageRecorder;
+    }
+
+    private PartitionSensors sensors(final TopicPartition topicPartition) {
+        return sensorsByPartition.get(topicPartition, partitionSensorsFactory);
     }
 
     public void close() {
@@ -305,4 +172,329 @@ public class Metrics {
             log.warn("Error while closing metrics", e);
         }
     }
+
+    /**
+     * Sensors a partition records into: the global ones, the ones of its topic and its own.
+     */
+    private final class PartitionSensors {
+        private final SensorGroup segmentCopyTime;
+        private final SensorGroup segmentDeleteBytes;
+        private final SensorGroup segmentDeleteRequests;
+        private final SensorGroup segmentDeleteTime;
+        private final SensorGroup segmentDeleteErrors;
+        private final SensorGroup segmentFetchRequestedBytes;
+        private final SensorGroup objectUploadBytes;
+        private final SensorGroup objectUploadRequests;
+        private final EnumMap<ObjectKeyFactory.Suffix, SensorGroup> objectUploadBytesByObjectType =
+            new EnumMap<>(ObjectKeyFactory.Suffix.class);
+        private final EnumMap<ObjectKeyFactory.Suffix, SensorGroup> objectUploadRequestsByObjectType =
+            new EnumMap<>(ObjectKeyFactory.Suffix.class);
+        private final EnumMap<FetchStage, SensorGroup> fetchStageTime = new EnumMap<>(FetchStage.class);
+        private final FetchStageRecorder fetchStageRecorder =
+            (stage, durationNanos) -> fetchStageTime.get(stage).record(durationNanos / 1_000_000.0);
+        private final EnumMap<UploadStage, SensorGroup> uploadStageTime = new EnumMap<>(UploadStage.class);
+        private final EnumMap<UploadStage, SensorGroup> uploadStageBytes = new EnumMap<>(UploadStage.class);
+        private final UploadStageRecorder uploadStageRecorder = this::recordUploadStage;
+
+        private PartitionSensors(final TopicPartition topicPartition) {
+            segmentCopyTime = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(SEGMENT_COPY_TIME))
+                    .with(metricsRegistry.segmentCopyTimeAvg, new Avg())
+                    .with(metricsRegistry.segmentCopyTimeMax, new Max())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_COPY_TIME),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.segmentCopyTimeAvgByTopic, new Avg())
+                    .with(metricsRegistry.segmentCopyTimeMaxByTopic, new Max())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_COPY_TIME),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.segmentCopyTimeAvgByTopicPartition, new Avg())
+                    .with(metricsRegistry.segmentCopyTimeMaxByTopicPartition, new Max())
+                    .get()
+            );
+
+            segmentDeleteBytes = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(SEGMENT_DELETE_BYTES))
+                    .with(metricsRegistry.segmentDeleteBytesRate, new Rate())
+                    .with(metricsRegistry.segmentDeleteBytesTotal, new CumulativeSum())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE_BYTES),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.segmentDeleteBytesRateByTopic, new Rate())
+                    .with(metricsRegistry.segmentDeleteBytesTotalByTopic, new CumulativeSum())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE_BYTES),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.segmentDeleteBytesRateByTopicPartition, new Rate())
+                    .with(metricsRegistry.segmentDeleteBytesTotalByTopicPartition, new CumulativeSum())
+                    .get()
+            );
+
+            segmentDeleteRequests = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(SEGMENT_DELETE))
+                    .with(metricsRegistry.segmentDeleteRequestsRate, new Rate())
+                    .with(metricsRegistry.segmentDeleteRequestsTotal, new CumulativeCount())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.segmentDeleteRequestsRateByTopic, new Rate())
+                    .with(metricsRegistry.segmentDeleteRequestsTotalByTopic, new CumulativeCount())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.segmentDeleteRequestsRateByTopicPartition, new Rate())
+                    .with(metricsRegistry.segmentDeleteRequestsTotalByTopicPartition, new CumulativeCount())
+                    .get()
+            );
+
+            segmentDeleteTime = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(SEGMENT_DELETE_TIME))
+                    .with(metricsRegistry.segmentDeleteTimeAvg, new Avg())
+                    .with(metricsRegistry.segmentDeleteTimeMax, new Max())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE_TIME),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.segmentDeleteTimeAvgByTopic, new Avg())
+                    .with(metricsRegistry.segmentDeleteTimeMaxByTopic, new Max())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE_TIME),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.segmentDeleteTimeAvgByTopicPartition, new Avg())
+                    .with(metricsRegistry.segmentDeleteTimeMaxByTopicPartition, new Max())
+                    .get()
+            );
+
+            segmentDeleteErrors = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(SEGMENT_DELETE_ERRORS))
+                    .with(metricsRegistry.segmentDeleteErrorsRate, new Rate())
+                    .with(metricsRegistry.segmentDeleteErrorsTotal, new CumulativeCount())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_DELETE_ERRORS),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.segmentDeleteErrorsRateByTopic, new Rate())
+                    .with(metricsRegistry.segmentDeleteErrorsTotalByTopic, new CumulativeCount())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, SEGMENT_DELETE_ERRORS),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.segmentDeleteErrorsRateByTopicPartition, new Rate())
+                    .with(metricsRegistry.segmentDeleteErrorsTotalByTopicPartition, new CumulativeCount())
+                    .get()
+            );
+
+            segmentFetchRequestedBytes = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(SEGMENT_FETCH_REQUESTED_BYTES))
+                    .with(metricsRegistry.segmentFetchRequestedBytesRate, new Rate())
+                    .with(metricsRegistry.segmentFetchRequestedBytesTotal, new CumulativeSum())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, SEGMENT_FETCH_REQUESTED_BYTES),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.segmentFetchRequestedBytesRateByTopic, new Rate())
+                    .with(metricsRegistry.segmentFetchRequestedBytesTotalByTopic, new CumulativeSum())
+                    .get(),
+                () -> new SensorProvider(metrics,
+                    sensorNameByTopicPartition(topicPartition, SEGMENT_FETCH_REQUESTED_BYTES),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.segmentFetchRequestedBytesRateByTopicPartition, new Rate())
+                    .with(metricsRegistry.segmentFetchRequestedBytesTotalByTopicPartition, new CumulativeSum())
+                    .get()
+            );
+
+            objectUploadBytes = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(OBJECT_UPLOAD_BYTES))
+                    .with(metricsRegistry.objectUploadBytesRate, new Rate())
+                    .with(metricsRegistry.objectUploadBytesTotal, new CumulativeSum())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, OBJECT_UPLOAD_BYTES),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.objectUploadBytesRateByTopic, new Rate())
+                    .with(metricsRegistry.objectUploadBytesTotalByTopic, new CumulativeSum())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, OBJECT_UPLOAD_BYTES),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.objectUploadBytesRateByTopicPartition, new Rate())
+                    .with(metricsRegistry.objectUploadBytesTotalByTopicPartition, new CumulativeSum())
+                    .get()
+            );
+
+            objectUploadRequests = new SensorGroup(
+                () -> new SensorProvider(metrics, sensorName(OBJECT_UPLOAD))
+                    .with(metricsRegistry.objectUploadRequestsRate, new Rate())
+                    .with(metricsRegistry.objectUploadRequestsTotal, new CumulativeCount())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopic(topicPartition, OBJECT_UPLOAD),
+                    () -> topicTags(topicPartition))
+                    .with(metricsRegistry.objectUploadRequestsRateByTopic, new Rate())
+                    .with(metricsRegistry.objectUploadRequestsTotalByTopic, new CumulativeCount())
+                    .get(),
+                () -> new SensorProvider(metrics, sensorNameByTopicPartition(topicPartition, OBJECT_UPLOAD),
+                    () -> topicPartitionTags(topicPartition), Sensor.RecordingLevel.DEBUG)
+                    .with(metricsRegistry.objectUploadRequestsRateByTopicPartition, new Rate())
+                    .with(metricsRegistry.objectUploadRequestsTotalByTopicPartition, new CumulativeCount())
+                    .get()
+            );
+
+            for (final ObjectKeyFactory.Suffix suffix : ObjectKeyFactory.Suffix.values()) {
+                objectUploadBytesByObjectType.put(suffix, new SensorGroup(
+                    () -> new SensorProvider(metrics, sensorNameByObjectType(suffix, OBJECT_UPLOAD_BYTES),
+                        () -> objectTypeTags(suffix), Sensor.RecordingLevel.DEBUG)
+                        .with(metricsRegistry.objectUploadBytesRateByObjectType, new Rate())
+                        .with(metricsRegistry.objectUploadBytesTotalByObjectType, new CumulativeSum())
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndObjectType(topicPartition, suffix, OBJECT_UPLOAD_BYTES),
+                        () -> topicAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
+                        .with(metricsRegistry.objectUploadBytesRateByTopicAndObjectType, new Rate())
+                        .with(metricsRegistry.objectUploadBytesTotalByTopicAndObjectType, new CumulativeSum())
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicPartitionAndObjectType(topicPartition, suffix, OBJECT_UPLOAD_BYTES),
+                        () -> topicPartitionAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
+                        .with(metricsRegistry.objectUploadBytesRateByTopicPartitionAndObjectType, new Rate())
+                        .with(metricsRegistry.objectUploadBytesTotalByTopicPartitionAndObjectType,
+                            new CumulativeSum())
+                        .get()
+                ));
+                objectUploadRequestsByObjectType.put(suffix, new SensorGroup(
+                    () -> new SensorProvider(metrics, sensorNameByObjectType(suffix, OBJECT_UPLOAD),
+                        () -> objectTypeTags(suffix), Sensor.RecordingLevel.DEBUG)
+                        .with(metricsRegistry.objectUploadRequestsRateByObjectType, new Rate())
+                        .with(metricsRegistry.objectUploadRequestsTotalByObjectType, new CumulativeCount())
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndObjectType(topicPartition, suffix, OBJECT_UPLOAD),
+                        () -> topicAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
+                        .with(metricsRegistry.objectUploadRequestsRateByTopicAndObjectType, new Rate())
+                        .with(metricsRegistry.objectUploadRequestsTotalByTopicAndObjectType, new CumulativeCount())
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicPartitionAndObjectType(topicPartition, suffix, OBJECT_UPLOAD),
+                        () -> topicPartitionAndObjectTypeTags(topicPartition, suffix), Sensor.RecordingLevel.DEBUG)
+                        .with(metricsRegistry.objectUploadRequestsRateByTopicPartitionAndObjectType, new Rate())
+                        .with(metricsRegistry.objectUploadRequestsTotalByTopicPartitionAndObjectType,
+                            new CumulativeCount())
+                        .get()
+                ));
+            }
+
+            for (final FetchStage stage : FetchStage.values()) {
+                fetchStageTime.put(stage, new SensorGroup(
+                    () -> new SensorProvider(metrics, sensorNameByStage(stage.value, FETCH_STAGE_TIME),
+                        () -> stageTags(stage.value))
+                        .with(metricsRegistry.fetchStageTimeAvg, new Avg())
+                        .with(metricsRegistry.fetchStageTimeMax, new Max())
+                        .withPercentiles(FETCH_STAGE_HISTOGRAM_SIZE_IN_BYTES, FETCH_STAGE_HISTOGRAM_MAX_MS, Map.of(
+                            metricsRegistry.fetchStageTimeP50, 50.0,
+                            metricsRegistry.fetchStageTimeP95, 95.0,
+                            metricsRegistry.fetchStageTimeP99, 99.0))
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndStage(topicPartition, stage.value, FETCH_STAGE_TIME),
+                        () -> topicAndStageTags(topicPartition, stage.value))
+                        .with(metricsRegistry.fetchStageTimeAvgByTopic, new Avg())
+                        .with(metricsRegistry.fetchStageTimeMaxByTopic, new Max())
+                        .get(),
+                    // histograms of every topic add up, so they are only kept on DEBUG recording level
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndStage(topicPartition, stage.value, FETCH_STAGE_TIME_PERCENTILES),
+                        () -> topicAndStageTags(topicPartition, stage.value), Sensor.RecordingLevel.DEBUG)
+                        .withPercentiles(FETCH_STAGE_HISTOGRAM_SIZE_IN_BYTES, FETCH_STAGE_HISTOGRAM_MAX_MS, Map.of(
+                            metricsRegistry.fetchStageTimeP50ByTopic, 50.0,
+                            metricsRegistry.fetchStageTimeP95ByTopic, 95.0,
+                            metricsRegistry.fetchStageTimeP99ByTopic, 99.0))
+                        .get()
+                ));
+            }
+
+            for (final UploadStage stage : UploadStage.values()) {
+                uploadStageTime.put(stage, new SensorGroup(
+                    () -> new SensorProvider(metrics, sensorNameByStage(stage.value, UPLOAD_STAGE_TIME),
+                        () -> stageTags(stage.value))
+                        .with(metricsRegistry.uploadStageTimeAvg, new Avg())
+                        .with(metricsRegistry.uploadStageTimeMax, new Max())
+                        .with(metricsRegistry.uploadStageTimeTotal, new CumulativeSum())
+                        .withPercentiles(UPLOAD_STAGE_HISTOGRAM_SIZE_IN_BYTES, UPLOAD_STAGE_HISTOGRAM_MAX_MS, Map.of(
+                            metricsRegistry.uploadStageTimeP50, 50.0,
+                            metricsRegistry.uploadStageTimeP95, 95.0,
+                            metricsRegistry.uploadStageTimeP99, 99.0))
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndStage(topicPartition, stage.value, UPLOAD_STAGE_TIME),
+                        () -> topicAndStageTags(topicPartition, stage.value))
+                        .with(metricsRegistry.uploadStageTimeAvgByTopic, new Avg())
+                        .with(metricsRegistry.uploadStageTimeMaxByTopic, new Max())
+                        .with(metricsRegistry.uploadStageTimeTotalByTopic, new CumulativeSum())
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndStage(topicPartition, stage.value, UPLOAD_STAGE_TIME_PERCENTILES),
+                        () -> topicAndStageTags(topicPartition, stage.value), Sensor.RecordingLevel.DEBUG)
+                        .withPercentiles(UPLOAD_STAGE_HISTOGRAM_SIZE_IN_BYTES, UPLOAD_STAGE_HISTOGRAM_MAX_MS, Map.of(
+                            metricsRegistry.uploadStageTimeP50ByTopic, 50.0,
+                            metricsRegistry.uploadStageTimeP95ByTopic, 95.0,
+                            metricsRegistry.uploadStageTimeP99ByTopic, 99.0))
+                        .get()
+                ));
+                if (stage == UploadStage.RATE_LIMIT_WAIT) {
+                    continue;
+                }
+                uploadStageBytes.put(stage, new SensorGroup(
+                    () -> new SensorProvider(metrics, sensorNameByStage(stage.value, UPLOAD_STAGE_BYTES),
+                        () -> stageTags(stage.value))
+                        .with(metricsRegistry.uploadStageBytesTotal, new CumulativeSum())
+                        .get(),
+                    () -> new SensorProvider(metrics,
+                        sensorNameByTopicAndStage(topicPartition, stage.value, UPLOAD_STAGE_BYTES),
+                        () -> topicAndStageTags(topicPartition, stage.value))
+                        .with(metricsRegistry.uploadStageBytesTotalByTopic, new CumulativeSum())
+                        .get()
+                ));
+            }
+        }
+
+        private void recordUploadStage(final UploadStage stage, final long durationNanos, final long bytes) {
+            uploadStageTime.get(stage).record(durationNanos / 1_000_000.0);
+            final SensorGroup bytesSensors = uploadStageBytes.get(stage);
+            if (bytesSensors != null) {
+                bytesSensors.record(bytes);
+            }
+        }
+    }
+
+    /**
+     * Sensors recording the same value, each one resolved on first use.
+     *
+     * <p>Sensors are only created when first recorded, so metrics don't show up before there is something to report.
+     */
+    private static final class SensorGroup {
+        private final Supplier<Sensor>[] sensorSuppliers;
+        private final AtomicReferenceArray<Sensor> sensors;
+
+        @SafeVarargs
+        private SensorGroup(final Supplier<Sensor>... sensorSuppliers) {
+            this.sensorSuppliers = sensorSuppliers;
+            this.sensors = new AtomicReferenceArray<>(sensorSuppliers.length);
+        }
+
+        private void record() {
+            for (int i = 0; i < sensorSuppliers.length; i++) {
+                sensor(i).record();
+            }
+        }
+
+        private void record(final double value) {
+            for (int i = 0; i < sensorSuppliers.length; i++) {
+                sensor(i).record(value);
+            }
+        }
+
+        private Sensor sensor(final int i) {
+            Sensor sensor = sensors.get(i);
+            if (sensor == null) {
+                // Racing threads resolve the same sensor, as SensorProvider looks it up by name first.
+                sensor = sensorSuppliers[i].get();
+                sensors.set(i, sensor);
+            }
+            return sensor;
+        }
+    }
 }
@@ -36,17 +36,25 @@ public class MetricsRegistry {
     static final String[] TOPIC_PARTITION_TAG_NAMES = {TAG_NAME_TOPIC, TAG_NAME_PARTITION};
     static final String[] TOPIC_PARTITION_OBJECT_TYPE_TAG_NAMES =
         {TAG_NAME_TOPIC, TAG_NAME_PARTITION, TAG_NAME_OBJECT_TYPE};
+    static final String TAG_NAME_STAGE = "stage";
+    static final String[] STAGE_TAG_NAMES = {TAG_NAME_STAGE};
+    static final String[] TOPIC_STAGE_TAG_NAMES = {TAG_NAME_TOPIC, TAG_NAME_STAGE};
 
     private static final String RATE_DOC_PREFIX = "Rate of ";
     private static final String TOTAL_DOC_PREFIX = "Total number of ";
     private static final String AVG_DOC_PREFIX = "Average ";
     private static final String MAX_DOC_PREFIX = "Maximum ";
+    private static final String P50_DOC_PREFIX = "Median ";
+    private static final String P95_DOC_PREFIX = "95th percentile of ";
+    private static final String P99_DOC_PREFIX = "99th percentile of ";
     private static final String BY_TOPIC_DOC_SUFFIX = " tagged by topic";
     private static final String BY_TOPIC_PARTITION_DOC_SUFFIX = " tagged by topic and partition";
     private static final String BY_OBJECT_TYPE_DOC_SUFFIX = " tagged by object type";
     private static final String BY_TOPIC_OBJECT_TYPE_DOC_SUFFIX = " tagged by topic and object type";
     private static final String BY_TOPIC_PARTITION_OBJECT_TYPE_DOC_SUFFIX = " tagged by topic, "
         + "partition and object type";
+    private static final String BY_STAGE_DOC_SUFFIX = " tagged by stage";
+    private static final String BY_TOPIC_STAGE_DOC_SUFFIX = " tagged by topic and stage";
 
     // Segment copy metric names
     static final String SEGMENT_COPY = "segment-copy";
@@ -286,6 +294,177 @@ public class MetricsRegistry {
         TOPIC_PARTITION_TAG_NAMES
     );
 
+    // Fetch stage metrics
+    static final String FETCH_STAGE_TIME = "fetch-stage-time";
+    static final String FETCH_STAGE_TIME_DOC = "time in milliseconds spent in a stage of fetching a segment: "
+        + "manifest-load, cache-queue, storage-first-byte, storage-transfer, decryption or decompression";
+    static final String FETCH_STAGE_TIME_AVG = FETCH_STAGE_TIME + "-avg";
+    final MetricNameTemplate fetchStageTimeAvg = new MetricNameTemplate(
+        FETCH_STAGE_TIME_AVG,
+        METRIC_GROUP,
+        AVG_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate fetchStageTimeAvgByTopic = new MetricNameTemplate(
+        FETCH_STAGE_TIME_AVG,
+        METRIC_GROUP,
+        AVG_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String FETCH_STAGE_TIME_MAX = FETCH_STAGE_TIME + "-max";
+    final MetricNameTemplate fetchStageTimeMax = new MetricNameTemplate(
+        FETCH_STAGE_TIME_MAX,
+        METRIC_GROUP,
+        MAX_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate fetchStageTimeMaxByTopic = new MetricNameTemplate(
+        FETCH_STAGE_TIME_MAX,
+        METRIC_GROUP,
+        MAX_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String FETCH_STAGE_TIME_P50 = FETCH_STAGE_TIME + "-p50";
+    final MetricNameTemplate fetchStageTimeP50 = new MetricNameTemplate(
+        FETCH_STAGE_TIME_P50,
+        METRIC_GROUP,
+        P50_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate fetchStageTimeP50ByTopic = new MetricNameTemplate(
+        FETCH_STAGE_TIME_P50,
+        METRIC_GROUP,
+        P50_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String FETCH_STAGE_TIME_P95 = FETCH_STAGE_TIME + "-p95";
+    final MetricNameTemplate fetchStageTimeP95 = new MetricNameTemplate(
+        FETCH_STAGE_TIME_P95,
+        METRIC_GROUP,
+        P95_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate fetchStageTimeP95ByTopic = new MetricNameTemplate(
+        FETCH_STAGE_TIME_P95,
+        METRIC_GROUP,
+        P95_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String FETCH_STAGE_TIME_P99 = FETCH_STAGE_TIME + "-p99";
+    final MetricNameTemplate fetchStageTimeP99 = new MetricNameTemplate(
+        FETCH_STAGE_TIME_P99,
+        METRIC_GROUP,
+        P99_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate fetchStageTimeP99ByTopic = new MetricNameTemplate(
+        FETCH_STAGE_TIME_P99,
+        METRIC_GROUP,
+        P99_DOC_PREFIX + FETCH_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+
+    // Upload stage metrics
+    static final String UPLOAD_STAGE_TIME = "upload-stage-time";
+    static final String UPLOAD_STAGE_TIME_DOC = "time in milliseconds spent in a stage of uploading a segment: "
+        + "compression-check, disk-read, compression, encryption, rate-limit-wait or object-upload";
+    static final String UPLOAD_STAGE_TIME_AVG = UPLOAD_STAGE_TIME + "-avg";
+    final MetricNameTemplate uploadStageTimeAvg = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_AVG,
+        METRIC_GROUP,
+        AVG_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageTimeAvgByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_AVG,
+        METRIC_GROUP,
+        AVG_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String UPLOAD_STAGE_TIME_MAX = UPLOAD_STAGE_TIME + "-max";
+    final MetricNameTemplate uploadStageTimeMax = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_MAX,
+        METRIC_GROUP,
+        MAX_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageTimeMaxByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_MAX,
+        METRIC_GROUP,
+        MAX_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String UPLOAD_STAGE_TIME_P50 = UPLOAD_STAGE_TIME + "-p50";
+    final MetricNameTemplate uploadStageTimeP50 = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_P50,
+        METRIC_GROUP,
+        P50_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageTimeP50ByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_P50,
+        METRIC_GROUP,
+        P50_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String UPLOAD_STAGE_TIME_P95 = UPLOAD_STAGE_TIME + "-p95";
+    final MetricNameTemplate uploadStageTimeP95 = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_P95,
+        METRIC_GROUP,
+        P95_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageTimeP95ByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_P95,
+        METRIC_GROUP,
+        P95_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String UPLOAD_STAGE_TIME_P99 = UPLOAD_STAGE_TIME + "-p99";
+    final MetricNameTemplate uploadStageTimeP99 = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_P99,
+        METRIC_GROUP,
+        P99_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageTimeP99ByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_P99,
+        METRIC_GROUP,
+        P99_DOC_PREFIX + UPLOAD_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    static final String UPLOAD_STAGE_TIME_TOTAL = UPLOAD_STAGE_TIME + "-total";
+    final MetricNameTemplate uploadStageTimeTotal = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_TOTAL,
+        METRIC_GROUP,
+        "Total " + UPLOAD_STAGE_TIME_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageTimeTotalByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_TIME_TOTAL,
+        METRIC_GROUP,
+        "Total " + UPLOAD_STAGE_TIME_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+    // throughput of a stage is upload-stage-bytes-total over upload-stage-time-total,
+    // not reported for rate-limit-wait as no bytes are processed while waiting
+    static final String UPLOAD_STAGE_BYTES = "upload-stage-bytes";
+    static final String UPLOAD_STAGE_BYTES_DOC = "bytes processed in a stage of uploading a segment, "
+        + "to be divided by upload-stage-time-total for throughput";
+    static final String UPLOAD_STAGE_BYTES_TOTAL = UPLOAD_STAGE_BYTES + "-total";
+    final MetricNameTemplate uploadStageBytesTotal = new MetricNameTemplate(
+        UPLOAD_STAGE_BYTES_TOTAL,
+        METRIC_GROUP,
+        TOTAL_DOC_PREFIX + UPLOAD_STAGE_BYTES_DOC + BY_STAGE_DOC_SUFFIX,
+        STAGE_TAG_NAMES
+    );
+    final MetricNameTemplate uploadStageBytesTotalByTopic = new MetricNameTemplate(
+        UPLOAD_STAGE_BYTES_TOTAL,
+        METRIC_GROUP,
+        TOTAL_DOC_PREFIX + UPLOAD_STAGE_BYTES_DOC + BY_TOPIC_STAGE_DOC_SUFFIX,
+        TOPIC_STAGE_TAG_NAMES
+    );
+
     // Object upload metrics
     static final String OBJECT_UPLOAD = "object-upload";
     static final String OBJECT_UPLOAD_DOC = "upload to a storage backend operations";
@@ -470,6 +649,18 @@ public class MetricsRegistry {
             + "." + name;
     }
 
+    public static String sensorNameByStage(final String stage, final String name) {
+        return TAG_NAME_STAGE + "." + stage + "." + name;
+    }
+
+    public static String sensorNameByTopicAndStage(final TopicPartition topicPartition,
+                                                   final String stage,
+                                                   final String name) {
+        return TAG_NAME_TOPIC + "." + topicPartition.topic()
+            + "." + TAG_NAME_STAGE + "." + stage
+            + "." + name;
+    }
+
     static Map<String, String> topicTags(final TopicPartition topicPartition) {
         return Map.of(TAG_NAME_TOPIC, topicPartition.topic());
     }
@@ -502,6 +693,17 @@ public class MetricsRegistry {
         return Map.of(TAG_NAME_OBJECT_TYPE, suffix.value);
     }
 
+    static Map<String, String> stageTags(final String stage) {
+        return Map.of(TAG_NAME_STAGE, stage);
+    }
+
+    static Map<String, String> topicAndStageTags(final TopicPartition topicPartition, final String stage) {
+        return Map.of(
+            TAG_NAME_TOPIC, topicPartition.topic(),
+            TAG_NAME_STAGE, stage
+        );
+    }
+
     public Iterable<MetricNameTemplate> all() {
         return List.of(
             // segment copy
@@ -540,6 +742,32 @@ public class MetricsRegistry {
             segmentFetchRequestedBytesTotal,
             segmentFetchRequestedBytesTotalByTopic,
             segmentFetchRequestedBytesTotalByTopicPartition,
+            // fetch stages
+            fetchStageTimeAvg,
+            fetchStageTimeAvgByTopic,
+            fetchStageTimeMax,
+            fetchStageTimeMaxByTopic,
+            fetchStageTimeP50,
+            fetchStageTimeP50ByTopic,
+            fetchStageTimeP95,
+            fetchStageTimeP95ByTopic,
+            fetchStageTimeP99,
+            fetchStageTimeP99ByTopic,
+            // upload stages
+            uploadStageTimeAvg,
+            uploadStageTimeAvgByTopic,
+            uploadStageTimeMax,
+            uploadStageTimeMaxByTopic,
+            uploadStageTimeP50,
+            uploadStageTimeP50ByTopic,
+            uploadStageTimeP95,
+            uploadStageTimeP95ByTopic,
+            uploadStageTimeP99,
+            uploadStageTimeP99ByTopic,
+            uploadStageTimeTotal,
+            uploadStageTimeTotalByTopic,
+            uploadStageBytesTotal,
+            uploadStageBytesTotalByTopic,
             // object upload
             objectUploadRequestsRate,
             objectUploadRequestsRateByTopic,
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.utils.Time;
+
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.COPY_FAILURES;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.DELETE_ERRORS;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.FETCH;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.FETCH_ERRORS;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.FETCH_LATENCY_ESTIMATE;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.METRIC_CONTEXT;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.PENDING_REPLICATIONS;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.REPLICA_TAG;
+import static io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry.UPLOAD_ERRORS;
+
+public class ReplicatedStorageMetrics implements Closeable {
+    private final Metrics metrics;
+    private final ReplicatedStorageMetricsRegistry metricsRegistry = new ReplicatedStorageMetricsRegistry();
+
+    private final Map<String, ReplicaSensors> replicas = new ConcurrentHashMap<>();
+
+    public ReplicatedStorageMetrics(final Time time, final Supplier<Integer> pendingReplications) {
+        final JmxReporter reporter = new JmxReporter();
+        metrics = new Metrics(
+            new MetricConfig(), List.of(reporter), time,
+            new KafkaMetricsContext(METRIC_CONTEXT)
+        );
+
+        new SensorProvider(metrics, PENDING_REPLICATIONS)
+            .with(metricsRegistry.pendingReplicationsMetricName, new MeasurableValue(pendingReplications))
+            .get();
+    }
+
+    public void registerReplica(final String replica, final Supplier<Double> fetchLatencyEstimateMs) {
+        final Map<String, String> tags = Map.of(REPLICA_TAG, replica);
+        final String sensorPrefix = REPLICA_TAG + "." + replica + ".";
+        new SensorProvider(metrics, sensorPrefix + FETCH_LATENCY_ESTIMATE, () -> tags)
+            .with(metricsRegistry.fetchLatencyEstimateMetricName, new MeasurableValue(fetchLatencyEstimateMs))
+            .get();
+        final Sensor fetch = new SensorProvider(metrics, sensorPrefix + FETCH, () -> tags)
+            .with(metricsRegistry.fetchTotalMetricName, new CumulativeCount())
+            .with(metricsRegistry.fetchLatencyAvgMetricName, new Avg())
+            .with(metricsRegistry.fetchLatencyMaxMetricName, new Max())
+            .get();
+        final Sensor fetchErrors = new SensorProvider(metrics, sensorPrefix + FETCH_ERRORS, () -> tags)
+            .with(metricsRegistry.fetchErrorsTotalMetricName, new CumulativeCount())
+            .get();
+        final Sensor uploadErrors = new SensorProvider(metrics, sensorPrefix + UPLOAD_ERRORS, () -> tags)
+            .with(metricsRegistry.uploadErrorsTotalMetricName, new CumulativeCount())
+            .get();
+        final Sensor copyFailures = new SensorProvider(metrics, sensorPrefix + COPY_FAILURES, () -> tags)
+            .with(metricsRegistry.copyFailuresTotalMetricName, new CumulativeCount())
+            .get();
+        final Sensor deleteErrors = new SensorProvider(metrics, sensorPrefix + DELETE_ERRORS, () -> tags)
+            .with(metricsRegistry.deleteErrorsTotalMetricName, new CumulativeCount())
+            .get();
+        replicas.put(replica, new ReplicaSensors(fetch, fetchErrors, uploadErrors, copyFailures, deleteErrors));
+    }
+
+    public void recordFetch(final String replica, final double latencyMs) {
+        replicas.get(replica).fetch.record(latencyMs);
+    }
+
+    public void recordFetchError(final String replica) {
+        replicas.get(replica).fetchErrors.record();
+    }
+
+    public void recordUploadError(final String replica) {
+        replicas.get(replica).uploadErrors.record();
+    }
+
+    public void recordCopyFailure(final String replica) {
+        replicas.get(replica).copyFailures.record();
+    }
+
+    public void recordDeleteError(final String replica) {
+        replicas.get(replica).deleteErrors.record();
+    }
+
+    @Override
+    public void close() {
+        metrics.close();
+    }
+
+    private static class ReplicaSensors {
+        private final Sensor fetch;
+        private final Sensor fetchErrors;
+        private final Sensor uploadErrors;
+        private final Sensor copyFailures;
+        private final Sensor deleteErrors;
+
+        private ReplicaSensors(final Sensor fetch,
+                               final Sensor fetchErrors,
+                               final Sensor uploadErrors,
+                               final Sensor copyFailures,
+                               final Sensor deleteErrors) {
+            this.fetch = fetch;
+            this.fetchErrors = fetchErrors;
+            this.uploadErrors = uploadErrors;
+            this.copyFailures = copyFailures;
+            this.deleteErrors = deleteErrors;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+
+import org.apache.kafka.common.MetricNameTemplate;
+
+public class ReplicatedStorageMetricsRegistry {
+    public static final String METRIC_CONTEXT = "aiven.kafka.server.tieredstorage";
+    public static final String METRIC_GROUP = "replicated-storage-metrics";
+    static final String REPLICA_TAG = "replica";
+
+    static final String PENDING_REPLICATIONS = "pending-replications";
+    static final String PENDING_REPLICATIONS_DOC = "Objects uploaded to the primary replica "
+        + "and waiting to be copied asynchronously to a secondary one";
+    static final String FETCH = "fetch";
+    static final String FETCH_TOTAL = FETCH + "-total";
+    static final String FETCH_TOTAL_DOC = "Fetch requests served tagged by replica";
+    static final String FETCH_LATENCY = FETCH + "-latency";
+    static final String FETCH_LATENCY_AVG = FETCH_LATENCY + "-avg";
+    static final String FETCH_LATENCY_AVG_DOC = "Average time in milliseconds until a replica starts responding "
+        + "to a fetch tagged by replica";
+    static final String FETCH_LATENCY_MAX = FETCH_LATENCY + "-max";
+    static final String FETCH_LATENCY_MAX_DOC = "Maximum time in milliseconds until a replica starts responding "
+        + "to a fetch tagged by replica";
+    static final String FETCH_LATENCY_ESTIMATE = FETCH_LATENCY + "-estimate";
+    static final String FETCH_LATENCY_ESTIMATE_DOC = "Moving average of the fetch latency in milliseconds "
+        + "used to select the replica to read from tagged by replica";
+    static final String FETCH_ERRORS = FETCH + "-errors";
+    static final String FETCH_ERRORS_TOTAL = FETCH_ERRORS + "-total";
+    static final String FETCH_ERRORS_TOTAL_DOC = "Failed fetch requests falling back to another replica "
+        + "tagged by replica";
+    static final String UPLOAD_ERRORS = "upload-errors";
+    static final String UPLOAD_ERRORS_TOTAL = UPLOAD_ERRORS + "-total";
+    static final String UPLOAD_ERRORS_TOTAL_DOC = "Failed uploads or copies to a replica tagged by replica";
+    static final String COPY_FAILURES = "copy-failures";
+    static final String COPY_FAILURES_TOTAL = COPY_FAILURES + "-total";
+    static final String COPY_FAILURES_TOTAL_DOC = "Background copies to a replica given up after all retries, "
+        + "leaving the replica without the object, tagged by replica";
+    static final String DELETE_ERRORS = "delete-errors";
+    static final String DELETE_ERRORS_TOTAL = DELETE_ERRORS + "-total";
+    static final String DELETE_ERRORS_TOTAL_DOC = "Failed delete requests tagged by replica";
+
+    final MetricNameTemplate pendingReplicationsMetricName;
+    final MetricNameTemplate fetchTotalMetricName;
+    final MetricNameTemplate fetchLatencyAvgMetricName;
+    final MetricNameTemplate fetchLatencyMaxMetricName;
+    final MetricNameTemplate fetchLatencyEstimateMetricName;
+    final MetricNameTemplate fetchErrorsTotalMetricName;
+    final MetricNameTemplate uploadErrorsTotalMetricName;
+    final MetricNameTemplate copyFailuresTotalMetricName;
+    final MetricNameTemplate deleteErrorsTotalMetricName;
+
+    public ReplicatedStorageMetricsRegistry() {
+        pendingReplicationsMetricName = new MetricNameTemplate(
+            PENDING_REPLICATIONS,
+            METRIC_GROUP,
+            PENDING_REPLICATIONS_DOC
+        );
+        fetchTotalMetricName = new MetricNameTemplate(
+            FETCH_TOTAL,
+            METRIC_GROUP,
+            FETCH_TOTAL_DOC,
+            REPLICA_TAG
+        );
+        fetchLatencyAvgMetricName = new MetricNameTemplate(
+            FETCH_LATENCY_AVG,
+            METRIC_GROUP,
+            FETCH_LATENCY_AVG_DOC,
+            REPLICA_TAG
+        );
+        fetchLatencyMaxMetricName = new MetricNameTemplate(
+            FETCH_LATENCY_MAX,
+            METRIC_GROUP,
+            FETCH_LATENCY_MAX_DOC,
+            REPLICA_TAG
+        );
+        fetchLatencyEstimateMetricName = new MetricNameTemplate(
+            FETCH_LATENCY_ESTIMATE,
+            METRIC_GROUP,
+            FETCH_LATENCY_ESTIMATE_DOC,
+            REPLICA_TAG
+        );
+        fetchErrorsTotalMetricName = new MetricNameTemplate(
+            FETCH_ERRORS_TOTAL,
+            METRIC_GROUP,
+            FETCH_ERRORS_TOTAL_DOC,
+            REPLICA_TAG
+        );
+        uploadErrorsTotalMetricName = new MetricNameTemplate(
+            UPLOAD_ERRORS_TOTAL,
+            METRIC_GROUP,
+            UPLOAD_ERRORS_TOTAL_DOC,
+            REPLICA_TAG
+        );
+        copyFailuresTotalMetricName = new MetricNameTemplate(
+            COPY_FAILURES_TOTAL,
+            METRIC_GROUP,
+            COPY_FAILURES_TOTAL_DOC,
+            REPLICA_TAG
+        );
+        deleteErrorsTotalMetricName = new MetricNameTemplate(
+            DELETE_ERRORS_TOTAL,
+            METRIC_GROUP,
+            DELETE_ERRORS_TOTAL_DOC,
+            REPLICA_TAG
+        );
+    }
+
+    public List<MetricNameTemplate> all() {
+        return List.of(
+            pendingReplicationsMetricName,
+            fetchTotalMetricName,
+            fetchLatencyAvgMetricName,
+            fetchLatencyMaxMetricName,
+            fetchLatencyEstimateMetricName,
+            fetchErrorsTotalMetricName,
+            uploadErrorsTotalMetricName,
+            copyFailuresTotalMetricName,
+            deleteErrorsTotalMetricName
+        );
+    }
+}
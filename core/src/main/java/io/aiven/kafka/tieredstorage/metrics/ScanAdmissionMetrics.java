@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.utils.Time;
+
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.METRIC_CONTEXT;
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.SCAN_BYPASS;
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.SCAN_BYPASS_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.SCAN_PROBATION_ADMISSION;
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.SCAN_PROBATION_ADMISSION_BYTES;
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.SCAN_PROBATION_PROMOTION;
+import static io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry.SCAN_PROBATION_SIZE_BYTES;
+
+public class ScanAdmissionMetrics {
+    private final Metrics metrics;
+    private final ScanAdmissionMetricsRegistry metricsRegistry = new ScanAdmissionMetricsRegistry();
+
+    private final Sensor bypasses;
+    private final Sensor bypassBytes;
+    private final Sensor probationAdmissions;
+    private final Sensor probationAdmissionBytes;
+    private final Sensor probationPromotions;
+
+    public ScanAdmissionMetrics(final Time time, final LongSupplier probationSize) {
+        final JmxReporter reporter = new JmxReporter();
+
+        metrics = new Metrics(
+            new MetricConfig(), List.of(reporter), time,
+            new KafkaMetricsContext(METRIC_CONTEXT)
+        );
+
+        bypasses = new SensorProvider(metrics, SCAN_BYPASS)
+            .with(metricsRegistry.scanBypassRateMetricName, new Rate())
+            .with(metricsRegistry.scanBypassTotalMetricName, new CumulativeSum())
+            .get();
+        bypassBytes = new SensorProvider(metrics, SCAN_BYPASS_BYTES)
+            .with(metricsRegistry.scanBypassBytesRateMetricName, new Rate())
+            .with(metricsRegistry.scanBypassBytesTotalMetricName, new CumulativeSum())
+            .get();
+        probationAdmissions = new SensorProvider(metrics, SCAN_PROBATION_ADMISSION)
+            .with(metricsRegistry.scanProbationAdmissionRateMetricName, new Rate())
+            .with(metricsRegistry.scanProbationAdmissionTotalMetricName, new CumulativeSum())
+            .get();
+        probationAdmissionBytes = new SensorProvider(metrics, SCAN_PROBATION_ADMISSION_BYTES)
+            .with(metricsRegistry.scanProbationAdmissionBytesRateMetricName, new Rate())
+            .with(metricsRegistry.scanProbationAdmissionBytesTotalMetricName, new CumulativeSum())
+            .get();
+        probationPromotions = new SensorProvider(metrics, SCAN_PROBATION_PROMOTION)
+            .with(metricsRegistry.scanProbationPromotionRateMetricName, new Rate())
+            .with(metricsRegistry.scanProbationPromotionTotalMetricName, new CumulativeSum())
+            .get();
+        new SensorProvider(metrics, SCAN_PROBATION_SIZE_BYTES)
+            .with(metricsRegistry.scanProbationSizeBytesMetricName, new MeasurableValue(probationSize::getAsLong))
+            .get();
+    }
+
+    public void chunkBypassed(final long chunkSize) {
+        this.bypasses.record(1);
+        this.bypassBytes.record(chunkSize);
+    }
+
+    public void chunkAdmittedToProbation(final long chunkSize) {
+        this.probationAdmissions.record(1);
+        this.probationAdmissionBytes.record(chunkSize);
+    }
+
+    public void chunkPromoted() {
+        this.probationPromotions.record(1);
+    }
+}
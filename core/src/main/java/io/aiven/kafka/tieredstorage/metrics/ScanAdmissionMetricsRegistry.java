@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+
+import org.apache.kafka.common.MetricNameTemplate;
+
+public class ScanAdmissionMetricsRegistry {
+    public static final String METRIC_CONTEXT = "aiven.kafka.server.tieredstorage.cache";
+    public static final String METRIC_GROUP = "chunk-cache-scan-admission-metrics";
+
+    static final String SCAN_BYPASS = "scan-bypass";
+    static final String SCAN_BYPASS_RATE = SCAN_BYPASS + "-rate";
+    static final String SCAN_BYPASS_RATE_DOC = "Rate of chunks read by a scan and served without being cached";
+    static final String SCAN_BYPASS_TOTAL = SCAN_BYPASS + "-total";
+    static final String SCAN_BYPASS_TOTAL_DOC = "Number of chunks read by a scan and served without being cached";
+    static final String SCAN_BYPASS_BYTES = SCAN_BYPASS + "-bytes";
+    static final String SCAN_BYPASS_BYTES_RATE = SCAN_BYPASS_BYTES + "-rate";
+    static final String SCAN_BYPASS_BYTES_RATE_DOC = "Rate of bytes read by a scan and served without being cached";
+    static final String SCAN_BYPASS_BYTES_TOTAL = SCAN_BYPASS_BYTES + "-total";
+    static final String SCAN_BYPASS_BYTES_TOTAL_DOC = "Number of bytes read by a scan and served without being cached";
+    static final String SCAN_PROBATION_ADMISSION = "scan-probation-admission";
+    static final String SCAN_PROBATION_ADMISSION_RATE = SCAN_PROBATION_ADMISSION + "-rate";
+    static final String SCAN_PROBATION_ADMISSION_RATE_DOC = "Rate of chunks read by a scan and cached on probation";
+    static final String SCAN_PROBATION_ADMISSION_TOTAL = SCAN_PROBATION_ADMISSION + "-total";
+    static final String SCAN_PROBATION_ADMISSION_TOTAL_DOC = "Number of chunks read by a scan and cached on probation";
+    static final String SCAN_PROBATION_ADMISSION_BYTES = SCAN_PROBATION_ADMISSION + "-bytes";
+    static final String SCAN_PROBATION_ADMISSION_BYTES_RATE = SCAN_PROBATION_ADMISSION_BYTES + "-rate";
+    static final String SCAN_PROBATION_ADMISSION_BYTES_RATE_DOC =
+        "Rate of bytes read by a scan and cached on probation";
+    static final String SCAN_PROBATION_ADMISSION_BYTES_TOTAL = SCAN_PROBATION_ADMISSION_BYTES + "-total";
+    static final String SCAN_PROBATION_ADMISSION_BYTES_TOTAL_DOC =
+        "Number of bytes read by a scan and cached on probation";
+    static final String SCAN_PROBATION_PROMOTION = "scan-probation-promotion";
+    static final String SCAN_PROBATION_PROMOTION_RATE = SCAN_PROBATION_PROMOTION + "-rate";
+    static final String SCAN_PROBATION_PROMOTION_RATE_DOC =
+        "Rate of chunks on probation promoted to the regular retention by a non-scanning read";
+    static final String SCAN_PROBATION_PROMOTION_TOTAL = SCAN_PROBATION_PROMOTION + "-total";
+    static final String SCAN_PROBATION_PROMOTION_TOTAL_DOC =
+        "Number of chunks on probation promoted to the regular retention by a non-scanning read";
+    static final String SCAN_PROBATION_SIZE_BYTES = "scan-probation-size-bytes";
+    static final String SCAN_PROBATION_SIZE_BYTES_DOC = "Bytes of the chunks currently cached on probation";
+
+    final MetricNameTemplate scanBypassRateMetricName;
+    final MetricNameTemplate scanBypassTotalMetricName;
+    final MetricNameTemplate scanBypassBytesRateMetricName;
+    final MetricNameTemplate scanBypassBytesTotalMetricName;
+    final MetricNameTemplate scanProbationAdmissionRateMetricName;
+    final MetricNameTemplate scanProbationAdmissionTotalMetricName;
+    final MetricNameTemplate scanProbationAdmissionBytesRateMetricName;
+    final MetricNameTemplate scanProbationAdmissionBytesTotalMetricName;
+    final MetricNameTemplate scanProbationPromotionRateMetricName;
+    final MetricNameTemplate scanProbationPromotionTotalMetricName;
+    final MetricNameTemplate scanProbationSizeBytesMetricName;
+
+    public ScanAdmissionMetricsRegistry() {
+        scanBypassRateMetricName = new MetricNameTemplate(
+            SCAN_BYPASS_RATE,
+            METRIC_GROUP,
+            SCAN_BYPASS_RATE_DOC
+        );
+        scanBypassTotalMetricName = new MetricNameTemplate(
+            SCAN_BYPASS_TOTAL,
+            METRIC_GROUP,
+            SCAN_BYPASS_TOTAL_DOC
+        );
+        scanBypassBytesRateMetricName = new MetricNameTemplate(
+            SCAN_BYPASS_BYTES_RATE,
+            METRIC_GROUP,
+            SCAN_BYPASS_BYTES_RATE_DOC
+        );
+        scanBypassBytesTotalMetricName = new MetricNameTemplate(
+            SCAN_BYPASS_BYTES_TOTAL,
+            METRIC_GROUP,
+            SCAN_BYPASS_BYTES_TOTAL_DOC
+        );
+        scanProbationAdmissionRateMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_ADMISSION_RATE,
+            METRIC_GROUP,
+            SCAN_PROBATION_ADMISSION_RATE_DOC
+        );
+        scanProbationAdmissionTotalMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_ADMISSION_TOTAL,
+            METRIC_GROUP,
+            SCAN_PROBATION_ADMISSION_TOTAL_DOC
+        );
+        scanProbationAdmissionBytesRateMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_ADMISSION_BYTES_RATE,
+            METRIC_GROUP,
+            SCAN_PROBATION_ADMISSION_BYTES_RATE_DOC
+        );
+        scanProbationAdmissionBytesTotalMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_ADMISSION_BYTES_TOTAL,
+            METRIC_GROUP,
+            SCAN_PROBATION_ADMISSION_BYTES_TOTAL_DOC
+        );
+        scanProbationPromotionRateMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_PROMOTION_RATE,
+            METRIC_GROUP,
+            SCAN_PROBATION_PROMOTION_RATE_DOC
+        );
+        scanProbationPromotionTotalMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_PROMOTION_TOTAL,
+            METRIC_GROUP,
+            SCAN_PROBATION_PROMOTION_TOTAL_DOC
+        );
+        scanProbationSizeBytesMetricName = new MetricNameTemplate(
+            SCAN_PROBATION_SIZE_BYTES,
+            METRIC_GROUP,
+            SCAN_PROBATION_SIZE_BYTES_DOC
+        );
+    }
+
+    public List<MetricNameTemplate> all() {
+        return List.of(
+            scanBypassRateMetricName,
+            scanBypassTotalMetricName,
+            scanBypassBytesRateMetricName,
+            scanBypassBytesTotalMetricName,
+            scanProbationAdmissionRateMetricName,
+            scanProbationAdmissionTotalMetricName,
+            scanProbationAdmissionBytesRateMetricName,
+            scanProbationAdmissionBytesTotalMetricName,
+            scanProbationPromotionRateMetricName,
+            scanProbationPromotionTotalMetricName,
+            scanProbationSizeBytesMetricName
+        );
+    }
+}
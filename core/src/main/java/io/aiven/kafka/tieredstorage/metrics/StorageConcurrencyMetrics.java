@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.MetricNameTemplate;
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.ERRORS;
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.IN_FLIGHT;
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.LIMIT;
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.METRIC_CONTEXT;
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.OPERATION_TAG;
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.THROTTLED;
+import static io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry.WAITING;
+
+public class StorageConcurrencyMetrics implements Closeable {
+    private final Metrics metrics;
+    private final StorageConcurrencyMetricsRegistry metricsRegistry = new StorageConcurrencyMetricsRegistry();
+
+    public StorageConcurrencyMetrics(final Time time) {
+        final JmxReporter reporter = new JmxReporter();
+        metrics = new Metrics(
+            new MetricConfig(), List.of(reporter), time,
+            new KafkaMetricsContext(METRIC_CONTEXT)
+        );
+    }
+
+    public void registerOperation(final String operation,
+                                  final Supplier<Integer> limit,
+                                  final Supplier<Integer> inFlight,
+                                  final Supplier<Integer> waiting,
+                                  final Supplier<Long> throttled,
+                                  final Supplier<Long> errors) {
+        final Map<String, String> tags = Map.of(OPERATION_TAG, operation);
+        final String sensorPrefix = OPERATION_TAG + "." + operation + ".";
+        registerSensor(metricsRegistry.limitMetricName, sensorPrefix + LIMIT, tags, limit);
+        registerSensor(metricsRegistry.inFlightMetricName, sensorPrefix + IN_FLIGHT, tags, inFlight);
+        registerSensor(metricsRegistry.waitingMetricName, sensorPrefix + WAITING, tags, waiting);
+        registerSensor(metricsRegistry.throttledTotalMetricName, sensorPrefix + THROTTLED, tags, throttled);
+        registerSensor(metricsRegistry.errorsTotalMetricName, sensorPrefix + ERRORS, tags, errors);
+    }
+
+    private void registerSensor(final MetricNameTemplate metricName,
+                                final String sensorName,
+                                final Map<String, String> tags,
+                                final Supplier<? extends Number> supplier) {
+        new SensorProvider(metrics, sensorName, () -> tags)
+            .with(metricName, new MeasurableValue(supplier))
+            .get();
+    }
+
+    @Override
+    public void close() {
+        metrics.close();
+    }
+}
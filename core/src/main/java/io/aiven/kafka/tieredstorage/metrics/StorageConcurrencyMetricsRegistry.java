@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import java.util.List;
+
+import org.apache.kafka.common.MetricNameTemplate;
+
+public class StorageConcurrencyMetricsRegistry {
+    public static final String METRIC_CONTEXT = "aiven.kafka.server.tieredstorage";
+    public static final String METRIC_GROUP = "storage-concurrency-limit-metrics";
+    static final String OPERATION_TAG = "operation";
+
+    static final String LIMIT = "limit";
+    static final String LIMIT_DOC = "Current limit of concurrent storage requests tagged by operation";
+    static final String IN_FLIGHT = "in-flight";
+    static final String IN_FLIGHT_DOC = "Storage requests being sent tagged by operation";
+    static final String WAITING = "waiting";
+    static final String WAITING_DOC = "Storage requests waiting for the limit tagged by operation";
+    static final String THROTTLED = "throttled";
+    static final String THROTTLED_TOTAL = THROTTLED + "-total";
+    static final String THROTTLED_TOTAL_DOC = "Storage requests rejected by the storage because of throttling "
+        + "tagged by operation";
+    static final String ERRORS = "errors";
+    static final String ERRORS_TOTAL = ERRORS + "-total";
+    static final String ERRORS_TOTAL_DOC = "Storage requests failed for other reasons than throttling "
+        + "tagged by operation";
+
+    final MetricNameTemplate limitMetricName;
+    final MetricNameTemplate inFlightMetricName;
+    final MetricNameTemplate waitingMetricName;
+    final MetricNameTemplate throttledTotalMetricName;
+    final MetricNameTemplate errorsTotalMetricName;
+
+    public StorageConcurrencyMetricsRegistry() {
+        limitMetricName = new MetricNameTemplate(
+            LIMIT,
+            METRIC_GROUP,
+            LIMIT_DOC,
+            OPERATION_TAG
+        );
+        inFlightMetricName = new MetricNameTemplate(
+            IN_FLIGHT,
+            METRIC_GROUP,
+            IN_FLIGHT_DOC,
+            OPERATION_TAG
+        );
+        waitingMetricName = new MetricNameTemplate(
+            WAITING,
+            METRIC_GROUP,
+            WAITING_DOC,
+            OPERATION_TAG
+        );
+        throttledTotalMetricName = new MetricNameTemplate(
+            THROTTLED_TOTAL,
+            METRIC_GROUP,
+            THROTTLED_TOTAL_DOC,
+            OPERATION_TAG
+        );
+        errorsTotalMetricName = new MetricNameTemplate(
+            ERRORS_TOTAL,
+            METRIC_GROUP,
+            ERRORS_TOTAL_DOC,
+            OPERATION_TAG
+        );
+    }
+
+    public List<MetricNameTemplate> all() {
+        return List.of(
+            limitMetricName,
+            inFlightMetricName,
+            waitingMetricName,
+            throttledTotalMetricName,
+            errorsTotalMetricName
+        );
+    }
+}
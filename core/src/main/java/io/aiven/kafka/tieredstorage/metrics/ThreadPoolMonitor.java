@@ -17,7 +17,7 @@
 package io.aiven.kafka.tieredstorage.metrics;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
@@ -28,26 +28,37 @@ import org.apache.kafka.common.metrics.MetricConfig;
 import org.apache.kafka.common.metrics.Metrics;
 import org.apache.kafka.common.utils.Time;
 
+import io.aiven.kafka.tieredstorage.fetch.VirtualThreadExecutor;
+
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.ACTIVE_THREADS;
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.METRIC_CONFIG;
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.PARALLELISM;
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.POOL_SIZE;
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.QUEUED_TASK_COUNT;
+import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.QUEUE_TIME;
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.RUNNING_THREADS;
+import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.STARTED_TASK_COUNT;
 import static io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry.STEAL_TASK_COUNT;
 
 public class ThreadPoolMonitor {
-    // only fork-join pool is supported; but could be extended to other fixed-sized pools
+    // only fork-join pool and virtual thread executor are supported; but could be extended to other fixed-sized pools
     final ForkJoinPool pool;
+    final VirtualThreadExecutor virtualThreadExecutor;
     private final Metrics metrics;
     String groupName;
 
-    public ThreadPoolMonitor(final String groupName, final ExecutorService pool) {
+    public ThreadPoolMonitor(final String groupName, final Executor executor) {
         this.groupName = groupName;
-        if (!(pool instanceof ForkJoinPool)) {
-            throw new UnsupportedOperationException("Only ForkJoinPool supported at the moment.");
+        if (executor instanceof ForkJoinPool) {
+            this.pool = (ForkJoinPool) executor;
+            this.virtualThreadExecutor = null;
+        } else if (executor instanceof VirtualThreadExecutor) {
+            this.pool = null;
+            this.virtualThreadExecutor = (VirtualThreadExecutor) executor;
+        } else {
+            throw new UnsupportedOperationException(
+                "Only ForkJoinPool and VirtualThreadExecutor supported at the moment.");
         }
-        this.pool = (ForkJoinPool) pool;
 
         final JmxReporter reporter = new JmxReporter();
         metrics = new org.apache.kafka.common.metrics.Metrics(
@@ -55,12 +66,26 @@ public class ThreadPoolMonitor {
             new KafkaMetricsContext(METRIC_CONFIG)
         );
         final var metricsRegistry = new ThreadPoolMonitorMetricsRegistry(groupName);
-        registerSensor(metricsRegistry.activeThreadsTotalMetricName, ACTIVE_THREADS, this::activeThreadCount);
-        registerSensor(metricsRegistry.runningThreadsTotalMetricName, RUNNING_THREADS, this::runningThreadCount);
-        registerSensor(metricsRegistry.poolSizeTotalMetricName, POOL_SIZE, this::poolSize);
-        registerSensor(metricsRegistry.parallelismTotalMetricName, PARALLELISM, this::parallelism);
-        registerSensor(metricsRegistry.queuedTaskCountTotalMetricName, QUEUED_TASK_COUNT, this::queuedTaskCount);
-        registerSensor(metricsRegistry.stealTaskCountTotalMetricName, STEAL_TASK_COUNT, this::stealTaskCount);
+        if (pool != null) {
+            registerSensor(metricsRegistry.activeThreadsTotalMetricName, ACTIVE_THREADS, this::activeThreadCount);
+            registerSensor(metricsRegistry.runningThreadsTotalMetricName, RUNNING_THREADS, this::runningThreadCount);
+            registerSensor(metricsRegistry.poolSizeTotalMetricName, POOL_SIZE, this::poolSize);
+            registerSensor(metricsRegistry.parallelismTotalMetricName, PARALLELISM, this::parallelism);
+            registerSensor(metricsRegistry.queuedTaskCountTotalMetricName, QUEUED_TASK_COUNT, this::queuedTaskCount);
+            registerSensor(metricsRegistry.stealTaskCountTotalMetricName, STEAL_TASK_COUNT, this::stealTaskCount);
+        } else {
+            // running tasks are the in-flight loads, and the concurrency limit plays the role of parallelism
+            registerSensor(metricsRegistry.activeThreadsTotalMetricName, ACTIVE_THREADS,
+                virtualThreadExecutor::runningTaskCount);
+            registerSensor(metricsRegistry.parallelismTotalMetricName, PARALLELISM,
+                virtualThreadExecutor::maxConcurrency);
+            registerSensor(metricsRegistry.queuedTaskCountTotalMetricName, QUEUED_TASK_COUNT,
+                virtualThreadExecutor::waitingTaskCount);
+            registerSensor(metricsRegistry.startedTaskCountTotalMetricName, STARTED_TASK_COUNT,
+                virtualThreadExecutor::startedTaskCount);
+            registerSensor(metricsRegistry.queueTimeTotalMetricName, QUEUE_TIME,
+                virtualThreadExecutor::queueTimeMsTotal);
+        }
     }
 
     void registerSensor(final MetricNameTemplate metricName, final String sensorName, final Supplier<Long> supplier) {
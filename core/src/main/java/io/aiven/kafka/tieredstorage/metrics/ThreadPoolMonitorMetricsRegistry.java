@@ -23,16 +23,21 @@ import org.apache.kafka.common.MetricNameTemplate;
 public class ThreadPoolMonitorMetricsRegistry {
     public static final String METRIC_CONFIG = "aiven.kafka.server.tieredstorage.thread-pool";
 
+    // ThreadPoolMonitor registers only the metrics the monitored executor can report
+    private static final String FORK_JOIN_ONLY = " (fork-join executor type only)";
+    private static final String VIRTUAL_ONLY = " (virtual executor type only)";
+
     static final String ACTIVE_THREADS = "active-thread-count";
     static final String ACTIVE_THREADS_TOTAL = ACTIVE_THREADS + "-total";
     static final String ACTIVE_THREADS_TOTAL_DOC = "Number of threads currently executing tasks";
     static final String RUNNING_THREADS = "running-thread-count";
     static final String RUNNING_THREADS_TOTAL = RUNNING_THREADS + "-total";
     static final String RUNNING_THREADS_TOTAL_DOC = "Number of worker threads "
-        + "that are not blocked waiting to join tasks or for other managed synchronization";
+        + "that are not blocked waiting to join tasks or for other managed synchronization"
+        + FORK_JOIN_ONLY;
     static final String POOL_SIZE = "pool-size";
     static final String POOL_SIZE_TOTAL = POOL_SIZE + "-total";
-    static final String POOL_SIZE_TOTAL_DOC = "Current number of threads in the pool";
+    static final String POOL_SIZE_TOTAL_DOC = "Current number of threads in the pool" + FORK_JOIN_ONLY;
     static final String PARALLELISM = "parallelism";
     static final String PARALLELISM_TOTAL = PARALLELISM + "-total";
     static final String PARALLELISM_TOTAL_DOC = "Targeted parallelism level of the pool";
@@ -42,7 +47,15 @@ public class ThreadPoolMonitorMetricsRegistry {
         + "that have not yet begun executing.";
     static final String STEAL_TASK_COUNT = "steal-task-count";
     static final String STEAL_TASK_COUNT_TOTAL = STEAL_TASK_COUNT + "-total";
-    static final String STEAL_TASK_COUNT_TOTAL_DOC = "Number of tasks stolen from one thread's work queue by another";
+    static final String STEAL_TASK_COUNT_TOTAL_DOC = "Number of tasks stolen from one thread's work queue by another"
+        + FORK_JOIN_ONLY;
+    static final String STARTED_TASK_COUNT = "started-task-count";
+    static final String STARTED_TASK_COUNT_TOTAL = STARTED_TASK_COUNT + "-total";
+    static final String STARTED_TASK_COUNT_TOTAL_DOC = "Number of tasks started by the executor" + VIRTUAL_ONLY;
+    static final String QUEUE_TIME = "queue-time";
+    static final String QUEUE_TIME_TOTAL = QUEUE_TIME + "-total";
+    static final String QUEUE_TIME_TOTAL_DOC = "Time in milliseconds tasks "
+        + "spent waiting for a concurrency slot" + VIRTUAL_ONLY;
 
     final String groupName;
     final MetricNameTemplate activeThreadsTotalMetricName;
@@ -51,6 +64,8 @@ public class ThreadPoolMonitorMetricsRegistry {
     final MetricNameTemplate parallelismTotalMetricName;
     final MetricNameTemplate queuedTaskCountTotalMetricName;
     final MetricNameTemplate stealTaskCountTotalMetricName;
+    final MetricNameTemplate startedTaskCountTotalMetricName;
+    final MetricNameTemplate queueTimeTotalMetricName;
 
     public ThreadPoolMonitorMetricsRegistry(final String groupName) {
         this.groupName = groupName;
@@ -84,6 +99,16 @@ public class ThreadPoolMonitorMetricsRegistry {
             groupName,
             STEAL_TASK_COUNT_TOTAL_DOC
         );
+        startedTaskCountTotalMetricName = new MetricNameTemplate(
+            STARTED_TASK_COUNT_TOTAL,
+            groupName,
+            STARTED_TASK_COUNT_TOTAL_DOC
+        );
+        queueTimeTotalMetricName = new MetricNameTemplate(
+            QUEUE_TIME_TOTAL,
+            groupName,
+            QUEUE_TIME_TOTAL_DOC
+        );
     }
 
     public List<MetricNameTemplate> all() {
@@ -93,7 +118,9 @@ public class ThreadPoolMonitorMetricsRegistry {
             poolSizeTotalMetricName,
             parallelismTotalMetricName,
             queuedTaskCountTotalMetricName,
-            stealTaskCountTotalMetricName
+            stealTaskCountTotalMetricName,
+            startedTaskCountTotalMetricName,
+            queueTimeTotalMetricName
         );
     }
 }
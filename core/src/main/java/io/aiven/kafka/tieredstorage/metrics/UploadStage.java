@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+/**
+ * Stages of uploading a log segment, timed separately to tell where copy latency goes.
+ */
+public enum UploadStage {
+    COMPRESSION_CHECK("compression-check"),
+    DISK_READ("disk-read"),
+    COMPRESSION("compression"),
+    ENCRYPTION("encryption"),
+    RATE_LIMIT_WAIT("rate-limit-wait"),
+    OBJECT_UPLOAD("object-upload");
+
+    public final String value;
+
+    UploadStage(final String value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.replication;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+
+/**
+ * A storage backend of a {@link ReplicatedStorageBackend} with the state used to select it for reads.
+ */
+class Replica {
+    /**
+     * Weight of the latest fetch in the latency estimate.
+     */
+    static final double LATENCY_SMOOTHING = 0.2;
+
+    final String name;
+    final StorageBackend backend;
+    private final Time time;
+    private final long errorBackoffMs;
+    private final long probeIntervalMs;
+
+    // Zero until the first fetch, so that every replica gets measured before the slower ones are avoided.
+    private double latencyEstimateMs = 0;
+    private long lastSampleMs;
+    private boolean probing = false;
+    private long backoffUntilMs = Long.MIN_VALUE;
+
+    Replica(final String name,
+            final StorageBackend backend,
+            final Time time,
+            final long errorBackoffMs,
+            final long probeIntervalMs) {
+        this.name = name;
+        this.backend = backend;
+        this.time = time;
+        this.errorBackoffMs = errorBackoffMs;
+        this.probeIntervalMs = probeIntervalMs;
+        this.lastSampleMs = time.milliseconds();
+    }
+
+    synchronized void onFetched(final double latencyMs) {
+        // A stale estimate is replaced rather than smoothed, so a single slow sample is not averaged in for long.
+        latencyEstimateMs = latencyEstimateMs == 0 || probing
+            ? latencyMs
+            : LATENCY_SMOOTHING * latencyMs + (1 - LATENCY_SMOOTHING) * latencyEstimateMs;
+        lastSampleMs = time.milliseconds();
+        probing = false;
+    }
+
+    /**
+     * Whether the next read should probe this replica, as its latency has not been sampled for a while.
+     * Only one read gets to probe until the probe interval passes again.
+     */
+    synchronized boolean claimLatencyProbe() {
+        final long now = time.milliseconds();
+        if (latencyEstimateMs == 0 || now - lastSampleMs < probeIntervalMs) {
+            return false;
+        }
+        lastSampleMs = now;
+        probing = true;
+        return true;
+    }
+
+    synchronized void onFetchFailed() {
+        backoffUntilMs = time.milliseconds() + errorBackoffMs;
+    }
+
+    synchronized double latencyEstimateMs() {
+        return latencyEstimateMs;
+    }
+
+    synchronized boolean inErrorBackoff() {
+        return time.milliseconds() < backoffUntilMs;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + backend + ")";
+    }
+}
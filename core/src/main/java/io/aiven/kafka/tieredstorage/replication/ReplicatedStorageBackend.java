@@ -0,0 +1,450 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.replication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetrics;
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
+import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Storage backend keeping a copy of every object in several other backends, e.g. buckets in different regions.
+ *
+ * <p>Uploads go to the primary replica, the first configured one. Each uploaded object is then read back from
+ * the primary and copied to the secondary replicas, either before the upload returns or in the background.
+ * Background copies are retried, and counted as failed once the retries are exhausted.
+ * Deletes are sent to all replicas, after cancelling or waiting for the background copies of the same keys,
+ * so that no copy re-creates a deleted object.
+ *
+ * <p>Fetches are served by the replica with the lowest moving average of the time until it starts responding.
+ * A replica not read from for a while is probed by the next fetch, so a slow sample, e.g. of a cold connection,
+ * does not keep it from being read from for good.
+ * A replica failing a fetch is tried after all the others for a while, and the fetch falls back to the next
+ * replica. A key missing in a secondary, e.g. not copied yet, falls back as well.
+ */
+public class ReplicatedStorageBackend implements StorageBackend {
+    private static final Logger log = LoggerFactory.getLogger(ReplicatedStorageBackend.class);
+
+    private static final long CLOSE_TIMEOUT_MS = 30_000;
+
+    private final Time time;
+    private final AtomicInteger pendingReplications = new AtomicInteger();
+
+    private final Map<String, Set<Copy>> pendingCopies = new ConcurrentHashMap<>();
+
+    private List<Replica> replicas;
+    private Replica primary;
+    private ScheduledThreadPoolExecutor replicationExecutor;
+    private int copyRetries;
+    private long copyRetryBackoffMs;
+    private ReplicatedStorageMetrics metrics;
+
+    public ReplicatedStorageBackend() {
+        this(Time.SYSTEM);
+    }
+
+    ReplicatedStorageBackend(final Time time) {
+        this.time = time;
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final ReplicatedStorageBackendConfig config = new ReplicatedStorageBackendConfig(configs);
+        final long errorBackoffMs = config.fetchErrorBackoff().toMillis();
+        final long probeIntervalMs = config.fetchLatencyProbeInterval().toMillis();
+        final List<Replica> configured = new ArrayList<>();
+        for (final String name : config.replicaNames()) {
+            configured.add(new Replica(name, config.replicaBackend(name), time, errorBackoffMs, probeIntervalMs));
+        }
+        replicas = List.copyOf(configured);
+        primary = replicas.get(0);
+
+        metrics = new ReplicatedStorageMetrics(time, pendingReplications::get);
+        for (final Replica replica : replicas) {
+            metrics.registerReplica(replica.name, replica::latencyEstimateMs);
+        }
+
+        if (config.uploadAsyncEnabled()) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            replicationExecutor = new ScheduledThreadPoolExecutor(
+                config.uploadAsyncThreads(),
+                r -> {
+                    final Thread thread = new Thread(r, "replicated-storage-upload-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            replicationExecutor.setKeepAliveTime(1, TimeUnit.MINUTES);
+            replicationExecutor.allowCoreThreadTimeOut(true);
+            // retries waiting on close are dropped instead of delaying it
+            replicationExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            copyRetries = config.uploadAsyncRetries();
+            copyRetryBackoffMs = config.uploadAsyncRetryBackoff().toMillis();
+        }
+    }
+
+    @Override
+    public long upload(final InputStream inputStream, final ObjectKey key) throws StorageBackendException {
+        final long size;
+        try {
+            size = primary.backend.upload(inputStream, key);
+        } catch (final StorageBackendException | RuntimeException e) {
+            metrics.recordUploadError(primary.name);
+            throw e;
+        }
+
+        for (final Replica secondary : secondaries()) {
+            if (replicationExecutor == null) {
+                replicate(secondary, key);
+            } else {
+                final Copy copy = new Copy(secondary, key);
+                pendingReplications.incrementAndGet();
+                pendingCopies.compute(key.value(), (k, copies) -> {
+                    final Set<Copy> result = copies == null ? new HashSet<>() : copies;
+                    result.add(copy);
+                    return result;
+                });
+                copy.schedule(0);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Copies the object from the primary instead of buffering the uploaded stream,
+     * so the upload does not hold the whole object in memory.
+     */
+    private void replicate(final Replica secondary, final ObjectKey key) throws StorageBackendException {
+        try (InputStream inputStream = primary.backend.fetch(key)) {
+            secondary.backend.upload(inputStream, key);
+        } catch (final IOException | StorageBackendException | RuntimeException e) {
+            metrics.recordUploadError(secondary.name);
+            throw new StorageBackendException("Failed to copy " + key + " to replica " + secondary, e);
+        }
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key) throws StorageBackendException {
+        return fetch(key, backend -> backend.fetch(key));
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key, final BytesRange range) throws StorageBackendException {
+        return fetch(key, backend -> backend.fetch(key, range));
+    }
+
+    private InputStream fetch(final ObjectKey key, final Fetch fetch) throws StorageBackendException {
+        KeyNotFoundException notFoundInPrimary = null;
+        KeyNotFoundException notFound = null;
+        StorageBackendException failure = null;
+        for (final Replica replica : readOrder()) {
+            final long startNs = time.nanoseconds();
+            try {
+                final InputStream inputStream = fetch.from(replica.backend);
+                final double latencyMs = (time.nanoseconds() - startNs) / 1_000_000.0;
+                replica.onFetched(latencyMs);
+                metrics.recordFetch(replica.name, latencyMs);
+                return inputStream;
+            } catch (final InvalidRangeException e) {
+                // the range is wrong, not the replica
+                throw e;
+            } catch (final KeyNotFoundException e) {
+                if (replica == primary) {
+                    notFoundInPrimary = e;
+                } else if (notFound == null) {
+                    notFound = e;
+                }
+            } catch (final StorageBackendException | RuntimeException e) {
+                replica.onFetchFailed();
+                metrics.recordFetchError(replica.name);
+                log.warn("Failed to fetch {} from replica {}, falling back to the next one", key, replica, e);
+                if (failure == null) {
+                    failure = new StorageBackendException("Failed to fetch " + key + " from all replicas", e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        // The primary is the source of the copies, so it being sure the key is missing wins over other failures.
+        if (notFoundInPrimary != null) {
+            throw notFoundInPrimary;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        throw notFound;
+    }
+
+    /**
+     * Replicas in the order to try them for reads: the ones not failing recently first,
+     * then by increasing latency estimate, and then in the configured order.
+     * A replica due for a latency probe is ordered as if not measured yet, for this read only.
+     */
+    List<Replica> readOrder() {
+        final int size = replicas.size();
+        final boolean[] inErrorBackoff = new boolean[size];
+        final double[] latencyEstimatesMs = new double[size];
+        final List<Integer> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Replica replica = replicas.get(i);
+            inErrorBackoff[i] = replica.inErrorBackoff();
+            // a probed replica is tried first, as if it had not been measured yet
+            latencyEstimatesMs[i] = !inErrorBackoff[i] && replica.claimLatencyProbe() ? 0 : replica.latencyEstimateMs();
+            order.add(i);
+        }
+        // Sort a snapshot, as the estimates keep changing while sorting.
+        order.sort(Comparator.<Integer, Boolean>comparing(i -> inErrorBackoff[i])
+            .thenComparingDouble(i -> latencyEstimatesMs[i]));
+
+        final List<Replica> result = new ArrayList<>(size);
+        for (final int i : order) {
+            result.add(replicas.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(final ObjectKey key) throws StorageBackendException {
+        awaitPendingCopies(List.of(key));
+        deleteFromAll(key, backend -> backend.delete(key));
+    }
+
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        awaitPendingCopies(keys);
+        deleteFromAll(keys, backend -> backend.delete(keys));
+    }
+
+    /**
+     * Cancels the background copies of the keys not started yet and waits for the running ones to complete.
+     */
+    private void awaitPendingCopies(final Collection<ObjectKey> keys) throws StorageBackendException {
+        if (replicationExecutor == null) {
+            return;
+        }
+        final List<Copy> copies = new ArrayList<>();
+        for (final ObjectKey key : keys) {
+            pendingCopies.computeIfPresent(key.value(), (k, pending) -> {
+                copies.addAll(pending);
+                return pending;
+            });
+        }
+        for (final Copy copy : copies) {
+            copy.cancel();
+        }
+        for (final Copy copy : copies) {
+            try {
+                copy.done.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StorageBackendException("Interrupted while waiting for copies of " + keys, e);
+            }
+        }
+    }
+
+    private void deleteFromAll(final Object keys, final Delete delete) throws StorageBackendException {
+        StorageBackendException failure = null;
+        for (final Replica replica : replicas) {
+            try {
+                delete.from(replica.backend);
+            } catch (final StorageBackendException | RuntimeException e) {
+                metrics.recordDeleteError(replica.name);
+                if (failure == null) {
+                    failure = new StorageBackendException("Failed to delete " + keys + " from replica " + replica, e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private List<Replica> secondaries() {
+        return replicas.subList(1, replicas.size());
+    }
+
+    /**
+     * Background copy of an object to a secondary replica, retried until it succeeds, is cancelled,
+     * or runs out of retries.
+     */
+    private final class Copy implements Runnable {
+        private final Replica secondary;
+        private final ObjectKey key;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile boolean cancelled = false;
+        // only accessed by the running copy, as the retries never run concurrently
+        private int attempts = 0;
+        // guarded by this
+        private Future<?> scheduled;
+        // guarded by this, a running task can still be cancelled as it is not done
+        private boolean running = false;
+
+        private Copy(final Replica secondary, final ObjectKey key) {
+            this.secondary = secondary;
+            this.key = key;
+        }
+
+        private synchronized void schedule(final long delayMs) {
+            if (cancelled) {
+                finish();
+                return;
+            }
+            running = false;
+            try {
+                scheduled = replicationExecutor.schedule(this, delayMs, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                log.warn("Dropping copy of {} to replica {} on close", key, secondary);
+                finish();
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            // a running copy finishes on its own, so deletes wait for it
+            if (!running && scheduled != null && scheduled.cancel(false)) {
+                finish();
+            }
+        }
+
+        private synchronized boolean start() {
+            if (cancelled) {
+                return false;
+            }
+            running = true;
+            return true;
+        }
+
+        @Override
+        public void run() {
+            if (!start()) {
+                finish();
+                return;
+            }
+            attempts += 1;
+            try {
+                replicate(secondary, key);
+                finish();
+            } catch (final StorageBackendException e) {
+                if (attempts <= copyRetries) {
+                    log.warn("Failed to copy {} to replica {}, retrying in {} ms",
+                        key, secondary, copyRetryBackoffMs, e);
+                    schedule(copyRetryBackoffMs);
+                } else {
+                    metrics.recordCopyFailure(secondary.name);
+                    log.error("Failed to copy {} to replica {} after {} attempts, the replica is missing it",
+                        key, secondary, attempts, e);
+                    finish();
+                }
+            }
+        }
+
+        private void finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            pendingCopies.computeIfPresent(key.value(), (k, copies) -> {
+                copies.remove(this);
+                return copies.isEmpty() ? null : copies;
+            });
+            pendingReplications.decrementAndGet();
+            done.countDown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Fetch {
+        InputStream from(StorageBackend backend) throws StorageBackendException;
+    }
+
+    @FunctionalInterface
+    private interface Delete {
+        void from(StorageBackend backend) throws StorageBackendException;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (replicationExecutor != null) {
+                replicationExecutor.shutdown();
+                try {
+                    if (!replicationExecutor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                        replicationExecutor.shutdownNow();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    replicationExecutor.shutdownNow();
+                }
+                if (pendingReplications.get() > 0) {
+                    log.warn("Dropping {} pending copies to secondary replicas", pendingReplications.get());
+                }
+            }
+        } finally {
+            IOException failure = null;
+            for (final Replica replica : replicas) {
+                try {
+                    replica.backend.close();
+                } catch (final IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            metrics.close();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicatedStorageBackend{"
+            + "replicas=" + replicas
+            + '}';
+    }
+}
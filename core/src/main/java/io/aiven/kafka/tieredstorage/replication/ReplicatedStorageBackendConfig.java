@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.replication;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.utils.Utils;
+
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+
+public class ReplicatedStorageBackendConfig extends AbstractConfig {
+    static final String REPLICAS_CONFIG = "replicas";
+    private static final String REPLICAS_DOC = "The names of the replicas. "
+        + "Uploads go first to the first replica, the primary, and are then copied to the others. "
+        + "Each replica is configured under ``replicas.<name>.``, "
+        + "e.g. ``replicas.<name>.backend.class`` with its own storage backend configs next to it";
+
+    private static final String REPLICA_BACKEND_CLASS_DOC = "The storage backend implementation class of the replica";
+
+    static final String UPLOAD_ASYNC_ENABLED_CONFIG = "upload.async.enabled";
+    private static final String UPLOAD_ASYNC_ENABLED_DOC = "Whether to copy uploaded objects to the secondary "
+        + "replicas in the background instead of before the upload completes. "
+        + "Copies failing in the background are retried, then counted as failed, leaving the secondary incomplete";
+
+    static final String UPLOAD_ASYNC_THREADS_CONFIG = "upload.async.threads";
+    private static final String UPLOAD_ASYNC_THREADS_DOC = "Number of threads copying uploaded objects "
+        + "to the secondary replicas in the background";
+
+    static final String UPLOAD_ASYNC_RETRIES_CONFIG = "upload.async.retries";
+    private static final String UPLOAD_ASYNC_RETRIES_DOC = "Number of times a failed copy to a secondary replica "
+        + "in the background is retried before giving up";
+
+    static final String UPLOAD_ASYNC_RETRY_BACKOFF_MS_CONFIG = "upload.async.retry.backoff.ms";
+    private static final String UPLOAD_ASYNC_RETRY_BACKOFF_MS_DOC = "Time to wait before retrying a failed copy "
+        + "to a secondary replica in the background";
+
+    static final String FETCH_ERROR_BACKOFF_MS_CONFIG = "fetch.error.backoff.ms";
+    private static final String FETCH_ERROR_BACKOFF_MS_DOC = "Time during which a replica failing a fetch "
+        + "is only read from after all the others";
+
+    static final String FETCH_LATENCY_PROBE_INTERVAL_MS_CONFIG = "fetch.latency.probe.interval.ms";
+    private static final String FETCH_LATENCY_PROBE_INTERVAL_MS_DOC = "Time after which a replica not read from "
+        + "is tried first by the next fetch, so its latency estimate is refreshed with a new sample";
+
+    public static ConfigDef configDef() {
+        return new ConfigDef()
+            .define(
+                REPLICAS_CONFIG,
+                ConfigDef.Type.LIST,
+                ConfigDef.NO_DEFAULT_VALUE,
+                ConfigDef.Importance.HIGH,
+                REPLICAS_DOC
+            )
+            .define(
+                UPLOAD_ASYNC_ENABLED_CONFIG,
+                ConfigDef.Type.BOOLEAN,
+                false,
+                ConfigDef.Importance.MEDIUM,
+                UPLOAD_ASYNC_ENABLED_DOC
+            )
+            .define(
+                UPLOAD_ASYNC_THREADS_CONFIG,
+                ConfigDef.Type.INT,
+                2,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                UPLOAD_ASYNC_THREADS_DOC
+            )
+            .define(
+                UPLOAD_ASYNC_RETRIES_CONFIG,
+                ConfigDef.Type.INT,
+                3,
+                ConfigDef.Range.atLeast(0),
+                ConfigDef.Importance.LOW,
+                UPLOAD_ASYNC_RETRIES_DOC
+            )
+            .define(
+                UPLOAD_ASYNC_RETRY_BACKOFF_MS_CONFIG,
+                ConfigDef.Type.LONG,
+                1_000L,
+                ConfigDef.Range.atLeast(0),
+                ConfigDef.Importance.LOW,
+                UPLOAD_ASYNC_RETRY_BACKOFF_MS_DOC
+            )
+            .define(
+                FETCH_ERROR_BACKOFF_MS_CONFIG,
+                ConfigDef.Type.LONG,
+                30_000L,
+                ConfigDef.Range.atLeast(0),
+                ConfigDef.Importance.LOW,
+                FETCH_ERROR_BACKOFF_MS_DOC
+            )
+            .define(
+                FETCH_LATENCY_PROBE_INTERVAL_MS_CONFIG,
+                ConfigDef.Type.LONG,
+                60_000L,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                FETCH_LATENCY_PROBE_INTERVAL_MS_DOC
+            );
+    }
+
+    ReplicatedStorageBackendConfig(final Map<String, ?> props) {
+        super(replicasConfigDef(props), props);
+        validate();
+    }
+
+    private static ConfigDef replicasConfigDef(final Map<String, ?> props) {
+        final ConfigDef configDef = configDef();
+        final AbstractConfig interimConfig = new AbstractConfig(configDef(), props, false);
+
+        // Define the replica backend fields dynamically based on the replica names.
+        // See e.g. the ConnectorConfig.enrich in the Kafka code.
+        for (final String replica : interimConfig.getList(REPLICAS_CONFIG)) {
+            configDef.define(
+                backendClassConfig(replica),
+                ConfigDef.Type.CLASS,
+                ConfigDef.NO_DEFAULT_VALUE,
+                ConfigDef.Importance.HIGH,
+                REPLICA_BACKEND_CLASS_DOC
+            );
+        }
+        return configDef;
+    }
+
+    private void validate() {
+        final List<String> replicas = replicaNames();
+        if (replicas.size() < 2) {
+            throw new ConfigException(REPLICAS_CONFIG + " must contain at least two replicas, got " + replicas);
+        }
+        if (new HashSet<>(replicas).size() != replicas.size()) {
+            throw new ConfigException(REPLICAS_CONFIG + " must not contain duplicates, got " + replicas);
+        }
+    }
+
+    List<String> replicaNames() {
+        return getList(REPLICAS_CONFIG);
+    }
+
+    StorageBackend replicaBackend(final String replica) {
+        final Class<?> storageClass = getClass(backendClassConfig(replica));
+        final StorageBackend storage = Utils.newInstance(storageClass, StorageBackend.class);
+        storage.configure(originalsWithPrefix(replicaPrefix(replica)));
+        return storage;
+    }
+
+    boolean uploadAsyncEnabled() {
+        return getBoolean(UPLOAD_ASYNC_ENABLED_CONFIG);
+    }
+
+    int uploadAsyncThreads() {
+        return getInt(UPLOAD_ASYNC_THREADS_CONFIG);
+    }
+
+    int uploadAsyncRetries() {
+        return getInt(UPLOAD_ASYNC_RETRIES_CONFIG);
+    }
+
+    Duration uploadAsyncRetryBackoff() {
+        return Duration.ofMillis(getLong(UPLOAD_ASYNC_RETRY_BACKOFF_MS_CONFIG));
+    }
+
+    Duration fetchErrorBackoff() {
+        return Duration.ofMillis(getLong(FETCH_ERROR_BACKOFF_MS_CONFIG));
+    }
+
+    Duration fetchLatencyProbeInterval() {
+        return Duration.ofMillis(getLong(FETCH_LATENCY_PROBE_INTERVAL_MS_CONFIG));
+    }
+
+    private static String replicaPrefix(final String replica) {
+        return REPLICAS_CONFIG + "." + replica + ".";
+    }
+
+    private static String backendClassConfig(final String replica) {
+        return replicaPrefix(replica) + "backend.class";
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.aiven.kafka.tieredstorage.security;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.aiven.kafka.tieredstorage.metrics.CaffeineStatsCounter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+/**
+ * Keeps data keys unwrapped with the RSA private key, so reloading the manifest of an encrypted segment
+ * does not repeat the private key operation.
+ *
+ * <p>Entries are keyed by the key pair ID and the encrypted data key. Unwrapped keys are zeroed when
+ * evicted or expired, and callers get their own copy. Cache hits are RSA operations avoided.
+ */
+public class DataKeyCache implements Closeable {
+    public static final String METRIC_GROUP = "data-key-cache-metrics";
+
+    private final Function<EncryptedDataKey, byte[]> keyDecryptor;
+    private final Cache<CacheKey, UnwrappedKey> cache;
+    final CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(METRIC_GROUP);
+
+    public DataKeyCache(final Function<EncryptedDataKey, byte[]> keyDecryptor,
+                        final long maxSize,
+                        final Duration retention) {
+        this.keyDecryptor = Objects.requireNonNull(keyDecryptor, "keyDecryptor cannot be null");
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(retention)
+            .scheduler(Scheduler.systemScheduler())
+            .executor(Runnable::run)
+            .removalListener((final CacheKey key, final UnwrappedKey value, final RemovalCause cause) -> {
+                if (value != null) {
+                    value.destroy();
+                }
+            })
+            .recordStats(() -> statsCounter)
+            .build();
+        statsCounter.registerSizeMetric(cache::estimatedSize);
+    }
+
+    public byte[] decryptDataKey(final EncryptedDataKey encryptedDataKey) {
+        final UnwrappedKey unwrappedKey = cache.get(new CacheKey(encryptedDataKey),
+            k -> new UnwrappedKey(keyDecryptor.apply(encryptedDataKey)));
+        final byte[] dataKey = unwrappedKey.copy();
+        if (dataKey == null) {
+            // Destroyed by a concurrent eviction.
+            return keyDecryptor.apply(encryptedDataKey);
+        }
+        return dataKey;
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    private static final class CacheKey {
+        private final String keyEncryptionKeyId;
+        private final byte[] encryptedDataKey;
+
+        private CacheKey(final EncryptedDataKey encryptedDataKey) {
+            this.keyEncryptionKeyId = encryptedDataKey.keyEncryptionKeyId;
+            this.encryptedDataKey = encryptedDataKey.encryptedDataKey;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return keyEncryptionKeyId.equals(that.keyEncryptionKeyId)
+                && Arrays.equals(encryptedDataKey, that.encryptedDataKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = keyEncryptionKeyId.hashCode();
+            result = 31 * result + Arrays.hashCode(encryptedDataKey);
+            return result;
+        }
+    }
+
+    private static final class UnwrappedKey {
+        private byte[] dataKey;
+
+        private UnwrappedKey(final byte[] dataKey) {
+            this.dataKey = dataKey;
+        }
+
+        synchronized byte[] copy() {
+            return dataKey == null ? null : dataKey.clone();
+        }
+
+        synchronized void destroy() {
+            if (dataKey != null) {
+                Arrays.fill(dataKey, (byte) 0);
+                dataKey = null;
+            }
+        }
+    }
+}
@@ -25,6 +25,8 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 
 import io.aiven.kafka.tieredstorage.Chunk;
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageRecorder;
 
 /**
  * The base chunk de-transformation that does the initial chunking of the input stream of bytes.
@@ -41,6 +43,7 @@ public class BaseDetransformChunkEnumeration implements DetransformChunkEnumerat
     private boolean inputStreamClosed = false;
     private final Iterator<Chunk> chunksIter;
     private final boolean isEmpty;
+    private final FetchStageRecorder stageRecorder;
 
     private byte[] chunk = null;
 
@@ -48,13 +51,24 @@ public class BaseDetransformChunkEnumeration implements DetransformChunkEnumerat
         this.inputStream = Objects.requireNonNull(inputStream, "inputStream cannot be null");
         this.isEmpty = true;
         this.chunksIter = Collections.emptyIterator();
+        this.stageRecorder = FetchStageRecorder.NOOP;
     }
 
     public BaseDetransformChunkEnumeration(final InputStream inputStream,
                                            final List<Chunk> chunks) {
+        this(inputStream, chunks, FetchStageRecorder.NOOP);
+    }
+
+    /**
+     * @param stageRecorder receives the time spent reading each transformed chunk from the input stream
+     */
+    public BaseDetransformChunkEnumeration(final InputStream inputStream,
+                                           final List<Chunk> chunks,
+                                           final FetchStageRecorder stageRecorder) {
         this.inputStream = Objects.requireNonNull(inputStream, "inputStream cannot be null");
         this.chunksIter = Objects.requireNonNull(chunks, "chunks cannot be null").iterator();
         this.isEmpty = chunks.isEmpty();
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
     }
 
     @Override
@@ -99,6 +113,7 @@ public class BaseDetransformChunkEnumeration implements DetransformChunkEnumerat
             }
         }
 
+        final long start = System.nanoTime();
         try {
             if (!isEmpty) {
                 final int expectedTransformedSize = chunksIter.next().transformedSize;
@@ -112,6 +127,7 @@ public class BaseDetransformChunkEnumeration implements DetransformChunkEnumerat
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
+        stageRecorder.record(FetchStage.STORAGE_TRANSFER, System.nanoTime() - start);
     }
 
     private boolean endOfStreamReached() {
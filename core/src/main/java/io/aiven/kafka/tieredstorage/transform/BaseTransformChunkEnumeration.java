@@ -21,6 +21,9 @@ import java.io.InputStream;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
+
 /**
  * The base chunk transformation that does the initial chunking of the input stream of bytes.
  *
@@ -29,6 +32,7 @@ import java.util.Objects;
 public class BaseTransformChunkEnumeration implements TransformChunkEnumeration {
     private final InputStream inputStream;
     private final int originalChunkSize;
+    private final UploadStageRecorder stageRecorder;
 
     private byte[] chunk = null;
 
@@ -38,6 +42,17 @@ public class BaseTransformChunkEnumeration implements TransformChunkEnumeration
      */
     public BaseTransformChunkEnumeration(final InputStream inputStream,
                                          final int originalChunkSize) {
+        this(inputStream, originalChunkSize, UploadStageRecorder.NOOP);
+    }
+
+    /**
+     * @param inputStream       original content
+     * @param originalChunkSize chunk size from the <b>original</b> content. If zero, it disables chunking.
+     * @param stageRecorder     receives the time spent reading each chunk of the original content
+     */
+    public BaseTransformChunkEnumeration(final InputStream inputStream,
+                                         final int originalChunkSize,
+                                         final UploadStageRecorder stageRecorder) {
         this.inputStream = Objects.requireNonNull(inputStream, "inputStream cannot be null");
 
         if (originalChunkSize < 0) {
@@ -45,6 +60,7 @@ public class BaseTransformChunkEnumeration implements TransformChunkEnumeration
                 "originalChunkSize must be non-negative, " + originalChunkSize + " given");
         }
         this.originalChunkSize = originalChunkSize;
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
     }
 
     @Override
@@ -81,6 +97,7 @@ public class BaseTransformChunkEnumeration implements TransformChunkEnumeration
             return;
         }
 
+        final long start = System.nanoTime();
         try {
             if (originalChunkSize != 0) {
                 chunk = inputStream.readNBytes(originalChunkSize);
@@ -90,6 +107,9 @@ public class BaseTransformChunkEnumeration implements TransformChunkEnumeration
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
+        if (chunk.length > 0) {
+            stageRecorder.record(UploadStage.DISK_READ, System.nanoTime() - start, chunk.length);
+        }
     }
 
     private boolean endOfStreamReached() {
@@ -18,6 +18,9 @@ package io.aiven.kafka.tieredstorage.transform;
 
 import java.util.Objects;
 
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
+
 import com.github.luben.zstd.ZstdCompressCtx;
 
 /**
@@ -25,9 +28,19 @@ import com.github.luben.zstd.ZstdCompressCtx;
  */
 public class CompressionChunkEnumeration implements TransformChunkEnumeration {
     private final TransformChunkEnumeration inner;
+    private final UploadStageRecorder stageRecorder;
 
     public CompressionChunkEnumeration(final TransformChunkEnumeration inner) {
+        this(inner, UploadStageRecorder.NOOP);
+    }
+
+    /**
+     * @param stageRecorder receives the time spent compressing each chunk
+     */
+    public CompressionChunkEnumeration(final TransformChunkEnumeration inner,
+                                       final UploadStageRecorder stageRecorder) {
         this.inner = Objects.requireNonNull(inner, "inner cannot be null");
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
     }
 
     @Override
@@ -49,6 +62,7 @@ public class CompressionChunkEnumeration implements TransformChunkEnumeration {
     @Override
     public byte[] nextElement() {
         final var chunk = inner.nextElement();
+        final long start = System.nanoTime();
         try (final ZstdCompressCtx compressCtx = new ZstdCompressCtx()) {
             try {
                 compressCtx.setPledgedSrcSize(chunk.length);
@@ -59,6 +73,8 @@ public class CompressionChunkEnumeration implements TransformChunkEnumeration {
             // Allow the de-transformation to know the content size and allocate buffers accordingly.
             compressCtx.setContentSize(true);
             return compressCtx.compress(chunk);
+        } finally {
+            stageRecorder.record(UploadStage.COMPRESSION, System.nanoTime() - start, chunk.length);
         }
     }
 }
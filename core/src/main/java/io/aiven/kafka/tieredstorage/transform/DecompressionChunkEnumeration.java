@@ -18,6 +18,9 @@ package io.aiven.kafka.tieredstorage.transform;
 
 import java.util.Objects;
 
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageRecorder;
+
 import com.github.luben.zstd.Zstd;
 
 /**
@@ -25,9 +28,19 @@ import com.github.luben.zstd.Zstd;
  */
 public class DecompressionChunkEnumeration implements DetransformChunkEnumeration {
     private final DetransformChunkEnumeration inner;
+    private final FetchStageRecorder stageRecorder;
 
     public DecompressionChunkEnumeration(final DetransformChunkEnumeration inner) {
+        this(inner, FetchStageRecorder.NOOP);
+    }
+
+    /**
+     * @param stageRecorder receives the time spent decompressing each chunk
+     */
+    public DecompressionChunkEnumeration(final DetransformChunkEnumeration inner,
+                                         final FetchStageRecorder stageRecorder) {
         this.inner = Objects.requireNonNull(inner, "inner cannot be null");
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
     }
 
     @Override
@@ -38,10 +51,13 @@ public class DecompressionChunkEnumeration implements DetransformChunkEnumeratio
     @Override
     public byte[] nextElement() {
         final byte[] chunk = inner.nextElement();
+        final long start = System.nanoTime();
         final long decompressedSize = Zstd.decompressedSize(chunk);
         if (decompressedSize < 0) {
             throw new RuntimeException("Invalid decompressed size: " + decompressedSize);
         }
-        return Zstd.decompress(chunk, (int) decompressedSize);
+        final byte[] decompressed = Zstd.decompress(chunk, (int) decompressedSize);
+        stageRecorder.record(FetchStage.DECOMPRESSION, System.nanoTime() - start);
+        return decompressed;
     }
 }
@@ -23,6 +23,9 @@ import javax.crypto.IllegalBlockSizeException;
 import java.util.Objects;
 import java.util.function.Function;
 
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageRecorder;
+
 /**
  * The chunk de-transformation that does decryption.
  */
@@ -30,6 +33,7 @@ public class DecryptionChunkEnumeration implements DetransformChunkEnumeration {
     private final DetransformChunkEnumeration inner;
     private final int ivSize;
     private final Function<byte[], Cipher> cipherSupplier;
+    private final FetchStageRecorder stageRecorder;
 
     /**
      * @param cipherSupplier a function that takes an encrypted chunk and returns the decryption cypher for it
@@ -37,12 +41,24 @@ public class DecryptionChunkEnumeration implements DetransformChunkEnumeration {
     public DecryptionChunkEnumeration(final DetransformChunkEnumeration inner,
                                       final int ivSize,
                                       final Function<byte[], Cipher> cipherSupplier) {
+        this(inner, ivSize, cipherSupplier, FetchStageRecorder.NOOP);
+    }
+
+    /**
+     * @param cipherSupplier a function that takes an encrypted chunk and returns the decryption cypher for it
+     * @param stageRecorder  receives the time spent decrypting each chunk
+     */
+    public DecryptionChunkEnumeration(final DetransformChunkEnumeration inner,
+                                      final int ivSize,
+                                      final Function<byte[], Cipher> cipherSupplier,
+                                      final FetchStageRecorder stageRecorder) {
         this.inner = Objects.requireNonNull(inner, "inner cannot be null");
         if (ivSize <= 0) {
             throw new IllegalArgumentException("ivSize must be positive");
         }
         this.ivSize = ivSize;
         this.cipherSupplier = Objects.requireNonNull(cipherSupplier, "cipherSupplier cannot be null");
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
     }
 
     @Override
@@ -53,11 +69,14 @@ public class DecryptionChunkEnumeration implements DetransformChunkEnumeration {
     @Override
     public byte[] nextElement() {
         final var chunk = inner.nextElement();
+        final long start = System.nanoTime();
         final var cipher = cipherSupplier.apply(chunk);
         try {
             return cipher.doFinal(chunk, ivSize, chunk.length - ivSize);
         } catch (final IllegalBlockSizeException | BadPaddingException e) {
             throw new RuntimeException(e);
+        } finally {
+            stageRecorder.record(FetchStage.DECRYPTION, System.nanoTime() - start);
         }
     }
 }
@@ -24,19 +24,33 @@ import javax.crypto.ShortBufferException;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
+
 /**
  * The chunk transformation that does encryption.
  */
 public class EncryptionChunkEnumeration implements TransformChunkEnumeration {
     private final TransformChunkEnumeration inner;
     private final Supplier<Cipher> cipherSupplier;
+    private final UploadStageRecorder stageRecorder;
 
     private final Integer transformedChunkSize;
 
     public EncryptionChunkEnumeration(final TransformChunkEnumeration inner,
                                       final Supplier<Cipher> cipherSupplier) {
+        this(inner, cipherSupplier, UploadStageRecorder.NOOP);
+    }
+
+    /**
+     * @param stageRecorder receives the time spent encrypting each chunk
+     */
+    public EncryptionChunkEnumeration(final TransformChunkEnumeration inner,
+                                      final Supplier<Cipher> cipherSupplier,
+                                      final UploadStageRecorder stageRecorder) {
         this.inner = Objects.requireNonNull(inner, "inner cannot be null");
         this.cipherSupplier = Objects.requireNonNull(cipherSupplier, "cipherSupplier cannot be null");
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
 
         final Integer innerTransformedChunkSize = inner.transformedChunkSize();
         if (innerTransformedChunkSize == null) {
@@ -64,8 +78,9 @@ public class EncryptionChunkEnumeration implements TransformChunkEnumeration {
 
     @Override
     public byte[] nextElement() {
-        final var cipher = cipherSupplier.get();
         final var chunk = inner.nextElement();
+        final long start = System.nanoTime();
+        final var cipher = cipherSupplier.get();
         final byte[] iv = cipher.getIV();
         final int transformedChunkSize = encryptedChunkSize(cipher, iv.length, chunk.length);
         final byte[] transformedChunk = new byte[transformedChunkSize];
@@ -76,6 +91,7 @@ public class EncryptionChunkEnumeration implements TransformChunkEnumeration {
         } catch (final ShortBufferException | IllegalBlockSizeException | BadPaddingException e) {
             throw new RuntimeException(e);
         }
+        stageRecorder.record(UploadStage.ENCRYPTION, System.nanoTime() - start, chunk.length);
         return transformedChunk;
     }
 
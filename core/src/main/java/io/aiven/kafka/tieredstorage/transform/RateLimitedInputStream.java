@@ -20,6 +20,10 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.Objects;
+
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
 
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.local.SynchronizationStrategy;
@@ -36,10 +40,22 @@ public class RateLimitedInputStream extends FilterInputStream {
     static final int MIN_RATE = Runtime.version().feature() >= 21 ? 16384 : 8192;
 
     final Bucket bucket;
+    private final UploadStageRecorder stageRecorder;
 
     public RateLimitedInputStream(final InputStream delegated, final Bucket bucket) {
+        this(delegated, bucket, UploadStageRecorder.NOOP);
+    }
+
+    /**
+     * @param stageRecorder receives the time spent blocked waiting for tokens of each read,
+     *                      along with the number of bytes that read returned
+     */
+    public RateLimitedInputStream(final InputStream delegated,
+                                  final Bucket bucket,
+                                  final UploadStageRecorder stageRecorder) {
         super(delegated);
         this.bucket = bucket;
+        this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
     }
 
     public static Bucket rateLimitBucket(final int uploadRate) {
@@ -56,17 +72,24 @@ public class RateLimitedInputStream extends FilterInputStream {
     @Override
     public int read(final byte[] b, final int off, final int len) throws IOException {
         // only block when some bytes are requested
+        long waitNanos = -1;
         if (len > 0) {
+            final long start = System.nanoTime();
             try {
                 bucket.asBlocking().consume(len);
             } catch (final InterruptedException e) {
                 throw new RuntimeException("Rate limited consumption of input stream interrupted", e);
             }
+            waitNanos = System.nanoTime() - start;
         }
 
         // forward request
         final int read = super.read(b, off, len);
 
+        if (waitNanos >= 0) {
+            stageRecorder.record(UploadStage.RATE_LIMIT_WAIT, waitNanos, Math.max(read, 0));
+        }
+
         // compensate for tokens buffered but not read
         if (read > -1) {
             // if number of bytes read is less than buffer, return tokens
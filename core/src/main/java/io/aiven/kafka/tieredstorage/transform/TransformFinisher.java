@@ -30,6 +30,7 @@ import io.aiven.kafka.tieredstorage.manifest.index.AbstractChunkIndexBuilder;
 import io.aiven.kafka.tieredstorage.manifest.index.ChunkIndex;
 import io.aiven.kafka.tieredstorage.manifest.index.FixedSizeChunkIndexBuilder;
 import io.aiven.kafka.tieredstorage.manifest.index.VariableSizeChunkIndexBuilder;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
 
 import io.github.bucket4j.Bucket;
 
@@ -51,6 +52,7 @@ public class TransformFinisher implements Enumeration<InputStream> {
     private final int originalFileSize;
     private ChunkIndex chunkIndex = null;
     private final Bucket rateLimitingBucket;
+    private final UploadStageRecorder stageRecorder;
 
     public static Builder newBuilder(final TransformChunkEnumeration inner, final int originalFileSize) {
         return new Builder(inner, originalFileSize);
@@ -61,7 +63,8 @@ public class TransformFinisher implements Enumeration<InputStream> {
         final boolean chunkingEnabled,
         final Path originalFilePath,
         final int originalFileSize,
-        final Bucket rateLimitingBucket
+        final Bucket rateLimitingBucket,
+        final UploadStageRecorder stageRecorder
     ) {
         this.inner = Objects.requireNonNull(inner, "inner cannot be null");
 
@@ -70,6 +73,7 @@ public class TransformFinisher implements Enumeration<InputStream> {
         this.originalFilePath = originalFilePath;
         this.originalFileSize = originalFileSize;
         this.rateLimitingBucket = rateLimitingBucket;
+        this.stageRecorder = stageRecorder;
     }
 
     private static AbstractChunkIndexBuilder chunkIndexBuilder(
@@ -147,7 +151,7 @@ public class TransformFinisher implements Enumeration<InputStream> {
         if (rateLimitingBucket == null) {
             return delegated;
         }
-        return new RateLimitedInputStream(delegated, rateLimitingBucket);
+        return new RateLimitedInputStream(delegated, rateLimitingBucket, stageRecorder);
     }
 
     private boolean isBaseTransform() {
@@ -164,6 +168,7 @@ public class TransformFinisher implements Enumeration<InputStream> {
         boolean chunkingEnabled = true;
         Path originalFilePath = null;
         Bucket rateLimitingBucket;
+        UploadStageRecorder stageRecorder = UploadStageRecorder.NOOP;
 
         public Builder(final TransformChunkEnumeration inner, final int originalFileSize) {
             this.inner = inner;
@@ -181,6 +186,11 @@ public class TransformFinisher implements Enumeration<InputStream> {
             return this;
         }
 
+        public Builder withStageRecorder(final UploadStageRecorder stageRecorder) {
+            this.stageRecorder = Objects.requireNonNull(stageRecorder, "stageRecorder cannot be null");
+            return this;
+        }
+
         public Builder withChunkingDisabled() {
             this.chunkingEnabled = false;
             return this;
@@ -193,7 +203,7 @@ public class TransformFinisher implements Enumeration<InputStream> {
 
         public TransformFinisher build() {
             return new TransformFinisher(inner, chunkingEnabled, originalFilePath, originalFileSize,
-                rateLimitingBucket);
+                rateLimitingBucket, stageRecorder);
         }
     }
 }
@@ -17,13 +17,23 @@
 package io.aiven.kafka.tieredstorage;
 
 import java.io.InputStream;
-
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.apache.kafka.common.TopicIdPartition;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentId;
 import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentState;
 import org.apache.kafka.server.log.remote.storage.RemoteResourceNotFoundException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager;
 
 import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
+import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField;
+import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataSerde;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,12 +44,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class InternalRemoteStorageManagerSelectorTest {
+    static final RemoteLogSegmentId REMOTE_LOG_SEGMENT_ID = new RemoteLogSegmentId(
+        new TopicIdPartition(Uuid.randomUuid(), new TopicPartition("topic", 0)), Uuid.randomUuid());
+
     @Mock
     InputStream is;
     @Mock
@@ -154,4 +168,79 @@ class InternalRemoteStorageManagerSelectorTest {
         ).isInstanceOf(IllegalArgumentException.class)
             .hasMessage("icebergRsm cannot be null when format is ICEBERG");
     }
+
+    @Test
+    void recordedFormatIsCalledDirectly() throws RemoteStorageException, SegmentManifestNotFoundException {
+        final RemoteLogSegmentMetadata metadata = segmentMetadata(SegmentFormat.ICEBERG);
+        when(icebergRsm.fetchIndex(any(), any())).thenReturn(is);
+        final var selector = new InternalRemoteStorageManagerSelector(SegmentFormat.KAFKA, kafkaRsm, icebergRsm);
+        final InputStream result = selector.call(metadata, irsm -> irsm.fetchIndex(metadata, null));
+        assertThat(result).isSameAs(is);
+        verifyNoInteractions(kafkaRsm);
+        assertThat(selector.knownFormat(metadata)).hasValue(SegmentFormat.ICEBERG);
+    }
+
+    @Test
+    void recordedFormatNotFound() throws RemoteStorageException, SegmentManifestNotFoundException {
+        final RemoteLogSegmentMetadata metadata = segmentMetadata(SegmentFormat.ICEBERG);
+        final SegmentManifestNotFoundException exception = new SegmentManifestNotFoundException();
+        when(icebergRsm.fetchIndex(any(), any())).thenThrow(exception);
+        final var selector = new InternalRemoteStorageManagerSelector(SegmentFormat.KAFKA, kafkaRsm, icebergRsm);
+        assertThatThrownBy(() -> selector.call(metadata, irsm -> irsm.fetchIndex(metadata, null)))
+            .isInstanceOf(RemoteResourceNotFoundException.class)
+            .hasCause(exception);
+        verifyNoInteractions(kafkaRsm);
+    }
+
+    @Test
+    void recordedFormatNotEnabled() {
+        final RemoteLogSegmentMetadata metadata = segmentMetadata(SegmentFormat.ICEBERG);
+        final var selector = new InternalRemoteStorageManagerSelector(SegmentFormat.KAFKA, kafkaRsm, null);
+        assertThatThrownBy(() -> selector.call(metadata, irsm -> irsm.fetchIndex(metadata, null)))
+            .isInstanceOf(RemoteStorageException.class)
+            .hasMessage("Segment " + REMOTE_LOG_SEGMENT_ID + " is in ICEBERG format, which is not enabled");
+        verifyNoInteractions(kafkaRsm);
+    }
+
+    @Test
+    void fallbackFormatIsRemembered() throws RemoteStorageException, SegmentManifestNotFoundException {
+        final RemoteLogSegmentMetadata metadata = segmentMetadata(null);
+        when(kafkaRsm.fetchIndex(any(), any())).thenThrow(new SegmentManifestNotFoundException());
+        when(icebergRsm.fetchIndex(any(), any())).thenReturn(is);
+        final var selector = new InternalRemoteStorageManagerSelector(SegmentFormat.KAFKA, kafkaRsm, icebergRsm);
+        assertThat(selector.knownFormat(metadata)).isEmpty();
+
+        assertThat(selector.call(metadata, irsm -> irsm.fetchIndex(metadata, null))).isSameAs(is);
+        assertThat(selector.call(metadata, irsm -> irsm.fetchIndex(metadata, null))).isSameAs(is);
+        verify(kafkaRsm).fetchIndex(any(), any());
+        verify(icebergRsm, times(2)).fetchIndex(any(), any());
+        assertThat(selector.knownFormat(metadata)).hasValue(SegmentFormat.ICEBERG);
+
+        selector.forget(REMOTE_LOG_SEGMENT_ID);
+        assertThat(selector.knownFormat(metadata)).isEmpty();
+    }
+
+    @Test
+    void configuredFormatIsNotRemembered() throws RemoteStorageException, SegmentManifestNotFoundException {
+        final RemoteLogSegmentMetadata metadata = segmentMetadata(null);
+        when(kafkaRsm.fetchIndex(any(), any())).thenReturn(is);
+        final var selector = new InternalRemoteStorageManagerSelector(SegmentFormat.KAFKA, kafkaRsm, icebergRsm);
+        assertThat(selector.call(metadata, irsm -> irsm.fetchIndex(metadata, null))).isSameAs(is);
+        assertThat(selector.knownFormat(metadata)).isEmpty();
+        verifyNoInteractions(icebergRsm);
+    }
+
+    private static RemoteLogSegmentMetadata segmentMetadata(final SegmentFormat format) {
+        final Optional<RemoteLogSegmentMetadata.CustomMetadata> customMetadata;
+        if (format == null) {
+            customMetadata = Optional.empty();
+        } else {
+            final var fields = new TreeMap<Integer, Object>();
+            fields.put(SegmentCustomMetadataField.SEGMENT_FORMAT.index(), format.id());
+            customMetadata = Optional.of(
+                new RemoteLogSegmentMetadata.CustomMetadata(new SegmentCustomMetadataSerde().serialize(fields)));
+        }
+        return new RemoteLogSegmentMetadata(REMOTE_LOG_SEGMENT_ID, 0, 100, -1, -1, 1L, 100,
+            customMetadata, RemoteLogSegmentState.COPY_SEGMENT_FINISHED, Map.of(0, 0L));
+    }
 }
@@ -234,6 +234,62 @@ public class KafkaRemoteStorageManagerTest extends BaseRemoteStorageManagerTest
         assertThat(Files.list(remotePartitionPath)).hasSize(3);
     }
 
+    @Test
+    void deleteShardedObjectsWhenUploadFails(
+        @TempDir final Path partitionDir
+    ) throws IOException, StorageBackendException, RemoteStorageException {
+        // given a sample local segment to be uploaded
+        final var segmentPath = Files.createFile(partitionDir.resolve("0000.log"));
+        final var segmentContent = "test";
+        Files.writeString(segmentPath, segmentContent);
+        final var indexPath = Files.createFile(partitionDir.resolve("0000.index"));
+        final var timeIndexPath = Files.createFile(partitionDir.resolve("0000.timeindex"));
+        final var producerSnapshotPath = Files.createFile(partitionDir.resolve("0000.snapshot"));
+        final var logSegmentData = new LogSegmentData(
+            segmentPath,
+            indexPath,
+            timeIndexPath,
+            Optional.empty(),
+            producerSnapshotPath,
+            ByteBuffer.wrap("test".getBytes(StandardCharsets.UTF_8))
+        );
+
+        final var remoteLogSegmentMetadata = new RemoteLogSegmentMetadata(
+            REMOTE_SEGMENT_ID, 0, 1L,
+            0, 0, 0, segmentContent.length(), Map.of(0, 0L));
+
+        final var shard = new ObjectKeyFactory("", false, 4).shard(remoteLogSegmentMetadata);
+        final var remotePartitionPath = targetDir.resolve(shard)
+            .resolve(TOPIC_ID_PARTITION.topic() + "-" + TOPIC_ID)
+            .resolve(String.valueOf(TOPIC_ID_PARTITION.partition()));
+
+        final var config = new RemoteStorageManagerConfig(Map.of(
+            "chunk.size", "1",
+            "key.shard.length", "4",
+            "storage.backend.class", "io.aiven.kafka.tieredstorage.storage.filesystem.FileSystemStorage",
+            "storage.root", targetDir.toString()
+        ));
+        final KafkaRemoteStorageManager rsm = spy(new KafkaRemoteStorageManager(log, time, config));
+
+        // when the upload fails after the segment log is stored under its shard
+        doThrow(IOException.class).when(rsm).uploadIndexes(any(), any(), any(), any(), any());
+
+        assertThatThrownBy(() -> rsm.copyLogSegmentData(remoteLogSegmentMetadata, logSegmentData, uploadMetricReporter))
+            .isInstanceOf(RemoteStorageException.class)
+            .hasRootCauseInstanceOf(IOException.class);
+
+        // then the sharded objects are deleted
+        assertThat(remotePartitionPath).doesNotExist();
+        assertThat(targetDir).isEmptyDirectory();
+
+        // fallback to real method
+        doCallRealMethod().when(rsm).uploadIndexes(any(), any(), any(), any(), any());
+
+        // when all good
+        rsm.copyLogSegmentData(remoteLogSegmentMetadata, logSegmentData, uploadMetricReporter);
+        assertThat(Files.list(remotePartitionPath)).hasSize(3);
+    }
+
     @ParameterizedTest
     @MethodSource("provideInterruptionExceptions")
     void fetchSegmentInterruptionWhenGettingManifest(final Class<Exception> outerExceptionClass,
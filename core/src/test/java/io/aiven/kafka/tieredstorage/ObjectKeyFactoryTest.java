@@ -29,6 +29,7 @@ import io.aiven.kafka.tieredstorage.metadata.SegmentCustomMetadataField;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ObjectKeyFactoryTest {
     static final Uuid TOPIC_ID = Uuid.METADATA_TOPIC_ID;  // string representation: AAAAAAAAAAAAAAAAAAAAAQ
@@ -56,6 +57,44 @@ class ObjectKeyFactoryTest {
                     + "00000000000000001234-AAAAAAAAAAAAAAAAAAAAAA.rsm-manifest");
     }
 
+    @Test
+    void sharded() {
+        final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory("prefix/", false, 4);
+        assertThat(objectKeyFactory.shard(REMOTE_LOG_SEGMENT_METADATA)).isEqualTo("029f");
+        assertThat(objectKeyFactory.key(REMOTE_LOG_SEGMENT_METADATA, ObjectKeyFactory.Suffix.LOG).value())
+            .isEqualTo(
+                "prefix/029f/topic-AAAAAAAAAAAAAAAAAAAAAQ/7/"
+                    + "00000000000000001234-AAAAAAAAAAAAAAAAAAAAAA.log");
+        assertThat(objectKeyFactory.key(REMOTE_LOG_SEGMENT_METADATA, ObjectKeyFactory.Suffix.MANIFEST).value())
+            .isEqualTo(
+                "prefix/029f/topic-AAAAAAAAAAAAAAAAAAAAAQ/7/"
+                    + "00000000000000001234-AAAAAAAAAAAAAAAAAAAAAA.rsm-manifest");
+    }
+
+    @Test
+    void shardDisabled() {
+        final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory("prefix/", false, 0);
+        assertThat(objectKeyFactory.shardingEnabled()).isFalse();
+        assertThat(objectKeyFactory.shard(REMOTE_LOG_SEGMENT_METADATA)).isEmpty();
+    }
+
+    @Test
+    void shardFullLength() {
+        final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory("prefix/", false, 8);
+        assertThat(objectKeyFactory.shardingEnabled()).isTrue();
+        assertThat(objectKeyFactory.shard(REMOTE_LOG_SEGMENT_METADATA)).isEqualTo("029f68fe");
+    }
+
+    @Test
+    void invalidShardLength() {
+        assertThatThrownBy(() -> new ObjectKeyFactory("prefix/", false, 9))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("shardLength must be between 0 and 8, 9 given");
+        assertThatThrownBy(() -> new ObjectKeyFactory("prefix/", false, -1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("shardLength must be between 0 and 8, -1 given");
+    }
+
     @Test
     void withCustomFieldsEmpty() {
         final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory("prefix/", false);
@@ -130,6 +169,29 @@ class ObjectKeyFactoryTest {
         ).isEqualTo("other/topic/7/file.rsm-manifest");
     }
 
+    @Test
+    void withCustomFieldsShard() {
+        final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory("prefix/", false);
+        final Map<Integer, Object> fields = Map.of(SegmentCustomMetadataField.OBJECT_SHARD.index(), "ab");
+        assertThat(
+            objectKeyFactory.key(fields, REMOTE_LOG_SEGMENT_METADATA, ObjectKeyFactory.Suffix.LOG).value()
+        ).isEqualTo(
+            "prefix/ab/topic-AAAAAAAAAAAAAAAAAAAAAQ/7/"
+                + "00000000000000001234-AAAAAAAAAAAAAAAAAAAAAA.log");
+    }
+
+    @Test
+    void withCustomFieldsWithoutShardWhenShardingEnabled() {
+        // segments uploaded before sharding was enabled have no shard
+        final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory("prefix/", false, 4);
+        final Map<Integer, Object> fields = Map.of();
+        assertThat(
+            objectKeyFactory.key(fields, REMOTE_LOG_SEGMENT_METADATA, ObjectKeyFactory.Suffix.LOG).value()
+        ).isEqualTo(
+            "prefix/topic-AAAAAAAAAAAAAAAAAAAAAQ/7/"
+                + "00000000000000001234-AAAAAAAAAAAAAAAAAAAAAA.log");
+    }
+
     @Test
     void nullPrefix() {
         final ObjectKeyFactory objectKeyFactory = new ObjectKeyFactory(null, false);
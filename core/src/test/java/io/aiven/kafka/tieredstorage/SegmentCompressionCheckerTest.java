@@ -20,6 +20,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.kafka.common.compress.Compression;
 import org.apache.kafka.common.record.FileRecords;
@@ -125,4 +127,28 @@ class SegmentCompressionCheckerTest {
         final boolean requires = SegmentCompressionChecker.check(file);
         assertThat(requires).isEqualTo(result);
     }
+
+    @Test
+    void shouldReportOnlyFirstBatchAsInspected() throws InvalidRecordBatchException, IOException {
+        final File file = dir.resolve("segment.log").toFile();
+        final int firstBatchSize;
+        try (final FileRecords records = FileRecords.open(file, false, 100000, true)) {
+            for (int i = 0; i < 3; i++) {
+                try (final MemoryRecordsBuilder builder = MemoryRecords.builder(
+                    ByteBuffer.allocate(1024),
+                    Compression.NONE,
+                    TimestampType.CREATE_TIME,
+                    i)) {
+                    builder.append(0L, ("key-" + i).getBytes(), ("value-" + i).getBytes());
+                    records.append(builder.build());
+                }
+            }
+            firstBatchSize = records.batches().iterator().next().sizeInBytes();
+        }
+
+        final List<Integer> inspectedBytes = new ArrayList<>();
+        SegmentCompressionChecker.check(file, inspectedBytes::add);
+        assertThat(inspectedBytes).containsExactly(firstBatchSize);
+        assertThat(firstBatchSize).isLessThan((int) file.length());
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdLimiterTest {
+    @Test
+    void startsAtMaximum() throws InterruptedException {
+        final AimdLimiter limiter = new AimdLimiter(3, 0.5);
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(limiter.limit()).isEqualTo(3);
+        assertThat(limiter.inFlight()).isEqualTo(3);
+    }
+
+    @Test
+    void blocksAtLimitUntilReleased() throws Exception {
+        final AimdLimiter limiter = new AimdLimiter(1, 0.5);
+        limiter.acquire();
+
+        final CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+        assertThat(limiter.waiting()).isEqualTo(1);
+
+        limiter.onSuccess();
+        waiting.get(1, TimeUnit.SECONDS);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.waiting()).isZero();
+    }
+
+    @Test
+    void decreasesOnThrottlingAndIncreasesBackOnSuccess() throws InterruptedException {
+        final AimdLimiter limiter = new AimdLimiter(10, 0.5);
+
+        limiter.onThrottled(limiter.acquire());
+        assertThat(limiter.limit()).isEqualTo(5);
+        assertThat(limiter.throttled()).isEqualTo(1);
+
+        // raised by 1 / limit on each success, so by one after about limit successes
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire();
+            limiter.onSuccess();
+        }
+        assertThat(limiter.limit()).isEqualTo(6);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.onSuccess();
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void burstOfThrottledRequestsBacksOffOnce() throws InterruptedException {
+        final AimdLimiter limiter = new AimdLimiter(8, 0.5);
+        final long first = limiter.acquire();
+        final long second = limiter.acquire();
+        final long third = limiter.acquire();
+
+        assertThat(limiter.onThrottled(first)).isTrue();
+        assertThat(limiter.onThrottled(second)).isFalse();
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        // requests sent at the new limit back off again
+        assertThat(limiter.onThrottled(limiter.acquire())).isTrue();
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        assertThat(limiter.onThrottled(third)).isFalse();
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.throttled()).isEqualTo(4);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void neverDecreasesBelowOne() throws InterruptedException {
+        final AimdLimiter limiter = new AimdLimiter(2, 0.1);
+        limiter.onThrottled(limiter.acquire());
+        limiter.onThrottled(limiter.acquire());
+
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void errorsKeepTheLimit() throws InterruptedException {
+        final AimdLimiter limiter = new AimdLimiter(4, 0.5);
+        limiter.acquire();
+        limiter.onError();
+
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.errors()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void yieldsWhileOtherHasWaiting() throws Exception {
+        final AtomicBoolean otherWaiting = new AtomicBoolean(true);
+        final AimdLimiter limiter = new AimdLimiter(4, 0.5, otherWaiting::get);
+
+        final CompletableFuture<Long> acquired = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(acquired).isNotDone();
+
+        otherWaiting.set(false);
+        acquired.get(1, TimeUnit.SECONDS);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> new AimdLimiter(0, 0.5))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxLimit must be positive, 0 given");
+        assertThatThrownBy(() -> new AimdLimiter(1, 1.0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("backoffRatio must be between 0 and 1, 1.0 given");
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.concurrency;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ThrottledException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedStorageBackendTest {
+    private static final MBeanServer MBEAN_SERVER = ManagementFactory.getPlatformMBeanServer();
+    private static final ObjectKey KEY = new TestObjectKey("topic/partition/log");
+
+    @Mock
+    StorageBackend delegate;
+
+    ConcurrencyLimitedStorageBackend storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ConcurrencyLimitedStorageBackend(delegate, 20, 10, 0.5);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Test
+    void passesRequestsThrough() throws Exception {
+        final InputStream content = new ByteArrayInputStream(new byte[10]);
+        when(delegate.fetch(KEY, BytesRange.of(0, 9))).thenReturn(content);
+        when(delegate.upload(any(), any())).thenReturn(10L);
+
+        assertThat(storage.fetch(KEY, BytesRange.of(0, 9))).isSameAs(content);
+        assertThat(storage.upload(content, KEY)).isEqualTo(10L);
+        storage.delete(KEY);
+
+        verify(delegate).delete(KEY);
+        assertThat(metric("read", "in-flight")).isEqualTo(0.0);
+        assertThat(metric("write", "in-flight")).isEqualTo(0.0);
+    }
+
+    @Test
+    void throttledFetchBacksOffReadsAndWrites() throws Exception {
+        when(delegate.fetch(KEY)).thenThrow(new ThrottledException("throttled", null));
+
+        assertThatThrownBy(() -> storage.fetch(KEY)).isInstanceOf(ThrottledException.class);
+
+        assertThat(metric("read", "limit")).isEqualTo(10.0);
+        assertThat(metric("read", "throttled-total")).isEqualTo(1.0);
+        assertThat(metric("write", "limit")).isEqualTo(5.0);
+        assertThat(metric("write", "throttled-total")).isEqualTo(0.0);
+        assertThat(metric("read", "in-flight")).isEqualTo(0.0);
+    }
+
+    @Test
+    void burstOfThrottledFetchesBacksOffWritesOnce() throws Exception {
+        final CountDownLatch respond = new CountDownLatch(1);
+        when(delegate.fetch(KEY)).thenAnswer(invocation -> {
+            respond.await();
+            throw new ThrottledException("throttled", null);
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> fetches = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                fetches.add(executor.submit(() -> storage.fetch(KEY)));
+            }
+            await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(metric("read", "in-flight")).isEqualTo(4.0));
+            respond.countDown();
+            for (final Future<?> fetch : fetches) {
+                assertThatThrownBy(fetch::get).hasCauseInstanceOf(ThrottledException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(metric("read", "throttled-total")).isEqualTo(4.0);
+        assertThat(metric("read", "limit")).isEqualTo(10.0);
+        assertThat(metric("write", "limit")).isEqualTo(5.0);
+    }
+
+    @Test
+    void releasesSlotOnError() throws Exception {
+        when(delegate.fetch(KEY)).thenThrow(new LinkageError("test"));
+
+        assertThatThrownBy(() -> storage.fetch(KEY)).isInstanceOf(LinkageError.class);
+
+        assertThat(metric("read", "in-flight")).isEqualTo(0.0);
+        assertThat(metric("read", "errors-total")).isEqualTo(1.0);
+    }
+
+    @Test
+    void throttledUploadOnlyBacksOffWrites() throws Exception {
+        when(delegate.upload(any(), any())).thenThrow(new ThrottledException("throttled", null));
+
+        assertThatThrownBy(() -> storage.upload(InputStream.nullInputStream(), KEY))
+            .isInstanceOf(ThrottledException.class);
+
+        assertThat(metric("read", "limit")).isEqualTo(20.0);
+        assertThat(metric("write", "limit")).isEqualTo(5.0);
+        assertThat(metric("write", "throttled-total")).isEqualTo(1.0);
+        assertThat(metric("write", "in-flight")).isEqualTo(0.0);
+    }
+
+    @Test
+    void countsErrorsButNotMissingKeys() throws Exception {
+        when(delegate.fetch(KEY)).thenThrow(new KeyNotFoundException(delegate, KEY));
+        doThrow(new StorageBackendException("failed")).when(delegate).delete(KEY);
+
+        assertThatThrownBy(() -> storage.fetch(KEY)).isInstanceOf(KeyNotFoundException.class);
+        assertThatThrownBy(() -> storage.delete(KEY)).isInstanceOf(StorageBackendException.class);
+
+        assertThat(metric("read", "errors-total")).isEqualTo(0.0);
+        assertThat(metric("write", "errors-total")).isEqualTo(1.0);
+        assertThat(metric("write", "limit")).isEqualTo(10.0);
+        assertThat(metric("read", "in-flight")).isEqualTo(0.0);
+        assertThat(metric("write", "in-flight")).isEqualTo(0.0);
+    }
+
+    @Test
+    void closesDelegate() throws IOException {
+        storage.close();
+
+        verify(delegate).close();
+    }
+
+    private static Object metric(final String operation, final String name) throws JMException {
+        final ObjectName objectName = new ObjectName(
+            "aiven.kafka.server.tieredstorage:type=storage-concurrency-limit-metrics,operation=" + operation);
+        return MBEAN_SERVER.getAttribute(objectName, name);
+    }
+}
@@ -38,6 +38,8 @@ class CacheConfigTest {
         // other defaults
         assertThat(config.threadPoolSize()).isEmpty();
         assertThat(config.getTimeout()).hasSeconds(10);
+        assertThat(config.executorType()).isEqualTo(ExecutorType.FORK_JOIN);
+        assertThat(config.executorMaxConcurrency()).isEqualTo(256);
     }
 
     @Test
@@ -157,4 +159,31 @@ class CacheConfigTest {
             .isNotEqualTo(CacheConfig.CACHE_SIZE_DOC)
             .isEqualTo("test");
     }
+
+    @Test
+    void virtualThreadExecutor() {
+        final CacheConfig config = new CacheConfig(
+            CacheConfig.defBuilder().build(),
+            Map.of(
+                "size", "-1",
+                "executor.type", "virtual",
+                "executor.max.concurrency", "64"
+            )
+        );
+        assertThat(config.executorType()).isEqualTo(ExecutorType.VIRTUAL);
+        assertThat(config.executorMaxConcurrency()).isEqualTo(64);
+    }
+
+    @Test
+    void invalidExecutorType() {
+        assertThatThrownBy(() -> new CacheConfig(
+            CacheConfig.defBuilder().build(),
+            Map.of(
+                "size", "-1",
+                "executor.type", "unknown"
+            )
+        )).isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value unknown for configuration executor.type: "
+                + "String must be one of: fork-join, virtual");
+    }
 }
@@ -36,6 +36,11 @@ class ChunkCacheConfigTest {
 
         assertThat(config.cacheRetention()).hasValue(Duration.ofMinutes(10));
         assertThat(config.cachePrefetchingSize()).isEqualTo(0);
+        assertThat(config.scanResistanceThreshold()).isEqualTo(0);
+        assertThat(config.scanProbationSize()).isEqualTo(0);
+        assertThat(config.scanProbationRetention()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(config.consumedChunkRetention()).isEmpty();
+        assertThat(config.streamingEnabled()).isFalse();
     }
 
     @Test
@@ -113,4 +118,41 @@ class ChunkCacheConfigTest {
         )).isInstanceOf(ConfigException.class)
             .hasMessage("Invalid value -1 for configuration prefetch.max.size: Value must be at least 0");
     }
+
+    @Test
+    void scanResistance() {
+        final ChunkCacheConfig config = new ChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "scan.resistance.threshold", "8",
+                "scan.probation.size", "1048576",
+                "scan.probation.retention.ms", "5000"
+            )
+        );
+        assertThat(config.scanResistanceThreshold()).isEqualTo(8);
+        assertThat(config.scanProbationSize()).isEqualTo(1048576L);
+        assertThat(config.scanProbationRetention()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void invalidScanResistanceThreshold() {
+        assertThatThrownBy(() -> new ChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "scan.resistance.threshold", "-1"
+            )
+        )).isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value -1 for configuration scan.resistance.threshold: Value must be at least 0");
+    }
+
+    @Test
+    void consumedChunkRetention() {
+        final ChunkCacheConfig config = new ChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "consumed.retention.ms", "1000"
+            )
+        );
+        assertThat(config.consumedChunkRetention()).hasValue(Duration.ofSeconds(1));
+    }
 }
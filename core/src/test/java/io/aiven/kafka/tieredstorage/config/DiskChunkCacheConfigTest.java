@@ -69,6 +69,22 @@ class DiskChunkCacheConfigTest {
             )
         );
         assertThat(config.baseCachePath()).isEqualTo(path);
+        assertThat(config.mmapEnabled()).isFalse();
+        assertThat(config.mmapMaxSize()).isEqualTo(1024L * 1024 * 1024);
+    }
+
+    @Test
+    void mmapConfig() {
+        final var config = new DiskChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "path", path.toString(),
+                "mmap.enabled", "true",
+                "mmap.max.size", "1048576"
+            )
+        );
+        assertThat(config.mmapEnabled()).isTrue();
+        assertThat(config.mmapMaxSize()).isEqualTo(1048576L);
     }
 
     @Test
@@ -18,6 +18,7 @@ package io.aiven.kafka.tieredstorage.config;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,10 +69,90 @@ class RemoteStorageManagerConfigTest {
         assertThat(config.encryptionKeyRing()).isNull();
         assertThat(config.keyPrefix()).isEmpty();
         assertThat(config.keyPrefixMask()).isFalse();
+        assertThat(config.keyShardLength()).isZero();
         assertThat(config.customMetadataKeysIncluded()).isEmpty();
         assertThat(config.uploadRateLimit()).isEmpty();
         assertThat(config.structureProvider()).isNull();
         assertThat(config.icebergCatalog()).isNull();
+        assertThat(config.memoryBudgetSize()).isEmpty();
+        assertThat(config.memoryBudgetRebalanceInterval()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(config.fetchWarmUpSegments()).isEqualTo(10);
+        assertThat(config.fetchWarmUpMaxAge()).isEmpty();
+        assertThat(config.fetchWarmUpConcurrency()).isEqualTo(2);
+        assertThat(config.concurrencyLimitEnabled()).isFalse();
+        assertThat(config.concurrencyLimitReadMax()).isEqualTo(128);
+        assertThat(config.concurrencyLimitWriteMax()).isEqualTo(64);
+        assertThat(config.concurrencyLimitBackoffRatio()).isEqualTo(0.9);
+        assertThat(config.deleteCoalescingEnabled()).isFalse();
+        assertThat(config.deleteCoalescingBatchSize()).isEqualTo(1000);
+        assertThat(config.deleteCoalescingLinger()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(config.deleteCoalescingJournalDir()).isEmpty();
+    }
+
+    @Test
+    void memoryBudget() {
+        final var config = new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "memory.budget.size", "1073741824",
+                "memory.budget.rebalance.interval.ms", "10000"
+            )
+        );
+        assertThat(config.memoryBudgetSize()).hasValue(1073741824L);
+        assertThat(config.memoryBudgetRebalanceInterval()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void fetchWarmUp() {
+        final var config = new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "fetch.warm.up.segments", "5",
+                "fetch.warm.up.max.age.ms", "3600000",
+                "fetch.warm.up.concurrency", "4"
+            )
+        );
+        assertThat(config.fetchWarmUpSegments()).isEqualTo(5);
+        assertThat(config.fetchWarmUpMaxAge()).hasValue(Duration.ofHours(1));
+        assertThat(config.fetchWarmUpConcurrency()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrencyLimit() {
+        final var config = new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "concurrency.limit.enabled", "true",
+                "concurrency.limit.read.max", "32",
+                "concurrency.limit.write.max", "8",
+                "concurrency.limit.backoff.ratio", "0.5"
+            )
+        );
+        assertThat(config.concurrencyLimitEnabled()).isTrue();
+        assertThat(config.concurrencyLimitReadMax()).isEqualTo(32);
+        assertThat(config.concurrencyLimitWriteMax()).isEqualTo(8);
+        assertThat(config.concurrencyLimitBackoffRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void deleteCoalescing() {
+        final var config = new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "delete.coalescing.enabled", "true",
+                "delete.coalescing.batch.size", "100",
+                "delete.coalescing.linger.ms", "50",
+                "delete.coalescing.journal.dir", "/var/lib/tiered-storage/deletes"
+            )
+        );
+        assertThat(config.deleteCoalescingEnabled()).isTrue();
+        assertThat(config.deleteCoalescingBatchSize()).isEqualTo(100);
+        assertThat(config.deleteCoalescingLinger()).isEqualTo(Duration.ofMillis(50));
+        assertThat(config.deleteCoalescingJournalDir()).hasValue(Path.of("/var/lib/tiered-storage/deletes"));
     }
 
     @ParameterizedTest
@@ -148,6 +229,22 @@ class RemoteStorageManagerConfigTest {
             entry("k1", new KeyPairPaths(Path.of("k1_public.key"), Path.of("k1_private.key"))),
             entry("k2", new KeyPairPaths(Path.of("k2_public.key"), Path.of("k2_private.key")))
         );
+        assertThat(config.encryptionDataKeyCacheSize()).isEqualTo(1000);
+        assertThat(config.encryptionDataKeyCacheRetention()).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void encryptionDataKeyCache() {
+        final var config = new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "encryption.data.key.cache.size", "0",
+                "encryption.data.key.cache.retention.ms", "60000"
+            )
+        );
+        assertThat(config.encryptionDataKeyCacheSize()).isZero();
+        assertThat(config.encryptionDataKeyCacheRetention()).isEqualTo(Duration.ofMinutes(1));
     }
 
     @Test
@@ -347,7 +444,7 @@ class RemoteStorageManagerConfigTest {
             )))
             .isInstanceOf(ConfigException.class)
             .hasMessage("Invalid value unknown for configuration custom.metadata.fields.include: "
-                + "String must be one of: REMOTE_SIZE, OBJECT_PREFIX, OBJECT_KEY");
+                + "String must be one of: REMOTE_SIZE, OBJECT_PREFIX, OBJECT_KEY, SEGMENT_FORMAT, OBJECT_SHARD");
     }
 
     @Test
@@ -362,6 +459,30 @@ class RemoteStorageManagerConfigTest {
         assertThat(config.keyPrefixMask()).isTrue();
     }
 
+    @Test
+    void keyShardLength() {
+        final var config = new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "key.shard.length", "3"
+            )
+        );
+        assertThat(config.keyShardLength()).isEqualTo(3);
+    }
+
+    @Test
+    void keyShardLengthInvalid() {
+        assertThatThrownBy(() -> new RemoteStorageManagerConfig(
+            Map.of(
+                "storage.backend.class", NoopStorageBackend.class.getCanonicalName(),
+                "chunk.size", "123",
+                "key.shard.length", "9"
+            )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value 9 for configuration key.shard.length: Value must be no more than 8");
+    }
+
     @Test
     void uploadRateLimitInvalid() {
         assertThatThrownBy(() ->
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.config;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlabDiskChunkCacheConfigTest {
+
+    @TempDir
+    private Path path;
+
+    @Test
+    void defaults() {
+        final var config = new SlabDiskChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "path", path.toString()
+            )
+        );
+        assertThat(config.baseCachePath()).isEqualTo(path);
+        assertThat(config.slabSize()).isEqualTo(256L * 1024 * 1024);
+        assertThat(config.slabCompactionThreshold()).isEqualTo(0.5);
+    }
+
+    @Test
+    void validConfig() {
+        final var config = new SlabDiskChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "path", path.toString(),
+                "slab.size", "1048576",
+                "slab.compaction.threshold", "0"
+            )
+        );
+        assertThat(config.slabSize()).isEqualTo(1048576L);
+        assertThat(config.slabCompactionThreshold()).isZero();
+    }
+
+    @Test
+    void invalidCompactionThreshold() {
+        assertThatThrownBy(() -> new SlabDiskChunkCacheConfig(
+            Map.of(
+                "size", "-1",
+                "path", path.toString(),
+                "slab.compaction.threshold", "1.5"
+            )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value 1.5 for configuration slab.compaction.threshold: "
+                + "Value must be no more than 1.0");
+    }
+}
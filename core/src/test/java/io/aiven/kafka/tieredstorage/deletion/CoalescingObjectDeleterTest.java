@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.deletion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.storage.ObjectDeleter;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CoalescingObjectDeleterTest {
+    static final Duration LONG_LINGER = Duration.ofHours(1);
+
+    final RecordingDeleter storage = new RecordingDeleter();
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    void deletesFullBatchWithoutLingering() throws IOException {
+        try (final var deleter = new CoalescingObjectDeleter(storage, 3, LONG_LINGER, Optional.empty())) {
+            deleter.delete(Set.of(key("a"), key("b")));
+            deleter.delete(Set.of(key("c"), key("d")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> !storage.batches.isEmpty());
+            assertThat(storage.batches).hasSize(1);
+            assertThat(storage.batches.get(0)).hasSize(3);
+            assertThat(deleter.queuedKeys()).isOne();
+        }
+    }
+
+    @Test
+    void deletesPartialBatchAfterLinger() throws IOException {
+        try (final var deleter = new CoalescingObjectDeleter(storage, 1000, Duration.ofMillis(10), Optional.empty())) {
+            deleter.delete(Set.of(key("a"), key("b")));
+            deleter.delete(key("c"));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> deleter.queuedKeys() == 0
+                && storage.deleted().equals(Set.of("a", "b", "c")));
+        }
+    }
+
+    @Test
+    void deletesQueuedKeysOnClose() throws IOException {
+        try (final var deleter = new CoalescingObjectDeleter(storage, 1000, LONG_LINGER, Optional.empty())) {
+            deleter.delete(Set.of(key("a"), key("b")));
+        }
+        assertThat(storage.deleted()).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void retriesFailedBatches() throws IOException {
+        storage.failures.set(1);
+        try (final var deleter = new CoalescingObjectDeleter(storage, 2, LONG_LINGER, Optional.empty())) {
+            deleter.delete(Set.of(key("a"), key("b")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> storage.deleted().equals(Set.of("a", "b")));
+            // The failed batch is retried in halves.
+            assertThat(storage.attempts).hasValue(3);
+            assertThat(storage.batches).hasSize(2);
+        }
+    }
+
+    @Test
+    void dropsKeysFailingRepeatedly() throws IOException {
+        storage.failingKeys.add("bad");
+        try (final var deleter = new CoalescingObjectDeleter(storage, 4, LONG_LINGER, Optional.of(journalDir),
+            Duration.ofMillis(10), 4, Time.SYSTEM)) {
+            deleter.delete(Set.of(key("a"), key("b"), key("bad"), key("c")));
+
+            // The journal is removed once "bad" is given up on.
+            await().atMost(Duration.ofSeconds(5)).until(() -> journalFiles().isEmpty());
+            assertThat(storage.deleted()).containsExactlyInAnyOrder("a", "b", "c");
+            // [a, b, bad, c], then [a, b] and [bad, c], then [bad] and [c], then [bad] again.
+            assertThat(storage.attempts).hasValue(6);
+            assertThat(deleter.queuedKeys()).isZero();
+        }
+    }
+
+    @Test
+    void removesJournalOnceKeysAreDeleted() throws IOException {
+        try (final var deleter = new CoalescingObjectDeleter(storage, 2, LONG_LINGER, Optional.of(journalDir))) {
+            deleter.delete(Set.of(key("a"), key("b")));
+            deleter.delete(Set.of(key("c")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> !storage.batches.isEmpty());
+            await().atMost(Duration.ofSeconds(5)).until(() -> journalFiles().size() == 1);
+        }
+        assertThat(storage.deleted()).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(journalFiles()).isEmpty();
+    }
+
+    @Test
+    void deletesKeysLeftInJournalAfterRestart() throws IOException {
+        storage.failures.set(Integer.MAX_VALUE);
+        try (final var deleter = new CoalescingObjectDeleter(storage, 1000, LONG_LINGER, Optional.of(journalDir))) {
+            deleter.delete(Set.of(key("a"), key("b")));
+        }
+        assertThat(storage.deleted()).isEmpty();
+        assertThat(journalFiles()).hasSize(1);
+        // A crash while writing a key leaves an incomplete line that must not be deleted.
+        Files.writeString(journalFiles().get(0), "c", StandardOpenOption.APPEND);
+
+        storage.failures.set(0);
+        try (final var deleter = new CoalescingObjectDeleter(storage, 1000, LONG_LINGER, Optional.of(journalDir))) {
+            assertThat(deleter.queuedKeys()).isEqualTo(2);
+            deleter.delete(key("d"));
+        }
+        assertThat(storage.deleted()).containsExactlyInAnyOrder("a", "b", "d");
+        assertThat(journalFiles()).isEmpty();
+    }
+
+    private List<Path> journalFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(journalDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static ObjectKey key(final String value) {
+        return () -> value;
+    }
+
+    private static class RecordingDeleter implements ObjectDeleter {
+        final List<Set<ObjectKey>> batches = new CopyOnWriteArrayList<>();
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicInteger attempts = new AtomicInteger();
+        final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void delete(final ObjectKey key) throws StorageBackendException {
+            delete(Set.of(key));
+        }
+
+        @Override
+        public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+            attempts.incrementAndGet();
+            if (failures.getAndUpdate(f -> Math.max(f - 1, 0)) > 0) {
+                throw new StorageBackendException("test");
+            }
+            if (keys.stream().map(ObjectKey::value).anyMatch(failingKeys::contains)) {
+                throw new StorageBackendException("test");
+            }
+            batches.add(keys);
+        }
+
+        Set<String> deleted() {
+            return batches.stream()
+                .flatMap(Set::stream)
+                .map(ObjectKey::value)
+                .collect(Collectors.toSet());
+        }
+    }
+}
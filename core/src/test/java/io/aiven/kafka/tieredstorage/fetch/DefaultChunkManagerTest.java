@@ -19,6 +19,8 @@ package io.aiven.kafka.tieredstorage.fetch;
 import javax.crypto.Cipher;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager.IndexType;
 
@@ -28,6 +30,8 @@ import io.aiven.kafka.tieredstorage.manifest.SegmentIndexesV1;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifest;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifestV1;
 import io.aiven.kafka.tieredstorage.manifest.index.FixedSizeChunkIndex;
+import io.aiven.kafka.tieredstorage.metrics.FetchStage;
+import io.aiven.kafka.tieredstorage.metrics.FetchStageContext;
 import io.aiven.kafka.tieredstorage.security.AesEncryptionProvider;
 import io.aiven.kafka.tieredstorage.security.DataKeyAndAAD;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
@@ -114,4 +118,28 @@ class DefaultChunkManagerTest extends AesKeyAwareTest {
         assertThat(chunkManager.getChunk(OBJECT_KEY, manifest, 0)).hasBinaryContent(TEST_CHUNK_CONTENT);
         verify(storage).fetch(OBJECT_KEY, chunkIndex.chunks().get(0).range());
     }
+
+    @Test
+    void testGetChunkRecordsStagesToBoundRecorder() throws Exception {
+        final byte[] compressed;
+        try (final ZstdCompressCtx compressCtx = new ZstdCompressCtx()) {
+            compressCtx.setContentSize(true);
+            compressed = compressCtx.compress(TEST_CHUNK_CONTENT);
+        }
+        final FixedSizeChunkIndex chunkIndex = new FixedSizeChunkIndex(10, 10, compressed.length, compressed.length);
+
+        when(storage.fetch(OBJECT_KEY, chunkIndex.chunks().get(0).range()))
+            .thenReturn(new ByteArrayInputStream(compressed));
+
+        final var manifest = new SegmentManifestV1(chunkIndex, SEGMENT_INDEXES, true, null, null);
+        final ChunkManager chunkManager = new DefaultChunkManager(storage, null);
+
+        final List<FetchStage> stages = new ArrayList<>();
+        try (final var ignored = FetchStageContext.bind((stage, durationNanos) -> stages.add(stage))) {
+            assertThat(chunkManager.getChunk(OBJECT_KEY, manifest, 0)).hasBinaryContent(TEST_CHUNK_CONTENT);
+        }
+        assertThat(stages)
+            .contains(FetchStage.STORAGE_FIRST_BYTE, FetchStage.STORAGE_TRANSFER, FetchStage.DECOMPRESSION)
+            .doesNotContain(FetchStage.DECRYPTION);
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskMetadataStoreTest {
+    static final ObjectKey MANIFEST_KEY = () -> "topic/00000000000000000000-segment.rsm-manifest";
+    static final ObjectKey INDEXES_KEY = () -> "topic/00000000000000000000-segment.indexes";
+    static final byte[] PAYLOAD = "payload".getBytes();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storesEntries() {
+        final var store = new DiskMetadataStore(directory, 1024);
+        assertThat(store.get(MANIFEST_KEY, "manifest")).isEmpty();
+
+        store.put(MANIFEST_KEY, "manifest", PAYLOAD);
+        store.put(INDEXES_KEY, "OFFSET", "offset".getBytes());
+
+        assertThat(store.get(MANIFEST_KEY, "manifest")).hasValue(PAYLOAD);
+        assertThat(store.get(INDEXES_KEY, "OFFSET")).hasValue("offset".getBytes());
+        assertThat(store.get(INDEXES_KEY, "TIMESTAMP")).isEmpty();
+    }
+
+    @Test
+    void loadsStoredEntries() {
+        new DiskMetadataStore(directory, 1024).put(MANIFEST_KEY, "manifest", PAYLOAD);
+
+        final var restartedStore = new DiskMetadataStore(directory, 1024);
+        assertThat(restartedStore.get(MANIFEST_KEY, "manifest")).hasValue(PAYLOAD);
+        assertThat(restartedStore.size()).isPositive();
+    }
+
+    @Test
+    void deletesLeftoverTemporaryFiles() throws IOException {
+        Files.write(directory.resolve("entry.manifest123.tmp"), PAYLOAD);
+
+        final var store = new DiskMetadataStore(directory, 1024);
+        assertThat(store.size()).isZero();
+        assertThat(listFiles()).isEmpty();
+    }
+
+    @Test
+    void discardsCorruptedEntries() throws IOException {
+        new DiskMetadataStore(directory, 1024).put(MANIFEST_KEY, "manifest", PAYLOAD);
+        final Path file = listFiles()[0];
+        final byte[] record = Files.readAllBytes(file);
+        record[record.length / 2] ^= 1;
+        Files.write(file, record);
+
+        final var store = new DiskMetadataStore(directory, 1024);
+        assertThat(store.get(MANIFEST_KEY, "manifest")).isEmpty();
+        assertThat(listFiles()).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void invalidatesEntriesOfObject() {
+        final var store = new DiskMetadataStore(directory, 1024);
+        store.put(INDEXES_KEY, "OFFSET", PAYLOAD);
+        store.put(INDEXES_KEY, "TIMESTAMP", PAYLOAD);
+        store.put(MANIFEST_KEY, "manifest", PAYLOAD);
+
+        store.invalidate(INDEXES_KEY);
+
+        assertThat(store.get(INDEXES_KEY, "OFFSET")).isEmpty();
+        assertThat(store.get(INDEXES_KEY, "TIMESTAMP")).isEmpty();
+        assertThat(store.get(MANIFEST_KEY, "manifest")).hasValue(PAYLOAD);
+        assertThat(listFiles()).hasSize(1);
+    }
+
+    @Test
+    void invalidatesLoadedEntriesOfObject() {
+        final var previousStore = new DiskMetadataStore(directory, 1024);
+        previousStore.put(INDEXES_KEY, "OFFSET", PAYLOAD);
+        previousStore.put(MANIFEST_KEY, "manifest", PAYLOAD);
+
+        final var store = new DiskMetadataStore(directory, 1024);
+        store.invalidate(INDEXES_KEY);
+
+        assertThat(store.get(INDEXES_KEY, "OFFSET")).isEmpty();
+        assertThat(store.get(MANIFEST_KEY, "manifest")).hasValue(PAYLOAD);
+        assertThat(listFiles()).hasSize(1);
+    }
+
+    @Test
+    void boundsTotalSize() {
+        final int recordSize = DiskMetadataStore.encode(MANIFEST_KEY.value() + ":manifest", PAYLOAD).length;
+        final var store = new DiskMetadataStore(directory, recordSize);
+        store.put(MANIFEST_KEY, "manifest", PAYLOAD);
+        store.put(() -> "other", "manifest", PAYLOAD);
+        store.put(() -> "another", "manifest", PAYLOAD);
+
+        assertThat(store.size()).isLessThanOrEqualTo(recordSize);
+        assertThat(listFiles()).hasSize(1);
+    }
+
+    @Test
+    void rejectsRecordOfOtherKey() {
+        final byte[] record = DiskMetadataStore.encode("topic/other:manifest", PAYLOAD);
+
+        assertThat(DiskMetadataStore.decode(record, "topic/other:manifest")).isEqualTo(PAYLOAD);
+        assertThat(DiskMetadataStore.decode(record, "topic/other:OFFSET")).isNull();
+        assertThat(DiskMetadataStore.decode(new byte[3], "topic/other:manifest")).isNull();
+    }
+
+    private Path[] listFiles() {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.toArray(Path[]::new);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
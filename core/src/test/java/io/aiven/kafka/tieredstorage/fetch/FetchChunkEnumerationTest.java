@@ -32,11 +32,14 @@ import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -143,4 +146,30 @@ class FetchChunkEnumerationTest {
         assertThat(fetchChunk.hasMoreElements()).isFalse();
         assertThatThrownBy(fetchChunk::nextElement).isInstanceOf(NoSuchElementException.class);
     }
+
+    // - Read progress
+    @Test
+    void shouldNotifyReadProgress() throws StorageBackendException {
+        // Given a set of 10 chunks with 10 bytes each
+        // When
+        final int from = 15;
+        final int to = 34;
+        final FetchChunkEnumeration fetchChunk =
+            new FetchChunkEnumeration(chunkManager, SEGMENT_KEY, manifest, BytesRange.of(from, to));
+        when(chunkManager.getChunk(SEGMENT_KEY, manifest, 1))
+            .thenReturn(new ByteArrayInputStream(CHUNK_CONTENT));
+        when(chunkManager.getChunk(SEGMENT_KEY, manifest, 2))
+            .thenReturn(new ByteArrayInputStream(CHUNK_CONTENT));
+        fetchChunk.nextElement();
+        fetchChunk.nextElement();
+        fetchChunk.close();
+        fetchChunk.close();
+        // Then
+        final InOrder inOrder = inOrder(chunkManager);
+        inOrder.verify(chunkManager).onReadProgress(SEGMENT_KEY, fetchChunk, 1);
+        inOrder.verify(chunkManager).onReadProgress(SEGMENT_KEY, fetchChunk, 2);
+        inOrder.verify(chunkManager).onReadClosed(SEGMENT_KEY, fetchChunk);
+        // closing again does not notify twice
+        verify(chunkManager).onReadClosed(SEGMENT_KEY, fetchChunk);
+    }
 }
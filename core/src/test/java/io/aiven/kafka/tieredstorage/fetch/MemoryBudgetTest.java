@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryBudgetTest {
+    private static final long BUDGET = 2000;
+    private static final long STEP = BUDGET / MemoryBudget.STEPS;
+
+    MemoryBudget budget;
+    Cache<String, byte[]> chunks;
+    Cache<String, byte[]> indexes;
+
+    @BeforeEach
+    void setUp() {
+        budget = new MemoryBudget(BUDGET, Duration.ofMinutes(1));
+        chunks = weightedCache(3000);
+        indexes = weightedCache(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        budget.close();
+    }
+
+    @Test
+    void fitsCachesProportionallyToTheirSizes() {
+        budget.register("chunks", eviction(chunks));
+        budget.register("indexes", eviction(indexes));
+
+        budget.fit();
+
+        assertThat(eviction(chunks).getMaximum()).isEqualTo(1500);
+        assertThat(eviction(indexes).getMaximum()).isEqualTo(500);
+    }
+
+    @Test
+    void reportsUsedBytes() {
+        budget.register("chunks", eviction(chunks));
+        budget.register("indexes", eviction(indexes));
+
+        chunks.put("a", new byte[10]);
+        indexes.put("b", new byte[20]);
+
+        assertThat(budget.usedBytes()).isEqualTo(30);
+    }
+
+    @Test
+    void movesCapacityToCacheWithGhostHits() {
+        final MemoryBudget.Share chunkShare = budget.register("chunks", eviction(chunks));
+        final MemoryBudget.Share indexShare = budget.register("indexes", eviction(indexes));
+        budget.fit();
+
+        chunkShare.recordEviction("evicted", 10, RemovalCause.SIZE);
+        chunkShare.recordMiss("evicted");
+        indexShare.recordMiss("never-evicted");
+
+        budget.rebalance();
+
+        assertThat(eviction(chunks).getMaximum()).isEqualTo(1500 + STEP);
+        assertThat(eviction(indexes).getMaximum()).isEqualTo(500 - STEP);
+    }
+
+    @Test
+    void keepsCapacityWithoutGhostHits() {
+        final MemoryBudget.Share chunkShare = budget.register("chunks", eviction(chunks));
+        budget.register("indexes", eviction(indexes));
+        budget.fit();
+
+        // expired entries would not have been kept with more capacity
+        chunkShare.recordEviction("expired", 10, RemovalCause.EXPIRED);
+        chunkShare.recordMiss("expired");
+
+        budget.rebalance();
+
+        assertThat(eviction(chunks).getMaximum()).isEqualTo(1500);
+        assertThat(eviction(indexes).getMaximum()).isEqualTo(500);
+    }
+
+    @Test
+    void ghostListIsBoundedToOneStep() {
+        final MemoryBudget.Share chunkShare = budget.register("chunks", eviction(chunks));
+        budget.register("indexes", eviction(indexes));
+        budget.fit();
+
+        chunkShare.recordEviction("oldest", (int) STEP, RemovalCause.SIZE);
+        chunkShare.recordEviction("newest", (int) STEP, RemovalCause.SIZE);
+        chunkShare.recordMiss("oldest");
+
+        budget.rebalance();
+
+        assertThat(eviction(chunks).getMaximum()).isEqualTo(1500);
+    }
+
+    @Test
+    void doesNotShrinkCacheBelowOneStep() {
+        budget.register("chunks", eviction(chunks));
+        final MemoryBudget.Share indexShare = budget.register("indexes", eviction(indexes));
+        budget.fit();
+
+        for (int i = 0; i < MemoryBudget.STEPS; i++) {
+            indexShare.recordEviction("key-" + i, 1, RemovalCause.SIZE);
+            indexShare.recordMiss("key-" + i);
+            budget.rebalance();
+        }
+
+        assertThat(eviction(chunks).getMaximum()).isEqualTo(STEP);
+        assertThat(eviction(indexes).getMaximum()).isEqualTo(BUDGET - STEP);
+    }
+
+    @Test
+    void rejectsUnweightedCaches() {
+        final Cache<String, byte[]> cache = Caffeine.newBuilder().maximumSize(10).build();
+        assertThatThrownBy(() -> budget.register("entries", eviction(cache)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cache entries must be weighted to share the memory budget");
+    }
+
+    @Test
+    void rejectsDuplicatedNames() {
+        budget.register("chunks", eviction(chunks));
+        assertThatThrownBy(() -> budget.register("chunks", eviction(indexes)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cache chunks is already registered");
+    }
+
+    private static Cache<String, byte[]> weightedCache(final long maximumWeight) {
+        return Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((String key, byte[] value) -> value.length)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    private static Policy.Eviction<String, byte[]> eviction(final Cache<String, byte[]> cache) {
+        return cache.policy().eviction().orElseThrow();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.common.utils.Time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class VirtualThreadExecutorTest {
+    // platform threads stand in for virtual threads, as tests may run on Java 17
+    final ExecutorService delegate = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void limitsConcurrency() throws InterruptedException {
+        final var executor = new VirtualThreadExecutor(delegate, 1, Time.SYSTEM);
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                done.countDown();
+            });
+        }
+
+        await().untilAsserted(() -> {
+            assertThat(executor.runningTaskCount()).isEqualTo(1);
+            assertThat(executor.waitingTaskCount()).isEqualTo(1);
+        });
+        assertThat(executor.startedTaskCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        await().untilAsserted(() -> {
+            assertThat(executor.runningTaskCount()).isZero();
+            assertThat(executor.waitingTaskCount()).isZero();
+        });
+        assertThat(executor.startedTaskCount()).isEqualTo(2);
+        assertThat(executor.maxConcurrency()).isEqualTo(1);
+    }
+
+    @Test
+    void startsThreadsOnlyForFreeSlots() {
+        final var startedThreads = new AtomicInteger();
+        final var countingDelegate = Executors.newCachedThreadPool(r -> {
+            startedThreads.incrementAndGet();
+            return new Thread(r);
+        });
+        final var executor = new VirtualThreadExecutor(countingDelegate, 1, Time.SYSTEM);
+        final var release = new CountDownLatch(1);
+        final var done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                done.countDown();
+            });
+        }
+
+        await().untilAsserted(() -> assertThat(executor.runningTaskCount()).isEqualTo(1));
+        assertThat(executor.waitingTaskCount()).isEqualTo(2);
+        assertThat(startedThreads).hasValue(1);
+
+        release.countDown();
+        await().until(() -> done.getCount() == 0);
+        countingDelegate.shutdownNow();
+    }
+
+    @Test
+    void closeDropsQueuedTasksAndShutsDown() throws InterruptedException {
+        final var executor = new VirtualThreadExecutor(delegate, 1, Time.SYSTEM);
+        final var release = new CountDownLatch(1);
+        final var queuedTaskRan = new AtomicBoolean();
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        executor.execute(() -> queuedTaskRan.set(true));
+        await().untilAsserted(() -> assertThat(executor.runningTaskCount()).isEqualTo(1));
+
+        executor.close();
+        assertThat(executor.waitingTaskCount()).isZero();
+        assertThat(delegate.isShutdown()).isTrue();
+        assertThatThrownBy(() -> executor.execute(release::countDown))
+            .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(delegate.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queuedTaskRan).isFalse();
+    }
+
+    @Test
+    void releasesSlotOnFailure() {
+        final var executor = new VirtualThreadExecutor(delegate, 1, Time.SYSTEM);
+        executor.execute(() -> {
+            throw new RuntimeException("test");
+        });
+        final var done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        await().until(() -> done.getCount() == 0);
+        assertThat(executor.runningTaskCount()).isZero();
+    }
+
+    @Test
+    void invalidMaxConcurrency() {
+        assertThatThrownBy(() -> new VirtualThreadExecutor(delegate, 0, Time.SYSTEM))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxConcurrency must be positive, 0 given");
+    }
+
+    @Test
+    void supportedDependsOnRuntime() {
+        assertThat(VirtualThreadExecutor.isSupported()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+}
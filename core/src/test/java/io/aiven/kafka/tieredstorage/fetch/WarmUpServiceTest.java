@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.TopicIdPartition;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.utils.MockTime;
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentId;
+import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class WarmUpServiceTest {
+    static final TopicIdPartition TOPIC_ID_PARTITION =
+        new TopicIdPartition(Uuid.randomUuid(), new TopicPartition("topic", 0));
+
+    final MockTime time = new MockTime(0, Duration.ofDays(1).toMillis(), 0);
+
+    @Test
+    void selectsMostRecentSegments() {
+        final var oldest = segment(0, 99, Duration.ofHours(3));
+        final var older = segment(100, 199, Duration.ofHours(2));
+        final var newer = segment(200, 299, Duration.ofMinutes(30));
+        final var newest = segment(300, 399, Duration.ofMinutes(10));
+        final List<RemoteLogSegmentMetadata> segments = List.of(older, newest, oldest, newer);
+
+        try (final var service = new WarmUpService(3, Optional.empty(), 1, time, segment -> { })) {
+            assertThat(service.select(segments)).containsExactly(newest, newer, older);
+        }
+        try (final var service = new WarmUpService(3, Optional.of(Duration.ofHours(1)), 1, time, segment -> { })) {
+            assertThat(service.select(segments)).containsExactly(newest, newer);
+        }
+    }
+
+    @Test
+    void warmsUpSegmentsDespiteFailures() {
+        final Set<RemoteLogSegmentMetadata> warmedUp = ConcurrentHashMap.newKeySet();
+        final var failing = segment(0, 99, Duration.ofMinutes(20));
+        final var succeeding = segment(100, 199, Duration.ofMinutes(10));
+
+        try (final var service = new WarmUpService(10, Optional.empty(), 1, time, segment -> {
+            if (segment.equals(failing)) {
+                throw new RuntimeException("test");
+            }
+            warmedUp.add(segment);
+        })) {
+            service.warmUp(List.of(failing, succeeding));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> warmedUp.contains(succeeding));
+        }
+    }
+
+    @Test
+    void doesNotQueueSegmentsBeingWarmedUp() throws InterruptedException {
+        final Map<RemoteLogSegmentMetadata, Integer> warmUps = new ConcurrentHashMap<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final var segment = segment(0, 99, Duration.ofMinutes(10));
+
+        try (final var service = new WarmUpService(10, Optional.empty(), 1, time, s -> {
+            warmUps.merge(s, 1, Integer::sum);
+            started.countDown();
+            release.await();
+        })) {
+            service.warmUp(List.of(segment));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            service.warmUp(List.of(segment));
+            release.countDown();
+
+            await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(5))
+                .until(() -> warmUps.get(segment) == 1);
+            // Can be queued again once done.
+            await().atMost(Duration.ofSeconds(5)).until(() -> {
+                service.warmUp(List.of(segment));
+                return warmUps.get(segment) >= 2;
+            });
+        }
+    }
+
+    private RemoteLogSegmentMetadata segment(final long startOffset, final long endOffset, final Duration age) {
+        return new RemoteLogSegmentMetadata(
+            new RemoteLogSegmentId(TOPIC_ID_PARTITION, Uuid.randomUuid()),
+            startOffset, endOffset, time.milliseconds() - age.toMillis(), 0, time.milliseconds(),
+            1024, Map.of(0, startOffset));
+    }
+}
@@ -123,6 +123,8 @@ class ChunkCacheMetricsTest {
                     .isEqualTo(1.0);
                 assertThat(MBEAN_SERVER.getAttribute(objectName, "cache-misses-total"))
                     .isEqualTo(1.0);
+                assertThat(MBEAN_SERVER.getAttribute(objectName, "cache-hit-ratio"))
+                    .isEqualTo(0.5);
                 assertThat(MBEAN_SERVER.getAttribute(objectName, "cache-load-success-time-total"))
                     .asInstanceOf(DOUBLE)
                     .isGreaterThan(0);
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager.IndexType;
@@ -279,6 +280,173 @@ class ChunkCacheTest {
             assertThat(cachedChunk2).hasBinaryContent(CHUNK_2);
             verifyNoMoreInteractions(chunkManager);
         }
+
+        @Test
+        void sequentialScanBypassesCacheWhenProbationIsFull() throws Exception {
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "scan.resistance.threshold", "2"
+            ));
+
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .hasBinaryContent(CHUNK_0);
+            // the second consecutive chunk is detected as a scan and not admitted
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1))
+                .hasBinaryContent(CHUNK_1);
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1))
+                .hasBinaryContent(CHUNK_1);
+            verify(chunkManager).getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0);
+            verify(chunkManager, times(2)).getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1);
+
+            assertThat(chunkCache.cache.asMap()).containsOnlyKeys(new ChunkKey(SEGMENT_KEY, 0));
+            assertThat(chunkCache.statsCounter.snapshot().missCount()).isEqualTo(3);
+        }
+
+        @Test
+        void sequentialScanChunksExpireFromProbation() throws Exception {
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "scan.resistance.threshold", "2",
+                "scan.probation.size", String.valueOf(ORIGINAL_CHUNK_SIZE),
+                "scan.probation.retention.ms", "100"
+            ));
+
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .hasBinaryContent(CHUNK_0);
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1))
+                .hasBinaryContent(CHUNK_1);
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1))
+                .hasBinaryContent(CHUNK_1);
+            verify(chunkManager).getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1);
+
+            // probationary region is full
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 2))
+                .hasBinaryContent(CHUNK_2);
+            assertThat(chunkCache.cache.asMap()).doesNotContainKey(new ChunkKey(SEGMENT_KEY, 2));
+
+            await().atMost(Duration.ofMillis(5000)).pollInterval(Duration.ofMillis(100))
+                .until(() -> !mockingDetails(removalListener).getInvocations().isEmpty());
+
+            verify(removalListener)
+                .onRemoval(
+                    argThat(argument -> argument.chunkId == 1),
+                    any(),
+                    eq(RemovalCause.EXPIRED));
+            assertThat(chunkCache.cache.asMap()).containsOnlyKeys(new ChunkKey(SEGMENT_KEY, 0));
+        }
+
+        @Test
+        void chunksBehindAllReadersExpireEarlier() throws Exception {
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "consumed.retention.ms", "100"
+            ));
+            final Object reader = new Object();
+
+            chunkCache.onReadProgress(SEGMENT_OBJECT_KEY, reader, 0);
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .hasBinaryContent(CHUNK_0);
+            chunkCache.onReadProgress(SEGMENT_OBJECT_KEY, reader, 1);
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1))
+                .hasBinaryContent(CHUNK_1);
+            chunkCache.onReadClosed(SEGMENT_OBJECT_KEY, reader);
+
+            await().atMost(Duration.ofMillis(5000)).pollInterval(Duration.ofMillis(100))
+                .until(() -> !mockingDetails(removalListener).getInvocations().isEmpty());
+
+            verify(removalListener)
+                .onRemoval(
+                    argThat(argument -> argument.chunkId == 0),
+                    any(),
+                    eq(RemovalCause.EXPIRED));
+            assertThat(chunkCache.cache.asMap()).containsOnlyKeys(new ChunkKey(SEGMENT_KEY, 1));
+        }
+
+        @Test
+        void streamingOnCacheMiss() throws Exception {
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "streaming.enabled", "true"
+            ));
+
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .hasBinaryContent(CHUNK_0);
+            await().pollInterval(Duration.ofMillis(5))
+                .until(() -> chunkCache.statsCounter.snapshot().loadCount() == 1);
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .hasBinaryContent(CHUNK_0);
+            verify(chunkManager).getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0);
+            assertThat(chunkCache.statsCounter.snapshot().hitCount()).isEqualTo(1);
+            assertThat(chunkCache.statsCounter.snapshot().missCount()).isEqualTo(1);
+        }
+
+        @Test
+        void streamingConcurrentRequestsShareFetch() throws Exception {
+            final var release = new CountDownLatch(1);
+            final var slowChunk = new ByteArrayInputStream(CHUNK_1) {
+                @Override
+                public synchronized int read(final byte[] b, final int off, final int len) {
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return super.read(b, off, len);
+                }
+            };
+            when(chunkManager.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1)).thenReturn(slowChunk);
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "streaming.enabled", "true"
+            ));
+
+            final InputStream first = chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1);
+            final InputStream second = chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1);
+            release.countDown();
+
+            assertThat(first).hasBinaryContent(CHUNK_1);
+            assertThat(second).hasBinaryContent(CHUNK_1);
+            verify(chunkManager).getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 1);
+        }
+
+        @Test
+        void streamingServesChunkWhenCachingFailsAfterFetching() throws Exception {
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "streaming.enabled", "true"
+            ));
+            doAnswer(invocation -> {
+                invocation.getArgument(1, InputStream.class).readAllBytes();
+                throw new IOException(TEST_EXCEPTION_MESSAGE);
+            }).when(chunkCache).cacheChunk(any(), any());
+
+            assertThat(chunkCache.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .hasBinaryContent(CHUNK_0);
+            await().pollInterval(Duration.ofMillis(5))
+                .until(() -> chunkCache.cache.asMap().isEmpty());
+        }
+
+        @Test
+        void streamingFailedFetching() throws Exception {
+            when(chunkManager.getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .thenThrow(new StorageBackendException(TEST_EXCEPTION_MESSAGE));
+            chunkCache.configure(Map.of(
+                "retention.ms", "-1",
+                "size", "-1",
+                "streaming.enabled", "true"
+            ));
+
+            assertThatThrownBy(() -> chunkCache
+                .getChunk(SEGMENT_OBJECT_KEY, SEGMENT_MANIFEST, 0))
+                .isInstanceOf(StorageBackendException.class)
+                .hasMessage(TEST_EXCEPTION_MESSAGE);
+        }
     }
 
     @Nested
@@ -131,6 +131,33 @@ class DiskChunkCacheTest {
             .isDirectoryNotContaining(path -> path.endsWith(SEGMENT_ID + "-" + chunkKey1.chunkId));
     }
 
+    @Test
+    void cacheChunksMemoryMapped() throws IOException {
+        final DiskChunkCache mmapChunkCache = new DiskChunkCache(chunkManager);
+        mmapChunkCache.configure(Map.of(
+            "retention.ms", "-1",
+            "size", "-1",
+            "path", baseCachePath.toString(),
+            "mmap.enabled", "true"
+        ));
+        final ByteArrayInputStream chunkStream = new ByteArrayInputStream(CHUNK_0);
+        final ChunkKey chunkKey = new ChunkKey(SEGMENT_ID, 0);
+
+        final Path cachedChunkPath = mmapChunkCache.cacheChunk(chunkKey, chunkStream);
+
+        assertThat(mmapChunkCache.cachedChunkToInputStream(cachedChunkPath))
+            .hasBinaryContent(CHUNK_0);
+        try (final var stream = mmapChunkCache.cachedChunkToInputStream(cachedChunkPath)) {
+            // the stream keeps reading from the mapping after the file is deleted
+            mmapChunkCache.removalListener().onRemoval(chunkKey, cachedChunkPath, RemovalCause.SIZE);
+            assertThat(cachedChunkPath).doesNotExist();
+            assertThat(stream).hasBinaryContent(CHUNK_0);
+        }
+        assertThatThrownBy(() -> mmapChunkCache.cachedChunkToInputStream(cachedChunkPath))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
     @Test
     void failsToReadFile() {
         assertThatThrownBy(() -> diskChunkCache.cachedChunkToInputStream(Path.of("does_not_exists")))
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedChunkFilesTest {
+    private static final byte[] CHUNK_0 = "0123456789".getBytes();
+    private static final byte[] CHUNK_1 = "1011121314".getBytes();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsMappedFile() throws IOException {
+        final Path file = Files.write(dir.resolve("chunk-0"), CHUNK_0);
+        final MappedChunkFiles mappedFiles = new MappedChunkFiles(1024);
+
+        try (final InputStream stream = mappedFiles.newInputStream(file)) {
+            assertThat(stream).hasBinaryContent(CHUNK_0);
+        }
+        try (final InputStream stream = mappedFiles.newInputStream(file)) {
+            assertThat(stream.readNBytes(4)).isEqualTo("0123".getBytes());
+            assertThat(stream.available()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void evictedMappingStaysValidForOpenStreams() throws IOException {
+        final Path file0 = Files.write(dir.resolve("chunk-0"), CHUNK_0);
+        final Path file1 = Files.write(dir.resolve("chunk-1"), CHUNK_1);
+        // room for a single mapping
+        final MappedChunkFiles mappedFiles = new MappedChunkFiles(CHUNK_0.length);
+
+        try (final InputStream stream0 = mappedFiles.newInputStream(file0);
+             final InputStream stream1 = mappedFiles.newInputStream(file1)) {
+            assertThat(stream0).hasBinaryContent(CHUNK_0);
+            assertThat(stream1).hasBinaryContent(CHUNK_1);
+        }
+    }
+
+    @Test
+    void unmapAndDelete() throws IOException {
+        final Path file = Files.write(dir.resolve("chunk-0"), CHUNK_0);
+        final MappedChunkFiles mappedFiles = new MappedChunkFiles(1024);
+
+        try (final InputStream stream = mappedFiles.newInputStream(file)) {
+            mappedFiles.unmap(file);
+            Files.delete(file);
+            assertThat(stream).hasBinaryContent(CHUNK_0);
+        }
+        assertThatThrownBy(() -> mappedFiles.newInputStream(file))
+            .isInstanceOf(IOException.class);
+    }
+}
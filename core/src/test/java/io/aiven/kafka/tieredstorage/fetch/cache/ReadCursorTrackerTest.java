@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadCursorTrackerTest {
+    private static final String SEGMENT = "topic/segment";
+    private static final String OTHER_SEGMENT = "topic/other-segment";
+
+    final ReadCursorTracker tracker = new ReadCursorTracker();
+    final List<Integer> consumed = new ArrayList<>();
+
+    @Test
+    void singleReader() {
+        final Object reader = new Object();
+        tracker.advance(SEGMENT, reader, 3, consumed::add);
+        assertThat(consumed).isEmpty();
+        tracker.advance(SEGMENT, reader, 4, consumed::add);
+        tracker.advance(SEGMENT, reader, 6, consumed::add);
+        assertThat(consumed).containsExactly(3, 4, 5);
+
+        tracker.close(SEGMENT, reader, consumed::add);
+        assertThat(consumed).containsExactly(3, 4, 5);
+    }
+
+    @Test
+    void chunksAreConsumedOnceAllReadersMovedPast() {
+        final Object reader1 = new Object();
+        final Object reader2 = new Object();
+        tracker.advance(SEGMENT, reader1, 0, consumed::add);
+        tracker.advance(SEGMENT, reader2, 2, consumed::add);
+        tracker.advance(SEGMENT, reader2, 3, consumed::add);
+        assertThat(consumed).isEmpty();
+
+        tracker.advance(SEGMENT, reader1, 1, consumed::add);
+        assertThat(consumed).containsExactly(0);
+        tracker.advance(SEGMENT, reader1, 5, consumed::add);
+        assertThat(consumed).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void closingSlowestReaderConsumesChunksUpToNextOne() {
+        final Object reader1 = new Object();
+        final Object reader2 = new Object();
+        tracker.advance(SEGMENT, reader1, 0, consumed::add);
+        tracker.advance(SEGMENT, reader2, 2, consumed::add);
+
+        tracker.close(SEGMENT, reader1, consumed::add);
+        assertThat(consumed).containsExactly(0, 1);
+    }
+
+    @Test
+    void readersOfOtherSegmentsAreIgnored() {
+        final Object reader1 = new Object();
+        final Object reader2 = new Object();
+        tracker.advance(SEGMENT, reader1, 0, consumed::add);
+        tracker.advance(OTHER_SEGMENT, reader2, 0, consumed::add);
+        tracker.advance(SEGMENT, reader1, 1, consumed::add);
+        assertThat(consumed).containsExactly(0);
+    }
+
+    @Test
+    void closingUnknownReader() {
+        tracker.close(SEGMENT, new Object(), consumed::add);
+        assertThat(consumed).isEmpty();
+    }
+}
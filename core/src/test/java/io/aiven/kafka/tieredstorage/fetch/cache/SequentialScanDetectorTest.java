@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SequentialScanDetectorTest {
+    private static final String SEGMENT = "topic/segment";
+    private static final String OTHER_SEGMENT = "topic/other-segment";
+
+    @Test
+    void detectsSequentialScan() {
+        final var detector = new SequentialScanDetector(3);
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 0))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 2))).isTrue();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 3))).isTrue();
+    }
+
+    @Test
+    void rereadingBoundaryChunkContinuesScan() {
+        final var detector = new SequentialScanDetector(2);
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 0))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 0))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isTrue();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isTrue();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 2))).isTrue();
+    }
+
+    @Test
+    void randomAccessIsNotScan() {
+        final var detector = new SequentialScanDetector(2);
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 5))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 9))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 3))).isFalse();
+    }
+
+    @Test
+    void tracksStreamsPerSegment() {
+        final var detector = new SequentialScanDetector(2);
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 0))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(OTHER_SEGMENT, 1))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isTrue();
+    }
+
+    @Test
+    void interleavedStreamsInSameSegment() {
+        final var detector = new SequentialScanDetector(3);
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 0))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 100))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 101))).isFalse();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 2))).isTrue();
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 102))).isTrue();
+    }
+
+    @Test
+    void oldestStreamIsReplaced() {
+        final var detector = new SequentialScanDetector(2);
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 0))).isFalse();
+        for (int i = 1; i <= SequentialScanDetector.MAX_STREAMS_PER_SEGMENT; i++) {
+            assertThat(detector.recordAccess(new ChunkKey(SEGMENT, i * 100))).isFalse();
+        }
+        // stream starting at chunk 0 is not tracked anymore
+        assertThat(detector.recordAccess(new ChunkKey(SEGMENT, 1))).isFalse();
+    }
+
+    @Test
+    void invalidThreshold() {
+        assertThatThrownBy(() -> new SequentialScanDetector(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("threshold must be positive, 0 given");
+    }
+}
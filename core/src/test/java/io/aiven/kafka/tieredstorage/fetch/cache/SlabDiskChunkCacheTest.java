@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.aiven.kafka.tieredstorage.fetch.ChunkKey;
+import io.aiven.kafka.tieredstorage.fetch.ChunkManager;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static io.aiven.kafka.tieredstorage.config.DiskChunkCacheConfig.CACHE_DIRECTORY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@ExtendWith(MockitoExtension.class)
+class SlabDiskChunkCacheTest {
+    public static final String SEGMENT_ID = "topic/segment";
+    private static final byte[] CHUNK_0 = "0123456789".getBytes();
+    private static final byte[] CHUNK_1 = "1011121314".getBytes();
+    private static final byte[] CHUNK_2 = "1516171819".getBytes();
+    private static final byte[] BIG_CHUNK = "20212223242526272829".getBytes();
+    private static final ChunkKey CHUNK_KEY_0 = new ChunkKey(SEGMENT_ID, 0);
+    private static final ChunkKey CHUNK_KEY_1 = new ChunkKey(SEGMENT_ID, 1);
+    private static final ChunkKey CHUNK_KEY_2 = new ChunkKey(SEGMENT_ID, 2);
+
+    @Mock
+    ChunkManager chunkManager;
+    @TempDir
+    Path baseCachePath;
+
+    SlabDiskChunkCache slabChunkCache = new SlabDiskChunkCache(chunkManager);
+
+    private Path configure(final String compactionThreshold) {
+        return configure(compactionThreshold, false);
+    }
+
+    private Path configure(final String compactionThreshold, final boolean mmap) {
+        slabChunkCache.configure(Map.of(
+            "retention.ms", "-1",
+            "size", "-1",
+            "path", baseCachePath.toString(),
+            "slab.size", "25",
+            "slab.compaction.threshold", compactionThreshold,
+            "mmap.enabled", Boolean.toString(mmap)
+        ));
+        return baseCachePath.resolve(CACHE_DIRECTORY);
+    }
+
+    @Test
+    void cacheChunksIntoSameSlab() throws IOException {
+        final Path cachePath = configure("0");
+
+        final SlabEntry entry0 = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+        final SlabEntry entry1 = slabChunkCache.cacheChunk(CHUNK_KEY_1, new ByteArrayInputStream(CHUNK_1));
+
+        assertThat(entry0.slab).isSameAs(entry1.slab);
+        assertThat(entry1.offset).isEqualTo(CHUNK_0.length);
+        assertThat(slabChunkCache.cachedChunkToInputStream(entry0)).hasBinaryContent(CHUNK_0);
+        assertThat(slabChunkCache.cachedChunkToInputStream(entry1)).hasBinaryContent(CHUNK_1);
+        assertThat(cachePath.toFile().list()).containsExactly("slab-0");
+    }
+
+    @Test
+    void startsNewSlabWhenFull() throws IOException {
+        final Path cachePath = configure("0");
+
+        final SlabEntry entry0 = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+        slabChunkCache.cacheChunk(CHUNK_KEY_1, new ByteArrayInputStream(CHUNK_1));
+        final SlabEntry entry2 = slabChunkCache.cacheChunk(CHUNK_KEY_2, new ByteArrayInputStream(CHUNK_2));
+
+        assertThat(entry2.slab).isNotSameAs(entry0.slab);
+        assertThat(entry2.offset).isZero();
+        assertThat(slabChunkCache.cachedChunkToInputStream(entry2)).hasBinaryContent(CHUNK_2);
+        assertThat(cachePath.toFile().list()).containsExactlyInAnyOrder("slab-0", "slab-1");
+    }
+
+    @Test
+    void storesBigChunkInSlabOfItsOwn() throws IOException {
+        final Path cachePath = configure("0");
+
+        final SlabEntry entry = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(BIG_CHUNK));
+
+        assertThat(slabChunkCache.cachedChunkToInputStream(entry)).hasBinaryContent(BIG_CHUNK);
+        slabChunkCache.removalListener().onRemoval(CHUNK_KEY_0, entry, RemovalCause.SIZE);
+        assertThat(cachePath).isEmptyDirectory();
+    }
+
+    @Test
+    void readsMemoryMappedSlabs() throws IOException {
+        final Path cachePath = configure("0", true);
+
+        final SlabEntry entry0 = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+        final SlabEntry entry1 = slabChunkCache.cacheChunk(CHUNK_KEY_1, new ByteArrayInputStream(CHUNK_1));
+        slabChunkCache.cacheChunk(CHUNK_KEY_2, new ByteArrayInputStream(CHUNK_2));
+
+        assertThat(slabChunkCache.cachedChunkToInputStream(entry0)).hasBinaryContent(CHUNK_0);
+        try (final InputStream stream = slabChunkCache.cachedChunkToInputStream(entry1)) {
+            slabChunkCache.removalListener().onRemoval(CHUNK_KEY_0, entry0, RemovalCause.SIZE);
+            slabChunkCache.removalListener().onRemoval(CHUNK_KEY_1, entry1, RemovalCause.SIZE);
+            assertThat(cachePath.resolve("slab-0")).doesNotExist();
+            // the stream keeps reading from the mapping after the slab file is deleted
+            assertThat(stream).hasBinaryContent(CHUNK_1);
+        }
+        assertThatThrownBy(() -> slabChunkCache.cachedChunkToInputStream(entry1))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void weighsCorrectly() throws IOException {
+        configure("0");
+
+        final SlabEntry entry = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+
+        assertThat(slabChunkCache.weigher().weigh(CHUNK_KEY_0, entry)).isEqualTo(CHUNK_0.length);
+    }
+
+    @Test
+    void deletesSealedSlabOnceAllChunksRemoved() throws IOException {
+        final Path cachePath = configure("0");
+
+        final SlabEntry entry0 = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+        final SlabEntry entry1 = slabChunkCache.cacheChunk(CHUNK_KEY_1, new ByteArrayInputStream(CHUNK_1));
+        slabChunkCache.cacheChunk(CHUNK_KEY_2, new ByteArrayInputStream(CHUNK_2));
+
+        slabChunkCache.removalListener().onRemoval(CHUNK_KEY_0, entry0, RemovalCause.SIZE);
+        assertThat(cachePath.resolve("slab-0")).exists();
+
+        slabChunkCache.removalListener().onRemoval(CHUNK_KEY_1, entry1, RemovalCause.SIZE);
+        assertThat(cachePath.resolve("slab-0")).doesNotExist();
+        assertThat(cachePath.resolve("slab-1")).exists();
+
+        assertThatThrownBy(() -> slabChunkCache.cachedChunkToInputStream(entry1))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void compactsSparseSlabs() throws IOException {
+        final Path cachePath = configure("0.5");
+
+        final SlabEntry entry0 = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+        final SlabEntry entry1 = slabChunkCache.cacheChunk(CHUNK_KEY_1, new ByteArrayInputStream(CHUNK_1));
+        slabChunkCache.cacheChunk(CHUNK_KEY_2, new ByteArrayInputStream(CHUNK_2));
+        slabChunkCache.cache.put(CHUNK_KEY_1, CompletableFuture.completedFuture(entry1));
+
+        // 10 out of 25 bytes are left live in the first slab
+        slabChunkCache.removalListener().onRemoval(CHUNK_KEY_0, entry0, RemovalCause.SIZE);
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> !cachePath.resolve("slab-0").toFile().exists());
+        final SlabEntry relocated = slabChunkCache.cache.synchronous().getIfPresent(CHUNK_KEY_1);
+        assertThat(relocated).isNotSameAs(entry1);
+        assertThat(relocated.slab).isNotSameAs(entry1.slab);
+        assertThat(slabChunkCache.cachedChunkToInputStream(relocated)).hasBinaryContent(CHUNK_1);
+    }
+
+    @Test
+    void doesNotCompactOnceClosed() throws IOException {
+        final Path cachePath = configure("0.5");
+
+        final SlabEntry entry0 = slabChunkCache.cacheChunk(CHUNK_KEY_0, new ByteArrayInputStream(CHUNK_0));
+        final SlabEntry entry1 = slabChunkCache.cacheChunk(CHUNK_KEY_1, new ByteArrayInputStream(CHUNK_1));
+        slabChunkCache.cacheChunk(CHUNK_KEY_2, new ByteArrayInputStream(CHUNK_2));
+        slabChunkCache.cache.put(CHUNK_KEY_1, CompletableFuture.completedFuture(entry1));
+        slabChunkCache.close();
+
+        slabChunkCache.removalListener().onRemoval(CHUNK_KEY_0, entry0, RemovalCause.SIZE);
+
+        assertThat(cachePath.resolve("slab-0")).exists();
+        assertThat(slabChunkCache.cache.synchronous().getIfPresent(CHUNK_KEY_1)).isSameAs(entry1);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingChunkTest {
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void readsBytesAsTheyAreWritten() throws Exception {
+        final var chunk = new StreamingChunk(4, TIMEOUT);
+        chunk.opened();
+        final InputStream reader = chunk.newInputStream();
+
+        chunk.write(new byte[] {0, 1}, 0, 2);
+        final byte[] buffer = new byte[4];
+        assertThat(reader.read(buffer)).isEqualTo(2);
+        assertThat(reader.available()).isZero();
+
+        final CompletableFuture<byte[]> rest = CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.readAllBytes();
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        chunk.write(new byte[] {2, 3, 4}, 0, 3);
+        chunk.complete(() -> new ByteArrayInputStream(new byte[] {0, 1, 2, 3, 4}));
+        assertThat(rest.get()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void readersStartFromTheBeginning() throws Exception {
+        final var chunk = new StreamingChunk(2, TIMEOUT);
+        chunk.opened();
+        chunk.write(new byte[] {0, 1, 2}, 0, 3);
+        chunk.complete(() -> {
+            throw new AssertionError("All bytes are buffered");
+        });
+
+        assertThat(chunk.newInputStream().readAllBytes()).containsExactly(0, 1, 2);
+        assertThat(chunk.newInputStream().readAllBytes()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void readersBehindTheBufferContinueFromSource() throws Exception {
+        final byte[] bytes = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final var chunk = new StreamingChunk(bytes.length, 4, TIMEOUT);
+        chunk.opened();
+        final InputStream reader = chunk.newInputStream();
+
+        chunk.write(bytes, 0, 3);
+        assertThat(reader.readNBytes(2)).containsExactly(0, 1);
+        chunk.write(bytes, 3, 3);
+        // the buffer wrapped around, but byte 2 is still there
+        assertThat(reader.readNBytes(1)).containsExactly(2);
+        chunk.write(bytes, 6, 4);
+        chunk.complete(() -> new ByteArrayInputStream(bytes));
+
+        assertThat(reader.readAllBytes()).containsExactly(3, 4, 5, 6, 7, 8, 9);
+        assertThat(chunk.newInputStream().readAllBytes()).containsExactly(bytes);
+    }
+
+    @Test
+    void readersBehindTheBufferWaitForCompletion() throws Exception {
+        final byte[] bytes = {0, 1, 2, 3, 4, 5};
+        final var chunk = new StreamingChunk(bytes.length, 2, TIMEOUT);
+        chunk.opened();
+        final InputStream reader = chunk.newInputStream();
+        chunk.write(bytes, 0, 4);
+
+        final CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.readAllBytes();
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        chunk.write(bytes, 4, 2);
+        chunk.complete(() -> new ByteArrayInputStream(bytes));
+        assertThat(read.get()).containsExactly(bytes);
+    }
+
+    @Test
+    void failureBeforeOpeningIsThrownToRequester() {
+        final var chunk = new StreamingChunk(2, TIMEOUT);
+        final var exception = new StorageBackendException("test");
+        chunk.fail(exception);
+
+        assertThatThrownBy(chunk::newInputStream).isSameAs(exception);
+    }
+
+    @Test
+    void failureAfterOpeningIsThrownToReaderAfterWrittenBytes() throws Exception {
+        final var chunk = new StreamingChunk(2, TIMEOUT);
+        chunk.opened();
+        final InputStream reader = chunk.newInputStream();
+        chunk.write(1);
+        chunk.fail(new IOException("test"));
+
+        assertThat(reader.read()).isEqualTo(1);
+        assertThatThrownBy(reader::read)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Failed to fetch chunk")
+            .hasRootCauseMessage("test");
+    }
+
+    @Test
+    void timesOutWaitingForBytes() throws Exception {
+        final var chunk = new StreamingChunk(2, Duration.ofMillis(10));
+        assertThatThrownBy(chunk::newInputStream).isInstanceOf(TimeoutException.class);
+
+        chunk.opened();
+        final InputStream reader = chunk.newInputStream();
+        assertThatThrownBy(reader::read)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Timed out waiting for chunk bytes to be fetched");
+    }
+}
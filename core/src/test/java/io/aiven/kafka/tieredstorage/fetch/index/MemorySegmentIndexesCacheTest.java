@@ -18,6 +18,7 @@ package io.aiven.kafka.tieredstorage.fetch.index;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -42,6 +43,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -58,6 +60,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -291,4 +294,22 @@ class MemorySegmentIndexesCacheTest {
             .isInstanceOf(expectedExceptionClass)
             .hasMessage(TEST_EXCEPTION_MESSAGE);
     }
+
+    @Test
+    void keepsIndexesOnDiskAcrossRestarts(@TempDir final Path diskPath) throws IOException, StorageBackendException {
+        final Map<String, String> configs = Map.of("disk.path", diskPath.toString());
+        cache.configure(configs);
+        when(offsetIndexSupplier.get()).thenReturn(OFFSET_INDEX);
+        final ObjectKey key = objectKeyFactory.key(REMOTE_LOG_SEGMENT_METADATA, ObjectKeyFactory.Suffix.INDEXES);
+        assertThat(cache.get(key, IndexType.OFFSET, offsetIndexSupplier)).hasBinaryContent(OFFSET_INDEX);
+
+        final var restartedCache = new MemorySegmentIndexesCache();
+        restartedCache.configure(configs);
+        assertThat(restartedCache.get(key, IndexType.OFFSET, offsetIndexSupplier)).hasBinaryContent(OFFSET_INDEX);
+        verify(offsetIndexSupplier).get();
+
+        restartedCache.invalidate(key);
+        assertThat(restartedCache.get(key, IndexType.OFFSET, offsetIndexSupplier)).hasBinaryContent(OFFSET_INDEX);
+        verify(offsetIndexSupplier, times(2)).get();
+    }
 }
@@ -19,11 +19,14 @@ package io.aiven.kafka.tieredstorage.fetch.manifest;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 
+import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.server.log.remote.storage.RemoteStorageManager.IndexType;
 
+import io.aiven.kafka.tieredstorage.fetch.MemoryBudget;
 import io.aiven.kafka.tieredstorage.manifest.SegmentIndexesV1;
 import io.aiven.kafka.tieredstorage.manifest.SegmentManifestV1;
 import io.aiven.kafka.tieredstorage.manifest.index.FixedSizeChunkIndex;
@@ -37,6 +40,7 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,6 +49,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -144,4 +149,60 @@ class MemorySegmentManifestCacheTest {
             .ignoreExceptions()
             .until(() -> cache.get(MANIFEST_KEY).equals(expectedManifest));
     }
+
+    @Test
+    void shouldWeighManifestsInBytes() throws StorageBackendException, IOException {
+        cache = new MemorySegmentManifestCache(storage, MAPPER);
+        cache.configure(Map.of("size", 1, "size.bytes", 1_000_000));
+        when(storage.fetch(MANIFEST_KEY))
+            .thenReturn(new ByteArrayInputStream(MANIFEST.getBytes()));
+        final var chunkIndex = new FixedSizeChunkIndex(100, 1000, 110, 110);
+        final var expectedManifest = new SegmentManifestV1(chunkIndex, SEGMENT_INDEXES, false, null, null);
+
+        assertThat(cache.weighedInBytes()).isTrue();
+        assertThat(cache.get(MANIFEST_KEY)).isEqualTo(expectedManifest);
+        final var eviction = cache.cache.synchronous().policy().eviction().orElseThrow();
+        assertThat(eviction.getMaximum()).isEqualTo(1_000_000);
+        assertThat(eviction.weightedSize())
+            .hasValue(new SegmentManifestWeigher().weigh(MANIFEST_KEY, expectedManifest));
+    }
+
+    @Test
+    void shouldShareMemoryBudgetOnlyWhenWeighedInBytes() {
+        try (final MemoryBudget budget = new MemoryBudget(1_000_000, Duration.ofMinutes(1))) {
+            assertThat(cache.weighedInBytes()).isFalse();
+            assertThatThrownBy(() -> cache.registerWith(budget))
+                .isInstanceOf(ConfigException.class)
+                .hasMessage("Manifest cache size.bytes must be set to share the memory budget");
+
+            final var bytesCache = new MemorySegmentManifestCache(storage, MAPPER);
+            bytesCache.configure(Map.of("size.bytes", 100_000));
+            bytesCache.registerWith(budget);
+            assertThatThrownBy(() -> bytesCache.registerWith(budget))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cache segment-manifest-cache is already registered");
+        }
+    }
+
+    @Test
+    void shouldKeepManifestsOnDiskAcrossRestarts(@TempDir final Path diskPath)
+        throws StorageBackendException, IOException {
+        final Map<String, String> configs = Map.of("disk.path", diskPath.toString());
+        cache = new MemorySegmentManifestCache(storage, MAPPER);
+        cache.configure(configs);
+        when(storage.fetch(MANIFEST_KEY))
+            .thenAnswer(invocation -> new ByteArrayInputStream(MANIFEST.getBytes()));
+        final var chunkIndex = new FixedSizeChunkIndex(100, 1000, 110, 110);
+        final var expectedManifest = new SegmentManifestV1(chunkIndex, SEGMENT_INDEXES, false, null, null);
+        assertThat(cache.get(MANIFEST_KEY)).isEqualTo(expectedManifest);
+
+        final var restartedCache = new MemorySegmentManifestCache(storage, MAPPER);
+        restartedCache.configure(configs);
+        assertThat(restartedCache.get(MANIFEST_KEY)).isEqualTo(expectedManifest);
+        verify(storage).fetch(MANIFEST_KEY);
+
+        restartedCache.invalidate(MANIFEST_KEY);
+        assertThat(restartedCache.get(MANIFEST_KEY)).isEqualTo(expectedManifest);
+        verify(storage, times(2)).fetch(MANIFEST_KEY);
+    }
 }
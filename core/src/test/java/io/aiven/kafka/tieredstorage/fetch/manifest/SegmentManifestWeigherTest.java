@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.fetch.manifest;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import java.util.Collections;
+
+import io.aiven.kafka.tieredstorage.manifest.SegmentEncryptionMetadataV1;
+import io.aiven.kafka.tieredstorage.manifest.SegmentManifestV1;
+import io.aiven.kafka.tieredstorage.manifest.index.FixedSizeChunkIndex;
+import io.aiven.kafka.tieredstorage.manifest.index.VariableSizeChunkIndex;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+
+import org.junit.jupiter.api.Test;
+
+import static io.aiven.kafka.tieredstorage.fetch.manifest.MemorySegmentManifestCacheTest.SEGMENT_INDEXES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentManifestWeigherTest {
+    static final ObjectKey KEY = () -> "topic/manifest";
+
+    final SegmentManifestWeigher weigher = new SegmentManifestWeigher();
+
+    @Test
+    void fixedSizeIndexDoesNotGrowWithChunks() {
+        final var small = new SegmentManifestV1(
+            new FixedSizeChunkIndex(100, 1000, 110, 110), SEGMENT_INDEXES, false, null, null);
+        final var large = new SegmentManifestV1(
+            new FixedSizeChunkIndex(100, 1_000_000, 110, 110), SEGMENT_INDEXES, false, null, null);
+
+        assertThat(weigher.weigh(KEY, small)).isEqualTo(weigher.weigh(KEY, large));
+    }
+
+    @Test
+    void variableSizeIndexGrowsWithChunks() {
+        final var small = new SegmentManifestV1(
+            new VariableSizeChunkIndex(100, 1000, Collections.nCopies(10, 50)), SEGMENT_INDEXES, false, null, null);
+        final var large = new SegmentManifestV1(
+            new VariableSizeChunkIndex(100, 100_000, Collections.nCopies(1000, 50)),
+            SEGMENT_INDEXES, false, null, null);
+
+        assertThat(weigher.weigh(KEY, large) - weigher.weigh(KEY, small)).isEqualTo(990 * Integer.BYTES);
+    }
+
+    @Test
+    void includesKeyAndEncryption() {
+        final var manifest = new SegmentManifestV1(
+            new FixedSizeChunkIndex(100, 1000, 110, 110), SEGMENT_INDEXES, false, null, null);
+        final var encrypted = new SegmentManifestV1(
+            new FixedSizeChunkIndex(100, 1000, 110, 110), SEGMENT_INDEXES, false,
+            new SegmentEncryptionMetadataV1(new SecretKeySpec(new byte[32], "AES"), new byte[32]), null);
+        final ObjectKey longerKey = () -> "topic/longer-manifest";
+
+        assertThat(weigher.weigh(longerKey, manifest) - weigher.weigh(KEY, manifest)).isEqualTo(7);
+        assertThat(weigher.weigh(KEY, encrypted) - weigher.weigh(KEY, manifest))
+            .isEqualTo(SegmentManifestWeigher.ENCRYPTION_OVERHEAD + 32);
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentId;
 import org.apache.kafka.server.log.remote.storage.RemoteLogSegmentMetadata;
 
 import io.aiven.kafka.tieredstorage.ObjectKeyFactory;
+import io.aiven.kafka.tieredstorage.manifest.SegmentFormat;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,7 +48,8 @@ class SegmentCustomMetadataBuilderTest {
 
     @Test
     void shouldBuildEmptyMap() {
-        final var b = new SegmentCustomMetadataBuilder(Set.of(), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
         assertThat(b.build()).isEmpty();
 
         // even when upload results are added
@@ -57,7 +59,8 @@ class SegmentCustomMetadataBuilderTest {
 
     @Test
     void shouldFailWhenAddingExistingSuffixUploadResult() {
-        final var b = new SegmentCustomMetadataBuilder(Set.of(), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
 
         b.addUploadResult(ObjectKeyFactory.Suffix.MANIFEST, 10L);
         assertThatThrownBy(() -> b.addUploadResult(ObjectKeyFactory.Suffix.MANIFEST, 20L))
@@ -68,7 +71,8 @@ class SegmentCustomMetadataBuilderTest {
     @Test
     void shouldIncludeTotalSize() {
         final var field = SegmentCustomMetadataField.REMOTE_SIZE;
-        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
         var fields = b.build();
         assertThat(fields)
             .containsExactly(entry(field.index, 0L)); // i.e. no upload results
@@ -85,7 +89,8 @@ class SegmentCustomMetadataBuilderTest {
     @Test
     void shouldIncludeObjectPrefix() {
         final var field = SegmentCustomMetadataField.OBJECT_PREFIX;
-        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
         final var fields = b.build();
         assertThat(fields)
             .containsExactly(entry(field.index, "p1"));
@@ -94,9 +99,42 @@ class SegmentCustomMetadataBuilderTest {
     @Test
     void shouldIncludeObjectKey() {
         final var field = SegmentCustomMetadataField.OBJECT_KEY;
-        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
         final var fields = b.build();
         assertThat(fields)
             .containsExactly(entry(field.index, "topic-" + TOPIC_ID + "/0/00000000000000000001-" + SEGMENT_ID));
     }
+
+    @Test
+    void shouldIncludeSegmentFormat() {
+        final var field = SegmentCustomMetadataField.SEGMENT_FORMAT;
+        final var b = new SegmentCustomMetadataBuilder(Set.of(field), OBJECT_KEY_FACTORY, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.ICEBERG);
+        final var fields = b.build();
+        assertThat(fields)
+            .containsExactly(entry(field.index, SegmentFormat.ICEBERG.id()));
+    }
+
+    @Test
+    void shouldIncludeObjectShard() {
+        final var field = SegmentCustomMetadataField.OBJECT_SHARD;
+        final var objectKeyFactory = new ObjectKeyFactory("p1", false, 2);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(field), objectKeyFactory, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
+        final var fields = b.build();
+        assertThat(fields)
+            .containsExactly(entry(field.index, objectKeyFactory.shard(REMOTE_LOG_SEGMENT_METADATA)));
+    }
+
+    @Test
+    void shouldAlwaysIncludeObjectShardWhenShardingEnabled() {
+        final var objectKeyFactory = new ObjectKeyFactory("p1", false, 2);
+        final var b = new SegmentCustomMetadataBuilder(Set.of(), objectKeyFactory, REMOTE_LOG_SEGMENT_METADATA,
+            SegmentFormat.KAFKA);
+        final var fields = b.build();
+        assertThat(fields)
+            .containsOnlyKeys(SegmentCustomMetadataField.OBJECT_SHARD.index);
+        assertThat((String) fields.get(SegmentCustomMetadataField.OBJECT_SHARD.index)).hasSize(2);
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FetchStageContextTest {
+    @Test
+    void noopWhenNothingIsBound() {
+        assertThat(FetchStageContext.current()).isSameAs(FetchStageRecorder.NOOP);
+    }
+
+    @Test
+    void restoresPreviousRecorderOnClose() {
+        final FetchStageRecorder outer = (stage, durationNanos) -> { };
+        final FetchStageRecorder inner = (stage, durationNanos) -> { };
+        try (final var ignoredOuter = FetchStageContext.bind(outer)) {
+            try (final var ignoredInner = FetchStageContext.bind(inner)) {
+                assertThat(FetchStageContext.current()).isSameAs(inner);
+            }
+            assertThat(FetchStageContext.current()).isSameAs(outer);
+        }
+        assertThat(FetchStageContext.current()).isSameAs(FetchStageRecorder.NOOP);
+    }
+
+    @Test
+    void bindingIsPerThread() throws Exception {
+        final FetchStageRecorder recorder = (stage, durationNanos) -> { };
+        try (final var ignored = FetchStageContext.bind(recorder)) {
+            final FetchStageRecorder[] seen = new FetchStageRecorder[1];
+            final Thread thread = new Thread(() -> seen[0] = FetchStageContext.current());
+            thread.start();
+            thread.join();
+            assertThat(seen[0]).isSameAs(FetchStageRecorder.NOOP);
+        }
+    }
+}
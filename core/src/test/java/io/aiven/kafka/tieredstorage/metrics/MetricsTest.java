@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.aiven.kafka.tieredstorage.metrics;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.utils.MockTime;
+
+import io.aiven.kafka.tieredstorage.ObjectKeyFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsTest {
+    static final MBeanServer MBEAN_SERVER = ManagementFactory.getPlatformMBeanServer();
+    static final String OBJECT_NAME = "aiven.kafka.server.tieredstorage:type=remote-storage-manager-metrics";
+
+    Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics(new MockTime(), new MetricConfig().recordLevel(Sensor.RecordingLevel.DEBUG));
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    void partitionsOfTheSameTopicShareTopicSensors() throws Exception {
+        metrics.recordSegmentFetch(new TopicPartition("metrics-test", 0), 10);
+        metrics.recordSegmentFetch(new TopicPartition("metrics-test", 1), 20);
+        metrics.recordSegmentFetch(new TopicPartition("metrics-test", 0), 30);
+
+        assertThat(MBEAN_SERVER.getAttribute(
+            new ObjectName(OBJECT_NAME), "segment-fetch-requested-bytes-total"))
+            .isEqualTo(60.0);
+        assertThat(MBEAN_SERVER.getAttribute(
+            new ObjectName(OBJECT_NAME + ",topic=metrics-test"), "segment-fetch-requested-bytes-total"))
+            .isEqualTo(60.0);
+        assertThat(MBEAN_SERVER.getAttribute(
+            new ObjectName(OBJECT_NAME + ",topic=metrics-test,partition=0"), "segment-fetch-requested-bytes-total"))
+            .isEqualTo(40.0);
+        assertThat(MBEAN_SERVER.getAttribute(
+            new ObjectName(OBJECT_NAME + ",topic=metrics-test,partition=1"), "segment-fetch-requested-bytes-total"))
+            .isEqualTo(20.0);
+    }
+
+    @Test
+    void sensorsAreCreatedOnFirstRecord() throws Exception {
+        final var topicPartition = new TopicPartition("metrics-test-lazy", 0);
+        metrics.recordObjectUpload(topicPartition, ObjectKeyFactory.Suffix.LOG, 100);
+
+        final var logObjectName = new ObjectName(OBJECT_NAME + ",topic=metrics-test-lazy,object-type=log");
+        assertThat(MBEAN_SERVER.getAttribute(logObjectName, "object-upload-total")).isEqualTo(1.0);
+        assertThat(MBEAN_SERVER.isRegistered(
+            new ObjectName(OBJECT_NAME + ",topic=metrics-test-lazy,object-type=rsm-manifest")))
+            .isFalse();
+        assertThat(MBEAN_SERVER.getAttributes(
+            new ObjectName(OBJECT_NAME + ",topic=metrics-test-lazy,partition=0"),
+            new String[] {"segment-delete-total"}).asList())
+            .isEmpty();
+    }
+
+    @Test
+    void fetchStageTimesAreRecordedByStageAndTopic() throws Exception {
+        final FetchStageRecorder recorder = metrics.fetchStageRecorder(new TopicPartition("metrics-test-stages", 0));
+        recorder.record(FetchStage.DECRYPTION, 2_000_000);
+        recorder.record(FetchStage.DECRYPTION, 4_000_000);
+
+        final var stageObjectName = new ObjectName(OBJECT_NAME + ",stage=decryption");
+        assertThat(MBEAN_SERVER.getAttribute(stageObjectName, "fetch-stage-time-avg")).isEqualTo(3.0);
+        assertThat(MBEAN_SERVER.getAttribute(stageObjectName, "fetch-stage-time-max")).isEqualTo(4.0);
+        // both fall into buckets narrower than 2 ms
+        assertThat((double) MBEAN_SERVER.getAttribute(stageObjectName, "fetch-stage-time-p99")).isBetween(0.0, 5.0);
+
+        final var topicObjectName = new ObjectName(OBJECT_NAME + ",topic=metrics-test-stages,stage=decryption");
+        assertThat(MBEAN_SERVER.getAttribute(topicObjectName, "fetch-stage-time-max")).isEqualTo(4.0);
+        assertThat(MBEAN_SERVER.isRegistered(new ObjectName(OBJECT_NAME + ",stage=decompression"))).isFalse();
+    }
+
+    @Test
+    void stageTimePercentilesByTopicAreOnlyRecordedOnDebugLevel() throws Exception {
+        metrics.close();
+        metrics = new Metrics(new MockTime(), new MetricConfig());
+
+        final FetchStageRecorder recorder = metrics.fetchStageRecorder(new TopicPartition("metrics-test-info", 0));
+        recorder.record(FetchStage.DECRYPTION, 2_000_000);
+
+        final var stageObjectName = new ObjectName(OBJECT_NAME + ",stage=decryption");
+        assertThat((double) MBEAN_SERVER.getAttribute(stageObjectName, "fetch-stage-time-p99")).isBetween(0.0, 5.0);
+
+        final var topicObjectName = new ObjectName(OBJECT_NAME + ",topic=metrics-test-info,stage=decryption");
+        assertThat(MBEAN_SERVER.getAttribute(topicObjectName, "fetch-stage-time-max")).isEqualTo(2.0);
+        assertThat((double) MBEAN_SERVER.getAttribute(topicObjectName, "fetch-stage-time-p99")).isNaN();
+    }
+
+    @Test
+    void uploadStageTimesAndBytesAreRecordedByStageAndTopic() throws Exception {
+        final UploadStageRecorder recorder = metrics.uploadStageRecorder(new TopicPartition("metrics-test-upload", 0));
+        recorder.record(UploadStage.OBJECT_UPLOAD, 500_000_000, 1000);
+        recorder.record(UploadStage.OBJECT_UPLOAD, 1_500_000_000, 3000);
+
+        final var stageObjectName = new ObjectName(OBJECT_NAME + ",stage=object-upload");
+        assertThat(MBEAN_SERVER.getAttribute(stageObjectName, "upload-stage-time-avg")).isEqualTo(1000.0);
+        assertThat(MBEAN_SERVER.getAttribute(stageObjectName, "upload-stage-time-max")).isEqualTo(1500.0);
+        assertThat(MBEAN_SERVER.getAttribute(stageObjectName, "upload-stage-time-total")).isEqualTo(2000.0);
+        assertThat(MBEAN_SERVER.getAttribute(stageObjectName, "upload-stage-bytes-total")).isEqualTo(4000.0);
+
+        final var topicObjectName = new ObjectName(OBJECT_NAME + ",topic=metrics-test-upload,stage=object-upload");
+        assertThat(MBEAN_SERVER.getAttribute(topicObjectName, "upload-stage-time-total")).isEqualTo(2000.0);
+        assertThat(MBEAN_SERVER.getAttribute(topicObjectName, "upload-stage-bytes-total")).isEqualTo(4000.0);
+    }
+
+    @Test
+    void uploadStageBytesAreNotRecordedForRateLimitWait() throws Exception {
+        final UploadStageRecorder recorder = metrics.uploadStageRecorder(new TopicPartition("metrics-test-wait", 0));
+        recorder.record(UploadStage.RATE_LIMIT_WAIT, 2_000_000, 1000);
+
+        final var topicObjectName = new ObjectName(OBJECT_NAME + ",topic=metrics-test-wait,stage=rate-limit-wait");
+        assertThat(MBEAN_SERVER.getAttribute(topicObjectName, "upload-stage-time-total")).isEqualTo(2.0);
+        assertThatThrownBy(() -> MBEAN_SERVER.getAttribute(topicObjectName, "upload-stage-bytes-total"))
+            .isInstanceOf(AttributeNotFoundException.class);
+    }
+}
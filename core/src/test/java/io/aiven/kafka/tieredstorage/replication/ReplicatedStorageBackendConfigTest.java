@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.replication;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigException;
+
+import io.aiven.kafka.tieredstorage.storage.memory.InMemoryStorage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplicatedStorageBackendConfigTest {
+    @Test
+    void minimalConfig() {
+        final var config = new ReplicatedStorageBackendConfig(Map.of(
+            "replicas", "primary,secondary",
+            "replicas.primary.backend.class", InMemoryStorage.class.getCanonicalName(),
+            "replicas.secondary.backend.class", InMemoryStorage.class.getCanonicalName()
+        ));
+
+        assertThat(config.replicaNames()).containsExactly("primary", "secondary");
+        assertThat(config.replicaBackend("primary")).isInstanceOf(InMemoryStorage.class);
+        assertThat(config.uploadAsyncEnabled()).isFalse();
+        assertThat(config.uploadAsyncThreads()).isEqualTo(2);
+        assertThat(config.uploadAsyncRetries()).isEqualTo(3);
+        assertThat(config.uploadAsyncRetryBackoff()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(config.fetchErrorBackoff()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(config.fetchLatencyProbeInterval()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void fullConfig() {
+        final var config = new ReplicatedStorageBackendConfig(Map.of(
+            "replicas", "primary,secondary",
+            "replicas.primary.backend.class", InMemoryStorage.class.getCanonicalName(),
+            "replicas.secondary.backend.class", InMemoryStorage.class.getCanonicalName(),
+            "upload.async.enabled", "true",
+            "upload.async.threads", "4",
+            "upload.async.retries", "0",
+            "upload.async.retry.backoff.ms", "500",
+            "fetch.error.backoff.ms", "1000",
+            "fetch.latency.probe.interval.ms", "5000"
+        ));
+
+        assertThat(config.uploadAsyncEnabled()).isTrue();
+        assertThat(config.uploadAsyncThreads()).isEqualTo(4);
+        assertThat(config.uploadAsyncRetries()).isZero();
+        assertThat(config.uploadAsyncRetryBackoff()).isEqualTo(Duration.ofMillis(500));
+        assertThat(config.fetchErrorBackoff()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(config.fetchLatencyProbeInterval()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void missingReplicas() {
+        assertThatThrownBy(() -> new ReplicatedStorageBackendConfig(Map.of()))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Missing required configuration \"replicas\" which has no default value.");
+    }
+
+    @Test
+    void singleReplica() {
+        assertThatThrownBy(() -> new ReplicatedStorageBackendConfig(Map.of(
+            "replicas", "primary",
+            "replicas.primary.backend.class", InMemoryStorage.class.getCanonicalName()
+        )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("replicas must contain at least two replicas, got [primary]");
+    }
+
+    @Test
+    void duplicateReplicas() {
+        assertThatThrownBy(() -> new ReplicatedStorageBackendConfig(Map.of(
+            "replicas", "primary,primary",
+            "replicas.primary.backend.class", InMemoryStorage.class.getCanonicalName()
+        )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("replicas must not contain duplicates, got [primary, primary]");
+    }
+
+    @Test
+    void missingReplicaBackendClass() {
+        assertThatThrownBy(() -> new ReplicatedStorageBackendConfig(Map.of(
+            "replicas", "primary,secondary",
+            "replicas.primary.backend.class", InMemoryStorage.class.getCanonicalName()
+        )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Missing required configuration \"replicas.secondary.backend.class\" "
+                + "which has no default value.");
+    }
+}
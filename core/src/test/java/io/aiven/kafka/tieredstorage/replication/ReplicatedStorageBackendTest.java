@@ -0,0 +1,298 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.replication;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.common.utils.MockTime;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
+import io.aiven.kafka.tieredstorage.storage.memory.InMemoryStorage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ReplicatedStorageBackendTest {
+    private static final MBeanServer MBEAN_SERVER = ManagementFactory.getPlatformMBeanServer();
+    private static final ObjectKey KEY = new TestObjectKey("topic/partition/log");
+    private static final byte[] CONTENT = "some content".getBytes();
+
+    final MockTime time = new MockTime();
+    ReplicatedStorageBackend storage;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    void uploadCopiesToAllReplicas() throws Exception {
+        storage = configured(Map.of());
+
+        assertThat(storage.upload(new ByteArrayInputStream(CONTENT), KEY)).isEqualTo(CONTENT.length);
+
+        for (final String replica : Set.of("a", "b", "c")) {
+            assertThat(backend(replica).objectCount()).isEqualTo(1);
+            try (InputStream inputStream = backend(replica).fetch(KEY)) {
+                assertThat(inputStream).hasBinaryContent(CONTENT);
+            }
+        }
+    }
+
+    @Test
+    void asyncUploadCopiesInBackground() throws Exception {
+        storage = configured(Map.of("upload.async.enabled", "true"));
+
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+
+        assertThat(backend("a").objectCount()).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(backend("b").objectCount()).isEqualTo(1);
+            assertThat(backend("c").objectCount()).isEqualTo(1);
+        });
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(metric(null, "pending-replications")).isEqualTo(0.0));
+    }
+
+    @Test
+    void failedCopyFailsSyncUpload() {
+        storage = configured(Map.of("replicas.b.error.rate", "1.0"));
+
+        assertThatThrownBy(() -> storage.upload(new ByteArrayInputStream(CONTENT), KEY))
+            .hasMessage("Failed to copy " + KEY + " to replica " + replica("b"));
+        assertThat(metric("b", "upload-errors-total")).isEqualTo(1.0);
+    }
+
+    @Test
+    void asyncCopyRetriedThenCountedAsFailed() throws Exception {
+        storage = configured(Map.of(
+            "replicas.b.error.rate", "1.0",
+            "upload.async.enabled", "true",
+            "upload.async.retries", "2",
+            "upload.async.retry.backoff.ms", "0"
+        ));
+
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(metric(null, "pending-replications")).isEqualTo(0.0));
+        assertThat(metric("b", "upload-errors-total")).isEqualTo(3.0);
+        assertThat(metric("b", "copy-failures-total")).isEqualTo(1.0);
+        assertThat(metric("c", "copy-failures-total")).isEqualTo(0.0);
+        assertThat(backend("c").objectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteWaitsForRunningCopy() throws Exception {
+        storage = configured(Map.of(
+            "replicas.b.upload.latency.median.ms", "200",
+            "upload.async.enabled", "true"
+        ));
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(backend("b").requests(InMemoryStorage.Operation.UPLOAD)).isEqualTo(1));
+
+        storage.delete(KEY);
+
+        assertThat(metric(null, "pending-replications")).isEqualTo(0.0);
+        // a copy still uploading after the delete would re-create the object once its upload latency has passed
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            for (final String replica : Set.of("a", "b", "c")) {
+                assertThat(backend(replica).objectCount()).isZero();
+            }
+        });
+    }
+
+    @Test
+    void deleteCancelsCopyRetries() throws Exception {
+        storage = configured(Map.of(
+            "replicas.b.error.rate", "1.0",
+            "upload.async.enabled", "true",
+            "upload.async.retry.backoff.ms", "60000"
+        ));
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(metric("b", "upload-errors-total")).isEqualTo(1.0));
+
+        // the replica fails the delete too, but the retry waiting for a minute is cancelled
+        assertThatThrownBy(() -> storage.delete(KEY))
+            .hasMessage("Failed to delete " + KEY + " from replica " + replica("b"));
+
+        assertThat(metric(null, "pending-replications")).isEqualTo(0.0);
+        assertThat(metric("b", "copy-failures-total")).isEqualTo(0.0);
+        assertThat(backend("a").objectCount()).isZero();
+        assertThat(backend("c").objectCount()).isZero();
+    }
+
+    @Test
+    void readsFromLowestLatencyReplica() {
+        storage = configured(Map.of());
+
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("a", "b", "c");
+
+        replica("a").onFetched(50);
+        replica("b").onFetched(10);
+        replica("c").onFetched(20);
+
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("b", "c", "a");
+    }
+
+    @Test
+    void probesReplicasNotReadFromForAWhile() {
+        storage = configured(Map.of("fetch.latency.probe.interval.ms", "60000"));
+        replica("a").onFetched(500);
+        replica("b").onFetched(10);
+        replica("c").onFetched(20);
+
+        time.sleep(60_000);
+        replica("b").onFetched(10);
+
+        // a and c are probed once each, by the next reads
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("a", "c", "b");
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("b", "c", "a");
+
+        // the probe sample replaces the stale estimate
+        replica("a").onFetched(5);
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void fetchFallsBackOnError() throws Exception {
+        storage = configured(Map.of(
+            "replicas.b.error.rate", "1.0",
+            "upload.async.enabled", "true",
+            "upload.async.retries", "0"
+        ));
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+        replica("a").onFetched(50);
+        replica("c").onFetched(50);
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(metric(null, "pending-replications")).isEqualTo(0.0));
+
+        try (InputStream inputStream = storage.fetch(KEY, BytesRange.of(0, 3))) {
+            assertThat(inputStream).hasBinaryContent("some".getBytes());
+        }
+
+        assertThat(metric("b", "fetch-errors-total")).isEqualTo(1.0);
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("a", "c", "b");
+
+        time.sleep(30_000);
+        assertThat(storage.readOrder()).extracting(r -> r.name).containsExactly("b", "a", "c");
+    }
+
+    @Test
+    void fetchFallsBackWhenKeyMissingInSecondary() throws Exception {
+        storage = configured(Map.of());
+        backend("a").upload(new ByteArrayInputStream(CONTENT), KEY);
+        replica("a").onFetched(50);
+
+        try (InputStream inputStream = storage.fetch(KEY)) {
+            assertThat(inputStream).hasBinaryContent(CONTENT);
+        }
+        assertThat(metric("b", "fetch-errors-total")).isEqualTo(0.0);
+        assertThat(metric("a", "fetch-total")).isEqualTo(1.0);
+    }
+
+    @Test
+    void fetchMissingKey() {
+        storage = configured(Map.of("replicas.c.error.rate", "1.0"));
+
+        assertThatThrownBy(() -> storage.fetch(KEY)).isInstanceOf(KeyNotFoundException.class);
+    }
+
+    @Test
+    void deleteFromAllReplicas() throws Exception {
+        storage = configured(Map.of());
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+
+        storage.delete(Set.of(KEY));
+
+        for (final String replica : Set.of("a", "b", "c")) {
+            assertThat(backend(replica).objectCount()).isZero();
+        }
+    }
+
+    @Test
+    void deleteFailingInOneReplicaStillDeletesFromOthers() throws Exception {
+        storage = configured(Map.of(
+            "upload.async.enabled", "true",
+            "upload.async.retries", "0",
+            "replicas.b.error.rate", "1.0"
+        ));
+        storage.upload(new ByteArrayInputStream(CONTENT), KEY);
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(metric(null, "pending-replications")).isEqualTo(0.0));
+
+        assertThatThrownBy(() -> storage.delete(KEY))
+            .hasMessage("Failed to delete " + KEY + " from replica " + replica("b"));
+
+        assertThat(backend("a").objectCount()).isZero();
+        assertThat(backend("c").objectCount()).isZero();
+        assertThat(metric("b", "delete-errors-total")).isEqualTo(1.0);
+    }
+
+    private ReplicatedStorageBackend configured(final Map<String, String> overrides) {
+        final Map<String, Object> configs = new HashMap<>(Map.of(
+            "replicas", "a,b,c",
+            "replicas.a.backend.class", InMemoryStorage.class,
+            "replicas.b.backend.class", InMemoryStorage.class,
+            "replicas.c.backend.class", InMemoryStorage.class
+        ));
+        configs.putAll(overrides);
+        final ReplicatedStorageBackend backend = new ReplicatedStorageBackend(time);
+        backend.configure(configs);
+        return backend;
+    }
+
+    private Replica replica(final String name) {
+        return storage.readOrder().stream()
+            .filter(r -> r.name.equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private InMemoryStorage backend(final String name) {
+        return (InMemoryStorage) replica(name).backend;
+    }
+
+    private static double metric(final String replica, final String name) throws JMException {
+        final String tags = replica == null ? "" : ",replica=" + replica;
+        final ObjectName objectName = new ObjectName(
+            "aiven.kafka.server.tieredstorage:type=replicated-storage-metrics" + tags);
+        return (double) MBEAN_SERVER.getAttribute(objectName, name);
+    }
+}
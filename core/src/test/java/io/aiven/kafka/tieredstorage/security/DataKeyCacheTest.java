@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.aiven.kafka.tieredstorage.security;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class DataKeyCacheTest {
+    static final MBeanServer MBEAN_SERVER = ManagementFactory.getPlatformMBeanServer();
+
+    static final EncryptedDataKey ENCRYPTED_KEY = new EncryptedDataKey("key1", new byte[] {1, 2, 3});
+
+    final AtomicInteger decryptions = new AtomicInteger();
+    Function<EncryptedDataKey, byte[]> keyDecryptor;
+
+    @BeforeEach
+    void setUp() {
+        keyDecryptor = encryptedDataKey -> {
+            decryptions.incrementAndGet();
+            final byte[] dataKey = encryptedDataKey.encryptedDataKey.clone();
+            dataKey[0] = (byte) encryptedDataKey.keyEncryptionKeyId.hashCode();
+            return dataKey;
+        };
+    }
+
+    @Test
+    void decryptsOnce() throws Exception {
+        final var cache = new DataKeyCache(keyDecryptor, 10, Duration.ofHours(1));
+
+        final byte[] first = cache.decryptDataKey(ENCRYPTED_KEY);
+        // equal, but not the same, encrypted key
+        final byte[] second = cache.decryptDataKey(new EncryptedDataKey("key1", new byte[] {1, 2, 3}));
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(decryptions).hasValue(1);
+
+        final var objectName = new ObjectName("aiven.kafka.server.tieredstorage.cache:type=data-key-cache-metrics");
+        assertThat(MBEAN_SERVER.getAttribute(objectName, "cache-hits-total")).isEqualTo(1.0);
+        assertThat(MBEAN_SERVER.getAttribute(objectName, "cache-misses-total")).isEqualTo(1.0);
+    }
+
+    @Test
+    void returnsCopies() {
+        final var cache = new DataKeyCache(keyDecryptor, 10, Duration.ofHours(1));
+
+        final byte[] first = cache.decryptDataKey(ENCRYPTED_KEY);
+        final byte[] expected = first.clone();
+        first[1] = 42;
+
+        assertThat(cache.decryptDataKey(ENCRYPTED_KEY)).isEqualTo(expected);
+    }
+
+    @Test
+    void keyedByKeyPairId() {
+        final var cache = new DataKeyCache(keyDecryptor, 10, Duration.ofHours(1));
+
+        final byte[] first = cache.decryptDataKey(ENCRYPTED_KEY);
+        final byte[] second = cache.decryptDataKey(new EncryptedDataKey("key2", ENCRYPTED_KEY.encryptedDataKey));
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(decryptions).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void expires() {
+        final var cache = new DataKeyCache(keyDecryptor, 10, Duration.ofMillis(50));
+
+        cache.decryptDataKey(ENCRYPTED_KEY);
+        await().atMost(Duration.ofSeconds(5)).until(() -> cache.size() == 0);
+
+        cache.decryptDataKey(ENCRYPTED_KEY);
+        assertThat(decryptions).hasValue(2);
+    }
+
+    @Test
+    void zeroesEvictedKeys() {
+        final byte[] unwrapped = new byte[] {1, 2, 3};
+        final var cache = new DataKeyCache(encryptedDataKey -> unwrapped, 10, Duration.ofHours(1));
+
+        cache.decryptDataKey(ENCRYPTED_KEY);
+        cache.close();
+
+        assertThat(unwrapped).containsOnly(0);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -16,6 +16,9 @@
 
 package io.aiven.kafka.tieredstorage.transform;
 
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
+
 import com.github.luben.zstd.Zstd;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +27,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,4 +81,14 @@ class CompressionChunkEnumerationTest {
         Zstd.decompress(decompressed, compressed);
         assertThat(decompressed).isEqualTo(data);
     }
+
+    @Test
+    void compressRecordsStage(@Mock final UploadStageRecorder stageRecorder) {
+        final byte[] data = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final var transform = new CompressionChunkEnumeration(inner, stageRecorder);
+        when(inner.nextElement()).thenReturn(data);
+
+        transform.nextElement();
+        verify(stageRecorder).record(eq(UploadStage.COMPRESSION), anyLong(), eq((long) data.length));
+    }
 }
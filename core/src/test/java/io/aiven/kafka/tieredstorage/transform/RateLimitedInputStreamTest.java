@@ -22,6 +22,9 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.util.Arrays;
 
+import io.aiven.kafka.tieredstorage.metrics.UploadStage;
+import io.aiven.kafka.tieredstorage.metrics.UploadStageRecorder;
+
 import io.github.bucket4j.Bucket;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,7 +32,10 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -128,4 +134,30 @@ class RateLimitedInputStreamTest {
         rateLimitedInputStream.readAllBytes();
         verify(bucket, atLeastOnce()).asBlocking();
     }
+
+    @Test
+    void testRecordsWaitForTokens() throws IOException {
+        final UploadStageRecorder stageRecorder = mock(UploadStageRecorder.class);
+        final var rateLimitedInputStream = new RateLimitedInputStream(
+            new ByteArrayInputStream(new byte[100]), RateLimitedInputStream.rateLimitBucket(1), stageRecorder);
+
+        rateLimitedInputStream.read();
+        verify(stageRecorder, Mockito.never()).record(eq(UploadStage.RATE_LIMIT_WAIT), anyLong(), anyLong());
+
+        rateLimitedInputStream.read(new byte[10], 0, 10);
+        verify(stageRecorder).record(eq(UploadStage.RATE_LIMIT_WAIT), anyLong(), eq(10L));
+    }
+
+    @Test
+    void testRecordsBytesActuallyRead() throws IOException {
+        final UploadStageRecorder stageRecorder = mock(UploadStageRecorder.class);
+        final var rateLimitedInputStream = new RateLimitedInputStream(
+            new ByteArrayInputStream(new byte[5]), RateLimitedInputStream.rateLimitBucket(1), stageRecorder);
+
+        rateLimitedInputStream.read(new byte[10], 0, 10);
+        verify(stageRecorder).record(eq(UploadStage.RATE_LIMIT_WAIT), anyLong(), eq(5L));
+
+        rateLimitedInputStream.read(new byte[10], 0, 10);
+        verify(stageRecorder).record(eq(UploadStage.RATE_LIMIT_WAIT), anyLong(), eq(0L));
+    }
 }
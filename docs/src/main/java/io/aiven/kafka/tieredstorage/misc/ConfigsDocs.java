@@ -22,11 +22,14 @@ import io.aiven.kafka.tieredstorage.config.ChunkCacheConfig;
 import io.aiven.kafka.tieredstorage.config.ChunkManagerFactoryConfig;
 import io.aiven.kafka.tieredstorage.config.DiskChunkCacheConfig;
 import io.aiven.kafka.tieredstorage.config.RemoteStorageManagerConfig;
+import io.aiven.kafka.tieredstorage.config.SlabDiskChunkCacheConfig;
 import io.aiven.kafka.tieredstorage.fetch.index.MemorySegmentIndexesCache;
 import io.aiven.kafka.tieredstorage.fetch.manifest.MemorySegmentManifestCache;
+import io.aiven.kafka.tieredstorage.replication.ReplicatedStorageBackendConfig;
 import io.aiven.kafka.tieredstorage.storage.azure.AzureBlobStorageConfig;
 import io.aiven.kafka.tieredstorage.storage.filesystem.FileSystemStorageConfig;
 import io.aiven.kafka.tieredstorage.storage.gcs.GcsStorageConfig;
+import io.aiven.kafka.tieredstorage.storage.memory.InMemoryStorageConfig;
 import io.aiven.kafka.tieredstorage.storage.s3.S3StorageConfig;
 
 import static io.aiven.kafka.tieredstorage.config.ChunkManagerFactoryConfig.FETCH_CHUNK_CACHE_PREFIX;
@@ -78,6 +81,12 @@ public class ConfigsDocs {
         out.println(diskChunkCacheDef.toEnrichedRst());
         out.println();
 
+        printSubsectionTitle("SlabDiskChunkCacheConfig");
+        out.println("Under ``" + FETCH_CHUNK_CACHE_PREFIX + "``\n");
+        final var slabDiskChunkCacheDef = SlabDiskChunkCacheConfig.configDef();
+        out.println(slabDiskChunkCacheDef.toEnrichedRst());
+        out.println();
+
         printSectionTitle("Storage Backends");
         out.println("Under ``" + STORAGE_PREFIX + "``\n");
 
@@ -96,11 +105,22 @@ public class ConfigsDocs {
         out.println(s3StorageConfigDef.toEnrichedRst());
         out.println();
 
+        printSubsectionTitle("ReplicatedStorageBackendConfig");
+        final var replicatedStorageConfigDef = ReplicatedStorageBackendConfig.configDef();
+        out.println(replicatedStorageConfigDef.toEnrichedRst());
+        out.println();
+
         printSubsectionTitle("FilesystemStorageConfig");
         out.println(".. Only for development/testing purposes");
         final var fsStorageConfigDef = FileSystemStorageConfig.configDef();
         out.println(fsStorageConfigDef.toEnrichedRst());
         out.println();
+
+        printSubsectionTitle("InMemoryStorageConfig");
+        out.println(".. Only for development/testing purposes");
+        final var memoryStorageConfigDef = InMemoryStorageConfig.configDef();
+        out.println(memoryStorageConfigDef.toEnrichedRst());
+        out.println();
     }
 
     static void printSectionTitle(final String title) {
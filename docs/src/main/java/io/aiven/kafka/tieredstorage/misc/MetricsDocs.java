@@ -29,8 +29,14 @@ import io.aiven.kafka.tieredstorage.fetch.cache.ChunkCache;
 import io.aiven.kafka.tieredstorage.fetch.index.MemorySegmentIndexesCache;
 import io.aiven.kafka.tieredstorage.fetch.manifest.MemorySegmentManifestCache;
 import io.aiven.kafka.tieredstorage.metrics.CaffeineMetricsRegistry;
+import io.aiven.kafka.tieredstorage.metrics.DeleteCoalescingMetricsRegistry;
+import io.aiven.kafka.tieredstorage.metrics.MemoryBudgetMetricsRegistry;
 import io.aiven.kafka.tieredstorage.metrics.MetricsRegistry;
+import io.aiven.kafka.tieredstorage.metrics.ReplicatedStorageMetricsRegistry;
+import io.aiven.kafka.tieredstorage.metrics.ScanAdmissionMetricsRegistry;
+import io.aiven.kafka.tieredstorage.metrics.StorageConcurrencyMetricsRegistry;
 import io.aiven.kafka.tieredstorage.metrics.ThreadPoolMonitorMetricsRegistry;
+import io.aiven.kafka.tieredstorage.security.DataKeyCache;
 
 import static java.lang.System.out;
 
@@ -72,6 +78,40 @@ public class MetricsDocs {
         out.println(toRstTable(
             ThreadPoolMonitorMetricsRegistry.METRIC_CONFIG,
             new ThreadPoolMonitorMetricsRegistry(ChunkCache.THREAD_POOL_METRIC_GROUP).all()));
+        out.println();
+        out.println(toRstTable(
+            ScanAdmissionMetricsRegistry.METRIC_CONTEXT,
+            new ScanAdmissionMetricsRegistry().all()));
+        out.println();
+        printSubsectionTitle("MemoryBudget metrics");
+        out.println();
+        out.println(toRstTable(
+            MemoryBudgetMetricsRegistry.METRIC_CONTEXT,
+            new MemoryBudgetMetricsRegistry().all()));
+        out.println();
+        printSubsectionTitle("DataKeyCache metrics");
+        out.println();
+        out.println(toRstTable(
+            CaffeineMetricsRegistry.METRIC_CONTEXT,
+            new CaffeineMetricsRegistry(DataKeyCache.METRIC_GROUP).all()));
+        out.println();
+        printSubsectionTitle("StorageConcurrencyLimit metrics");
+        out.println();
+        out.println(toRstTable(
+            StorageConcurrencyMetricsRegistry.METRIC_CONTEXT,
+            new StorageConcurrencyMetricsRegistry().all()));
+        out.println();
+        printSubsectionTitle("DeleteCoalescing metrics");
+        out.println();
+        out.println(toRstTable(
+            DeleteCoalescingMetricsRegistry.METRIC_CONTEXT,
+            new DeleteCoalescingMetricsRegistry().all()));
+        out.println();
+        printSubsectionTitle("ReplicatedStorage metrics");
+        out.println();
+        out.println(toRstTable(
+            ReplicatedStorageMetricsRegistry.METRIC_CONTEXT,
+            new ReplicatedStorageMetricsRegistry().all()));
 
         out.println();
         printSectionTitle("Storage Backend metrics");
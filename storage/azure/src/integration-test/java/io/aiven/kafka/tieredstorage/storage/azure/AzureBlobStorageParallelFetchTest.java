@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.azure;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ParallelRangeInputStream;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+
+import org.junit.jupiter.api.Test;
+
+import static io.aiven.kafka.tieredstorage.storage.azure.AzuriteBlobStorageUtils.connectionString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the storage tests with a tiny fetch part size, so ranged fetches go through parallel part requests.
+ */
+class AzureBlobStorageParallelFetchTest extends AzureBlobStorageTest {
+    private static final int FETCH_PART_SIZE = 2;
+
+    @Override
+    protected StorageBackend storage() {
+        final AzureBlobStorage azureBlobStorage = new AzureBlobStorage();
+        final Map<String, Object> configs = Map.of(
+            "azure.container.name", azureContainerName,
+            "azure.connection.string", connectionString(AZURITE_SERVER, BLOB_STORAGE_PORT),
+            "azure.fetch.parallel.part.size", Integer.toString(FETCH_PART_SIZE),
+            "azure.fetch.parallel.max.requests", "2"
+        );
+        azureBlobStorage.configure(configs);
+        return azureBlobStorage;
+    }
+
+    @Test
+    void fetchesLargeRangesInParallelParts() throws StorageBackendException, IOException {
+        final String content = "ABCDEFGHIJ";
+        final StorageBackend storage = storage();
+        storage.upload(new ByteArrayInputStream(content.getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(1, 8))) {
+            assertThat(fetch).isInstanceOf(ParallelRangeInputStream.class);
+            assertThat(fetch).hasContent("BCDEFGHI");
+        }
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(0, 1))) {
+            assertThat(fetch).isNotInstanceOf(ParallelRangeInputStream.class);
+            assertThat(fetch).hasContent("AB");
+        }
+    }
+}
@@ -21,35 +21,58 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ConcurrentBatchDeleter;
 import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
 import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ParallelRangeInputStream;
 import io.aiven.kafka.tieredstorage.storage.StorageBackend;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.ThrottlingClassifier;
 import io.aiven.kafka.tieredstorage.storage.proxy.ProxyConfig;
 
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
+import com.azure.core.util.FluxUtil;
 import com.azure.core.util.HttpClientOptions;
 import com.azure.identity.DefaultAzureCredentialBuilder;
+import com.azure.storage.blob.BlobContainerAsyncClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
 import com.azure.storage.blob.models.BlobRange;
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.options.BlockBlobOutputStreamOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
-import com.azure.storage.blob.specialized.SpecializedBlobClientBuilder;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
 public class AzureBlobStorage implements StorageBackend {
+    // https://learn.microsoft.com/en-us/rest/api/storageservices/blob-batch
+    static final int MAX_DELETE_BATCH_SIZE = 256;
+    // Azure Storage throttles with 503 Server Busy, some front ends answer 429 instead
+    private static final ThrottlingClassifier<BlobStorageException> ERRORS = new ThrottlingClassifier<>(
+        BlobStorageException.class, e -> e.getStatusCode() == 429 || e.getStatusCode() == 503);
+
     private AzureBlobStorageConfig config;
     private BlobContainerClient blobContainerClient;
+    private BlobContainerAsyncClient blobContainerAsyncClient;
+    private BlobBatchClient blobBatchClient;
+    private ConcurrentBatchDeleter batchDeleter;
     private MetricCollector metricsPolicy;
-    private ProxyOptions proxyOptions = null;
 
     @Override
     public void configure(final Map<String, ?> configs) {
@@ -76,7 +99,7 @@ public class AzureBlobStorage implements StorageBackend {
 
         final ProxyConfig proxyConfig = config.proxyConfig();
         if (proxyConfig != null) {
-            proxyOptions = new ProxyOptions(ProxyOptions.Type.SOCKS5,
+            final ProxyOptions proxyOptions = new ProxyOptions(ProxyOptions.Type.SOCKS5,
                 new InetSocketAddress(proxyConfig.host(), proxyConfig.port()));
             if (proxyConfig.username() != null) {
                 proxyOptions.setCredentials(proxyConfig.username(), proxyConfig.password());
@@ -84,10 +107,19 @@ public class AzureBlobStorage implements StorageBackend {
             blobServiceClientBuilder.clientOptions(new HttpClientOptions().setProxyOptions(proxyOptions));
         }
 
+        blobServiceClientBuilder.addPolicy(metricsPolicy.policy());
         blobContainerClient = blobServiceClientBuilder
-            .addPolicy(metricsPolicy.policy())
             .buildClient()
             .getBlobContainerClient(config.containerName());
+        // Only used for parallel ranged fetches.
+        blobContainerAsyncClient = blobServiceClientBuilder
+            .buildAsyncClient()
+            .getBlobContainerAsyncClient(config.containerName());
+        blobBatchClient = new BlobBatchClientBuilder(blobContainerClient).buildClient();
+
+        batchDeleter = new ConcurrentBatchDeleter(
+            "azure-delete-batch-", MAX_DELETE_BATCH_SIZE, this::deleteBatch,
+            (message, e) -> ERRORS.storageBackendException(message, Exceptions.unwrap(e)));
     }
 
     private String endpointUrl() {
@@ -100,36 +132,13 @@ public class AzureBlobStorage implements StorageBackend {
 
     @Override
     public long upload(final InputStream inputStream, final ObjectKey key) throws StorageBackendException {
-        final var specializedBlobClientBuilder = new SpecializedBlobClientBuilder();
-        if (config.connectionString() != null) {
-            specializedBlobClientBuilder.connectionString(config.connectionString());
-        } else {
-            specializedBlobClientBuilder.endpoint(endpointUrl());
-
-            if (config.accountKey() != null) {
-                specializedBlobClientBuilder.credential(
-                    new StorageSharedKeyCredential(config.accountName(), config.accountKey()));
-            } else if (config.sasToken() != null) {
-                specializedBlobClientBuilder.sasToken(config.sasToken());
-            } else {
-                specializedBlobClientBuilder.credential(
-                    new DefaultAzureCredentialBuilder().build());
-            }
-        }
-
-        if (proxyOptions != null) {
-            specializedBlobClientBuilder.clientOptions(new HttpClientOptions().setProxyOptions(proxyOptions));
-        }
-
-        final BlockBlobClient blockBlobClient = specializedBlobClientBuilder
-            .addPolicy(metricsPolicy.policy())
-            .containerName(config.containerName())
-            .blobName(key.value())
-            .buildBlockBlobClient();
+        // Derived from the container client, so the HTTP pipeline and credentials are shared between uploads.
+        final BlockBlobClient blockBlobClient = blobContainerClient.getBlobClient(key.value()).getBlockBlobClient();
 
         final long blockSizeLong = config.uploadBlockSize();
         final ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions()
-            .setBlockSizeLong(blockSizeLong);
+            .setBlockSizeLong(blockSizeLong)
+            .setMaxConcurrency(config.uploadMaxConcurrency());
         // Setting this is important, because otherwise if the size is below 256 MiB,
         // block upload won't be used and up to 256 MiB may be cached in memory.
         parallelTransferOptions.setMaxSingleUploadSizeLong(blockSizeLong);
@@ -142,7 +151,7 @@ public class AzureBlobStorage implements StorageBackend {
             blockBlobClient.getBlobOutputStream(options), config.uploadBlockSize())) {
             return inputStream.transferTo(os);
         } catch (final IOException e) {
-            throw new StorageBackendException("Failed to upload " + key, e);
+            throw ERRORS.storageBackendException("Failed to upload " + key, e);
         } catch (final RuntimeException e) {
             throw unwrapReactorExceptions(e, "Failed to upload " + key);
         }
@@ -157,7 +166,7 @@ public class AzureBlobStorage implements StorageBackend {
             if (e.getStatusCode() == 404) {
                 throw new KeyNotFoundException(this, key, e);
             } else {
-                throw new StorageBackendException("Failed to fetch " + key, e);
+                throw ERRORS.storageBackendException("Failed to fetch " + key, e);
             }
         } catch (final RuntimeException e) {
             throw unwrapReactorExceptions(e, "Failed to fetch " + key);
@@ -171,36 +180,119 @@ public class AzureBlobStorage implements StorageBackend {
                 return InputStream.nullInputStream();
             }
 
+            if (range.size() > config.fetchParallelPartSize()) {
+                return fetchParallel(key, range);
+            }
+
             return blobContainerClient.getBlobClient(key.value()).openInputStream(
                 new BlobRange(range.firstPosition(), (long) range.size()), null);
         } catch (final BlobStorageException e) {
-            if (e.getStatusCode() == 404) {
-                throw new KeyNotFoundException(this, key, e);
-            } else if (e.getStatusCode() == 416) {
-                throw new InvalidRangeException("Invalid range " + range, e);
-            } else {
-                throw new StorageBackendException("Failed to fetch " + key, e);
-            }
+            throw fetchException(key, range, e);
         } catch (final RuntimeException e) {
             throw unwrapReactorExceptions(e, "Failed to fetch " + key);
         }
     }
 
+    private InputStream fetchParallel(final ObjectKey key, final BytesRange range) throws StorageBackendException {
+        final var in = new ParallelRangeInputStream(range,
+            config.fetchParallelPartSize(), config.fetchParallelMaxRequests(),
+            partRange -> fetchPart(key, range, partRange));
+        try {
+            in.awaitFirstPart();
+        } catch (final ExecutionException e) {
+            in.close();
+            final Throwable cause = Exceptions.unwrap(e.getCause());
+            if (cause instanceof BlobStorageException) {
+                throw fetchException(key, range, (BlobStorageException) cause);
+            }
+            throw ERRORS.storageBackendException("Failed to fetch " + key, cause);
+        } catch (final InterruptedException e) {
+            in.close();
+            Thread.currentThread().interrupt();
+            throw new StorageBackendException("Interrupted while fetching " + key, e);
+        }
+        return in;
+    }
+
+    private CompletableFuture<byte[]> fetchPart(final ObjectKey key,
+                                                final BytesRange range,
+                                                final BytesRange partRange) {
+        final boolean firstPart = partRange.firstPosition() == range.firstPosition();
+        return blobContainerAsyncClient.getBlobAsyncClient(key.value())
+            .downloadStreamWithResponse(
+                new BlobRange(partRange.firstPosition(), (long) partRange.size()), null, null, false)
+            .flatMap(response -> {
+                // A part starting past the end of the object means the requested range was longer than the object.
+                // Some implementations ignore such range and answer with the whole object instead.
+                if (!firstPart && response.getStatusCode() != 206) {
+                    return response.getValue().then(Mono.just(new byte[0]));
+                }
+                return FluxUtil.collectBytesInByteBufferStream(response.getValue());
+            })
+            .onErrorResume(
+                e -> !firstPart && e instanceof BlobStorageException
+                    && ((BlobStorageException) e).getStatusCode() == 416,
+                e -> Mono.just(new byte[0]))
+            .toFuture();
+    }
+
+    private StorageBackendException fetchException(final ObjectKey key,
+                                                   final BytesRange range,
+                                                   final BlobStorageException e) {
+        if (e.getStatusCode() == 404) {
+            return new KeyNotFoundException(this, key, e);
+        } else if (e.getStatusCode() == 416) {
+            return new InvalidRangeException("Invalid range " + range, e);
+        } else {
+            return ERRORS.storageBackendException("Failed to fetch " + key, e);
+        }
+    }
+
     @Override
     public void delete(final ObjectKey key) throws StorageBackendException {
         try {
             blobContainerClient.getBlobClient(key.value()).deleteIfExists();
         } catch (final BlobStorageException e) {
-            throw new StorageBackendException("Failed to delete " + key, e);
+            throw ERRORS.storageBackendException("Failed to delete " + key, e);
         } catch (final RuntimeException e) {
             throw unwrapReactorExceptions(e, "Failed to delete " + key);
         }
     }
 
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        batchDeleter.delete(keys);
+    }
+
+    private List<String> deleteBatch(final List<ObjectKey> batch) {
+        final BlobBatch blobBatch = blobBatchClient.getBlobBatch();
+        final List<Response<Void>> responses = new ArrayList<>();
+        for (final ObjectKey key : batch) {
+            final String blobUrl = blobContainerClient.getBlobClient(key.value()).getBlobUrl();
+            responses.add(blobBatch.deleteBlob(blobUrl, null, null));
+        }
+        blobBatchClient.submitBatchWithResponse(blobBatch, false, null, Context.NONE);
+
+        final List<String> errors = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                // throws the operation error when it failed
+                responses.get(i).getStatusCode();
+            } catch (final BlobStorageException e) {
+                // not found is fine as delete is idempotent
+                if (e.getStatusCode() != 404) {
+                    errors.add(String.format("%s (%s: %s), ",
+                        batch.get(i).value(), e.getErrorCode(), e.getServiceMessage()));
+                }
+            }
+        }
+        return errors;
+    }
+
     private StorageBackendException unwrapReactorExceptions(final RuntimeException e, final String message) {
         final Throwable unwrapped = Exceptions.unwrap(e);
         if (unwrapped != e) {
-            return new StorageBackendException(message, unwrapped);
+            return ERRORS.storageBackendException(message, unwrapped);
         } else {
             throw e;
         }
@@ -208,6 +300,9 @@ public class AzureBlobStorage implements StorageBackend {
 
     @Override
     public void close() throws IOException {
+        if (batchDeleter != null) {
+            batchDeleter.close();
+        }
         if (metricsPolicy != null) {
             metricsPolicy.close();
         }
@@ -56,6 +56,23 @@ public class AzureBlobStorageConfig extends AbstractConfig {
     static final int AZURE_UPLOAD_BLOCK_SIZE_MIN = 100 * 1024;
     static final int AZURE_UPLOAD_BLOCK_SIZE_MAX = Integer.MAX_VALUE;
 
+    static final String AZURE_UPLOAD_MAX_CONCURRENCY_CONFIG = "azure.upload.max.concurrency";
+    private static final String AZURE_UPLOAD_MAX_CONCURRENCY_DOC = "Maximum number of blocks of an upload "
+        + "being sent in parallel. Each one holds a block sized buffer, so an upload buffers up to this number "
+        + "plus one blocks in memory.";
+    static final int AZURE_UPLOAD_MAX_CONCURRENCY_DEFAULT = 2;
+
+    static final String AZURE_FETCH_PARALLEL_PART_SIZE_CONFIG = "azure.fetch.parallel.part.size";
+    private static final String AZURE_FETCH_PARALLEL_PART_SIZE_DOC = "Ranges larger than this size in bytes "
+        + "are fetched as multiple ranged requests of this size running in parallel.";
+    static final int AZURE_FETCH_PARALLEL_PART_SIZE_DEFAULT = 8 * 1024 * 1024; // 8MiB
+
+    static final String AZURE_FETCH_PARALLEL_MAX_REQUESTS_CONFIG = "azure.fetch.parallel.max.requests";
+    private static final String AZURE_FETCH_PARALLEL_MAX_REQUESTS_DOC = "Maximum number of ranged requests running "
+        + "concurrently for a single fetch. Parts are buffered until read, so a fetch holds up to this number "
+        + "of part sized buffers.";
+    static final int AZURE_FETCH_PARALLEL_MAX_REQUESTS_DEFAULT = 4;
+
     public static ConfigDef configDef() {
         return new ConfigDef()
             .define(
@@ -106,7 +123,28 @@ public class AzureBlobStorageConfig extends AbstractConfig {
                 AZURE_UPLOAD_BLOCK_SIZE_DEFAULT,
                 ConfigDef.Range.between(AZURE_UPLOAD_BLOCK_SIZE_MIN, AZURE_UPLOAD_BLOCK_SIZE_MAX),
                 ConfigDef.Importance.HIGH,
-                AZURE_UPLOAD_BLOCK_SIZE_DOC);
+                AZURE_UPLOAD_BLOCK_SIZE_DOC)
+            .define(
+                AZURE_UPLOAD_MAX_CONCURRENCY_CONFIG,
+                ConfigDef.Type.INT,
+                AZURE_UPLOAD_MAX_CONCURRENCY_DEFAULT,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                AZURE_UPLOAD_MAX_CONCURRENCY_DOC)
+            .define(
+                AZURE_FETCH_PARALLEL_PART_SIZE_CONFIG,
+                ConfigDef.Type.INT,
+                AZURE_FETCH_PARALLEL_PART_SIZE_DEFAULT,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                AZURE_FETCH_PARALLEL_PART_SIZE_DOC)
+            .define(
+                AZURE_FETCH_PARALLEL_MAX_REQUESTS_CONFIG,
+                ConfigDef.Type.INT,
+                AZURE_FETCH_PARALLEL_MAX_REQUESTS_DEFAULT,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                AZURE_FETCH_PARALLEL_MAX_REQUESTS_DOC);
     }
 
     private ProxyConfig proxyConfig = null;
@@ -182,4 +220,16 @@ public class AzureBlobStorageConfig extends AbstractConfig {
     int uploadBlockSize() {
         return getInt(AZURE_UPLOAD_BLOCK_SIZE_CONFIG);
     }
+
+    int uploadMaxConcurrency() {
+        return getInt(AZURE_UPLOAD_MAX_CONCURRENCY_CONFIG);
+    }
+
+    int fetchParallelPartSize() {
+        return getInt(AZURE_FETCH_PARALLEL_PART_SIZE_CONFIG);
+    }
+
+    int fetchParallelMaxRequests() {
+        return getInt(AZURE_FETCH_PARALLEL_MAX_REQUESTS_CONFIG);
+    }
 }
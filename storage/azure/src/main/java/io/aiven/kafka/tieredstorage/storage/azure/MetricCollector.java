@@ -33,6 +33,7 @@ import org.apache.kafka.common.utils.Time;
 
 import io.aiven.kafka.tieredstorage.metrics.SensorProvider;
 
+import com.azure.core.http.HttpMethod;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
 import com.azure.core.http.HttpPipelineNextSyncPolicy;
@@ -40,6 +41,9 @@ import com.azure.core.http.HttpResponse;
 import com.azure.core.http.policy.HttpPipelinePolicy;
 import reactor.core.publisher.Mono;
 
+import static io.aiven.kafka.tieredstorage.storage.azure.MetricRegistry.BLOB_BATCH;
+import static io.aiven.kafka.tieredstorage.storage.azure.MetricRegistry.BLOB_BATCH_RATE_METRIC_NAME;
+import static io.aiven.kafka.tieredstorage.storage.azure.MetricRegistry.BLOB_BATCH_TOTAL_METRIC_NAME;
 import static io.aiven.kafka.tieredstorage.storage.azure.MetricRegistry.BLOB_DELETE;
 import static io.aiven.kafka.tieredstorage.storage.azure.MetricRegistry.BLOB_DELETE_RATE_METRIC_NAME;
 import static io.aiven.kafka.tieredstorage.storage.azure.MetricRegistry.BLOB_DELETE_TOTAL_METRIC_NAME;
@@ -94,6 +98,7 @@ public class MetricCollector implements Closeable {
         private final Sensor uploadBlockRequests;
         private final Sensor uploadBlockListRequests;
         private final Sensor getBlobRequests;
+        private final Sensor blobBatchRequests;
 
         private final Metrics metrics;
         private final Pattern pathPattern;
@@ -126,6 +131,11 @@ public class MetricCollector implements Closeable {
                 BLOB_GET_RATE_METRIC_NAME,
                 BLOB_GET_TOTAL_METRIC_NAME
             );
+            this.blobBatchRequests = createSensor(
+                BLOB_BATCH,
+                BLOB_BATCH_RATE_METRIC_NAME,
+                BLOB_BATCH_TOTAL_METRIC_NAME
+            );
         }
 
         private Sensor createSensor(
@@ -184,7 +194,18 @@ public class MetricCollector implements Closeable {
                         break;
                     default:
                 }
+            } else if (httpRequest.getHttpMethod() == HttpMethod.POST && isBatch(httpRequest.getUrl().getQuery())) {
+                // Batch requests are sent to the container, operations inside are counted on their own.
+                blobBatchRequests.record();
+            }
+        }
+
+        private static boolean isBatch(final String query) {
+            if (query == null) {
+                return false;
             }
+            final var matcher = UPLOAD_QUERY_PATTERN.matcher(query);
+            return matcher.find() && matcher.group("comp").equals("batch");
         }
 
         @Override
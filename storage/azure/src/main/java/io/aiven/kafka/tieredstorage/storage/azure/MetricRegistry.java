@@ -44,6 +44,10 @@ public class MetricRegistry {
     static final String BLOB_GET_RATE = BLOB_GET + "-rate";
     static final String BLOB_GET_TOTAL = BLOB_GET + "-total";
     static final String BLOB_GET_DOC = "get object operations";
+    static final String BLOB_BATCH = "blob-batch";
+    static final String BLOB_BATCH_RATE = BLOB_BATCH + "-rate";
+    static final String BLOB_BATCH_TOTAL = BLOB_BATCH + "-total";
+    static final String BLOB_BATCH_DOC = "batch operations (e.g. deleting multiple objects)";
 
     private static final String RATE_DOC_PREFIX = "Rate of ";
     private static final String TOTAL_DOC_PREFIX = "Total number of ";
@@ -99,6 +103,17 @@ public class MetricRegistry {
         TOTAL_DOC_PREFIX + BLOB_GET_DOC
     );
 
+    static final MetricNameTemplate BLOB_BATCH_RATE_METRIC_NAME = new MetricNameTemplate(
+        BLOB_BATCH_RATE,
+        METRIC_GROUP,
+        RATE_DOC_PREFIX + BLOB_BATCH_DOC
+    );
+    static final MetricNameTemplate BLOB_BATCH_TOTAL_METRIC_NAME = new MetricNameTemplate(
+        BLOB_BATCH_TOTAL,
+        METRIC_GROUP,
+        TOTAL_DOC_PREFIX + BLOB_BATCH_DOC
+    );
+
     public List<MetricNameTemplate> all() {
         return List.of(
             BLOB_DELETE_RATE_METRIC_NAME,
@@ -110,7 +125,9 @@ public class MetricRegistry {
             BLOCK_LIST_UPLOAD_RATE_METRIC_NAME,
             BLOCK_LIST_UPLOAD_TOTAL_METRIC_NAME,
             BLOB_GET_RATE_METRIC_NAME,
-            BLOB_GET_TOTAL_METRIC_NAME
+            BLOB_GET_TOTAL_METRIC_NAME,
+            BLOB_BATCH_RATE_METRIC_NAME,
+            BLOB_BATCH_TOTAL_METRIC_NAME
         );
     }
 }
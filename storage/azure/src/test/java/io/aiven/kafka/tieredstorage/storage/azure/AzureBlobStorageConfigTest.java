@@ -50,6 +50,9 @@ class AzureBlobStorageConfigTest {
         assertThat(config.endpointUrl()).isNull();
         assertThat(config.connectionString()).isNull();
         assertThat(config.uploadBlockSize()).isEqualTo(25 * 1024 * 1024);
+        assertThat(config.uploadMaxConcurrency()).isEqualTo(2);
+        assertThat(config.fetchParallelPartSize()).isEqualTo(8 * 1024 * 1024);
+        assertThat(config.fetchParallelMaxRequests()).isEqualTo(4);
     }
 
     @Test
@@ -111,6 +114,33 @@ class AzureBlobStorageConfigTest {
             .hasMessage("Invalid value 100 for configuration azure.upload.block.size: Value must be at least 102400");
     }
 
+    @Test
+    void parallelTransfers() {
+        final var configs = Map.of(
+            "azure.account.name", ACCOUNT_NAME,
+            "azure.container.name", CONTAINER_NAME,
+            "azure.upload.max.concurrency", "8",
+            "azure.fetch.parallel.part.size", "1048576",
+            "azure.fetch.parallel.max.requests", "6"
+        );
+        final var config = new AzureBlobStorageConfig(configs);
+        assertThat(config.uploadMaxConcurrency()).isEqualTo(8);
+        assertThat(config.fetchParallelPartSize()).isEqualTo(1048576);
+        assertThat(config.fetchParallelMaxRequests()).isEqualTo(6);
+    }
+
+    @Test
+    void invalidUploadMaxConcurrency() {
+        final var configs = Map.of(
+            "azure.account.name", ACCOUNT_NAME,
+            "azure.container.name", CONTAINER_NAME,
+            "azure.upload.max.concurrency", "0"
+        );
+        assertThatThrownBy(() -> new AzureBlobStorageConfig(configs))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value 0 for configuration azure.upload.max.concurrency: Value must be at least 1");
+    }
+
     @Test
     void authAccountNameAndEndpoint() {
         final var configs = Map.of(
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Deletes keys with a backend bulk delete request, whose client blocks until the batch is processed.
+ *
+ * <p>Keys are split into batches of at most {@code batchSize} keys, and up to {@value #MAX_CONCURRENT_BATCHES}
+ * batches are sent concurrently. Errors are reported in batch order.
+ */
+public class ConcurrentBatchDeleter implements Closeable {
+    public static final int MAX_CONCURRENT_BATCHES = 4;
+
+    private final int batchSize;
+    private final BatchDelete batchDelete;
+    private final BiFunction<String, Throwable, StorageBackendException> storageBackendException;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param threadNamePrefix        prefix of the names of the threads sending batches
+     * @param batchSize               maximum number of keys the backend accepts in a bulk delete request
+     * @param batchDelete             sends a bulk delete request
+     * @param storageBackendException maps the failure of a bulk delete request, with a message naming its keys
+     */
+    public ConcurrentBatchDeleter(
+        final String threadNamePrefix,
+        final int batchSize,
+        final BatchDelete batchDelete,
+        final BiFunction<String, Throwable, StorageBackendException> storageBackendException
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive, " + batchSize + " given");
+        }
+        this.batchSize = batchSize;
+        this.batchDelete = Objects.requireNonNull(batchDelete, "batchDelete cannot be null");
+        this.storageBackendException =
+            Objects.requireNonNull(storageBackendException, "storageBackendException cannot be null");
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            MAX_CONCURRENT_BATCHES, MAX_CONCURRENT_BATCHES, 1, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                final Thread thread = new Thread(r, threadNamePrefix + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        final List<ObjectKey> objectKeys = new ArrayList<>(keys);
+
+        final List<List<ObjectKey>> batches = new ArrayList<>();
+        final List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < objectKeys.size(); i += batchSize) {
+            final var batch = objectKeys.subList(
+                i,
+                Math.min(i + batchSize, objectKeys.size())
+            );
+            batches.add(batch);
+            results.add(executor.submit(() -> batchDelete.delete(batch)));
+        }
+
+        // batches run concurrently, errors are reported in order
+        try {
+            for (int i = 0; i < results.size(); i++) {
+                final List<String> errors;
+                try {
+                    errors = results.get(i).get();
+                } catch (final ExecutionException e) {
+                    throw storageBackendException.apply(
+                        String.format("Failed to delete batch with keys: %s", batches.get(i)), e.getCause());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new StorageBackendException("Interrupted while deleting keys", e);
+                }
+                if (!errors.isEmpty()) {
+                    throw new StorageBackendException("Failed to delete keys: " + String.join("", errors));
+                }
+            }
+        } finally {
+            results.forEach(result -> result.cancel(false));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface BatchDelete {
+        /**
+         * @return the errors of keys that could not be deleted, formatted as {@code "key (code: message), "}.
+         *     Keys that did not exist are not errors, as delete is idempotent.
+         */
+        List<String> delete(List<ObjectKey> batch);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Input stream over a byte range that is fetched as several smaller ranged requests in parallel.
+ *
+ * <p>Parts are requested in order, keeping at most {@code maxParallelRequests} of them in flight,
+ * and are returned to the reader in the same order. A part shorter than requested marks the end of the object,
+ * so the stream ends there and outstanding requests are cancelled.
+ *
+ * <p>Requests are cancelled through the futures returned by the part fetcher. Cancelling a dependent future,
+ * e.g. one created with {@link CompletableFuture#handle}, does not cancel the future it depends on,
+ * so a part fetcher deriving its futures must forward the cancellation to the client request itself.
+ *
+ * <p>{@link ParallelRangeInputStream} is not thread-safe.
+ */
+public class ParallelRangeInputStream extends InputStream {
+    private final Function<BytesRange, CompletableFuture<byte[]>> partFetcher;
+    private final BytesRange range;
+    private final int partSize;
+    private final int maxParallelRequests;
+    private final Deque<Part> inFlight = new ArrayDeque<>();
+
+    private int nextPartPosition;
+    private boolean lastPartRequested;
+    private byte[] currentPart;
+    private int currentPartPosition;
+    private boolean endOfStream;
+    private boolean closed;
+
+    public ParallelRangeInputStream(final BytesRange range,
+                                    final int partSize,
+                                    final int maxParallelRequests,
+                                    final Function<BytesRange, CompletableFuture<byte[]>> partFetcher) {
+        if (range.isEmpty()) {
+            throw new IllegalArgumentException("range cannot be empty");
+        }
+        if (partSize < 1) {
+            throw new IllegalArgumentException("partSize must be positive, " + partSize + " given");
+        }
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException(
+                "maxParallelRequests must be positive, " + maxParallelRequests + " given");
+        }
+        this.range = range;
+        this.partSize = partSize;
+        this.maxParallelRequests = maxParallelRequests;
+        this.partFetcher = Objects.requireNonNull(partFetcher, "partFetcher cannot be null");
+        this.nextPartPosition = range.firstPosition();
+        fillWindow();
+    }
+
+    /**
+     * Waits for the first part to arrive, so failures like a missing key surface before the stream is handed out.
+     */
+    public byte[] awaitFirstPart() throws ExecutionException, InterruptedException {
+        final Part first = inFlight.peekFirst();
+        return first == null ? new byte[0] : first.future.get();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        final int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureCurrentPart()) {
+            return -1;
+        }
+        final int toCopy = Math.min(len, currentPart.length - currentPartPosition);
+        System.arraycopy(currentPart, currentPartPosition, b, off, toCopy);
+        currentPartPosition += toCopy;
+        return toCopy;
+    }
+
+    @Override
+    public int available() {
+        return currentPart == null ? 0 : currentPart.length - currentPartPosition;
+    }
+
+    private boolean ensureCurrentPart() throws IOException {
+        while (currentPart == null || currentPartPosition == currentPart.length) {
+            if (endOfStream) {
+                return false;
+            }
+            final Part part = inFlight.pollFirst();
+            if (part == null) {
+                endOfStream = true;
+                return false;
+            }
+            final byte[] bytes = awaitPart(part);
+            if (bytes.length < part.range.size()) {
+                // the object is shorter than the requested range
+                endOfStream = true;
+                cancelInFlight();
+            } else {
+                fillWindow();
+            }
+            currentPart = bytes;
+            currentPartPosition = 0;
+        }
+        return true;
+    }
+
+    private byte[] awaitPart(final Part part) throws IOException {
+        try {
+            return part.future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + part.range, e);
+        } catch (final CancellationException e) {
+            throw new IOException("Fetching " + part.range + " was cancelled", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to fetch " + part.range, e.getCause());
+        }
+    }
+
+    private void fillWindow() {
+        while (!lastPartRequested && inFlight.size() < maxParallelRequests) {
+            final int last = (int) Math.min((long) nextPartPosition + partSize - 1, range.lastPosition());
+            final BytesRange partRange = BytesRange.of(nextPartPosition, last);
+            inFlight.addLast(new Part(partRange, partFetcher.apply(partRange)));
+            nextPartPosition = last + 1;
+            lastPartRequested = last == range.lastPosition();
+        }
+    }
+
+    private void cancelInFlight() {
+        Part part;
+        while ((part = inFlight.pollFirst()) != null) {
+            part.future.cancel(true);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            cancelInFlight();
+            currentPart = null;
+        }
+    }
+
+    private static final class Part {
+        private final BytesRange range;
+        private final CompletableFuture<byte[]> future;
+
+        private Part(final BytesRange range, final CompletableFuture<byte[]> future) {
+            this.range = range;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+/**
+ * The storage rejected the request because the request rate is too high, e.g. S3 {@code 503 SlowDown}
+ * or GCS {@code 429 Too Many Requests}. Retrying later with fewer concurrent requests is expected to succeed.
+ */
+public class ThrottledException extends StorageBackendException {
+    public ThrottledException(final String message, final Throwable e) {
+        super(message, e);
+    }
+}
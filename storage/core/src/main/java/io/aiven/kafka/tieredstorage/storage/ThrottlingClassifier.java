@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Maps backend client failures to {@link StorageBackendException}, or to {@link ThrottledException}
+ * when the backend service asked to slow down.
+ *
+ * <p>The service exception may be wrapped, e.g. by an output stream or a future, so the cause chain is searched
+ * for the first exception of the service exception type.
+ *
+ * @param <E> the exception type the backend client reports service errors with
+ */
+public final class ThrottlingClassifier<E extends Throwable> {
+    private final Class<E> serviceExceptionType;
+    private final Predicate<E> isThrottled;
+
+    /**
+     * @param serviceExceptionType the exception type the backend client reports service errors with
+     * @param isThrottled          whether a service error asks to slow down, usually by its status code
+     */
+    public ThrottlingClassifier(final Class<E> serviceExceptionType, final Predicate<E> isThrottled) {
+        this.serviceExceptionType = Objects.requireNonNull(serviceExceptionType, "serviceExceptionType cannot be null");
+        this.isThrottled = Objects.requireNonNull(isThrottled, "isThrottled cannot be null");
+    }
+
+    public Optional<E> serviceException(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (serviceExceptionType.isInstance(cause)) {
+                return Optional.of(serviceExceptionType.cast(cause));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean isThrottled(final Throwable e) {
+        return serviceException(e).map(isThrottled::test).orElse(false);
+    }
+
+    public StorageBackendException storageBackendException(final String message, final Throwable e) {
+        return isThrottled(e) ? new ThrottledException(message, e) : new StorageBackendException(message, e);
+    }
+}
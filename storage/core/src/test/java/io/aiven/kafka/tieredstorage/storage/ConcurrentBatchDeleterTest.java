@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentBatchDeleterTest {
+    private final List<List<ObjectKey>> batches = Collections.synchronizedList(new ArrayList<>());
+    private ConcurrentBatchDeleter deleter;
+
+    @AfterEach
+    void tearDown() {
+        if (deleter != null) {
+            deleter.close();
+        }
+    }
+
+    private static Set<TestObjectKey> keys(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new TestObjectKey("key-" + i))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static StorageBackendException wrap(final String message, final Throwable e) {
+        return new StorageBackendException(message, e);
+    }
+
+    @Test
+    void splitsKeysIntoBatches() throws StorageBackendException {
+        deleter = new ConcurrentBatchDeleter("test-", 3, batch -> {
+            batches.add(List.copyOf(batch));
+            return List.of();
+        }, ConcurrentBatchDeleterTest::wrap);
+
+        deleter.delete(keys(8));
+
+        assertThat(batches).hasSize(3);
+        assertThat(batches).extracting(List::size).containsExactlyInAnyOrder(3, 3, 2);
+        assertThat(batches.stream().flatMap(List::stream).map(ObjectKey::value))
+            .containsExactlyInAnyOrderElementsOf(keys(8).stream().map(ObjectKey::value).collect(Collectors.toList()));
+    }
+
+    @Test
+    void emptyKeysSendNoBatch() throws StorageBackendException {
+        deleter = new ConcurrentBatchDeleter("test-", 3, batch -> {
+            batches.add(List.copyOf(batch));
+            return List.of();
+        }, ConcurrentBatchDeleterTest::wrap);
+
+        deleter.delete(Set.of());
+
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void reportsErrorsOfFirstFailedBatch() {
+        deleter = new ConcurrentBatchDeleter("test-", 2, batch -> {
+            final String first = batch.get(0).value();
+            if (first.equals("key-2") || first.equals("key-4")) {
+                return List.of(first + " (500: internal), ");
+            }
+            return List.of();
+        }, ConcurrentBatchDeleterTest::wrap);
+
+        assertThatThrownBy(() -> deleter.delete(keys(6)))
+            .isExactlyInstanceOf(StorageBackendException.class)
+            .hasMessage("Failed to delete keys: key-2 (500: internal), ");
+    }
+
+    @Test
+    void mapsBatchFailure() {
+        final var cause = new RuntimeException("boom");
+        deleter = new ConcurrentBatchDeleter("test-", 2, batch -> {
+            throw cause;
+        }, ThrottledException::new);
+
+        assertThatThrownBy(() -> deleter.delete(keys(1)))
+            .isExactlyInstanceOf(ThrottledException.class)
+            .hasMessage("Failed to delete batch with keys: [key-0]")
+            .hasCause(cause);
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSize() {
+        assertThatThrownBy(() -> new ConcurrentBatchDeleter("test-", 0, batch -> List.of(),
+            ConcurrentBatchDeleterTest::wrap))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("batchSize must be positive, 0 given");
+    }
+}
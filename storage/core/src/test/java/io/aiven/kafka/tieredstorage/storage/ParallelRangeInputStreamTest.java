@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelRangeInputStreamTest {
+    private final byte[] object = new byte[100];
+    private final List<BytesRange> requestedRanges = new ArrayList<>();
+    private final List<CompletableFuture<byte[]>> pending = new ArrayList<>();
+
+    ParallelRangeInputStreamTest() {
+        new Random().nextBytes(object);
+    }
+
+    private CompletableFuture<byte[]> completed(final BytesRange range) {
+        requestedRanges.add(range);
+        final int to = Math.min(range.lastPosition() + 1, object.length);
+        if (range.firstPosition() >= object.length) {
+            return CompletableFuture.completedFuture(new byte[0]);
+        }
+        return CompletableFuture.completedFuture(Arrays.copyOfRange(object, range.firstPosition(), to));
+    }
+
+    private CompletableFuture<byte[]> deferred(final BytesRange range) {
+        requestedRanges.add(range);
+        final var future = new CompletableFuture<byte[]>();
+        pending.add(future);
+        return future;
+    }
+
+    @Test
+    void readsPartsInOrder() throws IOException {
+        try (final var in = new ParallelRangeInputStream(BytesRange.of(10, 59), 10, 2, this::completed)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(object, 10, 60));
+        }
+        assertThat(requestedRanges).containsExactly(
+            BytesRange.of(10, 19),
+            BytesRange.of(20, 29),
+            BytesRange.of(30, 39),
+            BytesRange.of(40, 49),
+            BytesRange.of(50, 59)
+        );
+    }
+
+    @Test
+    void keepsAtMostMaxRequestsInFlight() throws IOException {
+        try (final var in = new ParallelRangeInputStream(BytesRange.of(0, 99), 10, 3, this::deferred)) {
+            assertThat(requestedRanges).hasSize(3);
+
+            pending.get(0).complete(Arrays.copyOfRange(object, 0, 10));
+            assertThat(in.read()).isEqualTo(object[0] & 0xFF);
+            assertThat(requestedRanges).hasSize(4);
+            assertThat(requestedRanges.get(3)).isEqualTo(BytesRange.of(30, 39));
+        }
+    }
+
+    @Test
+    void endsOnShortPartAndCancelsTheRest() throws IOException {
+        try (final var in = new ParallelRangeInputStream(BytesRange.of(80, 139), 15, 4, this::deferred)) {
+            pending.get(0).complete(Arrays.copyOfRange(object, 80, 95));
+            pending.get(1).complete(Arrays.copyOfRange(object, 95, 100));
+
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(object, 80, 100));
+            assertThat(pending.subList(2, pending.size())).allMatch(CompletableFuture::isCancelled);
+        }
+    }
+
+    @Test
+    void partFailureIsReportedOnRead() throws IOException {
+        final var failure = new RuntimeException("test");
+        try (final var in = new ParallelRangeInputStream(BytesRange.of(0, 29), 10, 2, this::deferred)) {
+            pending.get(0).complete(Arrays.copyOfRange(object, 0, 10));
+            pending.get(1).completeExceptionally(failure);
+
+            assertThatThrownBy(in::readAllBytes)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Failed to fetch " + BytesRange.of(10, 19))
+                .hasCause(failure);
+        }
+    }
+
+    @Test
+    void firstPartFailureIsReportedWhenAwaited() {
+        final var failure = new RuntimeException("test");
+        final var in = new ParallelRangeInputStream(BytesRange.of(0, 29), 10, 2, this::deferred);
+        pending.get(0).completeExceptionally(failure);
+
+        assertThatThrownBy(in::awaitFirstPart)
+            .isInstanceOf(ExecutionException.class)
+            .hasCause(failure);
+    }
+
+    @Test
+    void closeCancelsInFlightParts() throws IOException {
+        final var in = new ParallelRangeInputStream(BytesRange.of(0, 99), 10, 4, this::deferred);
+        in.close();
+
+        assertThat(pending).hasSize(4).allMatch(CompletableFuture::isCancelled);
+        assertThatThrownBy(in::read)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Stream closed");
+    }
+}
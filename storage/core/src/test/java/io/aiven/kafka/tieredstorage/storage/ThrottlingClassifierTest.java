@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrottlingClassifierTest {
+    static class ServiceException extends RuntimeException {
+        final int statusCode;
+
+        ServiceException(final int statusCode, final Throwable cause) {
+            super("status " + statusCode, cause);
+            this.statusCode = statusCode;
+        }
+    }
+
+    private final ThrottlingClassifier<ServiceException> classifier =
+        new ThrottlingClassifier<>(ServiceException.class, e -> e.statusCode == 503);
+
+    @Test
+    void throttledServiceException() {
+        final var e = new ServiceException(503, null);
+
+        final StorageBackendException result = classifier.storageBackendException("Failed to fetch key", e);
+
+        assertThat(result).isExactlyInstanceOf(ThrottledException.class)
+            .hasMessage("Failed to fetch key")
+            .hasCause(e);
+    }
+
+    @Test
+    void otherServiceException() {
+        final var e = new ServiceException(500, null);
+
+        assertThat(classifier.isThrottled(e)).isFalse();
+        assertThat(classifier.storageBackendException("Failed to fetch key", e))
+            .isExactlyInstanceOf(StorageBackendException.class)
+            .hasCause(e);
+    }
+
+    @Test
+    void wrappedServiceException() {
+        final var serviceException = new ServiceException(503, null);
+        final var e = new UncheckedIOException(new IOException(serviceException));
+
+        assertThat(classifier.isThrottled(e)).isTrue();
+        assertThat(classifier.serviceException(e)).containsSame(serviceException);
+    }
+
+    @Test
+    void outermostServiceExceptionDecides() {
+        final var e = new ServiceException(500, new ServiceException(503, null));
+
+        assertThat(classifier.isThrottled(e)).isFalse();
+    }
+
+    @Test
+    void noServiceException() {
+        final var e = new IOException("connection reset");
+
+        assertThat(classifier.isThrottled(e)).isFalse();
+        assertThat(classifier.serviceException(e)).isEmpty();
+        assertThat(classifier.isThrottled(null)).isFalse();
+    }
+}
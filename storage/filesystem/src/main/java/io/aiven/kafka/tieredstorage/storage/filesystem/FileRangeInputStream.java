@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.filesystem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+
+/**
+ * Stream over a region of an open file, read with positional reads,
+ * so readers of the same file don't share a position.
+ *
+ * <p>Reads are retried on the reopened file when another reader closed the shared channel by being interrupted.
+ */
+class FileRangeInputStream extends InputStream {
+    static final int MAX_REOPENS = 10;
+
+    private final OpenFileCache openFiles;
+    private OpenFileCache.OpenFile file;
+    private long position;
+    private long end;
+    private boolean closed = false;
+
+    /**
+     * Takes over the reference to the file held by the caller, released on close.
+     */
+    FileRangeInputStream(final OpenFileCache openFiles,
+                         final OpenFileCache.OpenFile file,
+                         final long position,
+                         final long length) {
+        this.openFiles = openFiles;
+        this.file = file;
+        this.position = position;
+        this.end = position + length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        final int read = read(b, 0, 1);
+        return read < 0 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= end) {
+            return -1;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, end - position));
+        final int read = readAt(buffer);
+        if (read < 0) {
+            // the file was truncated
+            end = position;
+            return -1;
+        }
+        position += read;
+        return read;
+    }
+
+    private int readAt(final ByteBuffer buffer) throws IOException {
+        final int start = buffer.position();
+        for (int reopens = 0; ; reopens++) {
+            try {
+                return file.channel().read(buffer, position);
+            } catch (final ClosedChannelException e) {
+                if (reopens == MAX_REOPENS) {
+                    throw e;
+                }
+                file = openFiles.reopen(file, e);
+                // the failed read may have filled part of the buffer already
+                buffer.position(start);
+            }
+        }
+    }
+
+    @Override
+    public long skip(final long n) {
+        final long skipped = Math.max(0, Math.min(n, end - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Math.max(0, end - position), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            file.release();
+        }
+    }
+}
@@ -18,11 +18,21 @@ package io.aiven.kafka.tieredstorage.storage.filesystem;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.common.utils.ByteBufferInputStream;
+import org.apache.kafka.common.utils.ByteBufferUnmapper;
+import org.apache.kafka.common.utils.Utils;
 
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
@@ -32,11 +42,15 @@ import io.aiven.kafka.tieredstorage.storage.StorageBackend;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
 
 import org.apache.commons.io.file.PathUtils;
-import org.apache.commons.io.input.BoundedInputStream;
 
 public class FileSystemStorage implements StorageBackend {
 
     private Path fsRoot;
+    private int directoryShardLevels;
+    private int mmapThreshold;
+    private boolean uploadSync;
+    private int uploadBufferSize;
+    private OpenFileCache openFiles;
 
     @Override
     public void configure(final Map<String, ?> configs) {
@@ -45,24 +59,79 @@ public class FileSystemStorage implements StorageBackend {
         if (!Files.isDirectory(fsRoot) || !Files.isWritable(fsRoot)) {
             throw new IllegalArgumentException(fsRoot + " must be a writable directory");
         }
+        this.directoryShardLevels = config.directoryShardLevels();
+        this.mmapThreshold = config.fetchMmapThreshold();
+        this.uploadSync = config.uploadSyncEnabled();
+        this.uploadBufferSize = config.uploadBufferSize();
+        this.openFiles = new OpenFileCache(config.fetchOpenFilesMax());
+    }
+
+    /**
+     * Resolves the file of a key, within {@code directoryShardLevels} levels of sub-directories
+     * of the key directory, named after the key hash.
+     */
+    Path path(final ObjectKey key) {
+        final Path path = fsRoot.resolve(key.value());
+        if (directoryShardLevels == 0) {
+            return path;
+        }
+        final String hash = String.format("%08x", Utils.murmur2(key.value().getBytes(StandardCharsets.UTF_8)));
+        Path directory = path.getParent();
+        for (int level = 0; level < directoryShardLevels; level++) {
+            directory = directory.resolve(hash.substring(level * 2, level * 2 + 2));
+        }
+        return directory.resolve(path.getFileName());
     }
 
+    /**
+     * Writes to a temporary file renamed once complete, so fetches never see a partially uploaded file.
+     *
+     * <p>The temporary file is created with the default permissions, as {@link Files#createTempFile} would restrict
+     * them to the owner.
+     */
     @Override
     public long upload(final InputStream inputStream, final ObjectKey key) throws StorageBackendException {
+        Path tempFile = null;
         try {
-            final Path path = fsRoot.resolve(key.value());
+            final Path path = path(key);
             Files.createDirectories(path.getParent());
-            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
-            return Files.size(path);
+            tempFile = path.resolveSibling("." + path.getFileName() + "." + UUID.randomUUID() + ".upload");
+            long size = 0;
+            try (final FileChannel channel = FileChannel.open(
+                tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                final byte[] buffer = new byte[uploadBufferSize];
+                int read;
+                while ((read = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                    final ByteBuffer data = ByteBuffer.wrap(buffer, 0, read);
+                    while (data.hasRemaining()) {
+                        size += channel.write(data);
+                    }
+                }
+                if (uploadSync) {
+                    channel.force(true);
+                }
+            }
+            Utils.atomicMoveWithFallback(tempFile, path, uploadSync);
+            tempFile = null;
+            openFiles.invalidate(path);
+            return size;
         } catch (final IOException e) {
             throw new StorageBackendException("Failed to upload " + key, e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (final IOException ignored) {
+                    // left behind, it is never read
+                }
+            }
         }
     }
 
     @Override
     public InputStream fetch(final ObjectKey key) throws StorageBackendException {
         try {
-            final Path path = fsRoot.resolve(key.value());
+            final Path path = path(key);
             return Files.newInputStream(path);
         } catch (final NoSuchFileException e) {
             throw new KeyNotFoundException(this, key);
@@ -71,6 +140,10 @@ public class FileSystemStorage implements StorageBackend {
         }
     }
 
+    /**
+     * Reads the range with positional reads from a shared open file,
+     * or memory-maps it when it is at least {@code fetch.mmap.threshold.bytes} large.
+     */
     @Override
     public InputStream fetch(final ObjectKey key, final BytesRange range) throws StorageBackendException {
         try {
@@ -78,17 +151,35 @@ public class FileSystemStorage implements StorageBackend {
                 return InputStream.nullInputStream();
             }
 
-            final Path path = fsRoot.resolve(key.value());
-            final long fileSize = Files.size(path);
-            if (range.firstPosition() >= fileSize) {
-                throw new InvalidRangeException("Range start position " + range.firstPosition()
-                    + " is outside file content. file size = " + fileSize);
+            OpenFileCache.OpenFile file = openFiles.acquire(path(key));
+            try {
+                final long fileSize = file.size();
+                if (range.firstPosition() >= fileSize) {
+                    throw new InvalidRangeException("Range start position " + range.firstPosition()
+                        + " is outside file content. file size = " + fileSize);
+                }
+                final long size = Math.min(range.lastPosition(), fileSize - 1) - range.firstPosition() + 1;
+                if (mmapThreshold >= 0 && size >= mmapThreshold && size <= Integer.MAX_VALUE) {
+                    // the mapping stays valid after the file is closed
+                    MappedByteBuffer mapped = null;
+                    for (int reopens = 0; mapped == null; reopens++) {
+                        try {
+                            mapped = file.channel().map(FileChannel.MapMode.READ_ONLY, range.firstPosition(), size);
+                        } catch (final ClosedChannelException e) {
+                            if (reopens == FileRangeInputStream.MAX_REOPENS) {
+                                throw e;
+                            }
+                            file = openFiles.reopen(file, e);
+                        }
+                    }
+                    file.release();
+                    return new MappedRangeInputStream(mapped);
+                }
+                return new FileRangeInputStream(openFiles, file, range.firstPosition(), size);
+            } catch (final IOException | RuntimeException | InvalidRangeException e) {
+                file.release();
+                throw e;
             }
-            // slice file content
-            final InputStream chunkContent = Files.newInputStream(path);
-            chunkContent.skip(range.firstPosition());
-            final long size = Math.min(range.lastPosition(), fileSize) - range.firstPosition() + 1;
-            return new BoundedInputStream(chunkContent, size);
         } catch (final NoSuchFileException e) {
             throw new KeyNotFoundException(this, key);
         } catch (final IOException e) {
@@ -99,7 +190,8 @@ public class FileSystemStorage implements StorageBackend {
     @Override
     public void delete(final ObjectKey key) throws StorageBackendException {
         try {
-            final Path path = fsRoot.resolve(key.value());
+            final Path path = path(key);
+            openFiles.invalidate(path);
             Files.deleteIfExists(path);
             Path parent = path.getParent();
             while (parent != null && Files.isDirectory(parent) && !parent.equals(fsRoot)
@@ -114,6 +206,14 @@ public class FileSystemStorage implements StorageBackend {
 
     @Override
     public void close() throws IOException {
+        if (openFiles != null) {
+            openFiles.close();
+        }
+    }
+
+    // for testing
+    OpenFileCache openFiles() {
+        return openFiles;
     }
 
     @Override
@@ -121,4 +221,44 @@ public class FileSystemStorage implements StorageBackend {
         return "FileSystemStorage{"
             + "fsRoot=" + fsRoot + '}';
     }
+
+    /**
+     * Unmaps the region on close rather than on garbage collection, as mapped ranges may be large.
+     */
+    private static class MappedRangeInputStream extends ByteBufferInputStream {
+        private final MappedByteBuffer buffer;
+        private boolean closed = false;
+
+        MappedRangeInputStream(final MappedByteBuffer buffer) {
+            super(buffer);
+            this.buffer = buffer;
+        }
+
+        // reading an unmapped region would crash the JVM
+        @Override
+        public int read() {
+            ensureOpen();
+            return super.read();
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            ensureOpen();
+            return super.read(bytes, off, len);
+        }
+
+        private void ensureOpen() {
+            if (closed) {
+                throw new IllegalStateException("Stream closed");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                ByteBufferUnmapper.unmap("fetched range", buffer);
+            }
+        }
+    }
 }
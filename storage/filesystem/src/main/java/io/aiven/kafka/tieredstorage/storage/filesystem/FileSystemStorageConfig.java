@@ -30,6 +30,28 @@ public class FileSystemStorageConfig extends AbstractConfig {
     private static final String OVERWRITE_ENABLED_CONFIG = "overwrite.enabled";
     private static final String OVERWRITE_ENABLED_DOC = "Enable overwriting existing files";
 
+    static final int MAX_DIRECTORY_SHARD_LEVELS = 4;
+    private static final String DIRECTORY_SHARD_LEVELS_CONFIG = "directory.shard.levels";
+    private static final String DIRECTORY_SHARD_LEVELS_DOC = "Number of levels of sub-directories, "
+        + "named after two hex digits of the key hash, files are spread into within their directory, "
+        + "to keep directories small, e.g. on NFS. Changing it makes the existing files unreachable.";
+
+    private static final String FETCH_OPEN_FILES_MAX_CONFIG = "fetch.open.files.max";
+    private static final String FETCH_OPEN_FILES_MAX_DOC = "Maximum number of files kept open "
+        + "for range fetches, the least recently used being closed first. \"0\" opens the file on every fetch.";
+
+    private static final String FETCH_MMAP_THRESHOLD_CONFIG = "fetch.mmap.threshold.bytes";
+    private static final String FETCH_MMAP_THRESHOLD_DOC = "Ranges of at least this size are fetched "
+        + "by memory-mapping the file region instead of reading it, where \"-1\" disables memory-mapping.";
+
+    private static final String UPLOAD_SYNC_ENABLED_CONFIG = "upload.sync.enabled";
+    private static final String UPLOAD_SYNC_ENABLED_DOC = "Whether to sync uploaded files and their directory "
+        + "to the disk before completing the upload, so they survive a crash of the host.";
+
+    private static final String UPLOAD_BUFFER_SIZE_CONFIG = "upload.buffer.size";
+    private static final String UPLOAD_BUFFER_SIZE_DOC = "Size of the buffer uploaded data is written "
+        + "to the file with, i.e. of each write call.";
+
     public static final ConfigDef configDef() {
         return new ConfigDef()
             .define(
@@ -45,6 +67,45 @@ public class FileSystemStorageConfig extends AbstractConfig {
                 false,
                 ConfigDef.Importance.MEDIUM,
                 OVERWRITE_ENABLED_DOC
+            )
+            .define(
+                UPLOAD_SYNC_ENABLED_CONFIG,
+                ConfigDef.Type.BOOLEAN,
+                false,
+                ConfigDef.Importance.MEDIUM,
+                UPLOAD_SYNC_ENABLED_DOC
+            )
+            .define(
+                DIRECTORY_SHARD_LEVELS_CONFIG,
+                ConfigDef.Type.INT,
+                0,
+                ConfigDef.Range.between(0, MAX_DIRECTORY_SHARD_LEVELS),
+                ConfigDef.Importance.LOW,
+                DIRECTORY_SHARD_LEVELS_DOC
+            )
+            .define(
+                FETCH_OPEN_FILES_MAX_CONFIG,
+                ConfigDef.Type.INT,
+                256,
+                ConfigDef.Range.atLeast(0),
+                ConfigDef.Importance.LOW,
+                FETCH_OPEN_FILES_MAX_DOC
+            )
+            .define(
+                FETCH_MMAP_THRESHOLD_CONFIG,
+                ConfigDef.Type.INT,
+                -1,
+                ConfigDef.Range.atLeast(-1),
+                ConfigDef.Importance.LOW,
+                FETCH_MMAP_THRESHOLD_DOC
+            )
+            .define(
+                UPLOAD_BUFFER_SIZE_CONFIG,
+                ConfigDef.Type.INT,
+                64 * 1024,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                UPLOAD_BUFFER_SIZE_DOC
             );
     }
 
@@ -55,4 +116,24 @@ public class FileSystemStorageConfig extends AbstractConfig {
     final Path root() {
         return Path.of(getString(ROOT_CONFIG));
     }
+
+    final int directoryShardLevels() {
+        return getInt(DIRECTORY_SHARD_LEVELS_CONFIG);
+    }
+
+    final int fetchOpenFilesMax() {
+        return getInt(FETCH_OPEN_FILES_MAX_CONFIG);
+    }
+
+    final int fetchMmapThreshold() {
+        return getInt(FETCH_MMAP_THRESHOLD_CONFIG);
+    }
+
+    final boolean uploadSyncEnabled() {
+        return getBoolean(UPLOAD_SYNC_ENABLED_CONFIG);
+    }
+
+    final int uploadBufferSize() {
+        return getInt(UPLOAD_BUFFER_SIZE_CONFIG);
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.filesystem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Bounded set of files kept open for positional reads, closing the least recently used ones first.
+ *
+ * <p>Open files are reference counted: the cache holds one reference, released on eviction,
+ * and every reader holds one more. A file is closed only when the last reference is released,
+ * so evicting a file never closes it under a reader.
+ *
+ * <p>A reader interrupted during a read closes the channel for all the others, as file channels are
+ * interruptible. The others see a {@link ClosedChannelException} and {@link #reopen(OpenFile) reopen} the file.
+ */
+class OpenFileCache implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(OpenFileCache.class);
+
+    private final int maxOpenFiles;
+    private final LinkedHashMap<Path, OpenFile> files = new LinkedHashMap<>(16, 0.75f, true);
+
+    OpenFileCache(final int maxOpenFiles) {
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    /**
+     * Returns the open file, holding a reference the caller must {@link OpenFile#release() release}.
+     */
+    OpenFile acquire(final Path path) throws IOException {
+        if (maxOpenFiles == 0) {
+            return OpenFile.open(path);
+        }
+        synchronized (this) {
+            final OpenFile cached = files.get(path);
+            if (cached != null && cached.channel.isOpen() && cached.retain()) {
+                return cached;
+            }
+        }
+        // opening may be slow on network file systems, so it is not done while holding the lock
+        final OpenFile opened = OpenFile.open(path);
+        opened.retain();
+        final List<OpenFile> evicted = new ArrayList<>();
+        synchronized (this) {
+            final OpenFile current = files.put(path, opened);
+            if (current != null) {
+                evicted.add(current);
+            }
+            final Iterator<OpenFile> leastRecentlyUsed = files.values().iterator();
+            while (files.size() > maxOpenFiles) {
+                evicted.add(leastRecentlyUsed.next());
+                leastRecentlyUsed.remove();
+            }
+        }
+        evicted.forEach(OpenFile::release);
+        return opened;
+    }
+
+    /**
+     * Replaces a file whose channel another reader closed, releasing the given reference
+     * and returning a new one the caller must release.
+     *
+     * @throws ClosedChannelException the given exception, if the current thread was interrupted itself
+     *                                or the file was replaced since it was opened.
+     */
+    OpenFile reopen(final OpenFile file, final ClosedChannelException closed) throws IOException {
+        if (closed instanceof ClosedByInterruptException || Thread.currentThread().isInterrupted()) {
+            throw closed;
+        }
+        final OpenFile reopened = acquire(file.path);
+        if (!Objects.equals(reopened.fileKey, file.fileKey)) {
+            // don't mix the contents of two versions of the file in one read
+            reopened.release();
+            throw closed;
+        }
+        file.release();
+        return reopened;
+    }
+
+    /**
+     * Drops the file from the cache, e.g. when it is replaced or deleted.
+     */
+    void invalidate(final Path path) {
+        final OpenFile removed;
+        synchronized (this) {
+            removed = files.remove(path);
+        }
+        if (removed != null) {
+            removed.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        final List<OpenFile> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(files.values());
+            files.clear();
+        }
+        evicted.forEach(OpenFile::release);
+    }
+
+    // for testing
+    synchronized Map<Path, OpenFile> files() {
+        return Map.copyOf(files);
+    }
+
+    static final class OpenFile {
+        private final Path path;
+        private final FileChannel channel;
+        private final long size;
+        private final Object fileKey;
+        private int references = 1;
+
+        private OpenFile(final Path path, final FileChannel channel, final long size, final Object fileKey) {
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+            this.fileKey = fileKey;
+        }
+
+        static OpenFile open(final Path path) throws IOException {
+            final FileChannel channel = FileChannel.open(path, READ);
+            try {
+                final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+                return new OpenFile(path, channel, channel.size(), fileKey);
+            } catch (final IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        FileChannel channel() {
+            return channel;
+        }
+
+        /**
+         * The size of the file when it was opened. Files are replaced, never written in place,
+         * so it stays the same and doesn't need the channel, which may be closed by another reader.
+         */
+        long size() {
+            return size;
+        }
+
+        private synchronized boolean retain() {
+            if (references == 0) {
+                return false;
+            }
+            references += 1;
+            return true;
+        }
+
+        /**
+         * Releases a reference, closing the file if it was the last one.
+         */
+        void release() {
+            synchronized (this) {
+                if (references == 0) {
+                    return;
+                }
+                references -= 1;
+                if (references > 0) {
+                    return;
+                }
+            }
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                log.warn("Failed to close file {}", path, e);
+            }
+        }
+    }
+}
@@ -19,9 +19,12 @@ package io.aiven.kafka.tieredstorage.storage.filesystem;
 import java.nio.file.Path;
 import java.util.Map;
 
+import org.apache.kafka.common.config.ConfigException;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class FileSystemStorageConfigTest {
     @Test
@@ -30,5 +33,37 @@ class FileSystemStorageConfigTest {
             "root", "."
         ));
         assertThat(config.root()).isEqualTo(Path.of("."));
+        assertThat(config.directoryShardLevels()).isZero();
+        assertThat(config.fetchOpenFilesMax()).isEqualTo(256);
+        assertThat(config.fetchMmapThreshold()).isEqualTo(-1);
+        assertThat(config.uploadSyncEnabled()).isFalse();
+        assertThat(config.uploadBufferSize()).isEqualTo(65536);
+    }
+
+    @Test
+    void fullConfig() {
+        final FileSystemStorageConfig config = new FileSystemStorageConfig(Map.of(
+            "root", ".",
+            "directory.shard.levels", "2",
+            "fetch.open.files.max", "16",
+            "fetch.mmap.threshold.bytes", "1048576",
+            "upload.sync.enabled", "true",
+            "upload.buffer.size", "8192"
+        ));
+        assertThat(config.directoryShardLevels()).isEqualTo(2);
+        assertThat(config.fetchOpenFilesMax()).isEqualTo(16);
+        assertThat(config.fetchMmapThreshold()).isEqualTo(1048576);
+        assertThat(config.uploadSyncEnabled()).isTrue();
+        assertThat(config.uploadBufferSize()).isEqualTo(8192);
+    }
+
+    @Test
+    void invalidDirectoryShardLevels() {
+        assertThatThrownBy(() -> new FileSystemStorageConfig(Map.of(
+            "root", ".",
+            "directory.shard.levels", "5"
+        )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value 5 for configuration directory.shard.levels: Value must be no more than 4");
     }
 }
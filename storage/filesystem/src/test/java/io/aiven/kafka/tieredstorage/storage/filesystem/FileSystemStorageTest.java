@@ -16,16 +16,31 @@
 
 package io.aiven.kafka.tieredstorage.storage.filesystem;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.aiven.kafka.tieredstorage.storage.BaseStorageTest;
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
 import io.aiven.kafka.tieredstorage.storage.StorageBackend;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
 import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
 
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -102,4 +117,178 @@ class FileSystemStorageTest extends BaseStorageTest {
         assertThat(parentPath).exists();
         assertThat(root).exists();
     }
+
+    @Test
+    void testUploadReplacesOpenFile() throws IOException, StorageBackendException {
+        final FileSystemStorage storage = new FileSystemStorage();
+        storage.configure(Map.of("root", root.toString()));
+        storage.upload(new ByteArrayInputStream("ABC".getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(0, 2))) {
+            assertThat(fetch).hasContent("ABC");
+        }
+
+        storage.upload(new ByteArrayInputStream("XYZ".getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(0, 2))) {
+            assertThat(fetch).hasContent("XYZ");
+        }
+        // no temporary file left behind
+        final Path keyPath = root.resolve(TOPIC_PARTITION_SEGMENT_KEY.value());
+        try (final var files = Files.list(keyPath.getParent())) {
+            assertThat(files).containsExactly(keyPath);
+        }
+    }
+
+    @Test
+    void testEvictedOpenFileStaysReadable() throws IOException, StorageBackendException {
+        final FileSystemStorage storage = new FileSystemStorage();
+        storage.configure(Map.of("root", root.toString(), "fetch.open.files.max", "1"));
+        final TestObjectKey otherKey = new TestObjectKey("other");
+        storage.upload(new ByteArrayInputStream("ABC".getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+        storage.upload(new ByteArrayInputStream("XYZ".getBytes()), otherKey);
+
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(1, 2))) {
+            try (final InputStream other = storage.fetch(otherKey, BytesRange.of(0, 2))) {
+                assertThat(other).hasContent("XYZ");
+            }
+            assertThat(storage.openFiles().files()).containsOnlyKeys(root.resolve("other"));
+            assertThat(fetch).hasContent("BC");
+        }
+        storage.close();
+        assertThat(storage.openFiles().files()).isEmpty();
+    }
+
+    @Test
+    void testInterruptedReaderDoesNotFailOtherReaders() throws Exception {
+        final FileSystemStorage storage = new FileSystemStorage();
+        storage.configure(Map.of("root", root.toString()));
+        final byte[] content = new byte[64 * 1024];
+        new Random(0).nextBytes(content);
+        storage.upload(new ByteArrayInputStream(content), TOPIC_PARTITION_SEGMENT_KEY);
+        final BytesRange range = BytesRange.of(0, content.length - 1);
+
+        try (final InputStream interrupted = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, range);
+             final InputStream other = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, range)) {
+            final byte[] head = other.readNBytes(1024);
+
+            final AtomicReference<Exception> failure = new AtomicReference<>();
+            final Thread reader = new Thread(() -> {
+                Thread.currentThread().interrupt();
+                try {
+                    interrupted.read(new byte[1024]);
+                } catch (final IOException e) {
+                    failure.set(e);
+                }
+            });
+            reader.start();
+            reader.join();
+            assertThat(failure.get()).isInstanceOf(ClosedByInterruptException.class);
+
+            assertThat(head).isEqualTo(Arrays.copyOfRange(content, 0, 1024));
+            assertThat(other.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 1024, content.length));
+        }
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, range)) {
+            assertThat(fetch).hasBinaryContent(content);
+        }
+    }
+
+    @Test
+    void testConcurrentInterruptedReaders() throws Exception {
+        final FileSystemStorage storage = new FileSystemStorage();
+        storage.configure(Map.of("root", root.toString()));
+        final byte[] content = new byte[256 * 1024];
+        new Random(0).nextBytes(content);
+        storage.upload(new ByteArrayInputStream(content), TOPIC_PARTITION_SEGMENT_KEY);
+        final BytesRange range = BytesRange.of(0, content.length - 1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<byte[]>> reads = new ArrayList<>();
+            final List<Future<?>> interruptions = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                reads.add(executor.submit(() -> {
+                    final ByteArrayOutputStream read = new ByteArrayOutputStream();
+                    try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, range)) {
+                        final byte[] buffer = new byte[256];
+                        int n;
+                        while ((n = fetch.read(buffer)) >= 0) {
+                            read.write(buffer, 0, n);
+                        }
+                    }
+                    return read.toByteArray();
+                }));
+                interruptions.add(executor.submit(() -> {
+                    for (int j = 0; j < 20; j++) {
+                        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, range)) {
+                            Thread.currentThread().interrupt();
+                            assertThatThrownBy(() -> fetch.read(new byte[256]))
+                                .isInstanceOf(ClosedByInterruptException.class);
+                        } finally {
+                            Thread.interrupted();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Future<?> interruption : interruptions) {
+                interruption.get(30, TimeUnit.SECONDS);
+            }
+            for (final Future<byte[]> read : reads) {
+                assertThat(read.get(30, TimeUnit.SECONDS)).isEqualTo(content);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testUploadKeepsDefaultPermissions() throws IOException, StorageBackendException {
+        final FileSystemStorage storage = new FileSystemStorage();
+        storage.configure(Map.of("root", root.toString()));
+        storage.upload(new ByteArrayInputStream("test".getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+
+        final Path keyPath = root.resolve(TOPIC_PARTITION_SEGMENT_KEY.value());
+        final Path defaultFile = Files.createFile(root.resolve("default"));
+        assertThat(Files.getPosixFilePermissions(keyPath)).isEqualTo(Files.getPosixFilePermissions(defaultFile));
+    }
+
+    @Test
+    void testShardedDirectories() throws IOException, StorageBackendException {
+        final FileSystemStorage storage = new FileSystemStorage();
+        storage.configure(Map.of("root", root.toString(), "directory.shard.levels", "2"));
+        storage.upload(new ByteArrayInputStream("test".getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+
+        final Path keyPath = storage.path(TOPIC_PARTITION_SEGMENT_KEY);
+        assertThat(keyPath).hasContent("test");
+        assertThat(root.relativize(keyPath).toString()).matches("topic/partition/[0-9a-f]{2}/[0-9a-f]{2}/log");
+
+        storage.delete(TOPIC_PARTITION_SEGMENT_KEY);
+        assertThat(root).isEmptyDirectory();
+    }
+
+    @Nested
+    class MemoryMappedFetch extends BaseStorageTest {
+        @Override
+        protected StorageBackend storage() {
+            final FileSystemStorage storage = new FileSystemStorage();
+            storage.configure(Map.of("root", root.toString(), "fetch.mmap.threshold.bytes", "0"));
+            return storage;
+        }
+    }
+
+    @Nested
+    class ShardedSyncedUploads extends BaseStorageTest {
+        @Override
+        protected StorageBackend storage() {
+            final FileSystemStorage storage = new FileSystemStorage();
+            storage.configure(Map.of(
+                "root", root.toString(),
+                "directory.shard.levels", "1",
+                "fetch.open.files.max", "0",
+                "upload.sync.enabled", "true",
+                "upload.buffer.size", "2"
+            ));
+            return storage;
+        }
+    }
 }
@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.management.ManagementFactory;
 import java.util.Map;
+import java.util.Set;
 
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
@@ -101,14 +102,13 @@ public class GcsStorageMetricsTest {
             fetch.readAllBytes();
         }
         storage.delete(key);
+        storage.delete(Set.of(key));
 
         final ObjectName gcsMetricsObjectName =
             ObjectName.getInstance("aiven.kafka.server.tieredstorage.gcs:type=gcs-client-metrics");
-        assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-metadata-get-rate"))
-            .asInstanceOf(DOUBLE)
-            .isGreaterThan(0.0);
+        // Fetches open the object directly, without getting its metadata first.
         assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-metadata-get-total"))
-            .isEqualTo(2.0);
+            .isEqualTo(0.0);
 
         assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-get-rate"))
             .asInstanceOf(DOUBLE)
@@ -116,6 +116,12 @@ public class GcsStorageMetricsTest {
         assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-get-total"))
             .isEqualTo(2.0);
 
+        assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-range-get-rate"))
+            .asInstanceOf(DOUBLE)
+            .isGreaterThan(0.0);
+        assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-range-get-total"))
+            .isEqualTo(1.0);
+
         assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "resumable-upload-initiate-rate"))
             .asInstanceOf(DOUBLE)
             .isGreaterThan(0.0);
@@ -133,5 +139,11 @@ public class GcsStorageMetricsTest {
             .isGreaterThan(0.0);
         assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "object-delete-total"))
             .isEqualTo(1.0);
+
+        assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "batch-rate"))
+            .asInstanceOf(DOUBLE)
+            .isGreaterThan(0.0);
+        assertThat(MBEAN_SERVER.getAttribute(gcsMetricsObjectName, "batch-total"))
+            .isEqualTo(1.0);
     }
 }
@@ -18,33 +18,52 @@ package io.aiven.kafka.tieredstorage.storage.gcs;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ConcurrentBatchDeleter;
 import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
 import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackend;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.ThrottlingClassifier;
 import io.aiven.kafka.tieredstorage.storage.proxy.ProxyConfig;
 import io.aiven.kafka.tieredstorage.storage.proxy.Socks5ProxyAuthenticator;
 
 import com.google.cloud.BaseServiceException;
+import com.google.cloud.BatchResult;
 import com.google.cloud.ReadChannel;
 import com.google.cloud.http.HttpTransportOptions;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageBatch;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.StorageOptions;
 
 public class GcsStorage implements StorageBackend {
+    // Bounds the read buffer allocated per ranged fetch.
+    static final int MAX_READ_CHUNK_SIZE = 16 * 1024 * 1024;
+    // https://cloud.google.com/storage/docs/batch
+    static final int MAX_DELETE_BATCH_SIZE = 100;
+    // https://cloud.google.com/storage/docs/json_api/v1/status-codes#429_Too_Many_Requests
+    private static final ThrottlingClassifier<BaseServiceException> ERRORS = new ThrottlingClassifier<>(
+        BaseServiceException.class, e -> e.getCode() == 429 || e.getCode() == 503);
+
     private volatile Storage storage;
     private String bucketName;
     private MetricCollector metricCollector;
     private Integer resumableUploadChunkSize;
     private ReloadableCredentialsProvider credentialsProvider;
     private StorageOptions.Builder storageOptionsBuilder;
+    private ConcurrentBatchDeleter batchDeleter;
 
     @Override
     public void configure(final Map<String, ?> configs) {
@@ -83,6 +102,10 @@ public class GcsStorage implements StorageBackend {
         updateStorageClient(credentialsProvider.getCredentials());
 
         resumableUploadChunkSize = config.resumableUploadChunkSize();
+
+        batchDeleter = new ConcurrentBatchDeleter(
+            "gcs-delete-batch-", MAX_DELETE_BATCH_SIZE, this::deleteBatch,
+            ERRORS::storageBackendException);
     }
 
     @Override
@@ -97,7 +120,7 @@ public class GcsStorage implements StorageBackend {
             }
             return blob.getSize();
         } catch (final IOException | BaseServiceException e) {
-            throw new StorageBackendException("Failed to upload " + key, e);
+            throw ERRORS.storageBackendException("Failed to upload " + key, e);
         }
     }
 
@@ -106,71 +129,112 @@ public class GcsStorage implements StorageBackend {
         try {
             storage.delete(this.bucketName, key.value());
         } catch (final BaseServiceException e) {
-            throw new StorageBackendException("Failed to delete " + key, e);
+            throw ERRORS.storageBackendException("Failed to delete " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        batchDeleter.delete(keys);
+    }
+
+    private List<String> deleteBatch(final List<ObjectKey> batch) {
+        final StorageBatch storageBatch = storage.batch();
+        final List<String> errors = new ArrayList<>();
+        for (final ObjectKey key : batch) {
+            storageBatch.delete(this.bucketName, key.value()).notify(new BatchResult.Callback<>() {
+                @Override
+                public void success(final Boolean deleted) {
+                    // not deleted means it did not exist, which is fine as delete is idempotent
+                }
+
+                @Override
+                public void error(final StorageException e) {
+                    if (e.getCode() != 404) {
+                        errors.add(String.format("%s (%s: %s), ", key.value(), e.getCode(), e.getMessage()));
+                    }
+                }
+            });
         }
+        // callbacks are called on this thread before submit returns
+        storageBatch.submit();
+        return errors;
     }
 
     @Override
     public InputStream fetch(final ObjectKey key) throws StorageBackendException {
+        final ReadChannel reader = storage.reader(BlobId.of(this.bucketName, key.value()));
         try {
-            final Blob blob = getBlob(key);
-            final ReadChannel reader = blob.reader();
-            return Channels.newInputStream(reader);
-        } catch (final BaseServiceException e) {
-            if (e.getCode() == 404) {
-                // https://cloud.google.com/storage/docs/json_api/v1/status-codes#404_Not_Found
-                throw new KeyNotFoundException(this, key, e);
-            } else {
-                throw new StorageBackendException("Failed to fetch " + key, e);
-            }
+            final InputStream inputStream = open(reader);
+            return inputStream == null ? InputStream.nullInputStream() : inputStream;
+        } catch (final IOException | BaseServiceException e) {
+            throw fetchException(key, e);
         }
     }
 
     @Override
     public InputStream fetch(final ObjectKey key, final BytesRange range) throws StorageBackendException {
-        try {
-            if (range.isEmpty()) {
-                return InputStream.nullInputStream();
-            }
-
-            final Blob blob = getBlob(key);
-
-            if (range.firstPosition() >= blob.getSize()) {
-                throw new InvalidRangeException("Range start position " + range.firstPosition()
-                    + " is outside file content. file size = " + blob.getSize());
-            }
+        if (range.isEmpty()) {
+            return InputStream.nullInputStream();
+        }
 
-            final ReadChannel reader = blob.reader();
+        // The reader is opened directly, without fetching the blob metadata first,
+        // so missing keys and invalid ranges are only detected from the download response.
+        final ReadChannel reader = storage.reader(BlobId.of(this.bucketName, key.value()));
+        reader.setChunkSize(Math.min(range.size(), MAX_READ_CHUNK_SIZE));
+        try {
             reader.limit(range.lastPosition() + 1);
             reader.seek(range.firstPosition());
-            return Channels.newInputStream(reader);
-        } catch (final IOException e) {
-            throw new StorageBackendException("Failed to fetch " + key, e);
-        } catch (final BaseServiceException e) {
-            if (e.getCode() == 404) {
-                // https://cloud.google.com/storage/docs/json_api/v1/status-codes#404_Not_Found
-                throw new KeyNotFoundException(this, key, e);
-            } else if (e.getCode() == 416) {
+            final InputStream inputStream = open(reader);
+            if (inputStream == null) {
+                // Unsatisfiable ranges are reported by the reader as the end of the stream.
+                throw new InvalidRangeException("Range start position " + range.firstPosition()
+                    + " is outside file content");
+            }
+            return inputStream;
+        } catch (final IOException | BaseServiceException e) {
+            if (serviceExceptionCode(e) == 416) {
                 // https://cloud.google.com/storage/docs/json_api/v1/status-codes#416_Requested_Range_Not_Satisfiable
                 throw new InvalidRangeException("Invalid range " + range, e);
-            } else {
-                throw new StorageBackendException("Failed to fetch " + key, e);
             }
+            throw fetchException(key, e);
+        }
+    }
+
+    /**
+     * Reads the first byte eagerly to send the download request, so errors are reported on fetch
+     * rather than on the first read of the returned stream.
+     *
+     * @return the stream, or {@code null} if there is nothing to read.
+     */
+    private static InputStream open(final ReadChannel reader) throws IOException {
+        final PushbackInputStream inputStream = new PushbackInputStream(Channels.newInputStream(reader));
+        try {
+            final int firstByte = inputStream.read();
+            if (firstByte == -1) {
+                inputStream.close();
+                return null;
+            }
+            inputStream.unread(firstByte);
+            return inputStream;
+        } catch (final IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
         }
     }
 
-    private Blob getBlob(final ObjectKey key) throws KeyNotFoundException {
-        // Unfortunately, it seems Google will do two a separate (HEAD-like) call to get blob metadata first
-        // and then the actual download:
-        // > Cloud Storage client libraries might use two or more operations to perform a task.
-        // Source: https://cloud.google.com/storage/pricing
-        // Since the blobs are immutable in tiered storage, we can consider caching them locally
-        // to avoid the extra round trip.
-        final Blob blob = storage.get(this.bucketName, key.value());
-        if (blob == null) {
-            throw new KeyNotFoundException(this, key);
+    private StorageBackendException fetchException(final ObjectKey key, final Exception e) {
+        if (serviceExceptionCode(e) == 404) {
+            // https://cloud.google.com/storage/docs/json_api/v1/status-codes#404_Not_Found
+            return new KeyNotFoundException(this, key, e);
+        } else {
+            return ERRORS.storageBackendException("Failed to fetch " + key, e);
         }
-        return blob;
+    }
+
+    // Read errors may come wrapped into an IOException by the channel.
+    private static int serviceExceptionCode(final Throwable e) {
+        return ERRORS.serviceException(e).map(BaseServiceException::getCode).orElse(0);
     }
 
     /**
@@ -190,6 +254,9 @@ public class GcsStorage implements StorageBackend {
 
     @Override
     public void close() throws IOException {
+        if (batchDeleter != null) {
+            batchDeleter.close();
+        }
         if (credentialsProvider != null) {
             credentialsProvider.close();
         }
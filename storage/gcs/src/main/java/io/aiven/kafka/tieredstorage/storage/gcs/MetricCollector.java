@@ -39,6 +39,9 @@ import com.google.api.client.http.HttpResponseInterceptor;
 import com.google.cloud.ServiceOptions;
 import com.google.cloud.http.HttpTransportOptions;
 
+import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.BATCH;
+import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.BATCH_RATE_METRIC_NAME;
+import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.BATCH_TOTAL_METRIC_NAME;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.METRIC_CONTEXT;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_DELETE;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_DELETE_RATE_METRIC_NAME;
@@ -49,6 +52,9 @@ import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_GET
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_METADATA_GET;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_METADATA_GET_RATE_METRIC_NAME;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_METADATA_GET_TOTAL_METRIC_NAME;
+import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_RANGE_GET;
+import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_RANGE_GET_RATE_METRIC_NAME;
+import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.OBJECT_RANGE_GET_TOTAL_METRIC_NAME;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.RESUMABLE_CHUNK_UPLOAD;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.RESUMABLE_CHUNK_UPLOAD_RATE_METRIC_NAME;
 import static io.aiven.kafka.tieredstorage.storage.gcs.MetricRegistry.RESUMABLE_CHUNK_UPLOAD_TOTAL_METRIC_NAME;
@@ -83,11 +89,21 @@ public class MetricCollector implements Closeable {
     static final Pattern OBJECT_UPLOAD_PATH_PATTERN =
         Pattern.compile("^/upload/storage/v1/b/([^/]+)/o/?$");
 
+    /**
+     * The pattern for batch paths.
+     *
+     * <p>That is, {@literal "/batch/storage/v1"}.
+     */
+    static final Pattern BATCH_PATH_PATTERN =
+        Pattern.compile("^/batch/storage/v1/?$");
+
     private final Sensor getObjectMetadataRequests;
     private final Sensor deleteObjectRequests;
     private final Sensor resumableUploadInitiateRequests;
     private final Sensor resumableChunkUploadRequests;
     private final Sensor getObjectRequests;
+    private final Sensor getObjectRangeRequests;
+    private final Sensor batchRequests;
 
     public MetricCollector() {
         final JmxReporter reporter = new JmxReporter();
@@ -107,6 +123,11 @@ public class MetricCollector implements Closeable {
             OBJECT_GET_RATE_METRIC_NAME,
             OBJECT_GET_TOTAL_METRIC_NAME
         );
+        getObjectRangeRequests = createSensor(
+            OBJECT_RANGE_GET,
+            OBJECT_RANGE_GET_RATE_METRIC_NAME,
+            OBJECT_RANGE_GET_TOTAL_METRIC_NAME
+        );
         deleteObjectRequests = createSensor(
             OBJECT_DELETE,
             OBJECT_DELETE_RATE_METRIC_NAME,
@@ -122,6 +143,11 @@ public class MetricCollector implements Closeable {
             RESUMABLE_CHUNK_UPLOAD_RATE_METRIC_NAME,
             RESUMABLE_CHUNK_UPLOAD_TOTAL_METRIC_NAME
         );
+        batchRequests = createSensor(
+            BATCH,
+            BATCH_RATE_METRIC_NAME,
+            BATCH_TOTAL_METRIC_NAME
+        );
     }
 
     private Sensor createSensor(
@@ -152,9 +178,12 @@ public class MetricCollector implements Closeable {
                     deleteObjectRequests.record();
                 }
             } else if (OBJECT_DOWNLOAD_PATH_PATTERN.matcher(url.getRawPath()).matches()) {
-                // Object download operations.
+                // Object download operations, ranged ones are counted separately as well.
                 if (request.getRequestMethod().equals(HttpMethods.GET)) {
                     getObjectRequests.record();
+                    if (request.getHeaders().getRange() != null) {
+                        getObjectRangeRequests.record();
+                    }
                 }
             } else if (OBJECT_UPLOAD_PATH_PATTERN.matcher(url.getRawPath()).matches()) {
                 // Object upload operations.
@@ -166,6 +195,11 @@ public class MetricCollector implements Closeable {
                     && url.containsKey("upload_id")) {
                     resumableChunkUploadRequests.record();
                 }
+            } else if (BATCH_PATH_PATTERN.matcher(url.getRawPath()).matches()) {
+                // Batch operations, the operations inside are not intercepted on their own.
+                if (request.getRequestMethod().equals(HttpMethods.POST)) {
+                    batchRequests.record();
+                }
             }
         }
     }
@@ -32,6 +32,10 @@ public class MetricRegistry {
     static final String OBJECT_GET_RATE = OBJECT_GET + "-rate";
     static final String OBJECT_GET_TOTAL = OBJECT_GET + "-total";
     static final String OBJECT_GET_DOC = "get object operations";
+    static final String OBJECT_RANGE_GET = "object-range-get";
+    static final String OBJECT_RANGE_GET_RATE = OBJECT_RANGE_GET + "-rate";
+    static final String OBJECT_RANGE_GET_TOTAL = OBJECT_RANGE_GET + "-total";
+    static final String OBJECT_RANGE_GET_DOC = "get object range operations";
     static final String OBJECT_DELETE = "object-delete";
     static final String OBJECT_DELETE_RATE = OBJECT_DELETE + "-rate";
     static final String OBJECT_DELETE_TOTAL = OBJECT_DELETE + "-total";
@@ -44,6 +48,10 @@ public class MetricRegistry {
     static final String RESUMABLE_CHUNK_UPLOAD_RATE = RESUMABLE_CHUNK_UPLOAD + "-rate";
     static final String RESUMABLE_CHUNK_UPLOAD_TOTAL = RESUMABLE_CHUNK_UPLOAD + "-total";
     static final String RESUMABLE_CHUNK_UPLOAD_DOC = "upload chunk operations as part of resumable upload";
+    static final String BATCH = "batch";
+    static final String BATCH_RATE = BATCH + "-rate";
+    static final String BATCH_TOTAL = BATCH + "-total";
+    static final String BATCH_DOC = "batch operations (e.g. deleting multiple objects)";
 
     private static final String RATE_DOC_PREFIX = "Rate of ";
     private static final String TOTAL_DOC_PREFIX = "Total number of ";
@@ -68,6 +76,16 @@ public class MetricRegistry {
         METRIC_GROUP,
         TOTAL_DOC_PREFIX + OBJECT_GET_DOC
     );
+    static final MetricNameTemplate OBJECT_RANGE_GET_RATE_METRIC_NAME = new MetricNameTemplate(
+        OBJECT_RANGE_GET_RATE,
+        METRIC_GROUP,
+        RATE_DOC_PREFIX + OBJECT_RANGE_GET_DOC
+    );
+    static final MetricNameTemplate OBJECT_RANGE_GET_TOTAL_METRIC_NAME = new MetricNameTemplate(
+        OBJECT_RANGE_GET_TOTAL,
+        METRIC_GROUP,
+        TOTAL_DOC_PREFIX + OBJECT_RANGE_GET_DOC
+    );
     static final MetricNameTemplate OBJECT_DELETE_RATE_METRIC_NAME = new MetricNameTemplate(
         OBJECT_DELETE_RATE,
         METRIC_GROUP,
@@ -99,18 +117,33 @@ public class MetricRegistry {
         TOTAL_DOC_PREFIX + RESUMABLE_CHUNK_UPLOAD_DOC
     );
 
+    static final MetricNameTemplate BATCH_RATE_METRIC_NAME = new MetricNameTemplate(
+        BATCH_RATE,
+        METRIC_GROUP,
+        RATE_DOC_PREFIX + BATCH_DOC
+    );
+    static final MetricNameTemplate BATCH_TOTAL_METRIC_NAME = new MetricNameTemplate(
+        BATCH_TOTAL,
+        METRIC_GROUP,
+        TOTAL_DOC_PREFIX + BATCH_DOC
+    );
+
     public List<MetricNameTemplate> all() {
         return List.of(
             OBJECT_METADATA_GET_RATE_METRIC_NAME,
             OBJECT_METADATA_GET_TOTAL_METRIC_NAME,
             OBJECT_GET_RATE_METRIC_NAME,
             OBJECT_GET_TOTAL_METRIC_NAME,
+            OBJECT_RANGE_GET_RATE_METRIC_NAME,
+            OBJECT_RANGE_GET_TOTAL_METRIC_NAME,
             OBJECT_DELETE_RATE_METRIC_NAME,
             OBJECT_DELETE_TOTAL_METRIC_NAME,
             RESUMABLE_UPLOAD_INITIATE_RATE_METRIC_NAME,
             RESUMABLE_UPLOAD_INITIATE_TOTAL_METRIC_NAME,
             RESUMABLE_CHUNK_UPLOAD_RATE_METRIC_NAME,
-            RESUMABLE_CHUNK_UPLOAD_TOTAL_METRIC_NAME
+            RESUMABLE_CHUNK_UPLOAD_TOTAL_METRIC_NAME,
+            BATCH_RATE_METRIC_NAME,
+            BATCH_TOTAL_METRIC_NAME
         );
     }
 }
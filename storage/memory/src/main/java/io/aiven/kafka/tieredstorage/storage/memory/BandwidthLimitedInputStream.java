@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.memory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * Stream delivering its bytes no faster than a given rate, measured from the first read.
+ */
+class BandwidthLimitedInputStream extends FilterInputStream {
+    // reads are split, so a large read doesn't return at once and then wait for the whole of it
+    private static final int MAX_READ_SIZE = 64 * 1024;
+
+    private final long bytesPerSecond;
+    private final Time time;
+    private long startNanos = -1;
+    private long transferred = 0;
+
+    BandwidthLimitedInputStream(final InputStream in, final long bytesPerSecond, final Time time) {
+        super(in);
+        this.bytesPerSecond = bytesPerSecond;
+        this.time = time;
+    }
+
+    @Override
+    public int read() throws IOException {
+        start();
+        final int b = super.read();
+        if (b >= 0) {
+            transferred(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        start();
+        final int read = super.read(b, off, Math.min(len, MAX_READ_SIZE));
+        if (read > 0) {
+            transferred(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        start();
+        final long skipped = super.skip(Math.min(n, MAX_READ_SIZE));
+        if (skipped > 0) {
+            transferred(skipped);
+        }
+        return skipped;
+    }
+
+    private void start() {
+        if (startNanos < 0) {
+            startNanos = time.nanoseconds();
+        }
+    }
+
+    private void transferred(final long bytes) {
+        transferred += bytes;
+        final long dueNanos = startNanos + (long) ((double) transferred * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond);
+        final long aheadMs = TimeUnit.NANOSECONDS.toMillis(dueNanos - time.nanoseconds());
+        if (aheadMs > 0) {
+            time.sleep(aheadMs);
+        }
+    }
+}
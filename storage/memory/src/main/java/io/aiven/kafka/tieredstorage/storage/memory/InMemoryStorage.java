@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.kafka.common.utils.Time;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
+import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.ThrottledException;
+
+/**
+ * Storage backend keeping objects in memory while simulating an object storage: request latencies,
+ * per-request bandwidth, and injected errors and throttling, so fetch and upload paths can be benchmarked
+ * and tested reproducibly without a real bucket.
+ *
+ * <p>Every request waits for a latency sampled from the distribution of its operation, then fails
+ * with the configured probabilities. Uploads are received, and fetch responses streamed,
+ * at the configured bandwidth. Deleting a set of keys is a single request, as a batch delete.
+ *
+ * <p>Requests and transferred bytes are counted, e.g. to compare how many requests a feature saves.
+ * Only for development/testing purposes.
+ */
+public class InMemoryStorage implements StorageBackend {
+    public enum Operation {
+        FETCH("fetch"),
+        UPLOAD("upload"),
+        DELETE("delete");
+
+        private final String key;
+
+        Operation(final String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+    }
+
+    private final Time time;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    private final Map<Operation, LongAdder> requests = new EnumMap<>(Operation.class);
+    private final LongAdder fetchedBytes = new LongAdder();
+    private final LongAdder uploadedBytes = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder injectedThrottles = new LongAdder();
+
+    private final Map<Operation, LatencyDistribution> latencies = new EnumMap<>(Operation.class);
+    private OptionalLong fetchBandwidth;
+    private OptionalLong uploadBandwidth;
+    private double errorRate;
+    private double throttleRate;
+    private Random random;
+
+    public InMemoryStorage() {
+        this(Time.SYSTEM);
+    }
+
+    InMemoryStorage(final Time time) {
+        this.time = time;
+        for (final Operation operation : Operation.values()) {
+            requests.put(operation, new LongAdder());
+        }
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final InMemoryStorageConfig config = new InMemoryStorageConfig(configs);
+        for (final Operation operation : Operation.values()) {
+            latencies.put(operation, config.latency(operation));
+        }
+        this.fetchBandwidth = config.fetchBandwidth();
+        this.uploadBandwidth = config.uploadBandwidth();
+        this.errorRate = config.errorRate();
+        this.throttleRate = config.throttleRate();
+        this.random = new Random(config.randomSeed());
+    }
+
+    @Override
+    public long upload(final InputStream inputStream, final ObjectKey key) throws StorageBackendException {
+        final byte[] content;
+        try (final InputStream in = uploadBandwidth.isPresent()
+            ? new BandwidthLimitedInputStream(inputStream, uploadBandwidth.getAsLong(), time)
+            : inputStream) {
+            content = in.readAllBytes();
+        } catch (final IOException e) {
+            throw new StorageBackendException("Failed to upload " + key, e);
+        }
+        request(Operation.UPLOAD, key);
+        objects.put(key.value(), content);
+        uploadedBytes.add(content.length);
+        return content.length;
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key) throws StorageBackendException {
+        request(Operation.FETCH, key);
+        final byte[] content = object(key);
+        return response(content, 0, content.length);
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key, final BytesRange range) throws StorageBackendException {
+        if (range.isEmpty()) {
+            return InputStream.nullInputStream();
+        }
+        request(Operation.FETCH, key);
+        final byte[] content = object(key);
+        if (range.firstPosition() >= content.length) {
+            throw new InvalidRangeException("Range start position " + range.firstPosition()
+                + " is outside object content. object size = " + content.length);
+        }
+        final int offset = Math.toIntExact(range.firstPosition());
+        final int end = (int) Math.min(range.lastPosition(), content.length - 1);
+        return response(content, offset, end - offset + 1);
+    }
+
+    private byte[] object(final ObjectKey key) throws KeyNotFoundException {
+        final byte[] content = objects.get(key.value());
+        if (content == null) {
+            throw new KeyNotFoundException(this, key);
+        }
+        return content;
+    }
+
+    private InputStream response(final byte[] content, final int offset, final int length) {
+        fetchedBytes.add(length);
+        final InputStream in = new ByteArrayInputStream(content, offset, length);
+        return fetchBandwidth.isPresent()
+            ? new BandwidthLimitedInputStream(in, fetchBandwidth.getAsLong(), time)
+            : in;
+    }
+
+    @Override
+    public void delete(final ObjectKey key) throws StorageBackendException {
+        request(Operation.DELETE, key);
+        objects.remove(key.value());
+    }
+
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        request(Operation.DELETE, keys);
+        for (final ObjectKey key : keys) {
+            objects.remove(key.value());
+        }
+    }
+
+    /**
+     * Counts the request and waits for its latency, then fails it if it is picked for an error or throttling.
+     */
+    private void request(final Operation operation, final Object keys) throws StorageBackendException {
+        requests.get(operation).increment();
+        time.sleep(latencies.get(operation).sampleMs(random));
+        final double failure = random.nextDouble();
+        if (failure < errorRate) {
+            injectedErrors.increment();
+            throw new StorageBackendException("Injected " + operation.key() + " error for " + keys);
+        } else if (failure < errorRate + throttleRate) {
+            injectedThrottles.increment();
+            throw new ThrottledException("Injected " + operation.key() + " throttling for " + keys, null);
+        }
+    }
+
+    public long requests(final Operation operation) {
+        return requests.get(operation).sum();
+    }
+
+    public long fetchedBytes() {
+        return fetchedBytes.sum();
+    }
+
+    public long uploadedBytes() {
+        return uploadedBytes.sum();
+    }
+
+    public long injectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    public long injectedThrottles() {
+        return injectedThrottles.sum();
+    }
+
+    public void resetStats() {
+        requests.values().forEach(LongAdder::reset);
+        fetchedBytes.reset();
+        uploadedBytes.reset();
+        injectedErrors.reset();
+        injectedThrottles.reset();
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryStorage";
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.memory;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+
+public class InMemoryStorageConfig extends AbstractConfig {
+
+    private static final String LATENCY_MEDIAN_MS_SUFFIX = ".latency.median.ms";
+    private static final String LATENCY_MEDIAN_MS_DOC = "Median latency of %s requests, "
+        + "until the first byte of the response for fetches.";
+    private static final String LATENCY_P99_MS_SUFFIX = ".latency.p99.ms";
+    private static final String LATENCY_P99_MS_DOC = "99th percentile of the latency of %s requests, "
+        + "latencies following a log-normal distribution between the median and this. "
+        + "\"-1\" means the median, i.e. a constant latency.";
+
+    private static final String FETCH_BANDWIDTH_CONFIG = "fetch.bandwidth.bytes.per.second";
+    private static final String FETCH_BANDWIDTH_DOC = "Rate at which each fetch response is streamed, "
+        + "where \"-1\" means unlimited.";
+    private static final String UPLOAD_BANDWIDTH_CONFIG = "upload.bandwidth.bytes.per.second";
+    private static final String UPLOAD_BANDWIDTH_DOC = "Rate at which each upload is received, "
+        + "where \"-1\" means unlimited.";
+
+    private static final String ERROR_RATE_CONFIG = "error.rate";
+    private static final String ERROR_RATE_DOC = "Fraction of requests failing with an error.";
+    private static final String THROTTLE_RATE_CONFIG = "throttle.rate";
+    private static final String THROTTLE_RATE_DOC = "Fraction of requests rejected as throttled.";
+
+    private static final String RANDOM_SEED_CONFIG = "random.seed";
+    private static final String RANDOM_SEED_DOC = "Seed of the latencies and injected failures, "
+        + "to reproduce the same sequence of requests.";
+
+    public static ConfigDef configDef() {
+        final ConfigDef configDef = new ConfigDef();
+        for (final InMemoryStorage.Operation operation : InMemoryStorage.Operation.values()) {
+            configDef
+                .define(
+                    latencyMedianConfig(operation),
+                    ConfigDef.Type.LONG,
+                    0L,
+                    ConfigDef.Range.atLeast(0L),
+                    ConfigDef.Importance.MEDIUM,
+                    String.format(LATENCY_MEDIAN_MS_DOC, operation.key())
+                )
+                .define(
+                    latencyP99Config(operation),
+                    ConfigDef.Type.LONG,
+                    -1L,
+                    ConfigDef.Range.atLeast(-1L),
+                    ConfigDef.Importance.LOW,
+                    String.format(LATENCY_P99_MS_DOC, operation.key())
+                );
+        }
+        return configDef
+            .define(
+                FETCH_BANDWIDTH_CONFIG,
+                ConfigDef.Type.LONG,
+                -1L,
+                ConfigDef.Range.atLeast(-1L),
+                ConfigDef.Importance.MEDIUM,
+                FETCH_BANDWIDTH_DOC
+            )
+            .define(
+                UPLOAD_BANDWIDTH_CONFIG,
+                ConfigDef.Type.LONG,
+                -1L,
+                ConfigDef.Range.atLeast(-1L),
+                ConfigDef.Importance.MEDIUM,
+                UPLOAD_BANDWIDTH_DOC
+            )
+            .define(
+                ERROR_RATE_CONFIG,
+                ConfigDef.Type.DOUBLE,
+                0.0,
+                ConfigDef.Range.between(0.0, 1.0),
+                ConfigDef.Importance.LOW,
+                ERROR_RATE_DOC
+            )
+            .define(
+                THROTTLE_RATE_CONFIG,
+                ConfigDef.Type.DOUBLE,
+                0.0,
+                ConfigDef.Range.between(0.0, 1.0),
+                ConfigDef.Importance.LOW,
+                THROTTLE_RATE_DOC
+            )
+            .define(
+                RANDOM_SEED_CONFIG,
+                ConfigDef.Type.LONG,
+                0L,
+                ConfigDef.Importance.LOW,
+                RANDOM_SEED_DOC
+            );
+    }
+
+    private static String latencyMedianConfig(final InMemoryStorage.Operation operation) {
+        return operation.key() + LATENCY_MEDIAN_MS_SUFFIX;
+    }
+
+    private static String latencyP99Config(final InMemoryStorage.Operation operation) {
+        return operation.key() + LATENCY_P99_MS_SUFFIX;
+    }
+
+    InMemoryStorageConfig(final Map<String, ?> props) {
+        super(configDef(), props);
+        for (final InMemoryStorage.Operation operation : InMemoryStorage.Operation.values()) {
+            final long median = getLong(latencyMedianConfig(operation));
+            final long p99 = getLong(latencyP99Config(operation));
+            if (p99 != -1 && p99 < median) {
+                throw new ConfigException(latencyP99Config(operation), p99,
+                    "Value must be at least the median latency " + median);
+            }
+        }
+        for (final String config : new String[] {FETCH_BANDWIDTH_CONFIG, UPLOAD_BANDWIDTH_CONFIG}) {
+            if (getLong(config) == 0) {
+                throw new ConfigException(config, 0L, "Value must be -1 or positive");
+            }
+        }
+        final double failureRate = errorRate() + throttleRate();
+        if (failureRate > 1.0) {
+            throw new ConfigException(ERROR_RATE_CONFIG + " and " + THROTTLE_RATE_CONFIG
+                + " cannot add up to more than 1, " + failureRate + " given");
+        }
+    }
+
+    final LatencyDistribution latency(final InMemoryStorage.Operation operation) {
+        final long median = getLong(latencyMedianConfig(operation));
+        final long p99 = getLong(latencyP99Config(operation));
+        return new LatencyDistribution(median, p99 == -1 ? median : p99);
+    }
+
+    final OptionalLong fetchBandwidth() {
+        return bandwidth(FETCH_BANDWIDTH_CONFIG);
+    }
+
+    final OptionalLong uploadBandwidth() {
+        return bandwidth(UPLOAD_BANDWIDTH_CONFIG);
+    }
+
+    private OptionalLong bandwidth(final String config) {
+        final long rawValue = getLong(config);
+        return rawValue == -1 ? OptionalLong.empty() : OptionalLong.of(rawValue);
+    }
+
+    final double errorRate() {
+        return getDouble(ERROR_RATE_CONFIG);
+    }
+
+    final double throttleRate() {
+        return getDouble(THROTTLE_RATE_CONFIG);
+    }
+
+    final long randomSeed() {
+        return getLong(RANDOM_SEED_CONFIG);
+    }
+}
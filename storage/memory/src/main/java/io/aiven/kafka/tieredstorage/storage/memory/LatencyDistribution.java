@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.memory;
+
+import java.util.Random;
+
+/**
+ * Log-normal distribution of request latencies, defined by its median and 99th percentile,
+ * as object storage latencies have a long tail.
+ */
+class LatencyDistribution {
+    // 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.3263478740408408;
+
+    private final long medianMs;
+    private final double sigma;
+
+    LatencyDistribution(final long medianMs, final long p99Ms) {
+        this.medianMs = medianMs;
+        this.sigma = medianMs == 0 ? 0 : Math.log((double) p99Ms / medianMs) / Z_99;
+    }
+
+    long sampleMs(final Random random) {
+        if (sigma == 0) {
+            return medianMs;
+        }
+        return Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+    }
+}
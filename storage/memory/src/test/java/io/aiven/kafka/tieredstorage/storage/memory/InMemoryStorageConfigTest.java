@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.memory;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.apache.kafka.common.config.ConfigException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryStorageConfigTest {
+    @Test
+    void minimalConfig() {
+        final InMemoryStorageConfig config = new InMemoryStorageConfig(Map.of());
+        assertThat(config.fetchBandwidth()).isEmpty();
+        assertThat(config.uploadBandwidth()).isEmpty();
+        assertThat(config.errorRate()).isZero();
+        assertThat(config.throttleRate()).isZero();
+        assertThat(config.randomSeed()).isZero();
+    }
+
+    @Test
+    void fullConfig() {
+        final InMemoryStorageConfig config = new InMemoryStorageConfig(Map.of(
+            "fetch.latency.median.ms", "20",
+            "fetch.latency.p99.ms", "200",
+            "fetch.bandwidth.bytes.per.second", "104857600",
+            "upload.bandwidth.bytes.per.second", "52428800",
+            "error.rate", "0.01",
+            "throttle.rate", "0.05",
+            "random.seed", "42"
+        ));
+        assertThat(config.fetchBandwidth()).isEqualTo(OptionalLong.of(104857600));
+        assertThat(config.uploadBandwidth()).isEqualTo(OptionalLong.of(52428800));
+        assertThat(config.errorRate()).isEqualTo(0.01);
+        assertThat(config.throttleRate()).isEqualTo(0.05);
+        assertThat(config.randomSeed()).isEqualTo(42);
+    }
+
+    @Test
+    void invalidLatencyPercentile() {
+        assertThatThrownBy(() -> new InMemoryStorageConfig(Map.of(
+            "upload.latency.median.ms", "100",
+            "upload.latency.p99.ms", "50"
+        )))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value 50 for configuration upload.latency.p99.ms: "
+                + "Value must be at least the median latency 100");
+    }
+
+    @Test
+    void invalidBandwidth() {
+        assertThatThrownBy(() -> new InMemoryStorageConfig(Map.of("fetch.bandwidth.bytes.per.second", "0")))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("Invalid value 0 for configuration fetch.bandwidth.bytes.per.second: "
+                + "Value must be -1 or positive");
+    }
+
+    @Test
+    void invalidFailureRates() {
+        assertThatThrownBy(() -> new InMemoryStorageConfig(Map.of("error.rate", "0.6", "throttle.rate", "0.6")))
+            .isInstanceOf(ConfigException.class)
+            .hasMessage("error.rate and throttle.rate cannot add up to more than 1, 1.2 given");
+    }
+}
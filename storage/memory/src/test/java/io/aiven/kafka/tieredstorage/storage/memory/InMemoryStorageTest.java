@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.apache.kafka.common.utils.MockTime;
+
+import io.aiven.kafka.tieredstorage.storage.BaseStorageTest;
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ThrottledException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryStorageTest extends BaseStorageTest {
+    final MockTime time = new MockTime();
+    InMemoryStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryStorage();
+        storage.configure(Map.of());
+    }
+
+    @Override
+    protected StorageBackend storage() {
+        return storage;
+    }
+
+    private InMemoryStorage simulatedStorage(final Map<String, ?> configs) {
+        final InMemoryStorage simulated = new InMemoryStorage(time);
+        simulated.configure(configs);
+        return simulated;
+    }
+
+    @Test
+    void waitsForLatency() throws StorageBackendException, IOException {
+        final InMemoryStorage simulated = simulatedStorage(Map.of(
+            "upload.latency.median.ms", "100",
+            "fetch.latency.median.ms", "20",
+            "delete.latency.median.ms", "50"
+        ));
+        final long start = time.milliseconds();
+        simulated.upload(new ByteArrayInputStream("ABC".getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+        assertThat(time.milliseconds() - start).isEqualTo(100);
+        simulated.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(0, 1)).close();
+        assertThat(time.milliseconds() - start).isEqualTo(120);
+        simulated.delete(TOPIC_PARTITION_SEGMENT_KEY);
+        assertThat(time.milliseconds() - start).isEqualTo(170);
+    }
+
+    @Test
+    void samplesLatencyDistribution() {
+        final LatencyDistribution distribution = new LatencyDistribution(50, 200);
+        final Random random = new Random(0);
+        final long[] samples = LongStream.range(0, 100_000).map(i -> distribution.sampleMs(random)).sorted().toArray();
+
+        assertThat(samples[samples.length / 2]).isCloseTo(50, within(2L));
+        assertThat(samples[samples.length * 99 / 100]).isCloseTo(200, within(10L));
+        assertThat(new LatencyDistribution(50, 50).sampleMs(random)).isEqualTo(50);
+    }
+
+    @Test
+    void limitsBandwidth() throws StorageBackendException, IOException {
+        final InMemoryStorage simulated = simulatedStorage(Map.of(
+            "upload.bandwidth.bytes.per.second", "1000",
+            "fetch.bandwidth.bytes.per.second", "500"
+        ));
+        final byte[] content = new byte[2000];
+        final long start = time.milliseconds();
+        simulated.upload(new ByteArrayInputStream(content), TOPIC_PARTITION_SEGMENT_KEY);
+        assertThat(time.milliseconds() - start).isEqualTo(2000);
+
+        try (final InputStream fetch = simulated.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(0, 999))) {
+            // no transfer before reading
+            assertThat(time.milliseconds() - start).isEqualTo(2000);
+            assertThat(fetch.readAllBytes()).hasSize(1000);
+        }
+        assertThat(time.milliseconds() - start).isEqualTo(4000);
+    }
+
+    @Test
+    void injectsErrors() {
+        final InMemoryStorage failing = simulatedStorage(Map.of("error.rate", "1.0"));
+
+        assertThatThrownBy(() -> failing.fetch(TOPIC_PARTITION_SEGMENT_KEY))
+            .isExactlyInstanceOf(StorageBackendException.class)
+            .hasMessage("Injected fetch error for " + TOPIC_PARTITION_SEGMENT_KEY);
+        assertThat(failing.injectedErrors()).isOne();
+        assertThat(failing.requests(InMemoryStorage.Operation.FETCH)).isOne();
+    }
+
+    @Test
+    void injectsThrottling() {
+        final InMemoryStorage throttling = simulatedStorage(Map.of("throttle.rate", "1.0"));
+
+        assertThatThrownBy(() -> throttling.delete(Set.of(TOPIC_PARTITION_SEGMENT_KEY)))
+            .isInstanceOf(ThrottledException.class);
+        assertThat(throttling.injectedThrottles()).isOne();
+    }
+
+    @Test
+    void injectsFailuresAtConfiguredRates() {
+        final InMemoryStorage flaky = simulatedStorage(Map.of("error.rate", "0.1", "throttle.rate", "0.2"));
+        for (int i = 0; i < 10_000; i++) {
+            try {
+                flaky.delete(TOPIC_PARTITION_SEGMENT_KEY);
+            } catch (final StorageBackendException ignored) {
+                // counted
+            }
+        }
+        assertThat(flaky.requests(InMemoryStorage.Operation.DELETE)).isEqualTo(10_000);
+        assertThat(flaky.injectedErrors()).isCloseTo(1000, within(150L));
+        assertThat(flaky.injectedThrottles()).isCloseTo(2000, within(200L));
+    }
+
+    @Test
+    void countsRequests() throws StorageBackendException, IOException {
+        final byte[] content = new byte[100];
+        Arrays.fill(content, (byte) 1);
+        storage.upload(new ByteArrayInputStream(content), TOPIC_PARTITION_SEGMENT_KEY);
+        storage.upload(new ByteArrayInputStream(content), new TestObjectKey("other"));
+        storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, BytesRange.of(10, 19)).close();
+        storage.fetch(TOPIC_PARTITION_SEGMENT_KEY).close();
+        storage.delete(Set.of(TOPIC_PARTITION_SEGMENT_KEY, new TestObjectKey("other")));
+
+        assertThat(storage.requests(InMemoryStorage.Operation.UPLOAD)).isEqualTo(2);
+        assertThat(storage.requests(InMemoryStorage.Operation.FETCH)).isEqualTo(2);
+        // a batch delete is a single request
+        assertThat(storage.requests(InMemoryStorage.Operation.DELETE)).isOne();
+        assertThat(storage.uploadedBytes()).isEqualTo(200);
+        assertThat(storage.fetchedBytes()).isEqualTo(110);
+        assertThat(storage.objectCount()).isZero();
+
+        storage.resetStats();
+        assertThat(storage.requests(InMemoryStorage.Operation.UPLOAD)).isZero();
+        assertThat(storage.fetchedBytes()).isZero();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.aiven.kafka.tieredstorage.storage.BaseStorageTest;
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ParallelRangeInputStream;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
+import io.aiven.kafka.tieredstorage.storage.TestUtils;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.mockito.Mockito;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+public class S3AsyncStorageTest extends BaseStorageTest {
+    @Container
+    private static final LocalStackContainer LOCALSTACK = S3TestContainer.container();
+    private static final int PART_SIZE = 5 * 1024 * 1024; // 5MiB, the minimum allowed by S3
+    // small enough for the shared tests to go through parallel ranged fetches
+    private static final int FETCH_PART_SIZE = 4;
+
+    private static S3Client s3Client;
+
+    private String bucketName;
+
+    @BeforeAll
+    static void setUpClass() {
+        s3Client = S3Client.builder()
+            .region(Region.of(LOCALSTACK.getRegion()))
+            .endpointOverride(LOCALSTACK.getEndpointOverride(LocalStackContainer.Service.S3))
+            .credentialsProvider(
+                StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(
+                        LOCALSTACK.getAccessKey(),
+                        LOCALSTACK.getSecretKey()
+                    )
+                )
+            )
+            .build();
+    }
+
+    @BeforeEach
+    void setUp(final TestInfo testInfo) {
+        bucketName = TestUtils.testNameToBucketName(testInfo);
+        s3Client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build());
+    }
+
+    @AfterAll
+    static void closeAll() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+
+    @Override
+    protected StorageBackend storage() {
+        return storage(Map.of());
+    }
+
+    private S3AsyncStorage storage(final Map<String, Object> overrides) {
+        final S3AsyncStorage s3Storage = new S3AsyncStorage();
+        final Map<String, Object> configs = new HashMap<>(Map.of(
+            "s3.bucket.name", bucketName,
+            "s3.region", LOCALSTACK.getRegion(),
+            "s3.endpoint.url", LOCALSTACK.getEndpointOverride(LocalStackContainer.Service.S3).toString(),
+            "aws.access.key.id", LOCALSTACK.getAccessKey(),
+            "aws.secret.access.key", LOCALSTACK.getSecretKey(),
+            "s3.path.style.access.enabled", true,
+            "s3.multipart.upload.part.size", PART_SIZE,
+            "s3.fetch.parallel.part.size", FETCH_PART_SIZE
+        ));
+        configs.putAll(overrides);
+        s3Storage.configure(configs);
+        return s3Storage;
+    }
+
+    @Test
+    void partSizePassedToStream() throws IOException {
+        try (final var os = ((S3AsyncStorage) storage()).s3OutputStream(new TestObjectKey("test"))) {
+            assertThat(os.partSize).isEqualTo(PART_SIZE);
+        }
+    }
+
+    @Test
+    void testUploadANewFileWithBigSize() throws StorageBackendException, IOException {
+        final String content = RandomStringUtils.randomAlphabetic(PART_SIZE * 3 + 1);
+        uploadContentAsFileAndVerify(content);
+    }
+
+    @Test
+    void testUploadRequestAsSingleFile() throws Exception {
+        final S3AsyncStorage storage = (S3AsyncStorage) storage();
+        storage.s3Client = Mockito.spy(storage.s3Client);
+
+        final String content = "AABBBBAA";
+        storage.upload(new ByteArrayInputStream(content.getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+        Mockito.verify(storage.s3Client, Mockito.times(1))
+            .putObject(Mockito.any(PutObjectRequest.class), Mockito.any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void testUploadRequestAsMultiPart() throws Exception {
+        final S3AsyncStorage storage = storage(Map.of("s3.multipart.upload.max.in.flight.parts", 3));
+        storage.s3Client = Mockito.spy(storage.s3Client);
+
+        final String content = RandomStringUtils.randomAlphabetic(PART_SIZE * 3 + 1);
+        final long uploaded = storage.upload(
+            new ByteArrayInputStream(content.getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+
+        assertThat(uploaded).isEqualTo(content.length());
+        Mockito.verify(storage.s3Client, Mockito.times(4))
+            .uploadPart(Mockito.any(UploadPartRequest.class), Mockito.any(AsyncRequestBody.class));
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY)) {
+            assertThat(fetch).hasContent(content);
+        }
+    }
+
+    @Test
+    void testParallelFetchOfLargeRange() throws Exception {
+        final S3AsyncStorage storage = storage(Map.of(
+            "s3.fetch.parallel.part.size", 1024,
+            "s3.fetch.parallel.max.requests", 3
+        ));
+        final String content = RandomStringUtils.randomAlphabetic(10 * 1024 + 10);
+        storage.upload(new ByteArrayInputStream(content.getBytes()), TOPIC_PARTITION_SEGMENT_KEY);
+
+        final BytesRange range = BytesRange.of(100, 9 * 1024 + 99);
+        try (final InputStream fetch = storage.fetch(TOPIC_PARTITION_SEGMENT_KEY, range)) {
+            assertThat(fetch).isInstanceOf(ParallelRangeInputStream.class);
+            assertThat(fetch).hasContent(content.substring(100, 9 * 1024 + 100));
+        }
+    }
+
+    @Test
+    void testDeleteMoreThanLimit() throws Exception {
+        final S3AsyncStorage storage = (S3AsyncStorage) storage();
+        storage.s3Client = Mockito.spy(storage.s3Client);
+
+        // 1000 is the limit for deleteObjects
+        final Set<ObjectKey> keys = IntStream.range(0, 2002)
+            .mapToObj(i -> new TestObjectKey("key" + i))
+            .collect(Collectors.toSet());
+
+        storage.delete(keys);
+
+        Mockito.verify(storage.s3Client, Mockito.times(3))
+            .deleteObjects(Mockito.any(DeleteObjectsRequest.class));
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Random;
 
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
 import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ThrottledException;
 
 import com.github.tomakehurst.wiremock.http.Fault;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
@@ -118,6 +119,8 @@ class S3ErrorMetricsTest {
                 .isInstanceOf(S3Exception.class)
                 .extracting(e -> ((S3Exception) e).statusCode())
                 .isEqualTo(statusCode);
+            assertThat(storageBackendException instanceof ThrottledException)
+                .isEqualTo(statusCode == HttpStatusCode.THROTTLING);
         }
 
         // Comparing to 4 since the SDK makes 3 retries by default.
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import io.aiven.kafka.tieredstorage.storage.BytesRange;
+import io.aiven.kafka.tieredstorage.storage.InvalidRangeException;
+import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.ParallelRangeInputStream;
+import io.aiven.kafka.tieredstorage.storage.StorageBackend;
+import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.ThrottlingClassifier;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+
+/**
+ * S3 storage backend using the non-blocking S3 client.
+ *
+ * <p>Requests share the client event loop instead of holding a thread each,
+ * multipart upload parts are sent concurrently,
+ * and ranged fetches larger than {@code s3.fetch.parallel.part.size} are split into parallel ranged requests.
+ */
+public class S3AsyncStorage implements StorageBackend {
+    private static final int MAX_DELETE_OBJECTS = 1000;
+    private static final ThrottlingClassifier<AwsServiceException> ERRORS = S3Storage.ERRORS;
+
+    S3AsyncClient s3Client;
+
+    private String bucketName;
+    private StorageClass storageClass;
+    private int partSize;
+    private int maxInFlightParts;
+    private int fetchPartSize;
+    private int fetchMaxRequests;
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final S3StorageConfig config = new S3StorageConfig(configs);
+        this.s3Client = S3AsyncClientBuilder.build(config);
+        this.bucketName = config.bucketName();
+        this.storageClass = config.storageClass();
+        this.partSize = config.uploadPartSize();
+        this.maxInFlightParts = config.uploadMaxInFlightParts();
+        this.fetchPartSize = config.fetchParallelPartSize();
+        this.fetchMaxRequests = config.fetchParallelMaxRequests();
+    }
+
+    @Override
+    public long upload(final InputStream inputStream, final ObjectKey key) throws StorageBackendException {
+        final var out = s3OutputStream(key);
+        try (out) {
+            inputStream.transferTo(out);
+        } catch (final IOException e) {
+            throw ERRORS.storageBackendException("Failed to upload " + key, e);
+        }
+        // getting the processed bytes after close to account last flush.
+        return out.processedBytes();
+    }
+
+    S3AsyncUploadOutputStream s3OutputStream(final ObjectKey key) {
+        return new S3AsyncUploadOutputStream(bucketName, key, storageClass, partSize, maxInFlightParts, s3Client);
+    }
+
+    @Override
+    public void delete(final ObjectKey key) throws StorageBackendException {
+        try {
+            final var deleteRequest = DeleteObjectRequest.builder().bucket(bucketName).key(key.value()).build();
+            s3Client.deleteObject(deleteRequest).join();
+        } catch (final CompletionException e) {
+            throw ERRORS.storageBackendException("Failed to delete " + key, e.getCause());
+        } catch (final SdkClientException e) {
+            throw ERRORS.storageBackendException("Failed to delete " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(final Set<ObjectKey> keys) throws StorageBackendException {
+        final List<ObjectKey> objectKeys = new ArrayList<>(keys);
+
+        final List<List<ObjectKey>> batches = new ArrayList<>();
+        final List<CompletableFuture<DeleteObjectsResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < objectKeys.size(); i += MAX_DELETE_OBJECTS) {
+            final var batch = objectKeys.subList(
+                i,
+                Math.min(i + MAX_DELETE_OBJECTS, objectKeys.size())
+            );
+
+            final List<ObjectIdentifier> objectIds = batch.stream()
+                .map(k -> ObjectIdentifier.builder().key(k.value()).build())
+                .collect(Collectors.toList());
+            final Delete deleteObjects = Delete.builder().objects(objectIds).build();
+            final DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(deleteObjects)
+                .build();
+            batches.add(batch);
+            responses.add(s3Client.deleteObjects(deleteObjectsRequest));
+        }
+
+        // batches are sent concurrently, errors are reported in order
+        for (int i = 0; i < responses.size(); i++) {
+            final DeleteObjectsResponse response;
+            try {
+                response = responses.get(i).join();
+            } catch (final CompletionException e) {
+                throw ERRORS.storageBackendException(
+                    String.format("Failed to delete batch with keys: %s", batches.get(i)), e.getCause());
+            }
+            if (!response.errors().isEmpty()) {
+                final StringBuilder errorMsg = new StringBuilder("Failed to delete keys: ");
+                response.errors()
+                    .forEach(e ->
+                        errorMsg.append(String.format("%s (%s: %s), ", e.key(), e.code(), e.message()))
+                    );
+                throw new StorageBackendException(errorMsg.toString());
+            }
+        }
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key) throws StorageBackendException {
+        final GetObjectRequest getRequest = GetObjectRequest.builder().bucket(bucketName).key(key.value()).build();
+        try {
+            return s3Client.getObject(getRequest, AsyncResponseTransformer.toBlockingInputStream()).join();
+        } catch (final CompletionException e) {
+            throw fetchException(key, null, e.getCause());
+        } catch (final SdkClientException e) {
+            throw ERRORS.storageBackendException("Failed to fetch " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream fetch(final ObjectKey key, final BytesRange range) throws StorageBackendException {
+        if (range.isEmpty()) {
+            return InputStream.nullInputStream();
+        }
+
+        try {
+            if (range.size() <= fetchPartSize) {
+                return s3Client.getObject(getRequest(key, range), AsyncResponseTransformer.toBlockingInputStream())
+                    .join();
+            }
+
+            final var in = new ParallelRangeInputStream(range, fetchPartSize, fetchMaxRequests,
+                partRange -> fetchPart(key, range, partRange));
+            try {
+                in.awaitFirstPart();
+            } catch (final ExecutionException e) {
+                in.close();
+                throw fetchException(key, range, e.getCause());
+            } catch (final InterruptedException e) {
+                in.close();
+                Thread.currentThread().interrupt();
+                throw new StorageBackendException("Interrupted while fetching " + key, e);
+            }
+            return in;
+        } catch (final CompletionException e) {
+            throw fetchException(key, range, e.getCause());
+        } catch (final SdkClientException e) {
+            throw ERRORS.storageBackendException("Failed to fetch " + key, e);
+        }
+    }
+
+    private CompletableFuture<byte[]> fetchPart(final ObjectKey key,
+                                                final BytesRange range,
+                                                final BytesRange partRange) {
+        final boolean firstPart = partRange.firstPosition() == range.firstPosition();
+        final CompletableFuture<ResponseBytes<GetObjectResponse>> request =
+            s3Client.getObject(getRequest(key, partRange), AsyncResponseTransformer.toBytes());
+        final CompletableFuture<byte[]> part = request.handle((response, error) -> {
+            if (error == null) {
+                return response.asByteArrayUnsafe();
+            }
+            final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            // a part starting past the end of the object means the requested range was longer than the object
+            if (!firstPart && cause instanceof AwsServiceException && isInvalidRange((AwsServiceException) cause)) {
+                return new byte[0];
+            }
+            throw new CompletionException(cause);
+        });
+        // cancelling a dependent future does not reach the request, so abort the request when the part is cancelled
+        part.whenComplete((bytes, error) -> {
+            if (part.isCancelled()) {
+                request.cancel(true);
+            }
+        });
+        return part;
+    }
+
+    private GetObjectRequest getRequest(final ObjectKey key, final BytesRange range) {
+        return GetObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key.value())
+            .range(formatRange(range))
+            .build();
+    }
+
+    private StorageBackendException fetchException(final ObjectKey key,
+                                                   final BytesRange range,
+                                                   final Throwable cause) {
+        if (cause instanceof AwsServiceException) {
+            final AwsServiceException e = (AwsServiceException) cause;
+            if (e.statusCode() == 404) {
+                return new KeyNotFoundException(this, key, e);
+            }
+            if (range != null && isInvalidRange(e)) {
+                return new InvalidRangeException("Invalid range " + range, e);
+            }
+        }
+        return ERRORS.storageBackendException("Failed to fetch " + key, cause);
+    }
+
+    private static boolean isInvalidRange(final AwsServiceException e) {
+        return e.statusCode() == 416;
+    }
+
+    private String formatRange(final BytesRange range) {
+        return "bytes=" + range.firstPosition() + "-" + range.lastPosition();
+    }
+
+    @Override
+    public String toString() {
+        return "S3AsyncStorage{"
+            + "bucketName='" + bucketName + '\''
+            + ", partSize=" + partSize
+            + ", fetchPartSize=" + fetchPartSize
+            + '}';
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+}
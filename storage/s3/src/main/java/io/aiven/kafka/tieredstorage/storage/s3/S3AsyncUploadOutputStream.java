@@ -0,0 +1,289 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.s3;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 output stream backed by the async client.
+ * Works like {@link S3UploadOutputStream}, but multipart parts are uploaded in the background,
+ * so the next part can be filled while previous ones are still being sent.
+ *
+ * <p>At most {@code maxInFlightParts} parts are uploaded concurrently; writing waits for the oldest one
+ * when the limit is reached. Each in-flight part holds its own copy of the part buffer.
+ *
+ * <p>{@link S3AsyncUploadOutputStream} is not thread-safe.
+ */
+public class S3AsyncUploadOutputStream extends OutputStream {
+
+    private static final Logger log = LoggerFactory.getLogger(S3AsyncUploadOutputStream.class);
+
+    private final S3AsyncClient client;
+    private final ByteBuffer partBuffer;
+    private final String bucketName;
+    private final ObjectKey key;
+    private final StorageClass storageClass;
+    final int partSize;
+    private final int maxInFlightParts;
+
+    private String uploadId;
+    private int partNumber;
+    private final Deque<CompletableFuture<CompletedPart>> inFlightParts = new ArrayDeque<>();
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+
+    private boolean closed;
+    private long processedBytes;
+
+    public S3AsyncUploadOutputStream(final String bucketName,
+                                     final ObjectKey key,
+                                     final StorageClass storageClass,
+                                     final int partSize,
+                                     final int maxInFlightParts,
+                                     final S3AsyncClient client) {
+        this.bucketName = bucketName;
+        this.key = key;
+        this.storageClass = storageClass;
+        this.client = client;
+        this.partSize = partSize;
+        this.maxInFlightParts = maxInFlightParts;
+        this.partBuffer = ByteBuffer.allocate(partSize);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (isClosed()) {
+            throw new IllegalStateException("Already closed");
+        }
+        if (b.length == 0) {
+            return;
+        }
+        try {
+            final ByteBuffer inputBuffer = ByteBuffer.wrap(b, off, len);
+            while (inputBuffer.hasRemaining()) {
+                // copy batch to part buffer
+                final int inputLimit = inputBuffer.limit();
+                final int toCopy = Math.min(partBuffer.remaining(), inputBuffer.remaining());
+                final int positionAfterCopying = inputBuffer.position() + toCopy;
+                inputBuffer.limit(positionAfterCopying);
+                partBuffer.put(inputBuffer.slice());
+
+                // prepare current batch for next part
+                inputBuffer.limit(inputLimit);
+                inputBuffer.position(positionAfterCopying);
+
+                if (!partBuffer.hasRemaining()) {
+                    if (uploadId == null) {
+                        uploadId = createMultipartUploadRequest();
+                        // this is not expected (another exception should be thrown by S3) but adding for completeness
+                        if (uploadId == null || uploadId.isEmpty()) {
+                            throw new IOException("Failed to create multipart upload, uploadId is empty");
+                        }
+                    }
+                    uploadPart(drainPartBuffer());
+                }
+            }
+        } catch (final RuntimeException e) {
+            closed = true;
+            if (multiPartUploadStarted()) {
+                log.error("Failed to write to stream on upload {}, aborting transaction", uploadId, e);
+                abortUpload();
+            }
+            throw new IOException(unwrap(e));
+        }
+    }
+
+    private String createMultipartUploadRequest() {
+        final CreateMultipartUploadRequest initialRequest = CreateMultipartUploadRequest.builder().bucket(bucketName)
+            .storageClass(storageClass)
+            .key(key.value()).build();
+        final CreateMultipartUploadResponse initiateResult = client.createMultipartUpload(initialRequest).join();
+        log.debug("Create new multipart upload request: {}", initiateResult.uploadId());
+        return initiateResult.uploadId();
+    }
+
+    private boolean multiPartUploadStarted() {
+        return uploadId != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!isClosed()) {
+            closed = true;
+            try {
+                if (partBuffer.position() > 0) {
+                    if (multiPartUploadStarted()) {
+                        uploadPart(drainPartBuffer());
+                    } else {
+                        uploadAsSingleFile(drainPartBuffer());
+                    }
+                }
+                awaitInFlightParts(0);
+            } catch (final RuntimeException e) {
+                if (multiPartUploadStarted()) {
+                    log.error("Failed to upload last parts {}, aborting transaction", uploadId, e);
+                    abortUpload();
+                } else {
+                    log.error("Failed to upload the file {}", key, e);
+                }
+                throw new IOException(unwrap(e));
+            }
+            if (multiPartUploadStarted()) {
+                completeOrAbortMultiPartUpload();
+            }
+        }
+    }
+
+    private void completeOrAbortMultiPartUpload() throws IOException {
+        if (!completedParts.isEmpty()) {
+            try {
+                completeUpload();
+                log.debug("Completed multipart upload {}", uploadId);
+            } catch (final RuntimeException e) {
+                log.error("Failed to complete multipart upload {}, aborting transaction", uploadId, e);
+                abortUpload();
+                throw new IOException(unwrap(e));
+            }
+        } else {
+            abortUpload();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Copies the buffered bytes out, so the part buffer can be refilled while the copy is uploaded.
+     */
+    private byte[] drainPartBuffer() {
+        final byte[] part = new byte[partBuffer.position()];
+        partBuffer.flip();
+        partBuffer.get(part);
+        partBuffer.clear();
+        processedBytes += part.length;
+        return part;
+    }
+
+    private void uploadAsSingleFile(final byte[] content) {
+        final PutObjectRequest putObjectRequest = PutObjectRequest.builder().bucket(bucketName)
+            .storageClass(storageClass)
+            .key(key.value())
+            .build();
+        client.putObject(putObjectRequest, AsyncRequestBody.fromBytes(content)).join();
+    }
+
+    private void uploadPart(final byte[] content) {
+        awaitInFlightParts(maxInFlightParts - 1);
+        final int number = ++partNumber;
+        final UploadPartRequest uploadPartRequest =
+            UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key.value())
+                .uploadId(uploadId)
+                .partNumber(number)
+                .build();
+        final CompletableFuture<CompletedPart> completedPart = client
+            .uploadPart(uploadPartRequest, AsyncRequestBody.fromBytes(content))
+            .thenApply(response -> CompletedPart.builder()
+                .partNumber(number)
+                .eTag(response.eTag())
+                .build());
+        inFlightParts.addLast(completedPart);
+    }
+
+    /**
+     * Waits for the oldest in-flight parts until no more than {@code maxRemaining} are left.
+     * Completed parts are collected in submission order, as required to complete the upload.
+     */
+    private void awaitInFlightParts(final int maxRemaining) {
+        while (inFlightParts.size() > maxRemaining) {
+            completedParts.add(inFlightParts.removeFirst().join());
+        }
+    }
+
+    private void completeUpload() {
+        final CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
+            .parts(completedParts)
+            .build();
+        final var request = CompleteMultipartUploadRequest.builder()
+            .bucket(bucketName)
+            .key(key.value())
+            .uploadId(uploadId)
+            .multipartUpload(completedMultipartUpload)
+            .build();
+        client.completeMultipartUpload(request).join();
+    }
+
+    private void abortUpload() {
+        // Cancelling a part future does not cancel its request, and a part stored after the abort is never deleted,
+        // so the abort waits for the in-flight parts to settle.
+        for (final CompletableFuture<CompletedPart> part : inFlightParts) {
+            try {
+                part.join();
+            } catch (final RuntimeException e) {
+                log.debug("Part of aborted multipart upload {} failed", uploadId, e);
+            }
+        }
+        inFlightParts.clear();
+        final var request = AbortMultipartUploadRequest.builder()
+            .bucket(bucketName)
+            .key(key.value())
+            .uploadId(uploadId)
+            .build();
+        client.abortMultipartUpload(request).join();
+    }
+
+    private static Throwable unwrap(final RuntimeException e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    long processedBytes() {
+        return processedBytes;
+    }
+}
@@ -30,6 +30,7 @@ import io.aiven.kafka.tieredstorage.storage.KeyNotFoundException;
 import io.aiven.kafka.tieredstorage.storage.ObjectKey;
 import io.aiven.kafka.tieredstorage.storage.StorageBackend;
 import io.aiven.kafka.tieredstorage.storage.StorageBackendException;
+import io.aiven.kafka.tieredstorage.storage.ThrottlingClassifier;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -44,6 +45,9 @@ import software.amazon.awssdk.services.s3.model.StorageClass;
 
 public class S3Storage implements StorageBackend {
     private static final int MAX_DELETE_OBJECTS = 1000;
+    // S3 signals throttling with 503 SlowDown, the SDK also knows other throttling error codes.
+    static final ThrottlingClassifier<AwsServiceException> ERRORS = new ThrottlingClassifier<>(
+        AwsServiceException.class, e -> e.isThrottlingException() || e.statusCode() == 503);
 
     S3Client s3Client;
 
@@ -66,7 +70,7 @@ public class S3Storage implements StorageBackend {
         try (out) {
             inputStream.transferTo(out);
         } catch (final IOException e) {
-            throw new StorageBackendException("Failed to upload " + key, e);
+            throw ERRORS.storageBackendException("Failed to upload " + key, e);
         }
         // getting the processed bytes after close to account last flush.
         return out.processedBytes();
@@ -81,8 +85,8 @@ public class S3Storage implements StorageBackend {
         try {
             final var deleteRequest = DeleteObjectRequest.builder().bucket(bucketName).key(key.value()).build();
             s3Client.deleteObject(deleteRequest);
-        } catch (final SdkClientException e) {
-            throw new StorageBackendException("Failed to delete " + key, e);
+        } catch (final AwsServiceException | SdkClientException e) {
+            throw ERRORS.storageBackendException("Failed to delete " + key, e);
         }
     }
 
@@ -116,8 +120,8 @@ public class S3Storage implements StorageBackend {
                         );
                     throw new StorageBackendException(errorMsg.toString());
                 }
-            } catch (final SdkClientException e) {
-                throw new StorageBackendException(String.format("Failed to delete batch with keys: %s", batch), e);
+            } catch (final AwsServiceException | SdkClientException e) {
+                throw ERRORS.storageBackendException(String.format("Failed to delete batch with keys: %s", batch), e);
             }
         }
     }
@@ -131,10 +135,10 @@ public class S3Storage implements StorageBackend {
             if (e.statusCode() == 404) {
                 throw new KeyNotFoundException(this, key, e);
             } else {
-                throw new StorageBackendException("Failed to fetch " + key, e);
+                throw ERRORS.storageBackendException("Failed to fetch " + key, e);
             }
         } catch (final SdkClientException e) {
-            throw new StorageBackendException("Failed to fetch " + key, e);
+            throw ERRORS.storageBackendException("Failed to fetch " + key, e);
         }
     }
 
@@ -159,9 +163,9 @@ public class S3Storage implements StorageBackend {
                 throw new InvalidRangeException("Invalid range " + range, e);
             }
 
-            throw new StorageBackendException("Failed to fetch " + key, e);
+            throw ERRORS.storageBackendException("Failed to fetch " + key, e);
         } catch (final SdkClientException e) {
-            throw new StorageBackendException("Failed to fetch " + key, e);
+            throw ERRORS.storageBackendException("Failed to fetch " + key, e);
         }
     }
 
@@ -71,6 +71,24 @@ public class S3StorageConfig extends AbstractConfig {
     static final int S3_MULTIPART_UPLOAD_PART_SIZE_MAX = Integer.MAX_VALUE - 8;
     static final int S3_MULTIPART_UPLOAD_PART_SIZE_DEFAULT = 25 * 1024 * 1024; // 25MiB
 
+    private static final String S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_CONFIG =
+        "s3.multipart.upload.max.in.flight.parts";
+    private static final String S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_DOC = "Maximum number of parts of an upload "
+        + "being sent concurrently while the next one is filled. Each one holds a part sized buffer. "
+        + "Only used by S3AsyncStorage.";
+    static final int S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_DEFAULT = 2;
+
+    private static final String S3_FETCH_PARALLEL_PART_SIZE_CONFIG = "s3.fetch.parallel.part.size";
+    private static final String S3_FETCH_PARALLEL_PART_SIZE_DOC = "Ranges larger than this size in bytes are fetched "
+        + "as multiple ranged requests of this size running in parallel. Only used by S3AsyncStorage.";
+    static final int S3_FETCH_PARALLEL_PART_SIZE_DEFAULT = 8 * 1024 * 1024; // 8MiB
+
+    private static final String S3_FETCH_PARALLEL_MAX_REQUESTS_CONFIG = "s3.fetch.parallel.max.requests";
+    private static final String S3_FETCH_PARALLEL_MAX_REQUESTS_DOC = "Maximum number of ranged requests running "
+        + "concurrently for a single fetch. Parts are buffered until read, so a fetch holds up to this number "
+        + "of part sized buffers. Only used by S3AsyncStorage.";
+    static final int S3_FETCH_PARALLEL_MAX_REQUESTS_DEFAULT = 4;
+
     private static final String S3_API_CALL_TIMEOUT_CONFIG = "s3.api.call.timeout";
     private static final String S3_API_CALL_TIMEOUT_DOC = "AWS S3 API call timeout in milliseconds, "
         + "including all retries";
@@ -162,6 +180,27 @@ public class S3StorageConfig extends AbstractConfig {
                 ConfigDef.Range.between(S3_MULTIPART_UPLOAD_PART_SIZE_MIN, S3_MULTIPART_UPLOAD_PART_SIZE_MAX),
                 ConfigDef.Importance.MEDIUM,
                 S3_MULTIPART_UPLOAD_PART_SIZE_DOC)
+            .define(
+                S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_CONFIG,
+                ConfigDef.Type.INT,
+                S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_DEFAULT,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_DOC)
+            .define(
+                S3_FETCH_PARALLEL_PART_SIZE_CONFIG,
+                ConfigDef.Type.INT,
+                S3_FETCH_PARALLEL_PART_SIZE_DEFAULT,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                S3_FETCH_PARALLEL_PART_SIZE_DOC)
+            .define(
+                S3_FETCH_PARALLEL_MAX_REQUESTS_CONFIG,
+                ConfigDef.Type.INT,
+                S3_FETCH_PARALLEL_MAX_REQUESTS_DEFAULT,
+                ConfigDef.Range.atLeast(1),
+                ConfigDef.Importance.LOW,
+                S3_FETCH_PARALLEL_MAX_REQUESTS_DOC)
             .define(
                 S3_API_CALL_TIMEOUT_CONFIG,
                 ConfigDef.Type.LONG,
@@ -348,6 +387,18 @@ public class S3StorageConfig extends AbstractConfig {
         return getInt(S3_MULTIPART_UPLOAD_PART_SIZE_CONFIG);
     }
 
+    public int uploadMaxInFlightParts() {
+        return getInt(S3_MULTIPART_UPLOAD_MAX_IN_FLIGHT_PARTS_CONFIG);
+    }
+
+    public int fetchParallelPartSize() {
+        return getInt(S3_FETCH_PARALLEL_PART_SIZE_CONFIG);
+    }
+
+    public int fetchParallelMaxRequests() {
+        return getInt(S3_FETCH_PARALLEL_MAX_REQUESTS_CONFIG);
+    }
+
     URI s3ServiceEndpoint() {
         final String url = getString(S3_ENDPOINT_URL_CONFIG);
         if (url != null) {
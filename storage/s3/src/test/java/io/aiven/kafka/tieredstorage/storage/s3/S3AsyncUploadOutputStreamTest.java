@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Aiven Oy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.aiven.kafka.tieredstorage.storage.s3;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import io.aiven.kafka.tieredstorage.storage.ObjectKey;
+import io.aiven.kafka.tieredstorage.storage.TestObjectKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3AsyncUploadOutputStreamTest {
+    private static final String BUCKET_NAME = "some_bucket";
+    private static final ObjectKey FILE_KEY = new TestObjectKey("some_key");
+    private static final String UPLOAD_ID = "some_upload_id";
+
+    @Mock
+    S3AsyncClient mockedS3;
+
+    @Test
+    void abortWaitsForInFlightParts() throws Exception {
+        final RuntimeException testException = new RuntimeException("test");
+        final CompletableFuture<UploadPartResponse> secondPart = new CompletableFuture<>();
+        when(mockedS3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build()));
+        when(mockedS3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+            .thenReturn(CompletableFuture.failedFuture(testException))
+            .thenReturn(secondPart);
+        when(mockedS3.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        final var out = new S3AsyncUploadOutputStream(BUCKET_NAME, FILE_KEY, StorageClass.STANDARD, 1, 2, mockedS3);
+        out.write(new byte[] {1, 2});
+
+        final CompletableFuture<Void> close = CompletableFuture.runAsync(() -> {
+            try {
+                out.close();
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        // the first part failed, but the second one may still be stored
+        Thread.sleep(100);
+        verify(mockedS3, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+        secondPart.complete(UploadPartResponse.builder().eTag("SOME_ETAG#2").build());
+        await().atMost(Duration.ofSeconds(5)).until(close::isDone);
+        assertThatThrownBy(close::join).hasRootCause(testException);
+        verify(mockedS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertThat(out.isClosed()).isTrue();
+    }
+}
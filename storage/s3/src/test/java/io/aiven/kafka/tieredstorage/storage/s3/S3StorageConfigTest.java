@@ -56,6 +56,9 @@ class S3StorageConfigTest {
         assertThat(config.credentialsProvider()).isNull();
         assertThat(config.pathStyleAccessEnabled()).isNull();
         assertThat(config.uploadPartSize()).isEqualTo(25 * 1024 * 1024);
+        assertThat(config.uploadMaxInFlightParts()).isEqualTo(2);
+        assertThat(config.fetchParallelPartSize()).isEqualTo(8 * 1024 * 1024);
+        assertThat(config.fetchParallelMaxRequests()).isEqualTo(4);
         assertThat(config.storageClass()).isEqualTo(StorageClass.STANDARD);
         assertThat(config.certificateCheckEnabled()).isTrue();
         assertThat(config.checksumCheckEnabled()).isFalse();